@@ -0,0 +1,46 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks;
+
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates the {@link IConfig} used by the benchmarks.
+ */
+public final class BenchmarkConfig
+{
+    /**
+     * The default movement formula for flags.
+     */
+    private static final String FLAG_MOVEMENT_FORMULA =
+        "min(0.07 * radius, 3) * sin(radius / 1.7 + height / 12 + counter / 12)";
+
+    private BenchmarkConfig()
+    {
+    }
+
+    /**
+     * Creates a config that enables all structure types and that returns the default flag movement formula.
+     * <p>
+     * These options are retrieved in hot paths (e.g. for every block of a flag or for every row of a query), so they
+     * are answered by a proxy instead of a mock to avoid measuring the overhead of Mockito. All other methods are
+     * delegated to a mock that does not record its invocations.
+     *
+     * @return The new config.
+     */
+    public static IConfig create()
+    {
+        final IConfig delegate = Mockito.mock(IConfig.class, Mockito.withSettings().stubOnly());
+        return (IConfig) Proxy.newProxyInstance(
+            IConfig.class.getClassLoader(),
+            new Class<?>[]{IConfig.class},
+            (proxy, method, args) -> switch (method.getName())
+            {
+                case "flagMovementFormula" -> FLAG_MOVEMENT_FORMULA;
+                case "isStructureTypeEnabled" -> true;
+                default -> method.invoke(delegate, args);
+            }
+        );
+    }
+}
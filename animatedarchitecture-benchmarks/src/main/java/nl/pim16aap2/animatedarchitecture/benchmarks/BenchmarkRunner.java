@@ -0,0 +1,109 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks;
+
+import nl.pim16aap2.animatedarchitecture.benchmarks.animation.AnimationComponentBenchmark;
+import nl.pim16aap2.animatedarchitecture.benchmarks.storage.StorageBenchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs the benchmarks and prints a summary of the results.
+ * <p>
+ * All arguments other than {@value #STORAGE_ARG} are passed on to JMH, so any of its options can be used. When no
+ * benchmarks are selected explicitly, only the animation benchmarks are run. The storage benchmarks take a long time to
+ * set up, so they are only run when {@value #STORAGE_ARG} is provided as well.
+ * <p>
+ * Benchmarks that have a {@code blockCount} parameter are normalized in the summary, so the costs of structures of
+ * different sizes can be compared directly.
+ */
+public final class BenchmarkRunner
+{
+    /**
+     * The argument that adds the storage benchmarks to the default selection of benchmarks.
+     */
+    static final String STORAGE_ARG = "--storage";
+
+    private static final String BLOCK_COUNT_PARAM = "blockCount";
+    private static final String ALLOCATION_RATE_SUFFIX = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner()
+    {
+    }
+
+    public static void main(String... args)
+        throws Exception
+    {
+        final boolean includeStorage = Arrays.asList(args).contains(STORAGE_ARG);
+        final String[] jmhArgs = Arrays.stream(args)
+            .filter(arg -> !STORAGE_ARG.equals(arg))
+            .toArray(String[]::new);
+
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(jmhArgs);
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class);
+
+        if (commandLineOptions.getIncludes().isEmpty())
+        {
+            options.include(AnimationComponentBenchmark.class.getPackageName() + ".*");
+            if (includeStorage)
+                options.include(StorageBenchmark.class.getPackageName() + ".*");
+        }
+
+        printSummary(new Runner(options.build()).run());
+    }
+
+    private static void printSummary(Collection<RunResult> results)
+    {
+        System.out.println();
+        System.out.printf(
+            Locale.ROOT, "%-70s %12s %12s %18s%n", "Benchmark", "Blocks", "ns/block", "bytes/block");
+
+        for (final RunResult result : results)
+        {
+            final String blockCountParam = result.getParams().getParam(BLOCK_COUNT_PARAM);
+            if (blockCountParam == null)
+                continue;
+
+            final int blockCount = Integer.parseInt(blockCountParam);
+            final double timePerBlock = result.getPrimaryResult().getScore() / blockCount;
+            final double allocationPerBlock = getAllocationRate(result) / blockCount;
+
+            System.out.printf(
+                Locale.ROOT,
+                "%-70s %12d %12.3f %18.3f%n",
+                getName(result),
+                blockCount,
+                timePerBlock,
+                allocationPerBlock
+            );
+        }
+    }
+
+    private static String getName(RunResult result)
+    {
+        final var params = result.getParams();
+        final StringBuilder sb = new StringBuilder(params.getBenchmark());
+        for (final String key : params.getParamsKeys())
+            if (!BLOCK_COUNT_PARAM.equals(key))
+                sb.append(':').append(params.getParam(key));
+        return sb.toString();
+    }
+
+    private static double getAllocationRate(RunResult result)
+    {
+        for (final Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet())
+            if (entry.getKey().endsWith(ALLOCATION_RATE_SUFFIX))
+                return entry.getValue().getScore();
+        return Double.NaN;
+    }
+}
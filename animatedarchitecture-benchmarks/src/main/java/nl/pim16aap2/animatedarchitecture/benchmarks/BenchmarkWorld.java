@@ -0,0 +1,29 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks;
+
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.util.WorldTime;
+
+/**
+ * A world with a fixed time.
+ * <p>
+ * This is used instead of a mocked world, as some components query the world in their hot paths.
+ *
+ * @param worldName
+ *     The name of the world.
+ */
+public record BenchmarkWorld(String worldName) implements IWorld
+{
+    private static final WorldTime TIME = new WorldTime(10, 30);
+
+    @Override
+    public boolean exists()
+    {
+        return true;
+    }
+
+    @Override
+    public WorldTime getTime()
+    {
+        return TIME;
+    }
+}
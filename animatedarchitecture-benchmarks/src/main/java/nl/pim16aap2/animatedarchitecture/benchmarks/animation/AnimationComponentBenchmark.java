@@ -0,0 +1,60 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.animation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes an animation component to calculate a single tick of its animation.
+ * <p>
+ * Every benchmark iteration executes one tick for all blocks in the structure. The time per block per tick is
+ * calculated from the results by the {@link nl.pim16aap2.animatedarchitecture.benchmarks.BenchmarkRunner}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AnimationComponentBenchmark
+{
+    @Param({"100", "1000", "10000", "50000"})
+    public int blockCount;
+
+    @Param
+    @SuppressWarnings("NullAway.Init") // Set by JMH.
+    public BenchmarkedComponent component;
+
+    @SuppressWarnings("NullAway.Init") // Initialized in setup.
+    private SyntheticAnimation animation;
+
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole)
+        throws Exception
+    {
+        animation = SyntheticAnimation.create(component, blockCount, blackhole::consume);
+        tick = 0;
+    }
+
+    @Benchmark
+    public void executeAnimationStep()
+    {
+        // Cycle through the animation, so every stage of the animation is measured.
+        tick = tick >= animation.getDurationTicks() ? 1 : tick + 1;
+        animation.step(tick);
+    }
+}
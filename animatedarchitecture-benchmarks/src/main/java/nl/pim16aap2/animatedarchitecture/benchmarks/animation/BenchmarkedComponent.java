@@ -0,0 +1,100 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.animation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimationRequestData;
+import nl.pim16aap2.animatedarchitecture.core.animation.IAnimationComponent;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.bigdoor.StructureTypeBigDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.clock.StructureTypeClock;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.drawbridge.StructureTypeDrawbridge;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.flag.StructureTypeFlag;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.garagedoor.CounterWeightGarageDoorAnimationComponent;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.garagedoor.SectionalGarageDoorAnimationComponent;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.garagedoor.StructureTypeGarageDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.portcullis.StructureTypePortcullis;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.revolvingdoor.StructureTypeRevolvingDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.slidingdoor.StructureTypeSlidingDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.windmill.StructureTypeWindmill;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The animation components that are benchmarked.
+ * <p>
+ * Every entry describes how to set up a structure of its type, so that its animation component can be created.
+ */
+@Getter(AccessLevel.PACKAGE)
+public enum BenchmarkedComponent
+{
+    BIG_DOOR(StructureTypeBigDoor.get(), MovementDirection.CLOCKWISE, Cuboid::getMin),
+    CLOCK(StructureTypeClock.get(), MovementDirection.NORTH, Cuboid::getCenterBlock),
+    DRAWBRIDGE(StructureTypeDrawbridge.get(), MovementDirection.NORTH, BenchmarkedComponent::getBottom),
+    FLAG(StructureTypeFlag.get(), MovementDirection.NONE, Cuboid::getMin),
+    GARAGE_DOOR_SECTIONAL(
+        StructureTypeGarageDoor.get(),
+        MovementDirection.NORTH,
+        BenchmarkedComponent::getTop,
+        SectionalGarageDoorAnimationComponent::new
+    ),
+    GARAGE_DOOR_COUNTER_WEIGHT(
+        StructureTypeGarageDoor.get(),
+        MovementDirection.NORTH,
+        BenchmarkedComponent::getTop,
+        CounterWeightGarageDoorAnimationComponent::new
+    ),
+    PORTCULLIS(StructureTypePortcullis.get(), MovementDirection.UP, Cuboid::getCenterBlock),
+    REVOLVING_DOOR(StructureTypeRevolvingDoor.get(), MovementDirection.CLOCKWISE, Cuboid::getCenterBlock),
+    SLIDING_DOOR(StructureTypeSlidingDoor.get(), MovementDirection.EAST, Cuboid::getCenterBlock),
+    WINDMILL(StructureTypeWindmill.get(), MovementDirection.NORTH, Cuboid::getCenterBlock),
+    ;
+
+    private final StructureType type;
+    private final MovementDirection openDirection;
+    private final Function<Cuboid, Vector3Di> rotationPointSupplier;
+
+    /**
+     * Creates the animation component directly, instead of letting the structure create it.
+     * <p>
+     * This is used for types that can use more than one animation component. When this is null, the component is
+     * created by the structure.
+     */
+    private final @Nullable BiFunction<AnimationRequestData, MovementDirection, IAnimationComponent> componentFactory;
+
+    BenchmarkedComponent(
+        StructureType type,
+        MovementDirection openDirection,
+        Function<Cuboid, Vector3Di> rotationPointSupplier,
+        @Nullable BiFunction<AnimationRequestData, MovementDirection, IAnimationComponent> componentFactory)
+    {
+        this.type = type;
+        this.openDirection = openDirection;
+        this.rotationPointSupplier = rotationPointSupplier;
+        this.componentFactory = componentFactory;
+    }
+
+    BenchmarkedComponent(
+        StructureType type,
+        MovementDirection openDirection,
+        Function<Cuboid, Vector3Di> rotationPointSupplier)
+    {
+        this(type, openDirection, rotationPointSupplier, null);
+    }
+
+    private static Vector3Di getBottom(Cuboid cuboid)
+    {
+        final Vector3Di center = cuboid.getCenterBlock();
+        return new Vector3Di(center.x(), cuboid.getMin().y(), center.z());
+    }
+
+    private static Vector3Di getTop(Cuboid cuboid)
+    {
+        final Vector3Di center = cuboid.getCenterBlock();
+        return new Vector3Di(center.x(), cuboid.getMax().y(), center.z());
+    }
+}
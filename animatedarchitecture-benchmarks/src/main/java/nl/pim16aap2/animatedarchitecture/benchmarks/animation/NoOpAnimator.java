@@ -0,0 +1,44 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.animation;
+
+import nl.pim16aap2.animatedarchitecture.core.animation.IAnimator;
+import nl.pim16aap2.animatedarchitecture.core.animation.RotatedPosition;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An {@link IAnimator} that does not move any blocks.
+ * <p>
+ * The goal positions calculated by the animation component are passed to a sink instead, so the JIT compiler cannot
+ * eliminate their calculation.
+ */
+final class NoOpAnimator implements IAnimator
+{
+    private final List<IAnimatedBlock> animatedBlocks;
+    private final Consumer<RotatedPosition> sink;
+
+    /**
+     * @param animatedBlocks
+     *     The blocks that are being animated.
+     * @param sink
+     *     The consumer that receives every goal position.
+     */
+    NoOpAnimator(List<IAnimatedBlock> animatedBlocks, Consumer<RotatedPosition> sink)
+    {
+        this.animatedBlocks = animatedBlocks;
+        this.sink = sink;
+    }
+
+    @Override
+    public List<IAnimatedBlock> getAnimatedBlocks()
+    {
+        return animatedBlocks;
+    }
+
+    @Override
+    public void applyMovement(IAnimatedBlock animatedBlock, RotatedPosition goalPos)
+    {
+        sink.accept(goalPos);
+    }
+}
@@ -0,0 +1,192 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.animation;
+
+import lombok.Getter;
+import nl.pim16aap2.animatedarchitecture.benchmarks.BenchmarkConfig;
+import nl.pim16aap2.animatedarchitecture.benchmarks.BenchmarkWorld;
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimationRequestData;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimationType;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimationUtil;
+import nl.pim16aap2.animatedarchitecture.core.animation.IAnimationComponent;
+import nl.pim16aap2.animatedarchitecture.core.animation.RotatedPosition;
+import nl.pim16aap2.animatedarchitecture.core.animation.TestAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionType;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.PropertyContainer;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import nl.pim16aap2.testing.AssistedFactoryMocker;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A synthetic animation of a flat structure with a fixed number of blocks.
+ * <p>
+ * The structure is a vertical plane along the x and y axes, which every benchmarked type can animate.
+ */
+final class SyntheticAnimation
+{
+    /**
+     * The duration of the animation in seconds.
+     */
+    private static final double ANIMATION_TIME = 10D;
+
+    /**
+     * The server tick time in milliseconds.
+     */
+    private static final int SERVER_TICK_TIME = 50;
+
+    /**
+     * The y coordinate of the lowest row of blocks.
+     */
+    private static final int BASE_Y = 64;
+
+    private final IAnimationComponent component;
+    private final NoOpAnimator animator;
+    private final List<IAnimatedBlock> animatedBlocks;
+
+    /**
+     * The number of ticks that the animation lasts.
+     */
+    @Getter
+    private final int durationTicks;
+
+    private SyntheticAnimation(IAnimationComponent component, NoOpAnimator animator, List<IAnimatedBlock> blocks)
+    {
+        this.component = component;
+        this.animator = animator;
+        this.animatedBlocks = blocks;
+        this.durationTicks = AnimationUtil.getAnimationTicks(ANIMATION_TIME, SERVER_TICK_TIME);
+    }
+
+    /**
+     * Creates a new synthetic animation.
+     *
+     * @param benchmarkedComponent
+     *     The component to animate the structure with.
+     * @param blockCount
+     *     The number of blocks in the structure.
+     * @param sink
+     *     The consumer that receives every goal position calculated by the animation component.
+     * @return The new synthetic animation.
+     *
+     * @throws Exception
+     *     When the structure or the animation request data could not be created.
+     */
+    static SyntheticAnimation create(
+        BenchmarkedComponent benchmarkedComponent,
+        int blockCount,
+        Consumer<RotatedPosition> sink)
+        throws Exception
+    {
+        if (blockCount < 1)
+            throw new IllegalArgumentException("Block count must be positive, but received: " + blockCount);
+
+        final int width = getWidth(blockCount);
+        final int height = blockCount / width;
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, BASE_Y, 0), new Vector3Di(width - 1, BASE_Y + height - 1, 0));
+
+        final Structure structure = createStructure(benchmarkedComponent, cuboid, Math.max(width, height));
+        final AnimationRequestData data = createData(structure, cuboid);
+
+        final var componentFactory = benchmarkedComponent.getComponentFactory();
+        final IAnimationComponent component = componentFactory == null ?
+            structure.constructAnimationComponent(data) :
+            componentFactory.apply(data, benchmarkedComponent.getOpenDirection());
+
+        final List<IAnimatedBlock> blocks = new ArrayList<>(blockCount);
+        for (int x = 0; x < width; ++x)
+            for (int y = BASE_Y; y < BASE_Y + height; ++y)
+                blocks.add(new TestAnimatedBlock(component, x, y, 0));
+
+        final NoOpAnimator animator = new NoOpAnimator(blocks, sink);
+        component.prepareAnimation(animator);
+        return new SyntheticAnimation(component, animator, blocks);
+    }
+
+    /**
+     * Executes a single step of the animation.
+     *
+     * @param tick
+     *     The number of ticks that have passed since the start of the animation.
+     */
+    void step(int tick)
+    {
+        component.executeAnimationStep(animator, animatedBlocks, tick);
+    }
+
+    /**
+     * Gets the width of the structure.
+     * <p>
+     * This is the largest divisor of the block count that is not larger than its square root, so the structure is as
+     * close to a square as possible while containing exactly the requested number of blocks.
+     */
+    private static int getWidth(int blockCount)
+    {
+        for (int width = (int) Math.sqrt(blockCount); width > 1; --width)
+            if (blockCount % width == 0)
+                return width;
+        return 1;
+    }
+
+    private static Structure createStructure(BenchmarkedComponent benchmarkedComponent, Cuboid cuboid, int length)
+        throws Exception
+    {
+        final var type = benchmarkedComponent.getType();
+
+        final PropertyContainer properties = PropertyContainer.forType(type);
+        if (properties.hasProperty(Property.ROTATION_POINT))
+            properties.setPropertyValue(
+                Property.ROTATION_POINT,
+                benchmarkedComponent.getRotationPointSupplier().apply(cuboid)
+            );
+        if (properties.hasProperty(Property.BLOCKS_TO_MOVE))
+            properties.setPropertyValue(Property.BLOCKS_TO_MOVE, length);
+        if (properties.hasProperty(Property.OPEN_STATUS))
+            properties.setPropertyValue(Property.OPEN_STATUS, false);
+
+        return UnitTestUtil.newStructureBuilder().structureBuilder()
+            .builder(type)
+            .uid(UnitTestUtil.newStructureID(1))
+            .name("benchmark")
+            .cuboid(cuboid)
+            .powerBlock(new Vector3Di(0, 0, 0))
+            .world(new BenchmarkWorld("benchmark"))
+            .isLocked(false)
+            .openDir(benchmarkedComponent.getOpenDirection())
+            .primeOwner(UnitTestUtil.createStructureOwner(1))
+            .ownersOfStructure(null)
+            .propertiesOfStructure(properties)
+            .build();
+    }
+
+    private static AnimationRequestData createData(Structure structure, Cuboid cuboid)
+        throws Exception
+    {
+        final AnimationRequestData.IFactory factory =
+            new AssistedFactoryMocker<>(AnimationRequestData.class, AnimationRequestData.IFactory.class)
+                .injectParameter(int.class, "serverTickTime", SERVER_TICK_TIME)
+                .injectParameter(IConfig.class, BenchmarkConfig.create())
+                .getFactory();
+
+        return factory.newToggleRequestData(
+            structure.getSnapshot(),
+            StructureActionCause.PLAYER,
+            ANIMATION_TIME,
+            false,
+            false,
+            structure.getPotentialNewCoordinates().orElse(cuboid),
+            Mockito.mock(IPlayer.class),
+            AnimationType.MOVE_BLOCKS,
+            StructureActionType.TOGGLE
+        );
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package nl.pim16aap2.animatedarchitecture.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,141 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.storage;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import nl.pim16aap2.animatedarchitecture.core.managers.DatabaseManager;
+import nl.pim16aap2.animatedarchitecture.core.structures.PermissionLevel;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and latency of the most frequently used queries of the SQLite storage.
+ * <p>
+ * The queries are measured in isolation (use JMH's {@code -t} option to run them with multiple threads) and in the
+ * {@code readWrite} group, where several readers run concurrently with a writer. The sample time mode reports the
+ * percentiles of the latency, including the p99.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StorageBenchmark
+{
+    @Benchmark
+    public Optional<Structure> getStructure(StorageState state)
+    {
+        return getStructure0(state);
+    }
+
+    @Benchmark
+    public List<Structure> getStructuresInChunk(StorageState state)
+    {
+        return getStructuresInChunk0(state);
+    }
+
+    @Benchmark
+    public Int2ObjectMap<LongList> getPowerBlockData(StorageState state)
+    {
+        return getPowerBlockData0(state);
+    }
+
+    @Benchmark
+    public List<DatabaseManager.StructureIdentifier> getPartialIdentifiers(StorageState state)
+    {
+        return getPartialIdentifiers0(state);
+    }
+
+    @Benchmark
+    public boolean syncStructureData(StorageState state)
+    {
+        return syncStructureData0(state);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public Optional<Structure> readWriteGetStructure(StorageState state)
+    {
+        return getStructure0(state);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    public List<Structure> readWriteGetStructuresInChunk(StorageState state)
+    {
+        return getStructuresInChunk0(state);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    public Int2ObjectMap<LongList> readWriteGetPowerBlockData(StorageState state)
+    {
+        return getPowerBlockData0(state);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    public List<DatabaseManager.StructureIdentifier> readWriteGetPartialIdentifiers(StorageState state)
+    {
+        return getPartialIdentifiers0(state);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    public boolean readWriteSyncStructureData(StorageState state)
+    {
+        return syncStructureData0(state);
+    }
+
+    private static Optional<Structure> getStructure0(StorageState state)
+    {
+        return state.getStorage().getStructure(state.getDataset().getRandomUid(ThreadLocalRandom.current()));
+    }
+
+    private static List<Structure> getStructuresInChunk0(StorageState state)
+    {
+        return state.getStorage().getStructuresInChunk(
+            state.getDataset().getRandomPowerBlockChunk(ThreadLocalRandom.current()));
+    }
+
+    private static Int2ObjectMap<LongList> getPowerBlockData0(StorageState state)
+    {
+        return state.getStorage().getPowerBlockData(
+            state.getDataset().getRandomPowerBlockChunk(ThreadLocalRandom.current()));
+    }
+
+    /**
+     * Looks up the structures of a player using a partial name, as is done for tab completion.
+     * <p>
+     * The partial name is the name of one of the structures of the player without its last character.
+     */
+    private static List<DatabaseManager.StructureIdentifier> getPartialIdentifiers0(StorageState state)
+    {
+        final Structure structure = state.getRandomStructure(ThreadLocalRandom.current());
+        final String name = structure.getName();
+        return state.getStorage().getPartialIdentifiers(
+            name.substring(0, Math.max(StorageDataset.NAME_PREFIX.length(), name.length() - 1)),
+            state.getPrimeOwner(structure),
+            PermissionLevel.USER,
+            List.of()
+        );
+    }
+
+    private static boolean syncStructureData0(StorageState state)
+    {
+        return state.getStorage().syncStructureData(state.getRandomStructure(ThreadLocalRandom.current()));
+    }
+}
@@ -0,0 +1,259 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.storage;
+
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.LimitContainer;
+import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
+import nl.pim16aap2.animatedarchitecture.core.storage.sqlite.SQLiteJDBCDriverConnection;
+import nl.pim16aap2.animatedarchitecture.core.structures.PermissionLevel;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureBuilder;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureID;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureOwner;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.PropertyContainer;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.bigdoor.StructureTypeBigDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.drawbridge.StructureTypeDrawbridge;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.garagedoor.StructureTypeGarageDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.portcullis.StructureTypePortcullis;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.slidingdoor.StructureTypeSlidingDoor;
+import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
+import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A reproducible dataset of structures, their owners, and their properties.
+ * <p>
+ * The dataset is generated from a fixed seed, so the same structure count always results in the same dataset. This
+ * allows the generated database to be cached between runs: Inserting hundreds of thousands of structures takes much
+ * longer than any of the benchmarks.
+ */
+@CustomLog
+final class StorageDataset
+{
+    /**
+     * Increment this when the layout of the dataset changes, so previously cached databases are no longer used.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The average number of structures whose power block is in the same chunk.
+     */
+    private static final int STRUCTURES_PER_CHUNK = 4;
+
+    /**
+     * The average number of structures owned by a single player.
+     */
+    private static final int STRUCTURES_PER_PLAYER = 10;
+
+    /**
+     * The chance that a structure has owners other than its prime owner.
+     */
+    private static final double SHARED_STRUCTURE_CHANCE = 0.25D;
+
+    /**
+     * The prefix of the name of every structure.
+     */
+    static final String NAME_PREFIX = "structure_";
+
+    private static final List<StructureType> TYPES = List.of(
+        StructureTypeBigDoor.get(),
+        StructureTypeDrawbridge.get(),
+        StructureTypeGarageDoor.get(),
+        StructureTypePortcullis.get(),
+        StructureTypeSlidingDoor.get()
+    );
+
+    private final int structureCount;
+    private final IWorld world;
+    private final List<PlayerData> players;
+
+    /**
+     * The ID of the chunk that contains the power block of each structure, indexed by the UID of the structure minus
+     * one.
+     */
+    private final long[] powerBlockChunks;
+
+    StorageDataset(int structureCount, IWorld world)
+    {
+        if (structureCount < 1)
+            throw new IllegalArgumentException("Structure count must be positive, but received: " + structureCount);
+
+        this.structureCount = structureCount;
+        this.world = world;
+        this.players = createPlayers(new Random(structureCount), Math.max(1, structureCount / STRUCTURES_PER_PLAYER));
+        this.powerBlockChunks = new long[structureCount];
+    }
+
+    /**
+     * Gets the database file for this dataset.
+     * <p>
+     * When the database does not exist yet, it is created by inserting all structures using
+     * {@link SQLiteJDBCDriverConnection#insert(Structure)}.
+     *
+     * @param directory
+     *     The directory where the databases are cached.
+     * @param structureBuilder
+     *     The builder to create the structures with.
+     * @param storageFactory
+     *     The function that creates a new storage for a database file.
+     * @return The path to the database file.
+     *
+     * @throws Exception
+     *     When the database could not be created.
+     */
+    Path getDatabase(
+        Path directory,
+        StructureBuilder structureBuilder,
+        StorageState.StorageFactory storageFactory)
+        throws Exception
+    {
+        final Path file = directory.resolve(String.format("structures-%d-v%d.db", structureCount, VERSION));
+        final boolean exists = Files.exists(file);
+
+        final Random random = new Random(~structureCount);
+        final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+        final @Nullable SQLiteJDBCDriverConnection storage;
+        if (exists)
+        {
+            storage = null;
+        }
+        else
+        {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(tmpFile);
+            storage = storageFactory.create(tmpFile);
+            log.atInfo().log("Generating dataset with %d structures in '%s'...", structureCount, file);
+        }
+
+        for (int idx = 0; idx < structureCount; ++idx)
+        {
+            final long uid = idx + 1L;
+            final Structure structure = createStructure(structureBuilder, random, uid);
+            powerBlockChunks[idx] = LocationUtil.getChunkId(structure.getPowerBlock());
+
+            if (storage == null)
+                continue;
+
+            final long insertedUid = storage.insert(structure).map(Structure::getUid).orElse(-1L);
+            if (insertedUid != uid)
+                throw new IllegalStateException(
+                    "Expected structure to be inserted with UID " + uid + ", but it was inserted with UID " +
+                        insertedUid + "!");
+        }
+
+        if (!exists)
+        {
+            Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE);
+            // The (empty) backup that was created before the initial migration.
+            Files.deleteIfExists(tmpFile.resolveSibling(tmpFile.getFileName() + ".backup"));
+        }
+        return file;
+    }
+
+    /**
+     * Gets the UID of a structure in this dataset.
+     *
+     * @param random
+     *     The random number generator to pick the structure with.
+     * @return The UID of a random structure.
+     */
+    long getRandomUid(Random random)
+    {
+        return random.nextInt(structureCount) + 1L;
+    }
+
+    /**
+     * Gets the ID of the chunk that contains the power block of a random structure.
+     *
+     * @param random
+     *     The random number generator to pick the structure with.
+     * @return The ID of the chunk.
+     */
+    long getRandomPowerBlockChunk(Random random)
+    {
+        return powerBlockChunks[random.nextInt(structureCount)];
+    }
+
+    private Structure createStructure(StructureBuilder structureBuilder, Random random, long uid)
+    {
+        final StructureType type = TYPES.get(random.nextInt(TYPES.size()));
+
+        final int chunksPerAxis = (int) Math.ceil(Math.sqrt((double) structureCount / STRUCTURES_PER_CHUNK));
+        final int chunkX = random.nextInt(chunksPerAxis) - chunksPerAxis / 2;
+        final int chunkZ = random.nextInt(chunksPerAxis) - chunksPerAxis / 2;
+
+        final Vector3Di powerBlock = new Vector3Di(
+            chunkX * 16 + random.nextInt(16),
+            40 + random.nextInt(40),
+            chunkZ * 16 + random.nextInt(16)
+        );
+        final Vector3Di min = powerBlock.add(0, 1, 0);
+        final Vector3Di max = min.add(random.nextInt(8), random.nextInt(8), 0);
+
+        final PropertyContainer properties = PropertyContainer.forType(type);
+        if (properties.hasProperty(Property.ROTATION_POINT))
+            properties.setPropertyValue(Property.ROTATION_POINT, min);
+        if (properties.hasProperty(Property.BLOCKS_TO_MOVE))
+            properties.setPropertyValue(Property.BLOCKS_TO_MOVE, 1 + random.nextInt(8));
+        if (properties.hasProperty(Property.OPEN_STATUS))
+            properties.setPropertyValue(Property.OPEN_STATUS, random.nextBoolean());
+
+        final StructureOwner primeOwner =
+            new StructureOwner(uid, PermissionLevel.CREATOR, players.get(random.nextInt(players.size())));
+
+        final Map<UUID, StructureOwner> owners = new HashMap<>();
+        owners.put(primeOwner.playerData().getUUID(), primeOwner);
+        if (random.nextDouble() < SHARED_STRUCTURE_CHANCE)
+        {
+            final int extraOwners = 1 + random.nextInt(2);
+            for (int idx = 0; idx < extraOwners; ++idx)
+            {
+                final PlayerData player = players.get(random.nextInt(players.size()));
+                final PermissionLevel permission = random.nextBoolean() ? PermissionLevel.ADMIN : PermissionLevel.USER;
+                owners.putIfAbsent(player.getUUID(), new StructureOwner(uid, permission, player));
+            }
+        }
+
+        return structureBuilder
+            .builder(type)
+            .uid(StructureID.getUnregisteredID())
+            .name(NAME_PREFIX + uid)
+            .cuboid(min, max)
+            .powerBlock(powerBlock)
+            .world(world)
+            .isLocked(random.nextInt(10) == 0)
+            .openDir(type.getValidOpenDirectionsList().stream().findFirst().orElse(MovementDirection.NONE))
+            .primeOwner(primeOwner)
+            .ownersOfStructure(owners)
+            .propertiesOfStructure(properties)
+            .build();
+    }
+
+    private static List<PlayerData> createPlayers(Random random, int count)
+    {
+        final List<PlayerData> ret = new ArrayList<>(count);
+        for (int idx = 0; idx < count; ++idx)
+            ret.add(new PlayerData(
+                new UUID(random.nextLong(), random.nextLong()),
+                "player_" + idx,
+                new LimitContainer(OptionalInt.empty(), OptionalInt.empty(), OptionalInt.empty(), OptionalInt.empty()),
+                false,
+                false
+            ));
+        return ret;
+    }
+}
@@ -0,0 +1,248 @@
+package nl.pim16aap2.animatedarchitecture.benchmarks.storage;
+
+import nl.pim16aap2.animatedarchitecture.benchmarks.BenchmarkConfig;
+import nl.pim16aap2.animatedarchitecture.benchmarks.BenchmarkWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
+import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.managers.StructureDeletionManager;
+import nl.pim16aap2.animatedarchitecture.core.managers.StructureTypeManager;
+import nl.pim16aap2.animatedarchitecture.core.storage.FlywayManager;
+import nl.pim16aap2.animatedarchitecture.core.storage.IDataSourceInfo;
+import nl.pim16aap2.animatedarchitecture.core.storage.IStorage;
+import nl.pim16aap2.animatedarchitecture.core.storage.sqlite.DataSourceInfoSQLite;
+import nl.pim16aap2.animatedarchitecture.core.storage.sqlite.SQLiteJDBCDriverConnection;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureBuilder;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureRegistry;
+import nl.pim16aap2.testing.AssistedFactoryMocker;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The storage that is shared by all threads of a storage benchmark.
+ * <p>
+ * Every trial works on a fresh copy of the cached dataset, so writes from earlier trials do not affect later ones.
+ * <p>
+ * The datasets are cached in the directory provided by the {@value #DATA_DIRECTORY_PROPERTY} system property, which
+ * defaults to {@code benchmark-data} in the working directory.
+ */
+@State(Scope.Benchmark)
+public class StorageState
+{
+    /**
+     * The system property that can be used to change the directory where the datasets are cached.
+     */
+    public static final String DATA_DIRECTORY_PROPERTY = "animatedarchitecture.benchmarks.dataDirectory";
+
+    /**
+     * The number of structures that are loaded up-front to be written back to the storage by the writers.
+     */
+    private static final int WRITE_POOL_SIZE = 1_000;
+
+    private static final MockSettings MOCK_SETTINGS = Mockito.withSettings().stubOnly();
+
+    @Param({"10000", "50000", "200000"})
+    public int structureCount;
+
+    @SuppressWarnings("NullAway.Init") // Initialized in setup.
+    private StorageDataset dataset;
+
+    @SuppressWarnings("NullAway.Init") // Initialized in setup.
+    private SQLiteJDBCDriverConnection storage;
+
+    @SuppressWarnings("NullAway.Init") // Initialized in setup.
+    private Path workingFile;
+
+    @SuppressWarnings("NullAway.Init") // Initialized in setup.
+    private Object structureFactory;
+
+    private final List<Structure> writePool = new ArrayList<>(WRITE_POOL_SIZE);
+
+    /**
+     * The prime owners of the structures in the {@link #writePool}.
+     */
+    private final Map<UUID, IPlayer> players = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup()
+        throws Exception
+    {
+        final IConfig config = BenchmarkConfig.create();
+        final DebuggableRegistry debuggableRegistry = Mockito.mock(DebuggableRegistry.class, MOCK_SETTINGS);
+        final BenchmarkWorld world = new BenchmarkWorld("benchmark_world");
+
+        final AssistedFactoryMocker<?, ?> structureFactoryMocker = newStructureFactoryMocker();
+        structureFactory = structureFactoryMocker.getFactory();
+        final StructureBuilder structureBuilder = newStructureBuilder(structureFactory);
+
+        final StructureRegistry structureRegistry = StructureRegistry.unCached(
+            debuggableRegistry,
+            Mockito.mock(StructureDeletionManager.class, MOCK_SETTINGS)
+        );
+        final StructureTypeManager structureTypeManager = new StructureTypeManager(debuggableRegistry);
+
+        final Constructor<FlywayManager> flywayManagerCtor = FlywayManager.class.getDeclaredConstructor(
+            ClassLoader.class,
+            IDataSourceInfo.class,
+            DebuggableRegistry.class
+        );
+        flywayManagerCtor.setAccessible(true);
+
+        final StorageFactory storageFactory = file ->
+        {
+            final DataSourceInfoSQLite dataSourceInfo = new DataSourceInfoSQLite(file);
+            final SQLiteJDBCDriverConnection ret = new SQLiteJDBCDriverConnection(
+                config,
+                dataSourceInfo,
+                flywayManagerCtor.newInstance(getClass().getClassLoader(), dataSourceInfo, debuggableRegistry),
+                structureBuilder,
+                structureRegistry,
+                structureTypeManager,
+                ignored -> world,
+                debuggableRegistry
+            );
+            if (ret.getDatabaseState() != IStorage.DatabaseState.OK)
+                throw new IllegalStateException(
+                    "Failed to initialize database '" + file + "': " + ret.getDatabaseState());
+            return ret;
+        };
+
+        final Path directory = Path.of(System.getProperty(DATA_DIRECTORY_PROPERTY, "benchmark-data"));
+        dataset = new StorageDataset(structureCount, world);
+        final Path database = dataset.getDatabase(directory, structureBuilder, storageFactory);
+
+        workingFile = Files.createTempFile(directory, "structures-", ".db");
+        Files.copy(database, workingFile, StandardCopyOption.REPLACE_EXISTING);
+        storage = storageFactory.create(workingFile);
+
+        final Random random = new Random(structureCount);
+        for (int idx = 0; idx < WRITE_POOL_SIZE; ++idx)
+        {
+            final Structure structure = storage.getStructure(dataset.getRandomUid(random)).orElseThrow();
+            writePool.add(structure);
+            players.computeIfAbsent(structure.getPrimeOwner().playerData().getUUID(), ignored ->
+            {
+                final PlayerData playerData = structure.getPrimeOwner().playerData();
+                final IPlayer player = Mockito.mock(IPlayer.class, MOCK_SETTINGS);
+                Mockito.when(player.getUUID()).thenReturn(playerData.getUUID());
+                Mockito.when(player.getName()).thenReturn(playerData.getName());
+                return player;
+            });
+        }
+    }
+
+    /**
+     * Clears the invocations recorded by the mocked structure factory.
+     * <p>
+     * Without this, every structure retrieved from the storage would be kept alive by the factory mock.
+     */
+    @TearDown(Level.Iteration)
+    public void clearInvocations()
+    {
+        Mockito.clearInvocations(structureFactory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws Exception
+    {
+        writePool.clear();
+        players.clear();
+        Files.deleteIfExists(workingFile);
+    }
+
+    /**
+     * @return The storage to benchmark.
+     */
+    SQLiteJDBCDriverConnection getStorage()
+    {
+        return storage;
+    }
+
+    /**
+     * @return The dataset in the storage.
+     */
+    StorageDataset getDataset()
+    {
+        return dataset;
+    }
+
+    /**
+     * Gets a random structure that was loaded from the storage.
+     * <p>
+     * Modifying the structure affects all threads that use it.
+     *
+     * @param random
+     *     The random number generator to pick the structure with.
+     * @return The structure.
+     */
+    Structure getRandomStructure(Random random)
+    {
+        return writePool.get(random.nextInt(writePool.size()));
+    }
+
+    /**
+     * Gets the prime owner of a structure that was loaded from the storage.
+     *
+     * @param structure
+     *     A structure obtained from {@link #getRandomStructure(Random)}.
+     * @return The prime owner of the structure.
+     */
+    IPlayer getPrimeOwner(Structure structure)
+    {
+        return Objects.requireNonNull(players.get(structure.getPrimeOwner().playerData().getUUID()));
+    }
+
+    /**
+     * Creates the mocker for the structure factory.
+     * <p>
+     * This is the same as UnitTestUtil#newStructureBuilder(), except that the injected mocks do not record their
+     * invocations.
+     */
+    private static AssistedFactoryMocker<?, ?> newStructureFactoryMocker()
+        throws ClassNotFoundException
+    {
+        final Class<?> classStructureFactory = Class.forName(Structure.class.getName() + "$IFactory");
+        return new AssistedFactoryMocker<>(Structure.class, classStructureFactory, MOCK_SETTINGS);
+    }
+
+    private static StructureBuilder newStructureBuilder(Object structureFactory)
+        throws Exception
+    {
+        final Class<?> classStructureFactory = Class.forName(Structure.class.getName() + "$IFactory");
+        final Constructor<StructureBuilder> ctorStructureBuilder =
+            StructureBuilder.class.getDeclaredConstructor(classStructureFactory);
+        ctorStructureBuilder.setAccessible(true);
+        return ctorStructureBuilder.newInstance(structureFactory);
+    }
+
+    /**
+     * Creates a new storage for a database file.
+     */
+    @FunctionalInterface
+    interface StorageFactory
+    {
+        SQLiteJDBCDriverConnection create(Path file)
+            throws Exception;
+    }
+}
@@ -28,6 +28,7 @@ public final class AnimationRequestData
     private final AnimationHookManager animationHookManager;
     private final HighlightedBlockSpawner glowingBlockSpawner;
     private final IConfig config;
+    private final ToggleLatencyTracker toggleLatencyTracker;
     private final int serverTickTime;
     private final StructureSnapshot structureSnapshot;
     private final StructureActionCause cause;
@@ -48,6 +49,7 @@ public final class AnimationRequestData
         @Named("serverTickTime") int serverTickTime,
         HighlightedBlockSpawner glowingBlockSpawner,
         IConfig config,
+        ToggleLatencyTracker toggleLatencyTracker,
         @Assisted StructureSnapshot structureSnapshot,
         @Assisted StructureActionCause cause,
         @Assisted double animationTime,
@@ -64,6 +66,7 @@ public final class AnimationRequestData
         this.animationHookManager = animationHookManager;
         this.glowingBlockSpawner = glowingBlockSpawner;
         this.config = config;
+        this.toggleLatencyTracker = toggleLatencyTracker;
         this.serverTickTime = serverTickTime;
         this.structureSnapshot = structureSnapshot;
         this.cause = cause;
@@ -9,6 +9,9 @@ import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
 import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
 import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimationHook;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.AnimationStartEvent;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.AnimationStopEvent;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.AnimationTickEvent;
 import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
 import nl.pim16aap2.animatedarchitecture.core.events.StructureActionType;
 import nl.pim16aap2.animatedarchitecture.core.managers.AnimationHookManager;
@@ -112,9 +115,19 @@ public final class Animator implements IAnimator
     @ToString.Exclude
     private final AnimationHookManager animationHookManager;
 
+    @ToString.Exclude
+    private final ToggleLatencyTracker toggleLatencyTracker;
+
     @ToString.Exclude
     private final int serverTickTime;
 
+    /**
+     * The wall-clock time spent by this animator in each tick.
+     */
+    @Getter
+    @ToString.Exclude
+    private final AnimatorTickCost tickCost = new AnimatorTickCost();
+
     /**
      * The amount of time (in seconds) that the animation will take.
      */
@@ -213,6 +226,7 @@ public final class Animator implements IAnimator
         executor = data.getExecutor();
         structureActivityManager = data.getStructureActivityManager();
         animationHookManager = data.getAnimationHookManager();
+        toggleLatencyTracker = data.getToggleLatencyTracker();
         serverTickTime = data.getServerTickTime();
 
         this.structure = structure;
@@ -342,12 +356,18 @@ public final class Animator implements IAnimator
 
         this.animationData = animation;
 
-        if (!animatedBlockContainer.createAnimatedBlocks(snapshot, animationComponent))
+        final long blockCreationStart = System.nanoTime();
+        final boolean createdAnimatedBlocks = animatedBlockContainer.createAnimatedBlocks(snapshot, animationComponent);
+        recordLatency(TogglePhase.BLOCK_CREATION, blockCreationStart);
+
+        if (!createdAnimatedBlocks)
         {
             handleInitFailure();
             return;
         }
 
+        new AnimationStartEvent(getStructureUID(), getStructureTypeName(), getAnimatedBlocks().size()).commit();
+
         final boolean animationSkipped = skipAnimation || getAnimatedBlocks().isEmpty();
         animation.setState(animationSkipped ? AnimationState.SKIPPED : AnimationState.ACTIVE);
         this.hooks = animationHookManager.instantiateHooks(animation);
@@ -379,14 +399,16 @@ public final class Animator implements IAnimator
 
     private void executeAnimationStep(int counter, Animation<IAnimatedBlock> animation)
     {
-        animationComponent.executeAnimationStep(this, this.getAnimatedBlocks(), counter);
-
         final var animationRegion = this.animatedBlockContainer.getAnimationRegion();
+
+        final long entityUpdateStart = System.nanoTime();
+        animationComponent.executeAnimationStep(this, this.getAnimatedBlocks(), counter);
         if (animationRegion != null)
-        {
             animationComponent.executeAnimationStep(this, animationRegion.getMarkerBlocks(), counter);
+        tickCost.addEntityUpdateTime(System.nanoTime() - entityUpdateStart);
+
+        if (animationRegion != null)
             animation.setRegion(animationRegion.getRegion());
-        }
 
         animation.setState(AnimationState.ACTIVE);
     }
@@ -405,14 +427,16 @@ public final class Animator implements IAnimator
 
     private void executeFinishingStep(Animation<IAnimatedBlock> animation)
     {
-        executeFinishingStep(animation.getAnimatedBlocks());
-
         final var animationRegion = this.animatedBlockContainer.getAnimationRegion();
+
+        final long entityUpdateStart = System.nanoTime();
+        executeFinishingStep(animation.getAnimatedBlocks());
         if (animationRegion != null)
-        {
             executeFinishingStep(animationRegion.getMarkerBlocks());
+        tickCost.addEntityUpdateTime(System.nanoTime() - entityUpdateStart);
+
+        if (animationRegion != null)
             animation.setRegion(animationRegion.getRegion());
-        }
 
         animation.setState(AnimationState.FINISHING);
     }
@@ -449,7 +473,7 @@ public final class Animator implements IAnimator
             animation.setRegion(oldCuboid);
         }
 
-        executor.runAsyncLater(structure::verifyRedstoneState, VERIFY_REDSTONE_DELAY);
+        structureActivityManager.scheduleRedstoneVerification(structure, VERIFY_REDSTONE_DELAY);
     }
 
     /**
@@ -515,9 +539,11 @@ public final class Animator implements IAnimator
     {
         executor.assertMainThread("Animation must be started on the main thread!");
 
+        final long spawnStart = System.nanoTime();
         try
         {
             prepareAnimation();
+            recordLatency(TogglePhase.SPAWN, spawnStart);
         }
         catch (Exception e)
         {
@@ -537,20 +563,32 @@ public final class Animator implements IAnimator
             @Override
             public void run()
             {
+                final AnimationTickEvent tickEvent = new AnimationTickEvent(getStructureUID());
+                tickEvent.begin();
                 try
                 {
+                    final long preHooksStart = System.nanoTime();
                     forEachHook("onPreAnimationStep", IAnimationHook::onPreAnimationStep);
                     ++counter;
 
+                    final long stepStart = System.nanoTime();
                     if (perpetualMovement || counter <= animationDuration)
                         executeAnimationStep(counter, animation);
                     else if (counter > stopCount)
                         stopAnimation(animation);
                     else
                         executeFinishingStep(animation);
+                    final long stepEnd = System.nanoTime();
+
+                    if (counter == 1)
+                        recordLatency(TogglePhase.FIRST_STEP, stepStart);
 
                     animation.setStepsExecuted(counter);
                     forEachHook("onPostAnimationStep", IAnimationHook::onPostAnimationStep);
+
+                    final long hooksNanos = (stepStart - preHooksStart) + (System.nanoTime() - stepEnd);
+                    tickCost.finishTick(stepEnd - stepStart, hooksNanos, getAnimatedBlocks().size());
+                    tickEvent.commit(getAnimatedBlocks().size());
                 }
                 catch (Exception e)
                 {
@@ -580,11 +618,25 @@ public final class Animator implements IAnimator
             return;
 
         final boolean isAborted = isAborted();
-        final Runnable handler =
+        new AnimationStopEvent(
+            getStructureUID(),
+            getStructureTypeName(),
+            getAnimatedBlocks().size(),
+            tickCost.getTicks(),
+            isAborted
+        ).commit();
+        final Runnable completionHandler =
             isAborted ?
                 animatedBlockContainer::restoreBlocksOnFailure :
                 animatedBlockContainer::handleAnimationCompletion;
 
+        final Runnable handler = () ->
+        {
+            final long completionStart = System.nanoTime();
+            completionHandler.run();
+            recordLatency(TogglePhase.COMPLETION, completionStart);
+        };
+
         // Only the handleAnimationCompletion method needs to be called on the main thread, as it interacts with the
         // world to place the blocks in their final position.
         // However, updating the coordinates of the structure is best left to another thread, as it may block the
@@ -634,8 +686,10 @@ public final class Animator implements IAnimator
         if (!newCuboid.equals(snapshot.getCuboid()))
             structure.setCoordinates(newCuboid);
 
+        final long syncStart = System.nanoTime();
         structure
             .syncData(false)
+            .whenComplete((ignored, throwable) -> recordLatency(TogglePhase.DATABASE_SYNC, syncStart))
             .handleExceptional(ex ->
                 log.atError().withCause(ex).log("""
                         Failed to update the coordinates of the structure!
@@ -657,6 +711,16 @@ public final class Animator implements IAnimator
         return snapshot.getUid();
     }
 
+    private String getStructureTypeName()
+    {
+        return structure.getType().getFullNameWithVersion();
+    }
+
+    private void recordLatency(TogglePhase phase, long startNanos)
+    {
+        toggleLatencyTracker.recordSince(phase, structure.getType(), cause, startNanos);
+    }
+
     private void forEachHook(String actionName, Consumer<IAnimationHook> call)
     {
         final var hooks0 = hooks;
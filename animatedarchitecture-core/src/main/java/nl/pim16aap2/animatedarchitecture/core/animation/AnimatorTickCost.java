@@ -0,0 +1,220 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the wall-clock time spent by an {@link Animator} in each tick.
+ * <p>
+ * The time is split into the time spent executing the animation step, the time spent executing the animation hooks,
+ * and the time spent updating the animated blocks (a part of the animation step).
+ * <p>
+ * All times are measured with {@link System#nanoTime()}, so they include any time the thread running the animation
+ * was not scheduled or was blocked.
+ * <p>
+ * The values are written by the thread that runs the animation and can be read from any thread.
+ */
+public final class AnimatorTickCost
+{
+    /**
+     * Sorts the tick costs from the most expensive last tick to the least expensive last tick.
+     */
+    public static final Comparator<AnimatorTickCost> MOST_EXPENSIVE_FIRST =
+        Comparator.comparingLong(AnimatorTickCost::getLastTickNanos).reversed();
+
+    private final AtomicLong ticks = new AtomicLong();
+
+    private final AtomicLong lastStepNanos = new AtomicLong();
+    private final AtomicLong lastHooksNanos = new AtomicLong();
+    private final AtomicLong lastEntityUpdateNanos = new AtomicLong();
+
+    private final AtomicLong totalStepNanos = new AtomicLong();
+    private final AtomicLong totalHooksNanos = new AtomicLong();
+    private final AtomicLong totalEntityUpdateNanos = new AtomicLong();
+
+    private final AtomicLong blockCount = new AtomicLong();
+
+    /**
+     * The time spent updating the animated blocks in the current tick.
+     * <p>
+     * This is only accessed by the thread that runs the animation.
+     */
+    private long currentEntityUpdateNanos = 0;
+
+    /**
+     * Adds time spent updating animated blocks to the current tick.
+     * <p>
+     * This is called once for every loop over the animated blocks, not for every block.
+     *
+     * @param nanos
+     *     The time spent updating animated blocks in nanoseconds.
+     */
+    void addEntityUpdateTime(long nanos)
+    {
+        currentEntityUpdateNanos += nanos;
+    }
+
+    /**
+     * Finishes the current tick and adds its time to the total time.
+     *
+     * @param stepNanos
+     *     The time spent executing the animation step in nanoseconds. This includes the time spent updating the
+     *     animated blocks.
+     * @param hooksNanos
+     *     The time spent executing the animation hooks in nanoseconds.
+     * @param blockCount
+     *     The number of animated blocks.
+     */
+    void finishTick(long stepNanos, long hooksNanos, int blockCount)
+    {
+        final long entityUpdateNanos = currentEntityUpdateNanos;
+        currentEntityUpdateNanos = 0;
+
+        lastStepNanos.set(stepNanos);
+        lastHooksNanos.set(hooksNanos);
+        lastEntityUpdateNanos.set(entityUpdateNanos);
+
+        totalStepNanos.addAndGet(stepNanos);
+        totalHooksNanos.addAndGet(hooksNanos);
+        totalEntityUpdateNanos.addAndGet(entityUpdateNanos);
+
+        this.blockCount.set(blockCount);
+        ticks.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of ticks that have been finished.
+     *
+     * @return The number of ticks that have been finished.
+     */
+    public long getTicks()
+    {
+        return ticks.get();
+    }
+
+    /**
+     * Gets the number of animated blocks as of the last tick.
+     *
+     * @return The number of animated blocks.
+     */
+    public long getBlockCount()
+    {
+        return blockCount.get();
+    }
+
+    /**
+     * Gets the time spent in the last tick.
+     *
+     * @return The time spent executing the animation step and the hooks in the last tick in nanoseconds.
+     */
+    public long getLastTickNanos()
+    {
+        return lastStepNanos.get() + lastHooksNanos.get();
+    }
+
+    /**
+     * Gets the time spent in all ticks so far.
+     *
+     * @return The time spent executing the animation step and the hooks in all ticks in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        return totalStepNanos.get() + totalHooksNanos.get();
+    }
+
+    /**
+     * Gets the time spent executing the animation step in the last tick.
+     *
+     * @return The time spent executing the animation step in the last tick in nanoseconds.
+     */
+    public long getLastStepNanos()
+    {
+        return lastStepNanos.get();
+    }
+
+    /**
+     * Gets the time spent executing the animation hooks in the last tick.
+     *
+     * @return The time spent executing the animation hooks in the last tick in nanoseconds.
+     */
+    public long getLastHooksNanos()
+    {
+        return lastHooksNanos.get();
+    }
+
+    /**
+     * Gets the time spent updating the animated blocks in the last tick.
+     *
+     * @return The time spent updating the animated blocks in the last tick in nanoseconds.
+     */
+    public long getLastEntityUpdateNanos()
+    {
+        return lastEntityUpdateNanos.get();
+    }
+
+    /**
+     * Gets the time spent executing the animation step in all ticks so far.
+     *
+     * @return The time spent executing the animation step in all ticks in nanoseconds.
+     */
+    public long getTotalStepNanos()
+    {
+        return totalStepNanos.get();
+    }
+
+    /**
+     * Gets the time spent executing the animation hooks in all ticks so far.
+     *
+     * @return The time spent executing the animation hooks in all ticks in nanoseconds.
+     */
+    public long getTotalHooksNanos()
+    {
+        return totalHooksNanos.get();
+    }
+
+    /**
+     * Gets the time spent updating the animated blocks in all ticks so far.
+     *
+     * @return The time spent updating the animated blocks in all ticks in nanoseconds.
+     */
+    public long getTotalEntityUpdateNanos()
+    {
+        return totalEntityUpdateNanos.get();
+    }
+
+    /**
+     * Formats the tick cost as a single line.
+     *
+     * @return The formatted tick cost.
+     */
+    public String format()
+    {
+        return String.format(
+            Locale.ROOT,
+            "blocks: %d, ticks: %d, last: %.3fms (step: %.3fms, hooks: %.3fms, entities: %.3fms), " +
+                "total: %.3fms (step: %.3fms, hooks: %.3fms, entities: %.3fms)",
+            getBlockCount(),
+            getTicks(),
+            toMillis(getLastTickNanos()),
+            toMillis(getLastStepNanos()),
+            toMillis(getLastHooksNanos()),
+            toMillis(getLastEntityUpdateNanos()),
+            toMillis(getTotalNanos()),
+            toMillis(getTotalStepNanos()),
+            toMillis(getTotalHooksNanos()),
+            toMillis(getTotalEntityUpdateNanos())
+        );
+    }
+
+    private static double toMillis(long nanos)
+    {
+        return nanos / 1_000_000D;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "AnimatorTickCost{" + format() + "}";
+    }
+}
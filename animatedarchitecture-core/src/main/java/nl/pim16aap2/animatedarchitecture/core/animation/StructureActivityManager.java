@@ -7,13 +7,14 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.CustomLog;
 import lombok.Getter;
-import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IAnimatedArchitectureEventFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.events.IAnimatedArchitectureEventCaller;
+import nl.pim16aap2.animatedarchitecture.core.managers.RedstoneVerificationQueue;
 import nl.pim16aap2.animatedarchitecture.core.managers.StructureDeletionManager;
 import nl.pim16aap2.animatedarchitecture.core.structures.IStructureConst;
 import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
@@ -23,6 +24,7 @@ import org.jspecify.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,11 +51,17 @@ public final class StructureActivityManager extends Restartable
      */
     private static final long DELAYED_REDSTONE_VERIFICATION_TIME = 1_000L;
 
+    /**
+     * The number of most expensive animators to include in the debug information.
+     */
+    private static final int DEBUG_MOST_EXPENSIVE_ANIMATORS = 10;
+
     private final Map<Long, RegisteredAnimatorEntry> animators = new ConcurrentHashMap<>();
 
     private final IAnimatedArchitectureEventFactory eventFactory;
     private final IAnimatedArchitectureEventCaller animatedArchitectureEventCaller;
-    private final IExecutor executor;
+    private final RedstoneVerificationQueue redstoneVerificationQueue;
+    private final ToggleAdmissionController toggleAdmissionController;
 
     private volatile boolean isActive = false;
 
@@ -77,18 +85,24 @@ public final class StructureActivityManager extends Restartable
         RestartableHolder holder,
         IAnimatedArchitectureEventFactory eventFactory,
         IAnimatedArchitectureEventCaller animatedArchitectureEventCaller,
-        IExecutor executor,
+        RedstoneVerificationQueue redstoneVerificationQueue,
+        ToggleAdmissionController toggleAdmissionController,
         DebuggableRegistry debuggableRegistry,
-        StructureDeletionManager structureDeletionManager)
+        StructureDeletionManager structureDeletionManager,
+        MetricsRegistry metricsRegistry)
     {
         super(holder);
 
         this.eventFactory = eventFactory;
-        this.executor = executor;
+        this.redstoneVerificationQueue = redstoneVerificationQueue;
+        this.toggleAdmissionController = toggleAdmissionController;
         this.animatedArchitectureEventCaller = animatedArchitectureEventCaller;
 
         structureDeletionManager.registerDeletionListener(this);
         debuggableRegistry.registerDebuggable(this);
+
+        metricsRegistry.gauge("animations.active_animators", () -> getBlockMovers().count());
+        metricsRegistry.gauge("animations.blocks_in_motion", this::getBlocksInMotion);
     }
 
     /**
@@ -183,7 +197,7 @@ public final class StructureActivityManager extends Restartable
      */
     public void unregisterAnimation(long uid, long stamp)
     {
-        animators.compute(
+        final @Nullable RegisteredAnimatorEntry remaining = animators.compute(
             uid,
             (key, entry) ->
             {
@@ -194,6 +208,9 @@ public final class StructureActivityManager extends Restartable
                         "Stamp mismatch: Expected stamp " + entry.getStamp() + " but got stamp: " + stamp);
                 return entry.size() > 0 ? entry : null;
             });
+
+        if (remaining == null)
+            toggleAdmissionController.release(uid);
     }
 
     /**
@@ -257,7 +274,7 @@ public final class StructureActivityManager extends Restartable
 
     private void processFinishedAnimation0(Animator animator)
     {
-        animators.compute(
+        final @Nullable RegisteredAnimatorEntry remaining = animators.compute(
             animator.getStructureUID(),
             (key, entry) ->
             {
@@ -275,6 +292,9 @@ public final class StructureActivityManager extends Restartable
                 return null;
             });
 
+        if (remaining == null)
+            toggleAdmissionController.release(animator.getStructureUID());
+
         animatedArchitectureEventCaller.callAnimatedArchitectureEvent(
             eventFactory.createToggleEndEvent(
                 animator.getStructure(),
@@ -325,6 +345,49 @@ public final class StructureActivityManager extends Restartable
             .flatMap(Collection::stream);
     }
 
+    /**
+     * Gets the number of blocks that are currently being animated.
+     * <p>
+     * The number of blocks of each animator is based on its last tick. See {@link AnimatorTickCost#getBlockCount()}.
+     *
+     * @return The total number of animated blocks of all active {@link Animator}s.
+     */
+    public long getBlocksInMotion()
+    {
+        return getBlockMovers()
+            .mapToLong(animator -> animator.getTickCost().getBlockCount())
+            .sum();
+    }
+
+    /**
+     * Gets the currently active {@link Animator}s that were the most expensive in their last tick.
+     * <p>
+     * See {@link Animator#getTickCost()}.
+     *
+     * @param limit
+     *     The maximum number of animators to return.
+     * @return The most expensive animators, sorted from the most expensive to the least expensive.
+     */
+    public List<Animator> getMostExpensiveAnimators(int limit)
+    {
+        return getBlockMovers()
+            .sorted(Comparator.comparing(Animator::getTickCost, AnimatorTickCost.MOST_EXPENSIVE_FIRST))
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Formats the tick cost of an animator as a single line.
+     *
+     * @param animator
+     *     The animator whose tick cost to format.
+     * @return The name and UID of the animated structure followed by the tick cost of the animator.
+     */
+    public static String formatTickCost(Animator animator)
+    {
+        return animator.getSnapshot().getNameAndUid() + ": " + animator.getTickCost().format();
+    }
+
     /**
      * Aborts all block movers that are currently active.
      * <p>
@@ -351,6 +414,8 @@ public final class StructureActivityManager extends Restartable
         if (removed == null)
             return;
 
+        toggleAdmissionController.release(structure.getUid());
+
         log.atInfo().log("Aborted animation: %s\nFor deleted structure: %s", removed, structure);
 
         removed.abort();
@@ -363,12 +428,25 @@ public final class StructureActivityManager extends Restartable
         structureAnimationsAbortedOnShutdown.addAll(this.abortAnimators());
     }
 
+    /**
+     * Schedules a redstone verification for a structure whose animation has ended.
+     * <p>
+     * The verification is performed by the {@link RedstoneVerificationQueue}, so many structures ending their
+     * animations at the same time do not all verify their redstone state in the same tick.
+     *
+     * @param structure
+     *     The structure whose redstone state to verify.
+     * @param delay
+     *     The minimum amount of time (in milliseconds) to wait before verifying the redstone state.
+     */
+    public void scheduleRedstoneVerification(Structure structure, long delay)
+    {
+        redstoneVerificationQueue.enqueue(structure, delay);
+    }
+
     private void delayedRedstoneVerification(List<Structure> lst)
     {
-        executor.runAsyncLater(
-            () -> lst.forEach(Structure::verifyRedstoneState),
-            DELAYED_REDSTONE_VERIFICATION_TIME
-        );
+        redstoneVerificationQueue.enqueueAll(lst, DELAYED_REDSTONE_VERIFICATION_TIME);
     }
 
     @GuardedBy("this")
@@ -391,7 +469,11 @@ public final class StructureActivityManager extends Restartable
     public String getDebugInformation()
     {
         return "Registered animators: " +
-            StringUtil.formatCollection(animators.entrySet(), entry -> entry.getValue().toString());
+            StringUtil.formatCollection(animators.entrySet(), entry -> entry.getValue().toString()) +
+            "\nMost expensive animators: " +
+            StringUtil.formatCollection(
+                getMostExpensiveAnimators(DEBUG_MOST_EXPENSIVE_ANIMATORS),
+                StructureActivityManager::formatTickCost);
     }
 
     /**
@@ -0,0 +1,536 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
+import nl.pim16aap2.animatedarchitecture.core.structures.IStructureConst;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureToggleResult;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of structures that are animated at the same time.
+ * <p>
+ * Every toggle request has to be admitted by this controller before it is prepared. An admitted request occupies a
+ * slot until its animation has ended or until the toggle has failed. The number of slots is limited globally (see
+ * {@link IConfig#maxConcurrentAnimations()}) and per world (see {@link IConfig#maxConcurrentAnimationsPerWorld()}).
+ * <p>
+ * When no slot is available, the {@link AdmissionPolicy} for the cause of the request determines what happens to it.
+ * Requests that are rejected are completed with {@link StructureToggleResult#THROTTLED}.
+ */
+@Singleton
+@CustomLog
+public final class ToggleAdmissionController extends Restartable implements IDebuggable
+{
+    /**
+     * The maximum amount of time a request can wait in the queue before it is rejected.
+     */
+    static final Duration MAX_QUEUE_TIME = Duration.ofSeconds(30);
+
+    private final IConfig config;
+
+    /**
+     * The occupied slots, mapped by the UID of the structure that occupies them.
+     */
+    @GuardedBy("this")
+    private final Map<Long, Slot> slots = new HashMap<>();
+
+    /**
+     * The number of occupied slots per world.
+     */
+    @GuardedBy("this")
+    private final Map<String, Integer> slotsPerWorld = new HashMap<>();
+
+    @GuardedBy("this")
+    private final Deque<PendingRequest> pending = new ArrayDeque<>();
+
+    /**
+     * The pending requests that may be coalesced with newer requests, mapped by the UID of their structure.
+     */
+    @GuardedBy("this")
+    private final Map<Long, PendingRequest> coalescable = new HashMap<>();
+
+    private final LongAdder admittedRequests = new LongAdder();
+    private final LongAdder queuedRequests = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+    private final LongAdder throttledRequests = new LongAdder();
+
+    @Inject
+    public ToggleAdmissionController(
+        RestartableHolder holder,
+        IConfig config,
+        DebuggableRegistry debuggableRegistry)
+    {
+        super(holder);
+        this.config = config;
+
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    /**
+     * Submits a toggle request.
+     * <p>
+     * If a slot is available for the structure, the toggle is started immediately. Otherwise, the request is handled
+     * according to the {@link AdmissionPolicy} for the cause.
+     * <p>
+     * When the structure already occupies a slot, the toggle is started immediately without occupying another slot.
+     * The toggle is then expected to fail with {@link StructureToggleResult#BUSY}.
+     *
+     * @param structure
+     *     The structure to toggle.
+     * @param cause
+     *     What caused the toggle request.
+     * @param toggle
+     *     The supplier that starts the toggle. If the toggle is successful, the slot is released once the animation of
+     *     the structure has ended (see {@link #release(long)}). Otherwise, it is released as soon as the toggle has
+     *     completed.
+     * @return The result of the toggle, or {@link StructureToggleResult#THROTTLED} if the request was rejected.
+     */
+    public CompletableFuture<StructureToggleResult> submit(
+        IStructureConst structure,
+        StructureActionCause cause,
+        Supplier<CompletableFuture<StructureToggleResult>> toggle)
+    {
+        final long uid = structure.getUid();
+        final String world = structure.getWorld().worldName();
+        final CompletableFuture<StructureToggleResult> result = new CompletableFuture<>();
+
+        final @Nullable Slot slot;
+        synchronized (this)
+        {
+            if (slots.containsKey(uid))
+                slot = null;
+            else if (hasCapacity(world))
+                slot = occupySlot(uid, world);
+            else
+            {
+                if (!enqueue(uid, world, cause, toggle, result))
+                {
+                    throttledRequests.increment();
+                    result.complete(StructureToggleResult.THROTTLED);
+                }
+                return result;
+            }
+        }
+
+        admittedRequests.increment();
+        start(slot, toggle, List.of(result));
+        return result;
+    }
+
+    /**
+     * Releases the slot occupied by a structure, if any, and starts pending requests that can use the freed slot.
+     * <p>
+     * This should be called whenever all animations of a structure have ended.
+     *
+     * @param uid
+     *     The UID of the structure whose slot to release.
+     */
+    public void release(long uid)
+    {
+        final List<PendingRequest> startable;
+        synchronized (this)
+        {
+            final @Nullable Slot slot = slots.get(uid);
+            if (slot == null)
+                return;
+            startable = releaseSlot(slot);
+        }
+        startAll(startable);
+    }
+
+    private void release(Slot slot)
+    {
+        final List<PendingRequest> startable;
+        synchronized (this)
+        {
+            if (slots.get(slot.uid()) != slot)
+                return;
+            startable = releaseSlot(slot);
+        }
+        startAll(startable);
+    }
+
+    @GuardedBy("this")
+    private List<PendingRequest> releaseSlot(Slot slot)
+    {
+        slots.remove(slot.uid());
+        slotsPerWorld.computeIfPresent(slot.world(), (key, count) -> count > 1 ? count - 1 : null);
+        return pollStartable();
+    }
+
+    @GuardedBy("this")
+    private boolean hasCapacity(String world)
+    {
+        if (exceedsLimit(slots.size(), config.maxConcurrentAnimations()))
+            return false;
+        return !exceedsLimit(slotsPerWorld.getOrDefault(world, 0), config.maxConcurrentAnimationsPerWorld());
+    }
+
+    private static boolean exceedsLimit(int count, OptionalInt limit)
+    {
+        return limit.isPresent() && count >= limit.getAsInt();
+    }
+
+    @GuardedBy("this")
+    private Slot occupySlot(long uid, String world)
+    {
+        final Slot slot = new Slot(uid, world);
+        slots.put(uid, slot);
+        slotsPerWorld.merge(world, 1, Integer::sum);
+        return slot;
+    }
+
+    /**
+     * Adds a request to the queue according to the policy for its cause.
+     *
+     * @return True if the request was added to the queue or coalesced with a pending request.
+     */
+    @GuardedBy("this")
+    private boolean enqueue(
+        long uid,
+        String world,
+        StructureActionCause cause,
+        Supplier<CompletableFuture<StructureToggleResult>> toggle,
+        CompletableFuture<StructureToggleResult> result)
+    {
+        final AdmissionPolicy policy = AdmissionPolicy.forCause(cause);
+        if (policy == AdmissionPolicy.DROP)
+            return false;
+
+        if (policy == AdmissionPolicy.COALESCE)
+        {
+            final @Nullable PendingRequest existing = coalescable.get(uid);
+            if (existing != null)
+            {
+                existing.coalesce(toggle, result);
+                coalescedRequests.increment();
+                return true;
+            }
+        }
+
+        if (pending.size() >= Math.max(0, config.toggleQueueSize()))
+            return false;
+
+        final PendingRequest request = new PendingRequest(uid, world, policy, toggle, result);
+        pending.addLast(request);
+        if (policy == AdmissionPolicy.COALESCE)
+            coalescable.put(uid, request);
+        queuedRequests.increment();
+
+        CompletableFuture.delayedExecutor(MAX_QUEUE_TIME.toMillis(), TimeUnit.MILLISECONDS)
+            .execute(() -> expire(request));
+        return true;
+    }
+
+    private void expire(PendingRequest request)
+    {
+        synchronized (this)
+        {
+            if (!removePending(request))
+                return;
+        }
+        log.atDebug().log("Toggle request for structure %d expired in the queue.", request.uid);
+        throttledRequests.increment();
+        request.complete(StructureToggleResult.THROTTLED);
+    }
+
+    @GuardedBy("this")
+    private boolean removePending(PendingRequest request)
+    {
+        coalescable.remove(request.uid, request);
+        return pending.remove(request);
+    }
+
+    /**
+     * Removes all pending requests from the queue that can be started now, in the order in which they were queued.
+     * <p>
+     * Requests for worlds that have reached their limit are skipped, so they do not block requests for other worlds.
+     */
+    @GuardedBy("this")
+    private List<PendingRequest> pollStartable()
+    {
+        final List<PendingRequest> ret = new ArrayList<>();
+        final Iterator<PendingRequest> it = pending.iterator();
+        while (it.hasNext())
+        {
+            final PendingRequest request = it.next();
+            if (request.isDone())
+            {
+                it.remove();
+                coalescable.remove(request.uid, request);
+                continue;
+            }
+
+            if (slots.containsKey(request.uid))
+                request.slot = null;
+            else if (hasCapacity(request.world))
+                request.slot = occupySlot(request.uid, request.world);
+            else if (exceedsLimit(slots.size(), config.maxConcurrentAnimations()))
+                break;
+            else
+                continue;
+
+            it.remove();
+            coalescable.remove(request.uid, request);
+            ret.add(request);
+        }
+        return ret;
+    }
+
+    private void startAll(List<PendingRequest> requests)
+    {
+        for (final PendingRequest request : requests)
+        {
+            admittedRequests.increment();
+            final List<CompletableFuture<StructureToggleResult>> waiters;
+            final Supplier<CompletableFuture<StructureToggleResult>> toggle;
+            synchronized (request)
+            {
+                request.started = true;
+                waiters = List.copyOf(request.waiters);
+                toggle = request.toggle;
+            }
+            start(request.slot, toggle, waiters);
+        }
+    }
+
+    private void start(
+        @Nullable Slot slot,
+        Supplier<CompletableFuture<StructureToggleResult>> toggle,
+        List<CompletableFuture<StructureToggleResult>> waiters)
+    {
+        final CompletableFuture<StructureToggleResult> toggleFuture;
+        try
+        {
+            toggleFuture = toggle.get();
+        }
+        catch (Exception exception)
+        {
+            if (slot != null)
+                release(slot);
+            waiters.forEach(waiter -> waiter.completeExceptionally(exception));
+            return;
+        }
+
+        toggleFuture.whenComplete((toggleResult, throwable) ->
+        {
+            if (slot != null && (throwable != null || toggleResult != StructureToggleResult.SUCCESS))
+                release(slot);
+
+            for (final CompletableFuture<StructureToggleResult> waiter : waiters)
+            {
+                if (throwable == null)
+                    waiter.complete(toggleResult);
+                else
+                    waiter.completeExceptionally(throwable);
+            }
+        });
+
+        // Only cancel the toggle once nobody is waiting for its result anymore.
+        for (final CompletableFuture<StructureToggleResult> waiter : waiters)
+            waiter.whenComplete((ignored, throwable) ->
+            {
+                if (waiter.isCancelled() && waiters.stream().allMatch(CompletableFuture::isCancelled))
+                    toggleFuture.cancel(true);
+            });
+    }
+
+    /**
+     * Gets the number of slots that are currently occupied.
+     *
+     * @return The number of structures that are currently being toggled or animated.
+     */
+    public synchronized int getOccupiedSlots()
+    {
+        return slots.size();
+    }
+
+    /**
+     * Gets the number of requests that are waiting for a slot.
+     *
+     * @return The number of pending requests.
+     */
+    public synchronized int getPendingRequests()
+    {
+        return pending.size();
+    }
+
+    @Override
+    public void shutDown()
+    {
+        final List<PendingRequest> cancelled;
+        synchronized (this)
+        {
+            cancelled = new ArrayList<>(pending);
+            pending.clear();
+            coalescable.clear();
+            slots.clear();
+            slotsPerWorld.clear();
+        }
+        cancelled.forEach(request -> request.complete(StructureToggleResult.CANCELLED));
+    }
+
+    @Override
+    public synchronized String getDebugInformation()
+    {
+        return String.format(
+            "Toggle admission: %d occupied slots (limit: %s, per world: %s), %d pending (limit: %d)%n" +
+                "  %d admitted, %d queued, %d coalesced, %d throttled%n" +
+                "  Slots per world: %s",
+            slots.size(),
+            formatLimit(config.maxConcurrentAnimations()),
+            formatLimit(config.maxConcurrentAnimationsPerWorld()),
+            pending.size(),
+            config.toggleQueueSize(),
+            admittedRequests.sum(),
+            queuedRequests.sum(),
+            coalescedRequests.sum(),
+            throttledRequests.sum(),
+            slotsPerWorld
+        );
+    }
+
+    private static String formatLimit(OptionalInt limit)
+    {
+        return limit.isPresent() ? Integer.toString(limit.getAsInt()) : "none";
+    }
+
+    /**
+     * Determines what happens to a toggle request when no slot is available for it.
+     */
+    public enum AdmissionPolicy
+    {
+        /**
+         * The request is added to the end of the queue. If the queue is full, the request is rejected.
+         */
+        QUEUE,
+
+        /**
+         * The request is queued like {@link #QUEUE}, unless a request for the same structure is already pending. In
+         * that case, the newer request replaces the pending one while keeping its position in the queue, and both
+         * requests receive the result of the newer request.
+         */
+        COALESCE,
+
+        /**
+         * The request is rejected.
+         */
+        DROP,
+        ;
+
+        /**
+         * Gets the policy for requests with a given cause.
+         *
+         * @param cause
+         *     The cause of the request.
+         * @return The policy for requests with the given cause.
+         */
+        public static AdmissionPolicy forCause(StructureActionCause cause)
+        {
+            return switch (cause)
+            {
+                case PLAYER, SERVER, PLUGIN -> QUEUE;
+                // Only the latest redstone signal matters.
+                case REDSTONE -> COALESCE;
+                // Perpetual movement will be toggled again anyway.
+                case PERPETUAL_MOVEMENT -> DROP;
+            };
+        }
+    }
+
+    /**
+     * A slot occupied by a structure.
+     *
+     * @param uid
+     *     The UID of the structure.
+     * @param world
+     *     The name of the world the structure is in.
+     */
+    private record Slot(long uid, String world)
+    {
+    }
+
+    private static final class PendingRequest
+    {
+        private final long uid;
+        private final String world;
+        private final AdmissionPolicy policy;
+
+        @GuardedBy("this")
+        private Supplier<CompletableFuture<StructureToggleResult>> toggle;
+
+        @GuardedBy("this")
+        private final List<CompletableFuture<StructureToggleResult>> waiters = new ArrayList<>(1);
+
+        @GuardedBy("this")
+        private boolean started = false;
+
+        /**
+         * The slot that was occupied for this request when it was removed from the queue.
+         * <p>
+         * This is null while the request is pending, or if the structure already occupied a slot.
+         */
+        private volatile @Nullable Slot slot;
+
+        private PendingRequest(
+            long uid,
+            String world,
+            AdmissionPolicy policy,
+            Supplier<CompletableFuture<StructureToggleResult>> toggle,
+            CompletableFuture<StructureToggleResult> waiter)
+        {
+            this.uid = uid;
+            this.world = world;
+            this.policy = policy;
+            this.toggle = toggle;
+            this.waiters.add(waiter);
+        }
+
+        private synchronized void coalesce(
+            Supplier<CompletableFuture<StructureToggleResult>> newToggle,
+            CompletableFuture<StructureToggleResult> waiter)
+        {
+            if (started)
+                throw new IllegalStateException("Cannot coalesce with a request that has already been started!");
+            this.toggle = newToggle;
+            this.waiters.add(waiter);
+        }
+
+        private synchronized boolean isDone()
+        {
+            return waiters.stream().allMatch(CompletableFuture::isDone);
+        }
+
+        private synchronized void complete(StructureToggleResult result)
+        {
+            waiters.forEach(waiter -> waiter.complete(result));
+        }
+
+        @Override
+        public String toString()
+        {
+            return "PendingRequest{uid=" + uid + ", world=" + world + ", policy=" + policy + "}";
+        }
+    }
+}
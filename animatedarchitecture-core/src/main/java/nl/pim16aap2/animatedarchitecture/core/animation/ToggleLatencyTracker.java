@@ -0,0 +1,164 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the latency of each {@link TogglePhase} of toggle requests.
+ * <p>
+ * A separate {@link LatencyHistogram} is kept for every combination of phase, {@link StructureType}, and
+ * {@link StructureActionCause}, so slow toggles can be traced to the phase and the type of structure that caused them.
+ */
+@Singleton
+public final class ToggleLatencyTracker implements IDebuggable
+{
+    private static final Comparator<Entry> ENTRY_COMPARATOR = Comparator
+        .comparing(Entry::phase)
+        .thenComparing(entry -> entry.type().getFullNameWithVersion())
+        .thenComparing(Entry::cause);
+
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Inject
+    public ToggleLatencyTracker(DebuggableRegistry debuggableRegistry)
+    {
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    /**
+     * Records the latency of a phase of a toggle request.
+     *
+     * @param phase
+     *     The phase of the toggle request.
+     * @param type
+     *     The type of the structure that was toggled.
+     * @param cause
+     *     What caused the toggle request.
+     * @param durationNanos
+     *     The latency of the phase in nanoseconds.
+     */
+    public void record(TogglePhase phase, StructureType type, StructureActionCause cause, long durationNanos)
+    {
+        getHistogram(new Key(phase, type, cause)).record(durationNanos);
+    }
+
+    /**
+     * Records the time that has passed since the start of a phase of a toggle request.
+     *
+     * @param phase
+     *     The phase of the toggle request.
+     * @param type
+     *     The type of the structure that was toggled.
+     * @param cause
+     *     What caused the toggle request.
+     * @param startNanos
+     *     The start time of the phase as obtained from {@link System#nanoTime()}.
+     */
+    public void recordSince(TogglePhase phase, StructureType type, StructureActionCause cause, long startNanos)
+    {
+        record(phase, type, cause, System.nanoTime() - startNanos);
+    }
+
+    private LatencyHistogram getHistogram(Key key)
+    {
+        final @Nullable LatencyHistogram histogram = histograms.get(key);
+        if (histogram != null)
+            return histogram;
+        return histograms.computeIfAbsent(key, ignored -> new LatencyHistogram());
+    }
+
+    /**
+     * Gets all histograms that have been created so far.
+     *
+     * @return The histograms sorted by phase, structure type, and cause.
+     */
+    public List<Entry> getEntries()
+    {
+        return histograms.entrySet().stream()
+            .map(entry -> new Entry(entry.getKey().phase, entry.getKey().type, entry.getKey().cause, entry.getValue()))
+            .sorted(ENTRY_COMPARATOR)
+            .toList();
+    }
+
+    /**
+     * Removes all recorded latencies.
+     */
+    public void reset()
+    {
+        histograms.clear();
+    }
+
+    /**
+     * Formats all histograms that contain at least one latency.
+     * <p>
+     * The histograms are grouped by phase, with one line per combination of structure type and cause.
+     *
+     * @return The formatted histograms, or null if no latencies have been recorded.
+     */
+    public @Nullable String format()
+    {
+        final StringBuilder sb = new StringBuilder();
+        @Nullable TogglePhase currentPhase = null;
+        for (final Entry entry : getEntries())
+        {
+            if (entry.histogram().getCount() == 0)
+                continue;
+
+            if (entry.phase() != currentPhase)
+            {
+                currentPhase = entry.phase();
+                sb.append("  ").append(currentPhase.getDisplayName()).append(":\n");
+            }
+            sb.append("    ").append(entry.getName()).append(": ").append(entry.histogram().format()).append('\n');
+        }
+        return sb.isEmpty() ? null : sb.toString();
+    }
+
+    @Override
+    public String getDebugInformation()
+    {
+        final @Nullable String formatted = format();
+        return "Toggle latency per phase:" + (formatted == null ? " No data" : "\n" + formatted);
+    }
+
+    private record Key(TogglePhase phase, StructureType type, StructureActionCause cause)
+    {
+    }
+
+    /**
+     * The latencies of a single combination of phase, structure type, and cause.
+     *
+     * @param phase
+     *     The phase of the toggle requests.
+     * @param type
+     *     The type of the structures that were toggled.
+     * @param cause
+     *     What caused the toggle requests.
+     * @param histogram
+     *     The recorded latencies.
+     */
+    public record Entry(TogglePhase phase, StructureType type, StructureActionCause cause, LatencyHistogram histogram)
+    {
+        /**
+         * Gets the name of the structure type and the cause of this entry.
+         *
+         * @return The name in the format {@code <type>/<cause>}.
+         */
+        public String getName()
+        {
+            return type.getFullNameWithVersion() + "/" + cause.name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import java.util.Locale;
+
+/**
+ * Represents the phases of a toggle request whose latency is recorded by the {@link ToggleLatencyTracker}.
+ * <p>
+ * The phases are listed in the order in which they are executed.
+ */
+public enum TogglePhase
+{
+    /**
+     * Retrieving the structure from its retriever. This may include a database lookup.
+     */
+    RETRIEVAL,
+
+    /**
+     * Creating the snapshot of the structure, calculating its new coordinates, and constructing the animation
+     * component.
+     */
+    SNAPSHOT,
+
+    /**
+     * Checking the size limit of the structure for the responsible player.
+     */
+    LIMITS,
+
+    /**
+     * Checking whether the responsible player is allowed to break blocks in the old and new locations using the
+     * protection hooks.
+     */
+    PROTECTION_HOOKS,
+
+    /**
+     * Checking the new location of the structure for obstructions.
+     */
+    OBSTRUCTION_CHECK,
+
+    /**
+     * Calling the toggle prepare event.
+     */
+    PREPARE_EVENT,
+
+    /**
+     * Creating the animated blocks.
+     */
+    BLOCK_CREATION,
+
+    /**
+     * Spawning the animated blocks and preparing the animation component.
+     */
+    SPAWN,
+
+    /**
+     * Executing the first step of the animation.
+     */
+    FIRST_STEP,
+
+    /**
+     * Placing the blocks in their final position (or restoring them if the animation was aborted) on the main thread.
+     */
+    COMPLETION,
+
+    /**
+     * Saving the new state of the structure to the database.
+     */
+    DATABASE_SYNC,
+    ;
+
+    /**
+     * Gets the name of this phase as used in the output of the tracker.
+     *
+     * @return The name of this phase in lower case.
+     */
+    public String getDisplayName()
+    {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -69,7 +69,10 @@ public abstract class HighlightedBlockSpawner
      */
     public void spawnHighlightedBlocks(IStructureConst structure, IPlayer player, @Nullable Duration duration)
     {
-        getExecutor().runOnMainThread(() -> spawnHighlightedBlocks0(structure, player, duration));
+        getExecutor().runOnMainThread(
+            () -> spawnHighlightedBlocks0(structure, player, duration),
+            IExecutor.MainThreadPriority.BACKGROUND
+        );
     }
 
     private void spawnHighlightedBlocks0(IStructureConst structure, IPlayer player, @Nullable Duration duration)
@@ -134,7 +137,10 @@ public abstract class HighlightedBlockSpawner
      */
     public void spawnHighlightedBlocks(Structure structure, IPlayer player, @Nullable Duration duration)
     {
-        getExecutor().runOnMainThread(() -> spawnHighlightedBlocks0(structure, player, duration));
+        getExecutor().runOnMainThread(
+            () -> spawnHighlightedBlocks0(structure, player, duration),
+            IExecutor.MainThreadPriority.BACKGROUND
+        );
     }
 
     protected abstract IExecutor getExecutor();
@@ -1,5 +1,10 @@
 package nl.pim16aap2.animatedarchitecture.core.api;
 
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
 
 /**
  * Analyzes blocks and materials for various properties. This is used to determine if a block can be used for
@@ -33,6 +38,31 @@ public interface IBlockAnalyzer<T>
      */
     boolean isAirOrLiquid(ILocation location);
 
+    /**
+     * Finds all blocks in an area that are neither air nor liquid.
+     * <p>
+     * This is equivalent to calling {@link #isAirOrLiquid(ILocation)} for every block in the area, but implementations
+     * are expected to scan the area in bulk (e.g. per chunk section), which is much cheaper for large areas.
+     * <p>
+     * This method may be called from any thread. Implementations that can only read the world on the main thread may
+     * block the calling thread until the required data has been captured there. Such implementations should bound this
+     * wait and stop waiting when the calling thread is interrupted.
+     *
+     * @param world
+     *     The world to check the blocks in.
+     * @param cuboid
+     *     The area to check.
+     * @param excluded
+     *     An area to ignore. Any blocks in the cuboid that are also inside this area are not checked. May be null to
+     *     check all blocks in the cuboid.
+     * @param limit
+     *     The maximum number of obstructions to find. The scan stops as soon as this many obstructions have been found.
+     *     Use 1 to only check if the area is empty.
+     * @return The positions of the blocks that are neither air nor liquid. This list contains at most {@code limit}
+     * entries and is empty if the area is empty.
+     */
+    List<Vector3Di> findObstructions(IWorld world, Cuboid cuboid, @Nullable Cuboid excluded, int limit);
+
     /**
      * Check if a block is on the blacklist of block that is not allowed for animations.
      *
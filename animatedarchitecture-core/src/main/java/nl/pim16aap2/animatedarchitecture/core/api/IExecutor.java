@@ -8,6 +8,9 @@ import java.util.function.Supplier;
 
 /**
  * Represents an interface that allows scheduling (a)sync tasks.
+ * <p>
+ * Tasks scheduled on the main thread can be given a {@link MainThreadPriority}. Tasks scheduled without a priority
+ * use {@link MainThreadPriority#ANIMATION_CRITICAL}.
  */
 public interface IExecutor
 {
@@ -32,6 +35,42 @@ public interface IExecutor
      */
     <T> CompletableFuture<T> scheduleOnMainThread(Supplier<T> supplier);
 
+    /**
+     * Schedules a task to be run on the main thread with a given priority.
+     * <p>
+     * Platforms that do not support priorities will ignore the priority.
+     *
+     * @param supplier
+     *     A function returning the value to be used to complete the returned future.
+     * @param priority
+     *     The priority of the task.
+     * @return The result of the action.
+     */
+    default <T> CompletableFuture<T> scheduleOnMainThread(Supplier<T> supplier, MainThreadPriority priority)
+    {
+        return scheduleOnMainThread(supplier);
+    }
+
+    /**
+     * Ensures a supplier is run on the main thread with a given priority.
+     * <p>
+     * When called from the main thread, it will be executed immediately. When called from another thread, the supplier
+     * is scheduled to run on the main thread with the given priority instead.
+     *
+     * @param supplier
+     *     The supplier to run.
+     * @param priority
+     *     The priority of the task if it has to be scheduled.
+     * @return The result of the action.
+     */
+    default <T> CompletableFuture<T> runOnMainThread(Supplier<T> supplier, MainThreadPriority priority)
+    {
+        if (isMainThread())
+            return CompletableFuture.completedFuture(supplier.get());
+        else
+            return scheduleOnMainThread(supplier, priority);
+    }
+
     /**
      * Ensures a supplier is run on the main thread.
      * <p>
@@ -86,11 +125,49 @@ public interface IExecutor
         });
     }
 
+    /**
+     * Ensures a runnable is run on the main thread with a given priority.
+     * <p>
+     * See {@link #runOnMainThread(Supplier, MainThreadPriority)}.
+     *
+     * @param runnable
+     *     The runnable to run.
+     * @param priority
+     *     The priority of the task if it has to be scheduled.
+     * @return The CompletableFuture that is completed when the runnable has finished running.
+     */
+    default CompletableFuture<Void> runOnMainThreadWithResponse(Runnable runnable, MainThreadPriority priority)
+    {
+        return runOnMainThread(
+            () ->
+            {
+                runnable.run();
+                return null;
+            },
+            priority
+        );
+    }
+
     /**
      * Schedules an action to be run on the main thread.
      */
     void scheduleOnMainThread(Runnable runnable);
 
+    /**
+     * Schedules an action to be run on the main thread with a given priority.
+     * <p>
+     * Platforms that do not support priorities will ignore the priority.
+     *
+     * @param runnable
+     *     The action to run.
+     * @param priority
+     *     The priority of the action.
+     */
+    default void scheduleOnMainThread(Runnable runnable, MainThreadPriority priority)
+    {
+        scheduleOnMainThread(runnable);
+    }
+
     /**
      * Ensures a runnable is run on the main thread.
      * <p>
@@ -105,6 +182,25 @@ public interface IExecutor
             scheduleOnMainThread(runnable);
     }
 
+    /**
+     * Ensures a runnable is run on the main thread with a given priority.
+     * <p>
+     * When called from the main thread, it will be executed immediately. When called from another thread, the runnable
+     * is scheduled to run on the main thread with the given priority instead.
+     *
+     * @param runnable
+     *     The runnable to run.
+     * @param priority
+     *     The priority of the task if it has to be scheduled.
+     */
+    default void runOnMainThread(Runnable runnable, MainThreadPriority priority)
+    {
+        if (isMainThread())
+            runnable.run();
+        else
+            scheduleOnMainThread(runnable, priority);
+    }
+
     /**
      * Schedules a task to be run on the main thread.
      *
@@ -302,4 +398,32 @@ public interface IExecutor
     {
         assertNotMainThread("Assertion Failed: On main thread!");
     }
+
+    /**
+     * The priority of a task that is scheduled on the main thread.
+     * <p>
+     * When there is more work than fits in a single tick, tasks with a higher priority are run first. Every priority
+     * is guaranteed to make some progress every tick, so tasks with a lower priority cannot be starved entirely.
+     * <p>
+     * The constants are ordered from the highest to the lowest priority.
+     */
+    enum MainThreadPriority
+    {
+        /**
+         * Tasks that a player is waiting on directly, such as updating a GUI after a click.
+         */
+        INTERACTIVE,
+
+        /**
+         * Tasks that are part of toggling or animating a structure.
+         * <p>
+         * This is the priority used for tasks that are scheduled without an explicit priority.
+         */
+        ANIMATION_CRITICAL,
+
+        /**
+         * Bulk work that can be delayed without a noticeable effect, such as spawning highlighted blocks.
+         */
+        BACKGROUND
+    }
 }
@@ -0,0 +1,389 @@
+package nl.pim16aap2.animatedarchitecture.core.api.debugging;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.animation.Animator;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimatorTickCost;
+import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsSnapshot;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureSnapshot;
+import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector2Di;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Records a snapshot of the performance of the active animations over a few seconds and writes it to a file.
+ * <p>
+ * Unlike the debug report (see {@link DebugReporter}), which mostly contains static information, a performance
+ * snapshot samples the live state a few times per second:
+ * <ul>
+ *     <li>The block count and the tick cost of each active {@link Animator} (see {@link AnimatorTickCost}).</li>
+ *     <li>The chunks with the most animated blocks.</li>
+ *     <li>The depth of the main-thread queue and the database queue (see {@link MetricsRegistry}).</li>
+ *     <li>The delay before a task scheduled on the main thread is executed.</li>
+ * </ul>
+ * The snapshot is written to a compact text file in the {@value #DIRECTORY_NAME} directory in the plugin's data
+ * folder, so it can be attached to issues.
+ */
+@Singleton
+@CustomLog
+public final class PerformanceSnapshotRecorder
+{
+    /**
+     * The duration of a recording when no duration is specified.
+     */
+    public static final Duration DEFAULT_DURATION = Duration.ofSeconds(5);
+
+    /**
+     * The time between two samples.
+     */
+    static final Duration SAMPLE_INTERVAL = Duration.ofMillis(250);
+
+    /**
+     * The name of the directory in the plugin's data folder that the snapshots are written to.
+     */
+    static final String DIRECTORY_NAME = "snapshots";
+
+    /**
+     * The name of the gauge with the number of tasks that are waiting to be executed on the main thread.
+     */
+    static final String MAIN_THREAD_QUEUE_DEPTH = "executor.main_thread.queue_depth";
+
+    /**
+     * The name of the gauge with the number of pending database queries.
+     */
+    static final String DATABASE_QUEUE_DEPTH = "database.queue_depth";
+
+    /**
+     * The maximum number of chunks to include in each sample.
+     */
+    private static final int MAX_CHUNKS_PER_SAMPLE = 5;
+
+    /**
+     * The maximum amount of time to wait for the main thread to count the animated blocks in each chunk.
+     */
+    private static final Duration MAIN_THREAD_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final DateTimeFormatter FILE_NAME_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS", Locale.ROOT).withZone(ZoneOffset.UTC);
+
+    private final StructureActivityManager structureActivityManager;
+    private final MetricsRegistry metricsRegistry;
+    private final IExecutor executor;
+    private final Path snapshotDirectory;
+
+    @GuardedBy("this")
+    private @Nullable CompletableFuture<Path> activeRecording;
+
+    @Inject
+    public PerformanceSnapshotRecorder(
+        StructureActivityManager structureActivityManager,
+        MetricsRegistry metricsRegistry,
+        IExecutor executor,
+        @Named("pluginBaseDirectory") Path baseDir)
+    {
+        this.structureActivityManager = structureActivityManager;
+        this.metricsRegistry = metricsRegistry;
+        this.executor = executor;
+        this.snapshotDirectory = baseDir.resolve(DIRECTORY_NAME);
+    }
+
+    /**
+     * Records a performance snapshot.
+     * <p>
+     * Only a single snapshot is recorded at a time. If a recording is already in progress, that recording is returned
+     * instead.
+     *
+     * @param duration
+     *     The amount of time to sample the state for. A duration of zero results in a single sample.
+     * @return A future that completes with the path of the file the snapshot was written to.
+     *
+     * @throws IllegalArgumentException
+     *     If the duration is negative.
+     */
+    public synchronized CompletableFuture<Path> record(Duration duration)
+    {
+        if (duration.isNegative())
+            throw new IllegalArgumentException("Duration must not be negative, but got: " + duration);
+
+        final @Nullable CompletableFuture<Path> current = activeRecording;
+        if (current != null && !current.isDone())
+            return current;
+
+        final CompletableFuture<Path> recording =
+            CompletableFuture.supplyAsync(() -> record0(duration), executor.getVirtualExecutor());
+        activeRecording = recording;
+        return recording;
+    }
+
+    private Path record0(Duration duration)
+    {
+        final Instant start = Instant.now();
+        final long startNanos = System.nanoTime();
+        final long durationNanos = duration.toNanos();
+
+        final Summary summary = new Summary();
+        final StringBuilder samples = new StringBuilder();
+        int sampleCount = 0;
+        while (true)
+        {
+            takeSample(samples, summary, System.nanoTime() - startNanos);
+            ++sampleCount;
+
+            final long remainingNanos = durationNanos - (System.nanoTime() - startNanos);
+            if (remainingNanos <= 0 || !sleep(Math.min(remainingNanos, SAMPLE_INTERVAL.toNanos())))
+                break;
+        }
+
+        final String content =
+            "# AnimatedArchitecture performance snapshot\n" +
+                String.format(
+                    Locale.ROOT,
+                    "# start: %s, duration: %dms, interval: %dms, samples: %d\n",
+                    start,
+                    duration.toMillis(),
+                    SAMPLE_INTERVAL.toMillis(),
+                    sampleCount
+                ) +
+                "# peak: " + summary.format() + '\n' +
+                samples;
+
+        final Path file = snapshotDirectory.resolve("snapshot-" + FILE_NAME_FORMATTER.format(start) + ".txt");
+        try
+        {
+            Files.createDirectories(snapshotDirectory);
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException("Failed to write performance snapshot: " + file, e);
+        }
+        log.atInfo().log("Wrote performance snapshot with %d samples to file: '%s'", sampleCount, file);
+        return file;
+    }
+
+    private void takeSample(StringBuilder sb, Summary summary, long elapsedNanos)
+    {
+        final List<Animator> animators = structureActivityManager.getMostExpensiveAnimators(Integer.MAX_VALUE);
+        final MetricsSnapshot metrics = metricsRegistry.snapshot();
+        final @Nullable Double mainThreadQueueDepth = metrics.values().get(MAIN_THREAD_QUEUE_DEPTH);
+        final @Nullable Double databaseQueueDepth = metrics.values().get(DATABASE_QUEUE_DEPTH);
+        final @Nullable ChunkSample chunkSample = sampleChunks(animators);
+
+        long blocks = 0;
+        for (final Animator animator : animators)
+            blocks += animator.getTickCost().getBlockCount();
+
+        sb.append(String.format(
+            Locale.ROOT,
+            "+%dms main_queue=%s db_queue=%s main_thread_delay=%s animators=%d blocks=%d\n",
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            formatNullable(mainThreadQueueDepth),
+            formatNullable(databaseQueueDepth),
+            chunkSample == null ? "n/a" : formatMillis(chunkSample.mainThreadDelayNanos()),
+            animators.size(),
+            blocks
+        ));
+
+        for (final Animator animator : animators)
+        {
+            final StructureSnapshot snapshot = animator.getSnapshot();
+            final AnimatorTickCost tickCost = animator.getTickCost();
+            sb.append(String.format(
+                Locale.ROOT,
+                "  %s %s blocks=%d ticks=%d last=%s step=%s hooks=%s entities=%s\n",
+                snapshot.getNameAndUid(),
+                snapshot.getType().getFullNameWithVersion(),
+                tickCost.getBlockCount(),
+                tickCost.getTicks(),
+                formatMillis(tickCost.getLastTickNanos()),
+                formatMillis(tickCost.getLastStepNanos()),
+                formatMillis(tickCost.getLastHooksNanos()),
+                formatMillis(tickCost.getLastEntityUpdateNanos())
+            ));
+            summary.updateAnimator(snapshot.getNameAndUid(), tickCost.getLastTickNanos());
+        }
+
+        if (chunkSample != null && !chunkSample.blocksPerChunk().isEmpty())
+        {
+            sb.append("  chunks:");
+            chunkSample.blocksPerChunk().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(MAX_CHUNKS_PER_SAMPLE)
+                .forEach(entry -> sb.append(' ').append(entry.getKey()).append('=').append(entry.getValue()));
+            sb.append('\n');
+        }
+
+        summary.update(mainThreadQueueDepth, databaseQueueDepth, chunkSample, blocks);
+    }
+
+    /**
+     * Counts the animated blocks in each chunk on the main thread.
+     * <p>
+     * The animated blocks of an animator are only modified on the main thread, so they are counted there as well.
+     * This also measures the delay before a task scheduled on the main thread is executed.
+     *
+     * @param animators
+     *     The animators whose blocks to count.
+     * @return The chunk sample, or null if the main thread did not respond in time.
+     */
+    private @Nullable ChunkSample sampleChunks(List<Animator> animators)
+    {
+        final long scheduledNanos = System.nanoTime();
+        final CompletableFuture<ChunkSample> future = executor.runOnMainThread(
+            () -> new ChunkSample(System.nanoTime() - scheduledNanos, countBlocksPerChunk(animators)),
+            IExecutor.MainThreadPriority.INTERACTIVE
+        );
+
+        try
+        {
+            return future.get(MAIN_THREAD_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            log.atWarn().log("Main thread did not respond within %s while recording performance snapshot!",
+                MAIN_THREAD_TIMEOUT);
+        }
+        catch (ExecutionException e)
+        {
+            log.atError().withCause(e).log("Failed to count animated blocks per chunk!");
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static Map<String, Integer> countBlocksPerChunk(List<Animator> animators)
+    {
+        final Map<String, Integer> blocksPerChunk = new HashMap<>();
+        for (final Animator animator : animators)
+        {
+            final String worldName = animator.getSnapshot().getWorld().worldName();
+            for (final IAnimatedBlock animatedBlock : animator.getAnimatedBlocks())
+            {
+                final Vector2Di chunk =
+                    LocationUtil.getChunkCoords(animatedBlock.getCurrentPosition().floor().toInteger());
+                blocksPerChunk.merge(worldName + "[" + chunk.x() + "," + chunk.y() + "]", 1, Integer::sum);
+            }
+        }
+        return blocksPerChunk;
+    }
+
+    /**
+     * Sleeps for the given amount of time.
+     *
+     * @param nanos
+     *     The amount of time to sleep in nanoseconds.
+     * @return True if the thread slept for the entire duration, false if it was interrupted.
+     */
+    private static boolean sleep(long nanos)
+    {
+        try
+        {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String formatNullable(@Nullable Double value)
+    {
+        return value == null ? "n/a" : MetricsSnapshot.formatValue(value);
+    }
+
+    private static String formatMillis(long nanos)
+    {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000D);
+    }
+
+    /**
+     * The result of counting the animated blocks per chunk on the main thread.
+     *
+     * @param mainThreadDelayNanos
+     *     The time between scheduling the count on the main thread and the start of its execution.
+     * @param blocksPerChunk
+     *     The number of animated blocks in each chunk, keyed by {@code world[chunkX,chunkZ]}.
+     */
+    private record ChunkSample(long mainThreadDelayNanos, Map<String, Integer> blocksPerChunk)
+    {
+    }
+
+    /**
+     * Keeps track of the peak values of all samples.
+     */
+    private static final class Summary
+    {
+        private double mainThreadQueueDepth = 0;
+        private double databaseQueueDepth = 0;
+        private long mainThreadDelayNanos = 0;
+        private long blocks = 0;
+        private long animatorTickNanos = 0;
+        private @Nullable String animatorName = null;
+
+        void update(
+            @Nullable Double mainThreadQueueDepth,
+            @Nullable Double databaseQueueDepth,
+            @Nullable ChunkSample chunkSample,
+            long blocks)
+        {
+            if (mainThreadQueueDepth != null)
+                this.mainThreadQueueDepth = Math.max(this.mainThreadQueueDepth, mainThreadQueueDepth);
+            if (databaseQueueDepth != null)
+                this.databaseQueueDepth = Math.max(this.databaseQueueDepth, databaseQueueDepth);
+            if (chunkSample != null)
+                this.mainThreadDelayNanos = Math.max(this.mainThreadDelayNanos, chunkSample.mainThreadDelayNanos());
+            this.blocks = Math.max(this.blocks, blocks);
+        }
+
+        void updateAnimator(String name, long tickNanos)
+        {
+            if (animatorName != null && tickNanos <= animatorTickNanos)
+                return;
+            animatorName = name;
+            animatorTickNanos = tickNanos;
+        }
+
+        String format()
+        {
+            return String.format(
+                Locale.ROOT,
+                "main_queue=%s db_queue=%s main_thread_delay=%s blocks=%d animator_tick=%s",
+                MetricsSnapshot.formatValue(mainThreadQueueDepth),
+                MetricsSnapshot.formatValue(databaseQueueDepth),
+                formatMillis(mainThreadDelayNanos),
+                blocks,
+                animatorName == null ? "n/a" : formatMillis(animatorTickNanos) + " (" + animatorName + ")"
+            );
+        }
+    }
+}
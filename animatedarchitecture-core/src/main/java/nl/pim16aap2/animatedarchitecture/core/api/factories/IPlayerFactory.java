@@ -3,6 +3,7 @@ package nl.pim16aap2.animatedarchitecture.core.api.factories;
 import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
 import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -29,4 +30,13 @@ public interface IPlayerFactory
      * @return A new {@link IPlayer} object.
      */
     CompletableFuture<Optional<IPlayer>> create(UUID uuid);
+
+    /**
+     * Gets all players that are currently online.
+     * <p>
+     * This method should only be called from the main thread.
+     *
+     * @return All online players.
+     */
+    List<IPlayer> getOnlinePlayers();
 }
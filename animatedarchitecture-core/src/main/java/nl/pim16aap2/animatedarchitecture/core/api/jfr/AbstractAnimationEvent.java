@@ -0,0 +1,26 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base class for JFR events that describe an animation as a whole.
+ */
+abstract class AbstractAnimationEvent extends Event
+{
+    @Label("Structure UID")
+    private final long structureUid;
+
+    @Label("Structure Type")
+    private final String structureType;
+
+    @Label("Block Count")
+    private final int blockCount;
+
+    AbstractAnimationEvent(long structureUid, String structureType, int blockCount)
+    {
+        this.structureUid = structureUid;
+        this.structureType = structureType;
+        this.blockCount = blockCount;
+    }
+}
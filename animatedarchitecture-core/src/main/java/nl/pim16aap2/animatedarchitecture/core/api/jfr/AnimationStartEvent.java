@@ -0,0 +1,37 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is committed when an animation starts.
+ */
+@Name(AnimationStartEvent.NAME)
+@Label("Animation Start")
+@Description("An animation was started.")
+@Category({JfrEventManager.CATEGORY, "Animation"})
+@StackTrace(false)
+@Registered(false)
+public final class AnimationStartEvent extends AbstractAnimationEvent
+{
+    public static final String NAME = JfrEventManager.NAME_PREFIX + "AnimationStart";
+
+    /**
+     * Creates a new {@link AnimationStartEvent}.
+     *
+     * @param structureUid
+     *     The UID of the animated structure.
+     * @param structureType
+     *     The full name of the type of the animated structure.
+     * @param blockCount
+     *     The number of animated blocks.
+     */
+    public AnimationStartEvent(long structureUid, String structureType, int blockCount)
+    {
+        super(structureUid, structureType, blockCount);
+    }
+}
@@ -0,0 +1,50 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is committed when an animation stops.
+ */
+@Name(AnimationStopEvent.NAME)
+@Label("Animation Stop")
+@Description("An animation was stopped, either because it finished or because it was aborted.")
+@Category({JfrEventManager.CATEGORY, "Animation"})
+@StackTrace(false)
+@Registered(false)
+public final class AnimationStopEvent extends AbstractAnimationEvent
+{
+    public static final String NAME = JfrEventManager.NAME_PREFIX + "AnimationStop";
+
+    @Label("Ticks")
+    @Description("The number of animation ticks that were executed.")
+    private final long ticks;
+
+    @Label("Aborted")
+    private final boolean aborted;
+
+    /**
+     * Creates a new {@link AnimationStopEvent}.
+     *
+     * @param structureUid
+     *     The UID of the animated structure.
+     * @param structureType
+     *     The full name of the type of the animated structure.
+     * @param blockCount
+     *     The number of animated blocks.
+     * @param ticks
+     *     The number of animation ticks that were executed.
+     * @param aborted
+     *     True if the animation was aborted.
+     */
+    public AnimationStopEvent(long structureUid, String structureType, int blockCount, long ticks, boolean aborted)
+    {
+        super(structureUid, structureType, blockCount);
+        this.ticks = ticks;
+        this.aborted = aborted;
+    }
+}
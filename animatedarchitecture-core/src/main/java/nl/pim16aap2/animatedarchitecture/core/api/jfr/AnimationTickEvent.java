@@ -0,0 +1,57 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that covers a single tick of an animation, including the animation hooks.
+ * <p>
+ * Call {@link #begin()} at the start of the tick and {@link #commit(int)} at the end of the tick.
+ */
+@Name(AnimationTickEvent.NAME)
+@Label("Animation Tick")
+@Description("A single tick of an animation.")
+@Category({JfrEventManager.CATEGORY, "Animation"})
+@StackTrace(false)
+@Registered(false)
+public final class AnimationTickEvent extends Event
+{
+    public static final String NAME = JfrEventManager.NAME_PREFIX + "AnimationTick";
+
+    @Label("Structure UID")
+    private final long structureUid;
+
+    @Label("Block Count")
+    private int blockCount;
+
+    /**
+     * Creates a new {@link AnimationTickEvent}.
+     *
+     * @param structureUid
+     *     The UID of the animated structure.
+     */
+    public AnimationTickEvent(long structureUid)
+    {
+        this.structureUid = structureUid;
+    }
+
+    /**
+     * Ends the tick and commits this event if it passes the settings of the active recordings.
+     *
+     * @param blockCount
+     *     The number of animated blocks.
+     */
+    public void commit(int blockCount)
+    {
+        end();
+        if (!shouldCommit())
+            return;
+        this.blockCount = blockCount;
+        commit();
+    }
+}
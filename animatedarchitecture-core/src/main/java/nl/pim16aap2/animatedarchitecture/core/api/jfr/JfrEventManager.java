@@ -0,0 +1,119 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registers the custom JFR events with the {@link FlightRecorder} when they are enabled in the config.
+ * <p>
+ * All events are annotated with {@link jdk.jfr.Registered @Registered(false)}, so they are not recorded until they
+ * have been registered by this manager. Committing an event that has not been registered is a no-op.
+ * <p>
+ * See {@link IConfig#jfrEvents()}.
+ */
+@Singleton
+@CustomLog
+public final class JfrEventManager extends Restartable implements IDebuggable
+{
+    /**
+     * The category that contains all custom events.
+     */
+    static final String CATEGORY = "AnimatedArchitecture";
+
+    /**
+     * The prefix of the names of all custom events.
+     */
+    static final String NAME_PREFIX = "nl.pim16aap2.animatedarchitecture.";
+
+    /**
+     * All custom event types.
+     */
+    public static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+        AnimationStartEvent.class,
+        AnimationStopEvent.class,
+        AnimationTickEvent.class,
+        StorageCallEvent.class,
+        ProtectionCheckEvent.class
+    );
+
+    private final IConfig config;
+
+    private volatile boolean registered = false;
+
+    @Inject
+    JfrEventManager(RestartableHolder holder, IConfig config, DebuggableRegistry debuggableRegistry)
+    {
+        super(holder);
+        this.config = config;
+
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of(IConfig.class);
+    }
+
+    @Override
+    public synchronized void initialize()
+    {
+        if (!config.jfrEvents())
+        {
+            unregisterEvents();
+            return;
+        }
+
+        if (!FlightRecorder.isAvailable())
+        {
+            log.atWarn().log("JFR events are enabled in the config, but the Flight Recorder is not available!");
+            return;
+        }
+
+        EVENT_TYPES.forEach(FlightRecorder::register);
+        registered = true;
+    }
+
+    @Override
+    public synchronized void shutDown()
+    {
+        unregisterEvents();
+    }
+
+    private void unregisterEvents()
+    {
+        if (!registered)
+            return;
+
+        EVENT_TYPES.forEach(FlightRecorder::unregister);
+        registered = false;
+    }
+
+    /**
+     * Checks if the custom events are currently registered with the {@link FlightRecorder}.
+     *
+     * @return True if the custom events are registered.
+     */
+    public boolean isRegistered()
+    {
+        return registered;
+    }
+
+    @Override
+    public String getDebugInformation()
+    {
+        return "JFR events: " + (registered ? "Registered" : "Not registered");
+    }
+}
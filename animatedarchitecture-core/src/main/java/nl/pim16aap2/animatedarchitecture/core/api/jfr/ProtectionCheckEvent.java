@@ -0,0 +1,76 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+import nl.pim16aap2.animatedarchitecture.core.api.IProtectionHookManager;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JFR event that covers a single check of the protection hooks.
+ * <p>
+ * Call {@link #begin()} when the check is started and {@link #commit(IProtectionHookManager.HookCheckResult)} once it
+ * has completed. The event may be committed from a different thread than the one that started it.
+ */
+@Name(ProtectionCheckEvent.NAME)
+@Label("Protection Check")
+@Description("A check of all protection hooks.")
+@Category({JfrEventManager.CATEGORY, "Protection Hooks"})
+@StackTrace(false)
+@Registered(false)
+public final class ProtectionCheckEvent extends Event
+{
+    public static final String NAME = JfrEventManager.NAME_PREFIX + "ProtectionCheck";
+
+    @Label("Check")
+    private final String check;
+
+    @Label("Player")
+    private final String player;
+
+    @Label("Hook Count")
+    private final int hookCount;
+
+    @Label("Denied")
+    private boolean denied;
+
+    @Label("Denying Hook")
+    private @Nullable String denyingHook;
+
+    /**
+     * Creates a new {@link ProtectionCheckEvent}.
+     *
+     * @param check
+     *     The name of the check. E.g. "canBreakBlock".
+     * @param player
+     *     The name of the player for whom the check is performed.
+     * @param hookCount
+     *     The number of hooks that are checked.
+     */
+    public ProtectionCheckEvent(String check, String player, int hookCount)
+    {
+        this.check = check;
+        this.player = player;
+        this.hookCount = hookCount;
+    }
+
+    /**
+     * Ends the check and commits this event if it passes the settings of the active recordings.
+     *
+     * @param result
+     *     The result of the check, or null if the check failed exceptionally.
+     */
+    public void commit(IProtectionHookManager.@Nullable HookCheckResult result)
+    {
+        end();
+        if (!shouldCommit())
+            return;
+        this.denied = result == null || result.isDenied();
+        this.denyingHook = result == null ? null : result.denyingHookName();
+        commit();
+    }
+}
@@ -0,0 +1,58 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that covers a single statement executed by the storage.
+ * <p>
+ * Call {@link #begin()} before executing the statement and {@link #commit(int)} once it has completed.
+ */
+@Name(StorageCallEvent.NAME)
+@Label("Storage Call")
+@Description("A single statement executed by the storage.")
+@Category({JfrEventManager.CATEGORY, "Storage"})
+@StackTrace(false)
+@Registered(false)
+public final class StorageCallEvent extends Event
+{
+    public static final String NAME = JfrEventManager.NAME_PREFIX + "StorageCall";
+
+    @Label("Statement")
+    private final String statement;
+
+    @Label("Rows")
+    @Description("The number of rows that were read or modified, or -1 if the statement failed.")
+    private int rows = -1;
+
+    /**
+     * Creates a new {@link StorageCallEvent}.
+     *
+     * @param statement
+     *     The name of the executed statement.
+     */
+    public StorageCallEvent(String statement)
+    {
+        this.statement = statement;
+    }
+
+    /**
+     * Ends the call and commits this event if it passes the settings of the active recordings.
+     *
+     * @param rows
+     *     The number of rows that were read or modified, or -1 if the statement failed.
+     */
+    public void commit(int rows)
+    {
+        end();
+        if (!shouldCommit())
+            return;
+        this.rows = rows;
+        commit();
+    }
+}
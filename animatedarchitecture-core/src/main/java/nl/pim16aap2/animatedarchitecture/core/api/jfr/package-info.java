@@ -0,0 +1,10 @@
+/**
+ * Custom Java Flight Recorder events.
+ * <p>
+ * The events are only registered with the Flight Recorder when enabled in the config. See
+ * {@link nl.pim16aap2.animatedarchitecture.core.api.jfr.JfrEventManager}.
+ */
+@NullMarked
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import org.jspecify.annotations.NullMarked;
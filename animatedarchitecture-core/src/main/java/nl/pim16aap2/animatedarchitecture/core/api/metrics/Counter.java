@@ -0,0 +1,53 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe counter whose value can only increase.
+ * <p>
+ * Counters are obtained using {@link MetricsRegistry#counter(String)}.
+ */
+public final class Counter
+{
+    private final LongAdder value = new LongAdder();
+
+    Counter()
+    {
+    }
+
+    /**
+     * Increments the counter by one.
+     */
+    public void increment()
+    {
+        value.increment();
+    }
+
+    /**
+     * Increments the counter by a given amount.
+     *
+     * @param amount
+     *     The amount to add to the counter. Negative values are ignored.
+     */
+    public void add(long amount)
+    {
+        if (amount > 0)
+            value.add(amount);
+    }
+
+    /**
+     * Gets the current value of the counter.
+     *
+     * @return The current value of the counter.
+     */
+    public long get()
+    {
+        return value.sum();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Counter{" + get() + "}";
+    }
+}
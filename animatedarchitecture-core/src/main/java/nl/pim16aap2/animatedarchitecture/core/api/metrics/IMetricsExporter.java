@@ -0,0 +1,31 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import java.io.IOException;
+
+/**
+ * Represents a destination for the metrics collected by the {@link MetricsRegistry}.
+ */
+public interface IMetricsExporter
+{
+    /**
+     * Exports a snapshot of the metrics.
+     * <p>
+     * This is called periodically by the {@link MetricsExportManager} on an asynchronous thread.
+     *
+     * @param snapshot
+     *     The snapshot to export.
+     * @throws IOException
+     *     When the snapshot could not be exported.
+     */
+    void export(MetricsSnapshot snapshot)
+        throws IOException;
+
+    /**
+     * Releases any resources held by this exporter.
+     * <p>
+     * No snapshots are exported after this method has been called.
+     */
+    default void close()
+    {
+    }
+}
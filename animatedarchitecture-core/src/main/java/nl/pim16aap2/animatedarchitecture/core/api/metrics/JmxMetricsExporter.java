@@ -0,0 +1,152 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import lombok.CustomLog;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * Exposes the metrics of a {@link MetricsRegistry} as the read-only attributes of an MBean.
+ * <p>
+ * The values are read from the registry whenever they are requested, so {@link #export(MetricsSnapshot)} does not do
+ * anything. The MBean can be inspected using any JMX client (e.g. JConsole or VisualVM) under the name
+ * {@value #OBJECT_NAME}.
+ */
+@CustomLog
+public final class JmxMetricsExporter implements IMetricsExporter
+{
+    /**
+     * The name of the MBean.
+     */
+    public static final String OBJECT_NAME = "nl.pim16aap2.animatedarchitecture:type=Metrics";
+
+    private final MBeanServer server;
+    private final ObjectName objectName;
+
+    /**
+     * Creates a new {@link JmxMetricsExporter} and registers its MBean with the platform MBean server.
+     * <p>
+     * Any MBean previously registered under the same name (e.g. by a previous instance of the plugin) is replaced.
+     *
+     * @param metricsRegistry
+     *     The registry whose metrics to expose.
+     * @throws JMException
+     *     When the MBean could not be registered.
+     */
+    public JmxMetricsExporter(MetricsRegistry metricsRegistry)
+        throws JMException
+    {
+        this(ManagementFactory.getPlatformMBeanServer(), metricsRegistry);
+    }
+
+    JmxMetricsExporter(MBeanServer server, MetricsRegistry metricsRegistry)
+        throws JMException
+    {
+        this.server = server;
+        this.objectName = new ObjectName(OBJECT_NAME);
+
+        if (server.isRegistered(objectName))
+            server.unregisterMBean(objectName);
+        server.registerMBean(new MetricsMBean(metricsRegistry), objectName);
+    }
+
+    @Override
+    public void export(MetricsSnapshot snapshot)
+    {
+        // The MBean reads the values directly from the registry.
+    }
+
+    @Override
+    public void close()
+    {
+        try
+        {
+            if (server.isRegistered(objectName))
+                server.unregisterMBean(objectName);
+        }
+        catch (JMException e)
+        {
+            log.atWarn().withCause(e).log("Failed to unregister metrics MBean '%s'!", objectName);
+        }
+    }
+
+    /**
+     * The MBean that exposes every metric as a read-only attribute of the type {@link Double}.
+     */
+    private record MetricsMBean(MetricsRegistry metricsRegistry) implements DynamicMBean
+    {
+        @Override
+        public Object getAttribute(String attribute)
+            throws AttributeNotFoundException
+        {
+            final Double value = metricsRegistry.snapshot().values().get(attribute);
+            if (value == null)
+                throw new AttributeNotFoundException("Unknown metric: '" + attribute + "'");
+            return value;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute)
+            throws AttributeNotFoundException
+        {
+            throw new AttributeNotFoundException("Metric '" + attribute.getName() + "' is read-only!");
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes)
+        {
+            final Map<String, Double> values = metricsRegistry.snapshot().values();
+            final AttributeList ret = new AttributeList(attributes.length);
+            for (final String attribute : attributes)
+            {
+                final Double value = values.get(attribute);
+                if (value != null)
+                    ret.add(new Attribute(attribute, value));
+            }
+            return ret;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes)
+        {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature)
+            throws ReflectionException
+        {
+            throw new ReflectionException(
+                new NoSuchMethodException(actionName),
+                "The metrics MBean does not support any operations!"
+            );
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo()
+        {
+            final MBeanAttributeInfo[] attributes = metricsRegistry.snapshot().values().keySet().stream()
+                .map(name -> new MBeanAttributeInfo(name, Double.class.getName(), name, true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+
+            return new MBeanInfo(
+                JmxMetricsExporter.class.getName(),
+                "The metrics of AnimatedArchitecture.",
+                attributes,
+                null,
+                null,
+                null
+            );
+        }
+    }
+}
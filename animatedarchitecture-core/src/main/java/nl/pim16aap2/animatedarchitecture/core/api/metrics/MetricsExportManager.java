@@ -0,0 +1,145 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import org.jspecify.annotations.Nullable;
+
+import javax.management.JMException;
+import java.nio.file.Path;
+import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the metrics of the {@link MetricsRegistry} using the exporter selected in the config.
+ * <p>
+ * See {@link IConfig#metricsExporter()}.
+ */
+@Singleton
+@CustomLog
+public final class MetricsExportManager extends Restartable implements IDebuggable
+{
+    /**
+     * The size (in bytes) after which the metrics file is rolled over.
+     */
+    static final long MAX_FILE_SIZE = 1024L * 1024L;
+
+    /**
+     * The maximum number of metrics files to keep.
+     */
+    static final int MAX_FILES = 5;
+
+    private final IExecutor executor;
+    private final IConfig config;
+    private final MetricsRegistry metricsRegistry;
+    private final Path metricsDirectory;
+
+    private @Nullable IMetricsExporter exporter;
+    private @Nullable TimerTask exportTask;
+    private int exportTaskId;
+
+    @Inject
+    MetricsExportManager(
+        RestartableHolder holder,
+        IExecutor executor,
+        IConfig config,
+        MetricsRegistry metricsRegistry,
+        @Named("pluginBaseDirectory") Path baseDir,
+        DebuggableRegistry debuggableRegistry)
+    {
+        super(holder);
+        this.executor = executor;
+        this.config = config;
+        this.metricsRegistry = metricsRegistry;
+        this.metricsDirectory = baseDir.resolve("metrics");
+
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    @Override
+    public synchronized void initialize()
+    {
+        final MetricsExporterType type = config.metricsExporter();
+        switch (type)
+        {
+            case NONE -> exporter = null;
+            case FILE -> startPeriodicExport(new RollingFileMetricsExporter(metricsDirectory, MAX_FILE_SIZE, MAX_FILES));
+            case JMX -> exporter = createJmxExporter();
+        }
+    }
+
+    private @Nullable IMetricsExporter createJmxExporter()
+    {
+        try
+        {
+            return new JmxMetricsExporter(metricsRegistry);
+        }
+        catch (JMException e)
+        {
+            log.atError().withCause(e).log("Failed to register metrics MBean!");
+            return null;
+        }
+    }
+
+    private void startPeriodicExport(IMetricsExporter exporter)
+    {
+        this.exporter = exporter;
+
+        final long period = TimeUnit.SECONDS.toMillis(Math.max(1, config.metricsExportInterval()));
+        final TimerTask task = new TimerTask()
+        {
+            @Override
+            public void run()
+            {
+                export(exporter);
+            }
+        };
+        exportTask = task;
+        exportTaskId = executor.runAsyncRepeated(task, period, period);
+    }
+
+    private void export(IMetricsExporter exporter)
+    {
+        try
+        {
+            exporter.export(metricsRegistry.snapshot());
+        }
+        catch (Exception e)
+        {
+            log.atWarn().atMostEvery(5, TimeUnit.MINUTES).withCause(e).log("Failed to export metrics!");
+        }
+    }
+
+    @Override
+    public synchronized void shutDown()
+    {
+        final @Nullable TimerTask task = exportTask;
+        if (task != null)
+            executor.cancel(task, exportTaskId);
+        exportTask = null;
+
+        final @Nullable IMetricsExporter exporter0 = exporter;
+        if (exporter0 != null)
+        {
+            // Export one last time, so the values since the last export are not lost.
+            if (task != null)
+                export(exporter0);
+            exporter0.close();
+        }
+        exporter = null;
+    }
+
+    @Override
+    public synchronized String getDebugInformation()
+    {
+        final @Nullable IMetricsExporter exporter0 = exporter;
+        return "Metrics exporter: " + (exporter0 == null ? "None" : exporter0.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,53 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Represents the built-in types of {@link IMetricsExporter}s that can be selected in the config.
+ */
+public enum MetricsExporterType
+{
+    /**
+     * Metrics are collected, but not exported.
+     */
+    NONE,
+
+    /**
+     * Metrics are periodically appended to a rolling file in the plugin's directory.
+     * <p>
+     * See {@link RollingFileMetricsExporter}.
+     */
+    FILE,
+
+    /**
+     * Metrics are exposed as the attributes of an MBean.
+     * <p>
+     * See {@link JmxMetricsExporter}.
+     */
+    JMX,
+    ;
+
+    /**
+     * Parses the name of an exporter type.
+     *
+     * @param name
+     *     The name of the exporter type. This is case-insensitive.
+     * @return The exporter type, or null if the name does not match any exporter type.
+     */
+    public static @Nullable MetricsExporterType parse(@Nullable String name)
+    {
+        if (name == null)
+            return null;
+
+        try
+        {
+            return valueOf(name.strip().toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e)
+        {
+            return null;
+        }
+    }
+}
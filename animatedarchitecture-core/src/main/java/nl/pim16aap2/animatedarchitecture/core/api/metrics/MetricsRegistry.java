@@ -0,0 +1,167 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * A registry of counters, gauges, and histograms.
+ * <p>
+ * Subsystems register their metrics here, so they can be exported by the {@link MetricsExportManager} without an
+ * external service.
+ * <p>
+ * Metric names consist of lowercase letters, digits, underscores, and dots (e.g. {@code database.query_latency}). Each
+ * name can only be used by a single type of metric.
+ */
+@Singleton
+@CustomLog
+public final class MetricsRegistry implements IDebuggable
+{
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9_]+(\\.[a-z0-9_]+)*");
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Inject
+    public MetricsRegistry(DebuggableRegistry debuggableRegistry)
+    {
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    /**
+     * Gets the counter with the given name, creating it if it does not exist yet.
+     *
+     * @param name
+     *     The name of the counter.
+     * @return The counter with the given name.
+     * @throws IllegalArgumentException
+     *     When the name is invalid or already used by a gauge or histogram.
+     */
+    public Counter counter(String name)
+    {
+        final Counter counter = counters.get(name);
+        if (counter != null)
+            return counter;
+
+        verifyName(name, counters);
+        return counters.computeIfAbsent(name, ignored -> new Counter());
+    }
+
+    /**
+     * Registers a gauge.
+     * <p>
+     * The value of a gauge is obtained from the supplier every time a snapshot is created, so the supplier should be
+     * cheap and thread-safe. Any gauge previously registered with the same name is replaced.
+     *
+     * @param name
+     *     The name of the gauge.
+     * @param supplier
+     *     The supplier of the value of the gauge.
+     * @throws IllegalArgumentException
+     *     When the name is invalid or already used by a counter or histogram.
+     */
+    public void gauge(String name, DoubleSupplier supplier)
+    {
+        verifyName(name, gauges);
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Gets the histogram with the given name, creating it if it does not exist yet.
+     * <p>
+     * In snapshots, a histogram is represented by the values {@code <name>.count}, {@code <name>.mean_ms},
+     * {@code <name>.p50_ms}, {@code <name>.p90_ms}, {@code <name>.p99_ms}, and {@code <name>.max_ms}.
+     *
+     * @param name
+     *     The name of the histogram.
+     * @return The histogram with the given name.
+     * @throws IllegalArgumentException
+     *     When the name is invalid or already used by a counter or gauge.
+     */
+    public LatencyHistogram histogram(String name)
+    {
+        final LatencyHistogram histogram = histograms.get(name);
+        if (histogram != null)
+            return histogram;
+
+        verifyName(name, histograms);
+        return histograms.computeIfAbsent(name, ignored -> new LatencyHistogram());
+    }
+
+    private void verifyName(String name, Map<String, ?> target)
+    {
+        if (!NAME_PATTERN.matcher(name).matches())
+            throw new IllegalArgumentException("Invalid metric name: '" + name + "'");
+
+        if ((target != counters && counters.containsKey(name)) ||
+            (target != gauges && gauges.containsKey(name)) ||
+            (target != histograms && histograms.containsKey(name)))
+            throw new IllegalArgumentException("Metric name '" + name + "' is already used by another metric type!");
+    }
+
+    /**
+     * Creates a snapshot of the current values of all metrics.
+     * <p>
+     * Gauges whose supplier throws an exception are left out of the snapshot.
+     *
+     * @return The snapshot of all metrics.
+     */
+    public MetricsSnapshot snapshot()
+    {
+        final SortedMap<String, Double> values = new TreeMap<>();
+
+        counters.forEach((name, counter) -> values.put(name, (double) counter.get()));
+
+        gauges.forEach((name, supplier) ->
+        {
+            try
+            {
+                values.put(name, supplier.getAsDouble());
+            }
+            catch (Exception e)
+            {
+                log.atWarn().atMostEvery(1, TimeUnit.MINUTES).withCause(e).log("Failed to read gauge '%s'!", name);
+            }
+        });
+
+        histograms.forEach((name, histogram) ->
+        {
+            values.put(name + ".count", (double) histogram.getCount());
+            values.put(name + ".mean_ms", toMillis(histogram.getMean()));
+            values.put(name + ".p50_ms", toMillis(histogram.getPercentile(50)));
+            values.put(name + ".p90_ms", toMillis(histogram.getPercentile(90)));
+            values.put(name + ".p99_ms", toMillis(histogram.getPercentile(99)));
+            values.put(name + ".max_ms", toMillis(histogram.getMax()));
+        });
+
+        return new MetricsSnapshot(Instant.now(), values);
+    }
+
+    private static double toMillis(Duration duration)
+    {
+        return duration.toNanos() / 1_000_000D;
+    }
+
+    @Override
+    public String getDebugInformation()
+    {
+        final MetricsSnapshot snapshot = snapshot();
+        if (snapshot.values().isEmpty())
+            return "Metrics: None";
+        return "Metrics:\n" + snapshot.format().indent(2).stripTrailing();
+    }
+}
@@ -0,0 +1,53 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A snapshot of all metrics in a {@link MetricsRegistry}.
+ * <p>
+ * Histograms are flattened into multiple values. See {@link MetricsRegistry#histogram(String)}.
+ *
+ * @param timestamp
+ *     The time at which the snapshot was created.
+ * @param values
+ *     The values of all metrics, sorted by their names.
+ */
+public record MetricsSnapshot(Instant timestamp, SortedMap<String, Double> values)
+{
+    public MetricsSnapshot
+    {
+        values = Collections.unmodifiableSortedMap(new TreeMap<>(values));
+    }
+
+    /**
+     * Formats a value of a metric.
+     * <p>
+     * Whole numbers are formatted without a fraction; all other numbers are formatted with three decimals.
+     *
+     * @param value
+     *     The value to format.
+     * @return The formatted value.
+     */
+    public static String formatValue(double value)
+    {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < Long.MAX_VALUE)
+            return Long.toString((long) value);
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * Formats this snapshot with one {@code name: value} pair per line.
+     *
+     * @return The formatted snapshot.
+     */
+    public String format()
+    {
+        final StringBuilder sb = new StringBuilder();
+        values.forEach((name, value) -> sb.append(name).append(": ").append(formatValue(value)).append('\n'));
+        return sb.toString();
+    }
+}
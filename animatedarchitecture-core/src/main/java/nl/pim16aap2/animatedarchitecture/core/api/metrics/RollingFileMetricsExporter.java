@@ -0,0 +1,121 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends snapshots of the metrics to a file in a directory.
+ * <p>
+ * Each metric is written as a single line in the Graphite plaintext format:
+ * {@code animatedarchitecture.<name> <value> <epoch seconds>}. This format can be imported by most graphing tools
+ * without any conversion.
+ * <p>
+ * When the file exceeds the maximum file size, it is rolled over: {@code metrics.txt} is renamed to
+ * {@code metrics.1.txt}, {@code metrics.1.txt} to {@code metrics.2.txt}, etc. The oldest file is removed once the
+ * maximum number of files has been reached.
+ */
+public final class RollingFileMetricsExporter implements IMetricsExporter
+{
+    /**
+     * The prefix of all metric names in the exported file.
+     */
+    static final String PREFIX = "animatedarchitecture.";
+
+    private static final String FILE_NAME = "metrics";
+    private static final String FILE_EXTENSION = ".txt";
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxFiles;
+
+    /**
+     * Creates a new {@link RollingFileMetricsExporter}.
+     *
+     * @param directory
+     *     The directory to write the files to. It is created if it does not exist yet.
+     * @param maxFileSize
+     *     The size (in bytes) after which the file is rolled over.
+     * @param maxFiles
+     *     The maximum number of files to keep, including the file that is currently being written to.
+     */
+    public RollingFileMetricsExporter(Path directory, long maxFileSize, int maxFiles)
+    {
+        if (maxFileSize < 1)
+            throw new IllegalArgumentException("Max file size must be positive, but got: " + maxFileSize);
+        if (maxFiles < 1)
+            throw new IllegalArgumentException("Max files must be positive, but got: " + maxFiles);
+
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * Gets the path of the file that snapshots are currently written to.
+     *
+     * @return The path of the current file.
+     */
+    public Path getCurrentFile()
+    {
+        return getFile(0);
+    }
+
+    /**
+     * Gets the path of a file.
+     *
+     * @param index
+     *     The index of the file. 0 for the current file, 1 for the most recently rolled over file, etc.
+     * @return The path of the file.
+     */
+    Path getFile(int index)
+    {
+        return directory.resolve(FILE_NAME + (index == 0 ? "" : "." + index) + FILE_EXTENSION);
+    }
+
+    @Override
+    public synchronized void export(MetricsSnapshot snapshot)
+        throws IOException
+    {
+        Files.createDirectories(directory);
+
+        final Path currentFile = getCurrentFile();
+        if (Files.exists(currentFile) && Files.size(currentFile) >= maxFileSize)
+            rollOver();
+
+        Files.writeString(
+            currentFile,
+            format(snapshot),
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        );
+    }
+
+    private void rollOver()
+        throws IOException
+    {
+        Files.deleteIfExists(getFile(maxFiles - 1));
+        for (int idx = maxFiles - 2; idx >= 0; --idx)
+        {
+            final Path source = getFile(idx);
+            if (Files.exists(source))
+                Files.move(source, getFile(idx + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static String format(MetricsSnapshot snapshot)
+    {
+        final long epochSeconds = snapshot.timestamp().getEpochSecond();
+        final StringBuilder sb = new StringBuilder();
+        snapshot.values().forEach((name, value) ->
+            sb.append(PREFIX).append(name)
+                .append(' ').append(MetricsSnapshot.formatValue(value))
+                .append(' ').append(epochSeconds)
+                .append('\n'));
+        return sb.toString();
+    }
+}
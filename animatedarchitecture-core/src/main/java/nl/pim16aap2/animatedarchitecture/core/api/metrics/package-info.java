@@ -0,0 +1,12 @@
+/**
+ * This package contains classes used to collect and export metrics.
+ * <p>
+ * Subsystems register their counters, gauges, and histograms with the
+ * {@link nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry}. The
+ * {@link nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExportManager} periodically exports the collected
+ * metrics using the configured {@link nl.pim16aap2.animatedarchitecture.core.api.metrics.IMetricsExporter}.
+ */
+@NullMarked
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import org.jspecify.annotations.NullMarked;
@@ -1,5 +1,9 @@
 package nl.pim16aap2.animatedarchitecture.core.api.restartable;
 
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+
 /**
  * Represents an object what can be restarted and shut down.
  */
@@ -18,4 +22,25 @@ public interface IRestartable
     default void shutDown()
     {
     }
+
+    /**
+     * Gets the types of the restartables that have to be initialized before this restartable can be initialized.
+     * <p>
+     * When this returns null (the default), the dependencies of this restartable are undeclared. It is then always
+     * initialized on the thread that initializes the {@link RestartableHolder}, after all restartables that were
+     * registered before it have been initialized.
+     * <p>
+     * When the dependencies are declared, this restartable may be initialized on another thread, concurrently with
+     * other restartables. See {@link RestartableHolder#setParallelInitialization(java.util.function.BooleanSupplier)}.
+     * Only restartables that were registered before this one are considered as dependencies.
+     * <p>
+     * Restartables should only declare their dependencies if their initialization is thread-safe and does not require
+     * the main thread.
+     *
+     * @return The types of the restartables this restartable depends on, or null if the dependencies are undeclared.
+     */
+    default @Nullable Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return null;
+    }
 }
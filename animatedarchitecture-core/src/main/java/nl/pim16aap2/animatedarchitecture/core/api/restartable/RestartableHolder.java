@@ -6,21 +6,46 @@ import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
 import nl.pim16aap2.animatedarchitecture.core.util.StringUtil;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 /**
  * Represents an object that can issue a restart or shutdown to {@link IRestartable} objects.
+ * <p>
+ * The time it takes to initialize and shut down each restartable is measured and logged, so slow restartables can be
+ * found. See {@link #getLastInitializationTimings()}.
  */
 @CustomLog
 public final class RestartableHolder implements IDebuggable
 {
+    /**
+     * The number of slowest restartables to include in the summary that is logged after every initialization.
+     */
+    private static final int SLOWEST_RESTARTABLES_TO_LOG = 3;
+
     private final Set<IRestartable> restartables = new LinkedHashSet<>();
     private int shutdownCount = 0;
     private int initCount = 0;
 
+    private volatile BooleanSupplier parallelInitialization = () -> false;
+
+    private volatile List<RestartableTiming> lastInitializationTimings = List.of();
+    private volatile List<RestartableTiming> lastShutDownTimings = List.of();
+
     /**
      * Register a {@link IRestartable} object with this object, so this object can restart the provided object.
      *
@@ -73,13 +98,132 @@ public final class RestartableHolder implements IDebuggable
         initialize();
     }
 
+    /**
+     * Sets whether restartables that declare their dependencies should be initialized concurrently.
+     * <p>
+     * When enabled, every restartable that declares its dependencies (see
+     * {@link IRestartable#getInitializationDependencies()}) is initialized on a virtual thread as soon as its
+     * dependencies have been initialized. Restartables with undeclared dependencies are still initialized on the
+     * calling thread, after all restartables that were registered before them.
+     * <p>
+     * The supplier is queried again for every restartable that declares its dependencies, so it may depend on state
+     * that is set up by restartables that were registered before it (e.g. the config).
+     * <p>
+     * This is disabled by default.
+     *
+     * @param parallelInitialization
+     *     Supplies true to initialize restartables that declare their dependencies concurrently.
+     */
+    public void setParallelInitialization(BooleanSupplier parallelInitialization)
+    {
+        this.parallelInitialization = Objects.requireNonNull(parallelInitialization);
+    }
+
+    /**
+     * Checks whether restartables that declare their dependencies are initialized concurrently.
+     *
+     * @return True if parallel initialization is enabled.
+     */
+    public boolean isParallelInitialization()
+    {
+        return parallelInitialization.getAsBoolean();
+    }
+
+    /**
+     * Gets the time it took to initialize each restartable during the last call to {@link #initialize()}.
+     *
+     * @return The timings sorted from the slowest to the fastest restartable.
+     */
+    public List<RestartableTiming> getLastInitializationTimings()
+    {
+        return lastInitializationTimings;
+    }
+
+    /**
+     * Gets the time it took to shut down each restartable during the last call to {@link #shutDown()}.
+     *
+     * @return The timings sorted from the slowest to the fastest restartable.
+     */
+    public List<RestartableTiming> getLastShutDownTimings()
+    {
+        return lastShutDownTimings;
+    }
+
     /**
      * Calls {@link IRestartable#initialize()} for all registered {@link IRestartable}s.
+     * <p>
+     * The restartables are initialized in the order in which they were registered, unless parallel initialization is
+     * enabled. See {@link #setParallelInitialization(BooleanSupplier)}.
      */
     public void initialize()
     {
         this.initCount += 1;
-        restartables.forEach(restartable -> runForRestartable("initialize", IRestartable::initialize, restartable));
+        final IRestartable[] arr = restartables.toArray(new IRestartable[0]);
+        final Queue<RestartableTiming> timings = new ConcurrentLinkedQueue<>();
+
+        final long startNanos = System.nanoTime();
+        initialize(arr, timings);
+        final long durationNanos = System.nanoTime() - startNanos;
+        final boolean parallel = isParallelInitialization();
+
+        lastInitializationTimings = sortTimings(timings);
+        log.atInfo().log(
+            "Initialized %d restartables in %.1fms (parallel: %b). Slowest: %s",
+            arr.length,
+            toMillis(durationNanos),
+            parallel,
+            lastInitializationTimings.stream()
+                .limit(SLOWEST_RESTARTABLES_TO_LOG)
+                .map(RestartableTiming::format)
+                .toList()
+        );
+        log.atDebug().log("Initialization times:\n%s", formatTimings(lastInitializationTimings));
+    }
+
+    /**
+     * Initializes the provided restartables.
+     * <p>
+     * When parallel initialization is enabled, restartables that declare their dependencies are initialized on
+     * virtual threads. All other restartables are initialized on the current thread once all restartables that were
+     * registered before them have been initialized.
+     */
+    private void initialize(IRestartable[] arr, Queue<RestartableTiming> timings)
+    {
+        final Map<IRestartable, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            for (final IRestartable restartable : arr)
+            {
+                final @Nullable Collection<Class<? extends IRestartable>> dependencies =
+                    restartable.getInitializationDependencies();
+
+                if (dependencies == null || !isParallelInitialization())
+                {
+                    awaitAll(futures.values());
+                    runForRestartable("initialize", IRestartable::initialize, restartable, timings);
+                    futures.put(restartable, CompletableFuture.completedFuture(null));
+                    continue;
+                }
+
+                final CompletableFuture<?>[] dependencyFutures = futures.entrySet().stream()
+                    .filter(entry -> dependencies.stream().anyMatch(type -> type.isInstance(entry.getKey())))
+                    .map(Map.Entry::getValue)
+                    .toArray(CompletableFuture[]::new);
+
+                futures.put(
+                    restartable,
+                    CompletableFuture.allOf(dependencyFutures).thenRunAsync(
+                        () -> runForRestartable("initialize", IRestartable::initialize, restartable, timings),
+                        executor)
+                );
+            }
+            awaitAll(futures.values());
+        }
+    }
+
+    private static void awaitAll(Collection<CompletableFuture<Void>> futures)
+    {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
     }
 
     /**
@@ -92,12 +236,21 @@ public final class RestartableHolder implements IDebuggable
     {
         this.shutdownCount += 1;
         final IRestartable[] arr = restartables.toArray(new IRestartable[0]);
+        final Queue<RestartableTiming> timings = new ConcurrentLinkedQueue<>();
         for (int idx = arr.length - 1; idx >= 0; --idx)
-            runForRestartable("shut down", IRestartable::shutDown, arr[idx]);
+            runForRestartable("shut down", IRestartable::shutDown, arr[idx], timings);
+
+        lastShutDownTimings = sortTimings(timings);
+        log.atDebug().log("Shutdown times:\n%s", formatTimings(lastShutDownTimings));
     }
 
-    private static void runForRestartable(String actionName, Consumer<IRestartable> action, IRestartable restartable)
+    private static void runForRestartable(
+        String actionName,
+        Consumer<IRestartable> action,
+        IRestartable restartable,
+        Queue<RestartableTiming> timings)
     {
+        final long startNanos = System.nanoTime();
         try
         {
             action.accept(restartable);
@@ -111,6 +264,25 @@ public final class RestartableHolder implements IDebuggable
                 restartable
             );
         }
+        finally
+        {
+            timings.add(new RestartableTiming(restartable.getClass().getName(), System.nanoTime() - startNanos));
+        }
+    }
+
+    private static List<RestartableTiming> sortTimings(Collection<RestartableTiming> timings)
+    {
+        return timings.stream().sorted(RestartableTiming.SLOWEST_FIRST).toList();
+    }
+
+    private static String formatTimings(List<RestartableTiming> timings)
+    {
+        return StringUtil.formatCollection(timings, RestartableTiming::format);
+    }
+
+    private static double toMillis(long nanos)
+    {
+        return nanos / 1_000_000D;
     }
 
     @Override
@@ -120,11 +292,44 @@ public final class RestartableHolder implements IDebuggable
             """
                 ShutDownCount: %d
                 InitCount:     %d
+                Parallel Initialization: %b
                 Registered Restartables: %s
+                Last Initialization Times: %s
+                Last Shutdown Times: %s
                 """,
             shutdownCount,
             initCount,
-            StringUtil.formatCollection(restartables, restartable -> restartable.getClass().getName())
+            isParallelInitialization(),
+            StringUtil.formatCollection(restartables, restartable -> restartable.getClass().getName()),
+            formatTimings(lastInitializationTimings),
+            formatTimings(lastShutDownTimings)
         );
     }
+
+    /**
+     * The time it took to initialize or shut down a single restartable.
+     *
+     * @param type
+     *     The fully qualified name of the type of the restartable.
+     * @param durationNanos
+     *     The time it took in nanoseconds.
+     */
+    public record RestartableTiming(String type, long durationNanos)
+    {
+        /**
+         * Sorts the timings from the slowest to the fastest restartable.
+         */
+        public static final Comparator<RestartableTiming> SLOWEST_FIRST =
+            Comparator.comparingLong(RestartableTiming::durationNanos).reversed();
+
+        /**
+         * Formats this timing as {@code <type>: <duration>ms}.
+         *
+         * @return The formatted timing.
+         */
+        public String format()
+        {
+            return String.format(Locale.ROOT, "%s: %.3fms", type, toMillis(durationNanos));
+        }
+    }
 }
@@ -17,6 +17,7 @@ import org.jspecify.annotations.Nullable;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -137,6 +138,12 @@ public final class AudioConfigurator implements IRestartable, IDebuggable
         return merged;
     }
 
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of();
+    }
+
     @Override
     public synchronized void initialize()
     {
@@ -89,6 +89,12 @@ public final class CommandDefinition
         null
     );
 
+    public static final CommandDefinition PERF = new CommandDefinition(
+        "PERF",
+        null,
+        Constants.PERMISSION_PREFIX_ADMIN + "perf"
+    );
+
     public static final CommandDefinition REMOVE_OWNER = new CommandDefinition(
         "REMOVE_OWNER",
         Constants.PERMISSION_PREFIX_USER + "removeowner",
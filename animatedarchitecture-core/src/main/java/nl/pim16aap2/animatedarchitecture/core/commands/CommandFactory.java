@@ -54,6 +54,8 @@ public final class CommandFactory
     @Delegate
     private final NewStructure.IFactory newDoorFactory;
     @Delegate
+    private final Perf.IFactory perfFactory;
+    @Delegate
     private final ListStructures.IFactory listDoorsFactory;
 
     @Getter
@@ -82,6 +84,7 @@ public final class CommandFactory
         Lock.IFactory lockFactory,
         MovePowerBlock.IFactory movePowerBlockFactory,
         NewStructure.IFactory newDoorFactory,
+        Perf.IFactory perfFactory,
         RemoveOwner.IFactory removeOwnerFactory, RemoveOwnerDelayed removeOwnerDelayed,
         Restart.IFactory restartFactory,
         SetBlocksToMove.IFactory setBlocksToMoveFactory, SetBlocksToMoveDelayed setBlocksToMoveDelayed,
@@ -117,6 +120,7 @@ public final class CommandFactory
         this.setNameFactory = setNameFactory;
         this.movePowerBlockFactory = movePowerBlockFactory;
         this.newDoorFactory = newDoorFactory;
+        this.perfFactory = perfFactory;
         this.listDoorsFactory = listDoorsFactory;
         this.addOwnerDelayed = addOwnerDelayed;
         this.removeOwnerDelayed = removeOwnerDelayed;
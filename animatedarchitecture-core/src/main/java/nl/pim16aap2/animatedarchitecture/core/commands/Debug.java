@@ -7,28 +7,42 @@ import lombok.CustomLog;
 import lombok.ToString;
 import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebugReporter;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.PerformanceSnapshotRecorder;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the debug command. This command is used to retrieve debug information, the specifics of which are left to
  * the currently registered platform. See {@link DebugReporter}.
+ * <p>
+ * In snapshot mode, this command instead records a snapshot of the performance of the active animations and writes it
+ * to a file. See {@link PerformanceSnapshotRecorder}.
  */
 @CustomLog
 @ToString(callSuper = true)
 public class Debug extends BaseCommand
 {
+    private final boolean snapshot;
+
     @ToString.Exclude
     private final DebugReporter debugReporter;
 
+    @ToString.Exclude
+    private final PerformanceSnapshotRecorder performanceSnapshotRecorder;
+
     @AssistedInject
     Debug(
         @Assisted ICommandSender commandSender,
+        @Assisted boolean snapshot,
         IExecutor executor,
-        DebugReporter debugReporter)
+        DebugReporter debugReporter,
+        PerformanceSnapshotRecorder performanceSnapshotRecorder)
     {
         super(commandSender, executor);
+        this.snapshot = snapshot;
         this.debugReporter = debugReporter;
+        this.performanceSnapshotRecorder = performanceSnapshotRecorder;
     }
 
     @Override
@@ -40,9 +54,31 @@ public class Debug extends BaseCommand
     @Override
     protected CompletableFuture<?> executeCommand(PermissionsStatus permissions)
     {
+        if (snapshot)
+            return recordSnapshot();
         return CompletableFuture.runAsync(this::postDebugMessage, executor.getVirtualExecutor());
     }
 
+    private CompletableFuture<?> recordSnapshot()
+    {
+        getCommandSender().sendInfo(
+            "commands.debug.snapshot.started",
+            arg -> arg.highlight(PerformanceSnapshotRecorder.DEFAULT_DURATION.toSeconds())
+        );
+
+        return performanceSnapshotRecorder
+            .record(PerformanceSnapshotRecorder.DEFAULT_DURATION)
+            .thenAccept(this::postSnapshotMessage);
+    }
+
+    private void postSnapshotMessage(Path file)
+    {
+        getCommandSender().sendSuccess(
+            "commands.debug.snapshot.success",
+            arg -> arg.highlight(file.getFileName().toString())
+        );
+    }
+
     private void postDebugMessage()
     {
         log.atInfo().log("%s", debugReporter.getDebugReport());
@@ -60,9 +96,11 @@ public class Debug extends BaseCommand
          *
          * @param commandSender
          *     The {@link ICommandSender} responsible for the execution of this command.
+         * @param snapshot
+         *     True to record a performance snapshot instead of writing the debug information to the console.
          * @return See {@link BaseCommand#run()}.
          */
         @SuppressWarnings("NullableProblems")
-        Debug newDebug(ICommandSender commandSender);
+        Debug newDebug(ICommandSender commandSender, boolean snapshot);
     }
 }
@@ -0,0 +1,120 @@
+package nl.pim16aap2.animatedarchitecture.core.commands;
+
+import dagger.assisted.Assisted;
+import dagger.assisted.AssistedFactory;
+import dagger.assisted.AssistedInject;
+import lombok.ToString;
+import nl.pim16aap2.animatedarchitecture.core.animation.Animator;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimatorTickCost;
+import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleLatencyTracker;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.text.Text;
+import nl.pim16aap2.animatedarchitecture.core.text.TextType;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the command that shows the latency of each phase of toggle requests (see {@link ToggleLatencyTracker})
+ * and the active animators that were the most expensive in their last tick (see {@link AnimatorTickCost}).
+ */
+@ToString(callSuper = true)
+public class Perf extends BaseCommand
+{
+    /**
+     * The maximum number of animators to show.
+     */
+    private static final int MOST_EXPENSIVE_ANIMATORS = 10;
+
+    private final boolean reset;
+
+    @ToString.Exclude
+    private final ToggleLatencyTracker toggleLatencyTracker;
+
+    @ToString.Exclude
+    private final StructureActivityManager structureActivityManager;
+
+    @AssistedInject
+    Perf(
+        @Assisted ICommandSender commandSender,
+        @Assisted boolean reset,
+        IExecutor executor,
+        ToggleLatencyTracker toggleLatencyTracker,
+        StructureActivityManager structureActivityManager)
+    {
+        super(commandSender, executor);
+        this.reset = reset;
+        this.toggleLatencyTracker = toggleLatencyTracker;
+        this.structureActivityManager = structureActivityManager;
+    }
+
+    @Override
+    public CommandDefinition getCommand()
+    {
+        return CommandDefinition.PERF;
+    }
+
+    @Override
+    protected CompletableFuture<?> executeCommand(PermissionsStatus permissions)
+    {
+        sendLatencies();
+        sendMostExpensiveAnimators();
+
+        if (reset)
+        {
+            toggleLatencyTracker.reset();
+            getCommandSender().sendSuccess("commands.perf.success.reset");
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void sendLatencies()
+    {
+        final @Nullable String latencies = toggleLatencyTracker.format();
+        if (latencies == null)
+        {
+            getCommandSender().sendInfo("commands.perf.no_data");
+            return;
+        }
+
+        final Text text = getCommandSender().newText();
+        text.append(localizer.getMessage("commands.perf.header"), TextType.INFO).append('\n');
+        text.append(latencies, TextType.INFO);
+        getCommandSender().sendMessage(text);
+    }
+
+    private void sendMostExpensiveAnimators()
+    {
+        final List<Animator> animators = structureActivityManager.getMostExpensiveAnimators(MOST_EXPENSIVE_ANIMATORS);
+        if (animators.isEmpty())
+            return;
+
+        final Text text = getCommandSender().newText();
+        text.append(localizer.getMessage("commands.perf.animators.header"), TextType.INFO);
+        for (final Animator animator : animators)
+            text.append('\n').append("  " + StructureActivityManager.formatTickCost(animator), TextType.INFO);
+        getCommandSender().sendMessage(text);
+    }
+
+    /**
+     * The factory interface for creating {@link Perf} commands.
+     */
+    @AssistedFactory
+    interface IFactory
+    {
+        /**
+         * Creates (but does not execute!) a new {@link Perf} command.
+         *
+         * @param commandSender
+         *     The {@link ICommandSender} responsible for executing the command and the target for sending the
+         *     latencies.
+         * @param reset
+         *     True to remove all recorded latencies after they have been sent.
+         * @return See {@link BaseCommand#run()}.
+         */
+        @SuppressWarnings("NullableProblems")
+        Perf newPerf(ICommandSender commandSender, boolean reset);
+    }
+}
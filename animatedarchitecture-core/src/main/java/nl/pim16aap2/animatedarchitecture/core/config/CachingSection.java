@@ -14,8 +14,12 @@ public abstract class CachingSection<T extends IConfigSectionResult> extends Con
     public static final String SECTION_TITLE = "caching";
 
     public static final String PATH_POWERBLOCK_CACHE_TIMEOUT = "powerblock_cache_timeout";
+    public static final String PATH_POWERBLOCK_CACHE_MAX_CHUNKS = "powerblock_cache_max_chunks";
+    public static final String PATH_STRUCTURE_CACHE_MAX_SIZE = "structure_cache_max_size";
 
     public static final int DEFAULT_POWERBLOCK_CACHE_TIMEOUT = 120;
+    public static final int DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS = 10_000;
+    public static final int DEFAULT_STRUCTURE_CACHE_MAX_SIZE = 5_000;
 
     @Override
     public String getSectionTitle()
@@ -39,8 +43,11 @@ public abstract class CachingSection<T extends IConfigSectionResult> extends Con
                    0 = infinite cache (not recommended either!)
                 """)
             .act(node ->
-                addInitialPowerblockCacheTimeout(node.node(PATH_POWERBLOCK_CACHE_TIMEOUT))
-            );
+            {
+                addInitialPowerblockCacheTimeout(node.node(PATH_POWERBLOCK_CACHE_TIMEOUT));
+                addInitialPowerblockCacheMaxChunks(node.node(PATH_POWERBLOCK_CACHE_MAX_CHUNKS));
+                addInitialStructureCacheMaxSize(node.node(PATH_STRUCTURE_CACHE_MAX_SIZE));
+            });
     }
 
     private void addInitialPowerblockCacheTimeout(CommentedConfigurationNode node)
@@ -56,4 +63,35 @@ public abstract class CachingSection<T extends IConfigSectionResult> extends Con
                 Default: %d
                 """.formatted(DEFAULT_POWERBLOCK_CACHE_TIMEOUT));
     }
+
+    private void addInitialPowerblockCacheMaxChunks(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS)
+            .comment("""
+                The maximum number of chunks per world to cache power block positions for.
+                
+                When this limit is reached, the chunks that are used the least are removed from the cache first.
+                
+                Use 0 to disable this limit.
+                
+                Default: %d
+                """.formatted(DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS));
+    }
+
+    private void addInitialStructureCacheMaxSize(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_STRUCTURE_CACHE_MAX_SIZE)
+            .comment("""
+                The maximum number of structures to keep in memory when they are not in use.
+                
+                When this limit is reached, the structures that are used the least may be removed from memory
+                when the server needs more memory. Structures that are in use are never removed.
+                
+                Use 0 to disable this limit.
+                
+                Default: %d
+                """.formatted(DEFAULT_STRUCTURE_CACHE_MAX_SIZE));
+    }
 }
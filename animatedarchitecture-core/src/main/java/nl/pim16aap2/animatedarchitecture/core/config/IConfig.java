@@ -1,5 +1,6 @@
 package nl.pim16aap2.animatedarchitecture.core.config;
 
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExporterType;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
 
@@ -77,6 +78,23 @@ public interface IConfig extends IRestartable
      */
     int powerblockCacheTimeout();
 
+    /**
+     * Gets the maximum number of chunks per world whose power block positions should be kept in cache.
+     *
+     * @return The maximum number of chunks per world to cache power blocks for, or 0 if there is no limit.
+     */
+    int powerblockCacheMaxChunks();
+
+    /**
+     * Gets the maximum number of structures that should be kept in the structure cache.
+     * <p>
+     * When this limit is exceeded, the least frequently used structures are no longer strongly referenced by the cache
+     * and may be garbage collected once nothing else refers to them.
+     *
+     * @return The maximum number of structures to keep in the structure cache, or 0 if there is no limit.
+     */
+    int structureCacheMaxSize();
+
     /**
      * Gets the global maximum number of structures a player can own.
      *
@@ -105,6 +123,40 @@ public interface IConfig extends IRestartable
      */
     OptionalDouble maxBlockSpeed();
 
+    /**
+     * Gets the global maximum number of structures that can be animated at the same time.
+     * <p>
+     * Toggle requests that exceed this limit are queued or rejected, depending on their cause.
+     *
+     * @return The global maximum number of structures that can be animated at the same time.
+     */
+    OptionalInt maxConcurrentAnimations();
+
+    /**
+     * Gets the maximum number of structures that can be animated at the same time in a single world.
+     * <p>
+     * Toggle requests that exceed this limit are queued or rejected, depending on their cause.
+     *
+     * @return The maximum number of structures that can be animated at the same time in a single world.
+     */
+    OptionalInt maxConcurrentAnimationsPerWorld();
+
+    /**
+     * Gets the maximum number of toggle requests that can wait for an animation slot to become available.
+     *
+     * @return The maximum number of pending toggle requests, or 0 if requests should never wait.
+     */
+    int toggleQueueSize();
+
+    /**
+     * Gets the maximum number of structures whose redstone state is verified per tick.
+     * <p>
+     * Structures that exceed this budget are verified in later ticks.
+     *
+     * @return The maximum number of redstone verifications per tick. This is always at least 1.
+     */
+    int redstoneVerificationsPerTick();
+
     /**
      * Returns whether we should try to load any unloaded chunks for a toggle.
      *
@@ -155,6 +207,31 @@ public interface IConfig extends IRestartable
      */
     Level logLevel();
 
+    /**
+     * Gets the type of exporter to use for the collected metrics.
+     *
+     * @return The type of exporter to use for the collected metrics.
+     */
+    MetricsExporterType metricsExporter();
+
+    /**
+     * Gets the amount of time (in seconds) between two exports of the collected metrics.
+     * <p>
+     * This only applies to exporters that export the metrics periodically, such as {@link MetricsExporterType#FILE}.
+     *
+     * @return The amount of time (in seconds) between two exports.
+     */
+    int metricsExportInterval();
+
+    /**
+     * Checks if the custom Java Flight Recorder events should be registered.
+     * <p>
+     * When enabled, animations, storage calls, and protection checks show up in JFR recordings.
+     *
+     * @return True if the custom JFR events should be registered.
+     */
+    boolean jfrEvents();
+
     /**
      * Reloads the configuration file.
      */
@@ -182,4 +259,13 @@ public interface IConfig extends IRestartable
      * @return The primary command name.
      */
     String primaryCommandName();
+
+    /**
+     * Checks if restartables that declare their dependencies should be initialized concurrently.
+     * <p>
+     * See {@link nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder#setParallelInitialization}.
+     *
+     * @return True if restartables should be initialized concurrently where possible.
+     */
+    boolean parallelInitialization();
 }
@@ -21,12 +21,20 @@ public abstract class LimitsSection<T extends IConfigSectionResult> extends Conf
     public static final String PATH_MAX_STRUCTURE_SIZE = "max_structure_size";
     public static final String PATH_MAX_POWERBLOCK_DISTANCE = "max_powerblock_distance";
     public static final String PATH_MAX_BLOCK_SPEED = "max_block_speed";
+    public static final String PATH_MAX_CONCURRENT_ANIMATIONS = "max_concurrent_animations";
+    public static final String PATH_MAX_CONCURRENT_ANIMATIONS_PER_WORLD = "max_concurrent_animations_per_world";
+    public static final String PATH_TOGGLE_QUEUE_SIZE = "toggle_queue_size";
+    public static final String PATH_REDSTONE_VERIFICATIONS_PER_TICK = "redstone_verifications_per_tick";
 
     public static final int DEFAULT_MAX_STRUCTURE_COUNT = -1;
     public static final int DEFAULT_MAX_BLOCKS_TO_MOVE = 100;
     public static final int DEFAULT_MAX_STRUCTURE_SIZE = 1000;
     public static final int DEFAULT_MAX_POWERBLOCK_DISTANCE = -1;
     public static final double DEFAULT_MAX_BLOCK_SPEED = 5.0D;
+    public static final int DEFAULT_MAX_CONCURRENT_ANIMATIONS = -1;
+    public static final int DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD = -1;
+    public static final int DEFAULT_TOGGLE_QUEUE_SIZE = 128;
+    public static final int DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK = 16;
 
     @Override
     public String getSectionTitle()
@@ -54,6 +62,10 @@ public abstract class LimitsSection<T extends IConfigSectionResult> extends Conf
                 addInitialMaxBlocksToMove(node.node(PATH_MAX_BLOCKS_TO_MOVE));
                 addInitialMaxPowerblockDistance(node.node(PATH_MAX_POWERBLOCK_DISTANCE));
                 addInitialMaxBlockSpeed(node.node(PATH_MAX_BLOCK_SPEED));
+                addInitialMaxConcurrentAnimations(node.node(PATH_MAX_CONCURRENT_ANIMATIONS));
+                addInitialMaxConcurrentAnimationsPerWorld(node.node(PATH_MAX_CONCURRENT_ANIMATIONS_PER_WORLD));
+                addInitialToggleQueueSize(node.node(PATH_TOGGLE_QUEUE_SIZE));
+                addInitialRedstoneVerificationsPerTick(node.node(PATH_REDSTONE_VERIFICATIONS_PER_TICK));
             });
     }
 
@@ -136,4 +148,68 @@ public abstract class LimitsSection<T extends IConfigSectionResult> extends Conf
                 Default: %.1f
                 """.formatted(DEFAULT_MAX_BLOCK_SPEED));
     }
+
+    private void addInitialMaxConcurrentAnimations(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_MAX_CONCURRENT_ANIMATIONS)
+            .comment("""
+                Global maximum number of structures that can be animated at the same time.
+                
+                When this limit is reached, new toggle requests have to wait for a running animation to end.
+                Requests caused by players, the server, or other plugins are queued.
+                Requests caused by redstone are queued as well, but only the latest request per structure is kept.
+                Requests caused by perpetual movement are rejected.
+                
+                This limit cannot be overridden by permissions.
+                
+                Default: %d
+                """.formatted(DEFAULT_MAX_CONCURRENT_ANIMATIONS));
+    }
+
+    private void addInitialMaxConcurrentAnimationsPerWorld(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD)
+            .comment("""
+                Maximum number of structures that can be animated at the same time in a single world.
+                
+                This works the same as 'max_concurrent_animations', but applies to each world separately.
+                
+                This limit cannot be overridden by permissions.
+                
+                Default: %d
+                """.formatted(DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD));
+    }
+
+    private void addInitialToggleQueueSize(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_TOGGLE_QUEUE_SIZE)
+            .comment("""
+                Maximum number of toggle requests that can wait for a running animation to end.
+                
+                When the queue is full, new requests are rejected.
+                Set this to 0 to reject all requests that exceed the limits on concurrent animations.
+                
+                Default: %d
+                """.formatted(DEFAULT_TOGGLE_QUEUE_SIZE));
+    }
+
+    private void addInitialRedstoneVerificationsPerTick(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK)
+            .comment("""
+                Maximum number of structures whose redstone state is verified per tick.
+                
+                Structures are verified after their animation ends and after a restart.
+                When more structures are waiting, the ones closest to a player are verified first
+                and the others are verified in later ticks.
+                
+                Values lower than 1 are treated as 1.
+                
+                Default: %d
+                """.formatted(DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK));
+    }
 }
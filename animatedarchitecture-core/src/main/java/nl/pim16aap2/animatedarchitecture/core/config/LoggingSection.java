@@ -1,5 +1,6 @@
 package nl.pim16aap2.animatedarchitecture.core.config;
 
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExporterType;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.serialize.SerializationException;
 
@@ -8,7 +9,8 @@ import java.util.logging.Level;
 /**
  * Represents a configuration section for logging settings in Animated Architecture.
  * <p>
- * This section allows the user to configure console logging, log level, and debug mode.
+ * This section allows the user to configure console logging, log level, debug mode, the export of metrics, and
+ * the Java Flight Recorder events.
  *
  * @param <T>
  *     the type of result this section produces.
@@ -19,9 +21,15 @@ public abstract class LoggingSection<T extends IConfigSectionResult> extends Con
 
     public static final String PATH_LOG_LEVEL = "log_level";
     public static final String PATH_DEBUG = "debug";
+    public static final String PATH_METRICS_EXPORTER = "metrics_exporter";
+    public static final String PATH_METRICS_EXPORT_INTERVAL = "metrics_export_interval";
+    public static final String PATH_JFR_EVENTS = "jfr_events";
 
     public static final Level DEFAULT_LOG_LEVEL = Level.INFO;
     public static final boolean DEFAULT_DEBUG = false;
+    public static final MetricsExporterType DEFAULT_METRICS_EXPORTER = MetricsExporterType.JMX;
+    public static final int DEFAULT_METRICS_EXPORT_INTERVAL = 60;
+    public static final boolean DEFAULT_JFR_EVENTS = false;
 
     @Override
     public CommentedConfigurationNode buildInitialLimitsNode()
@@ -35,6 +43,9 @@ public abstract class LoggingSection<T extends IConfigSectionResult> extends Con
             {
                 addInitialLogLevel(node.node(PATH_LOG_LEVEL));
                 addInitialDebug(node.node(PATH_DEBUG));
+                addInitialMetricsExporter(node.node(PATH_METRICS_EXPORTER));
+                addInitialMetricsExportInterval(node.node(PATH_METRICS_EXPORT_INTERVAL));
+                addInitialJfrEvents(node.node(PATH_JFR_EVENTS));
             });
     }
 
@@ -60,6 +71,50 @@ public abstract class LoggingSection<T extends IConfigSectionResult> extends Con
             .comment("Don't use this. Just leave it on false.");
     }
 
+    private void addInitialMetricsExporter(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_METRICS_EXPORTER.name())
+            .comment("""
+                Where to export metrics (cache hit rates, database latency, active animations, etc.) to.
+                
+                Supported exporters are:
+                    NONE: Do not export metrics.
+                    FILE: Periodically append the metrics to the files in the 'metrics' directory.
+                          The metrics are written in the Graphite plaintext format.
+                    JMX:  Expose the metrics as an MBean that can be inspected with e.g. JConsole or VisualVM.
+                
+                Default: %s
+                """.formatted(DEFAULT_METRICS_EXPORTER));
+    }
+
+    private void addInitialMetricsExportInterval(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_METRICS_EXPORT_INTERVAL)
+            .comment("""
+                The amount of time (in seconds) between two exports of the metrics.
+                
+                This only applies to the FILE exporter.
+                
+                Default: %d
+                """.formatted(DEFAULT_METRICS_EXPORT_INTERVAL));
+    }
+
+    private void addInitialJfrEvents(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_JFR_EVENTS)
+            .comment("""
+                Whether to emit Java Flight Recorder (JFR) events for animations, database calls, and protection checks.
+                
+                When enabled, these events show up in the 'AnimatedArchitecture' category of JFR recordings, e.g. when
+                recording with 'jcmd <pid> JFR.start'. The events have no effect when no recording is running.
+                
+                Default: %b
+                """.formatted(DEFAULT_JFR_EVENTS));
+    }
+
     @Override
     public String getSectionTitle()
     {
@@ -40,10 +40,23 @@ abstract class AbstractTimedValue<T>
     protected long insertTime;
     protected final Clock clock;
 
-    protected AbstractTimedValue(Clock clock, long timeOut)
+    /**
+     * The weight of this value in a {@link TimedCache} with a maximum weight.
+     */
+    private final int weight;
+
+    /**
+     * Whether this value counts towards the weight of a {@link TimedCache} with a maximum weight.
+     * <p>
+     * Values in caches without a maximum weight are never resident.
+     */
+    private volatile boolean resident = false;
+
+    protected AbstractTimedValue(Clock clock, long timeOut, int weight)
     {
         this.clock = clock;
         this.timeOut = timeOut;
+        this.weight = weight;
         refresh();
     }
 
@@ -91,4 +104,53 @@ abstract class AbstractTimedValue<T>
     {
         return timedOut();
     }
+
+    /**
+     * Gets the weight of this value.
+     *
+     * @return The weight of this value.
+     */
+    public int getWeight()
+    {
+        return weight;
+    }
+
+    /**
+     * Checks if this value is resident in its cache. See {@link #setResident(boolean)}.
+     *
+     * @return True if this value is resident.
+     */
+    public boolean isResident()
+    {
+        return resident;
+    }
+
+    /**
+     * Updates whether this value is resident in its cache.
+     * <p>
+     * Resident values count towards the weight of a cache with a maximum weight. Subclasses may use this to decide how
+     * strongly to hold on to the value. See {@link #onResidencyChanged(boolean)}.
+     *
+     * @param resident
+     *     True to make this value resident, false to make it non-resident.
+     * @return True if the residency of this value changed as a result of this call.
+     */
+    public synchronized boolean setResident(boolean resident)
+    {
+        if (this.resident == resident)
+            return false;
+        this.resident = resident;
+        onResidencyChanged(resident);
+        return true;
+    }
+
+    /**
+     * Called when the residency of this value changes. See {@link #setResident(boolean)}.
+     *
+     * @param resident
+     *     The new residency of this value.
+     */
+    protected void onResidencyChanged(boolean resident)
+    {
+    }
 }
@@ -0,0 +1,175 @@
+package nl.pim16aap2.animatedarchitecture.core.data.cache.timed;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+
+/**
+ * A probabilistic estimate of how often keys have been accessed recently.
+ * <p>
+ * This is a count-min sketch with 4-bit counters, as used by TinyLFU. Each key is mapped to 4 counters and its
+ * frequency is estimated as the lowest of those counters. Once the number of recorded accesses reaches the sample size,
+ * all counters are halved, so the sketch favors keys that were accessed often recently over keys that were accessed
+ * often a long time ago.
+ * <p>
+ * The sketch does not use any memory until {@link #ensureCapacity(long)} is called. Until then, all keys have a
+ * frequency of 0.
+ */
+final class FrequencySketch
+{
+    /**
+     * The maximum number of longs to use for the table.
+     * <p>
+     * Each long holds 16 counters, so this limits the sketch to 8 MiB.
+     */
+    static final int MAXIMUM_TABLE_SIZE = 1 << 20;
+
+    /**
+     * The number of counters that are used for each key.
+     */
+    private static final int DEPTH = 4;
+
+    /**
+     * The maximum value of a single (4-bit) counter.
+     */
+    private static final int MAXIMUM_FREQUENCY = 15;
+
+    /**
+     * Mask used to clear the most significant bit of every counter after shifting all counters right by one bit.
+     */
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+    private static final int[] SEEDS = {0x97CB_3127, 0x4DD9_1A8B, 0xE1F3_27C5, 0x6A09_E667};
+
+    @GuardedBy("this")
+    private long[] table = new long[0];
+
+    @GuardedBy("this")
+    private int sampleSize;
+
+    @GuardedBy("this")
+    private int additions;
+
+    /**
+     * Ensures the sketch is large enough to accurately estimate the frequency of the given number of keys.
+     * <p>
+     * When the sketch is resized, all previously recorded frequencies are discarded.
+     *
+     * @param expectedKeys
+     *     The number of keys the sketch should be able to estimate the frequency of.
+     */
+    synchronized void ensureCapacity(long expectedKeys)
+    {
+        final int tableSize = (int) Math.min(MAXIMUM_TABLE_SIZE, ceilingPowerOfTwo(Math.max(8, expectedKeys)));
+        if (table.length >= tableSize)
+            return;
+
+        table = new long[tableSize];
+        sampleSize = 10 * tableSize;
+        additions = 0;
+    }
+
+    /**
+     * Gets the estimated number of times the given key was accessed recently.
+     *
+     * @param key
+     *     The key to look up.
+     * @return The estimated frequency of the key, between 0 and 15 (inclusive).
+     */
+    synchronized int frequency(Object key)
+    {
+        if (table.length == 0)
+            return 0;
+
+        final int hash = spread(key.hashCode());
+        int frequency = MAXIMUM_FREQUENCY;
+        for (int depth = 0; depth < DEPTH; ++depth)
+        {
+            final int counterHash = counterHash(hash, depth);
+            frequency = Math.min(frequency, getCounter(counterHash));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the given key.
+     *
+     * @param key
+     *     The key that was accessed.
+     */
+    synchronized void increment(Object key)
+    {
+        if (table.length == 0)
+            return;
+
+        final int hash = spread(key.hashCode());
+        boolean incremented = false;
+        for (int depth = 0; depth < DEPTH; ++depth)
+            incremented |= incrementCounter(counterHash(hash, depth));
+
+        if (incremented && ++additions >= sampleSize)
+            reset();
+    }
+
+    /**
+     * Halves all counters.
+     */
+    @GuardedBy("this")
+    private void reset()
+    {
+        for (int idx = 0; idx < table.length; ++idx)
+            table[idx] = (table[idx] >>> 1) & RESET_MASK;
+        additions /= 2;
+    }
+
+    @GuardedBy("this")
+    private int getCounter(int counterHash)
+    {
+        return (int) ((table[tableIndex(counterHash)] >>> counterShift(counterHash)) & MAXIMUM_FREQUENCY);
+    }
+
+    @GuardedBy("this")
+    private boolean incrementCounter(int counterHash)
+    {
+        final int index = tableIndex(counterHash);
+        final int shift = counterShift(counterHash);
+        if (((table[index] >>> shift) & MAXIMUM_FREQUENCY) == MAXIMUM_FREQUENCY)
+            return false;
+
+        table[index] += 1L << shift;
+        return true;
+    }
+
+    @GuardedBy("this")
+    private int tableIndex(int counterHash)
+    {
+        return (counterHash >>> 4) & (table.length - 1);
+    }
+
+    /**
+     * Gets the offset of the counter within its long.
+     *
+     * @param counterHash
+     *     The hash of the counter.
+     * @return The number of bits to shift the long by to get the counter.
+     */
+    private static int counterShift(int counterHash)
+    {
+        return (counterHash & 15) << 2;
+    }
+
+    private static int counterHash(int hash, int depth)
+    {
+        final int counterHash = hash * SEEDS[depth];
+        return counterHash ^ (counterHash >>> 16);
+    }
+
+    private static int spread(int hashCode)
+    {
+        final int hash = hashCode * 0x9E37_79B9;
+        return hash ^ (hash >>> 15);
+    }
+
+    private static long ceilingPowerOfTwo(long value)
+    {
+        return Long.highestOneBit(value - 1) << 1;
+    }
+}
@@ -34,22 +34,35 @@ import org.jspecify.annotations.Nullable;
 import java.lang.ref.SoftReference;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Represents a timed cached map backed by a {@link ConcurrentHashMap}. Entries will expire after a configurable amount
  * of time.
  * <p>
- * Expired entries cannot be retrieved or used in any way, but they will still show up in the size arguments. If
- * configured, a separate thread may perform regular cleanup.
+ * Expired entries cannot be retrieved or used in any way, but they will still show up in the size arguments until they
+ * are evicted. Every access of the cache inspects a small number of entries and evicts those that have expired. If
+ * configured, the cache will also be cleaned up periodically by a thread that is shared between all caches.
+ * <p>
+ * Optionally, a maximum weight can be configured. When the total weight of the resident entries exceeds this value,
+ * entries are evicted using a TinyLFU-style policy: The access frequency of each key is estimated using a
+ * {@link FrequencySketch}, and the least frequently used entry out of a small sample is evicted. A newly inserted entry
+ * is only admitted if it is used at least as frequently as the entry it would replace. For caches that use soft
+ * references, evicted entries are not removed from the cache. Instead, they are no longer held by a hard reference, so
+ * they can be reclaimed by the garbage collector when needed.
  *
  * @param <K>
  *     Type of the Key of the map.
@@ -61,6 +74,20 @@ public sealed class TimedCache<K, V>
 {
     private static final Clock DEFAULT_CLOCK = Clock.systemUTC();
 
+    /**
+     * The maximum number of entries to inspect for expiry on each access of the cache.
+     * <p>
+     * See {@link #expireIncrementally()}.
+     */
+    private static final int LAZY_EXPIRY_BATCH_SIZE = 2;
+
+    /**
+     * The number of resident entries to compare when selecting an entry to evict.
+     * <p>
+     * See {@link #selectVictim(Object)}.
+     */
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
     /**
      * The actual data structure all values are cached in.
      */
@@ -75,7 +102,62 @@ public sealed class TimedCache<K, V>
      */
     private final long timeOut;
 
-    private final Timer taskTimer = new Timer(true);
+    /**
+     * The periodic cleanup task of this cache, if any.
+     * <p>
+     * See {@link TimedCacheScheduler}.
+     */
+    private volatile @Nullable ScheduledFuture<?> cleanupTask;
+
+    /**
+     * Guards {@link #sweepCursor}, so only a single thread can perform incremental expiry at a time.
+     */
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    /**
+     * The position in the cache where the next incremental expiry run will continue.
+     * <p>
+     * See {@link #expireIncrementally()}.
+     */
+    private @Nullable Iterator<Map.Entry<K, AbstractTimedValue<V>>> sweepCursor;
+
+    /**
+     * The maximum total weight of all resident entries in this cache. 0 means the cache does not have a maximum weight.
+     */
+    private volatile long maximumWeight = 0;
+
+    /**
+     * The function that determines the weight of each value.
+     */
+    private final ToIntFunction<V> weigher;
+
+    /**
+     * The total weight of all resident entries in this cache.
+     */
+    private final AtomicLong residentWeight = new AtomicLong();
+
+    /**
+     * The estimated access frequencies of the keys in this cache.
+     * <p>
+     * This is only used when the cache has a {@link #maximumWeight}.
+     */
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    /**
+     * Guards {@link #evictionCursor}, so only a single thread can evict entries at a time.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * The position in the cache where the next eviction sample will start.
+     * <p>
+     * See {@link #selectVictim(Object)}.
+     */
+    private @Nullable Iterator<Map.Entry<K, AbstractTimedValue<V>>> evictionCursor;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
 
     /**
      * Function that creates the specific type of {@link AbstractTimedValue} that is required according to the
@@ -100,6 +182,11 @@ public sealed class TimedCache<K, V>
      */
     private final boolean keepAfterTimeOut;
 
+    /**
+     * Whether values are wrapped in {@link SoftReference}s.
+     */
+    private final boolean softReference;
+
     /**
      * The clock to use to determine the insertion/cleanup times.
      */
@@ -112,12 +199,20 @@ public sealed class TimedCache<K, V>
      */
     private volatile boolean alive = true;
 
-    private TimedCache(Clock clock, long timeOut, boolean softReference, boolean refresh, boolean keepAfterTimeOut)
+    private TimedCache(
+        Clock clock,
+        long timeOut,
+        boolean softReference,
+        boolean refresh,
+        boolean keepAfterTimeOut,
+        @Nullable ToIntFunction<V> weigher)
     {
         this.clock = clock;
         this.refresh = refresh;
         this.keepAfterTimeOut = keepAfterTimeOut;
+        this.softReference = softReference;
         this.timeOut = timeOut;
+        this.weigher = weigher == null ? value -> 1 : weigher;
         timedValueCreator = softReference ? this::createTimedSoftValue : this::createTimedValue;
     }
 
@@ -133,14 +228,17 @@ public sealed class TimedCache<K, V>
         @Nullable Duration cleanup,
         boolean softReference,
         boolean refresh,
-        boolean keepAfterTimeOut)
+        boolean keepAfterTimeOut,
+        long maximumWeight,
+        @Nullable ToIntFunction<V> weigher)
     {
         this(
             clock,
             Objects.requireNonNullElse(timeOut, Duration.ZERO).toMillis(),
             softReference,
             refresh,
-            keepAfterTimeOut
+            keepAfterTimeOut,
+            weigher
         );
 
         final long cleanupMillis = cleanup == null ? 0 : cleanup.toMillis();
@@ -151,6 +249,7 @@ public sealed class TimedCache<K, V>
                     "references and a non-zero positive cleanup timeOut!"
             );
         setupCleanupTask(cleanupMillis);
+        setMaximumWeight(maximumWeight);
     }
 
     /**
@@ -180,8 +279,8 @@ public sealed class TimedCache<K, V>
      *     When null, this value defaults to {@link Duration#ZERO}.
      * @param cleanup
      *     The timeOut between each cleanup cycle. During cleanup, all expired entries will be removed from the cache.
-     *     When null (default) or 0, entries are evicted from the cache whenever they are accessed after they have
-     *     expired. This value also uses millisecond precision.
+     *     When null (default) or 0, entries are only evicted from the cache incrementally as the cache is accessed.
+     *     This value also uses millisecond precision.
      * @param softReference
      *     Whether to wrap values in {@link SoftReference}s or not. This allows the garbage collector to clear up any
      *     values as it sees fit.
@@ -198,6 +297,16 @@ public sealed class TimedCache<K, V>
      *     they are removed by the garbage collector.
      *     <p>
      *     When this is true, values in the cache
+     * @param maximumWeight
+     *     The maximum total weight of all resident entries in the cache. When this is exceeded, entries are evicted
+     *     based on how frequently they are used. See {@link #setMaximumWeight(long)}.
+     *     <p>
+     *     Defaults to 0, which means the cache does not have a maximum weight.
+     * @param weigher
+     *     The function that determines the weight of each value. This is only used when the cache has a maximum
+     *     weight. The weight of a value cannot be negative.
+     *     <p>
+     *     When null (default), each value has a weight of 1.
      */
     @Builder
     protected TimedCache(
@@ -205,9 +314,11 @@ public sealed class TimedCache<K, V>
         @Nullable Duration cleanup,
         boolean softReference,
         boolean refresh,
-        boolean keepAfterTimeOut)
+        boolean keepAfterTimeOut,
+        long maximumWeight,
+        @Nullable ToIntFunction<V> weigher)
     {
-        this(DEFAULT_CLOCK, timeOut, cleanup, softReference, refresh, keepAfterTimeOut);
+        this(DEFAULT_CLOCK, timeOut, cleanup, softReference, refresh, keepAfterTimeOut, maximumWeight, weigher);
     }
 
     /**
@@ -238,7 +349,10 @@ public sealed class TimedCache<K, V>
     public V put(K key, V value)
     {
         validateState();
-        cache.put(key, timedValueCreator.apply(value));
+        expireIncrementally();
+        final AbstractTimedValue<V> newValue = timedValueCreator.apply(value);
+        cache.compute(key, (k, oldValue) -> replace(oldValue, newValue));
+        onWrite(key);
         return value;
     }
 
@@ -254,12 +368,17 @@ public sealed class TimedCache<K, V>
     public Optional<V> putIfPresent(K key, V value)
     {
         validateState();
-        return Optional.ofNullable(cache.compute(key, (k, tValue) ->
+        expireIncrementally();
+        final @Nullable AbstractTimedValue<V> result = cache.compute(key, (k, tValue) ->
         {
             if (tValue == null || tValue.timedOut())
-                return null;
-            return timedValueCreator.apply(value);
-        })).map(entry -> entry.getValue(refresh));
+                return replace(tValue, null);
+            return replace(tValue, timedValueCreator.apply(value));
+        });
+
+        if (result != null)
+            onWrite(key);
+        return getValue(result);
     }
 
     /**
@@ -271,16 +390,28 @@ public sealed class TimedCache<K, V>
     public Optional<V> putIfAbsent(K key, V value)
     {
         validateState();
+        expireIncrementally();
         final AtomicReference<@Nullable V> returnValue = new AtomicReference<>();
+        final AtomicReference<@Nullable AbstractTimedValue<V>> existing = new AtomicReference<>();
         cache.compute(key, (k, tValue) ->
         {
             if (tValue == null || tValue.timedOut())
-                return timedValueCreator.apply(value);
+                return replace(tValue, timedValueCreator.apply(value));
 
             returnValue.set(tValue.getValue(refresh));
+            existing.set(tValue);
             return tValue;
         });
 
+        final @Nullable AbstractTimedValue<V> existingValue = existing.get();
+        if (existingValue == null)
+        {
+            missCount.increment();
+            onWrite(key);
+        }
+        else
+            onHit(key, existingValue);
+
         return Optional.ofNullable(returnValue.get());
     }
 
@@ -290,7 +421,9 @@ public sealed class TimedCache<K, V>
     public @Nullable V computeIfAbsent(K key, Function<K, V> mappingFunction)
     {
         validateState();
+        expireIncrementally();
         final AtomicReference<@Nullable V> returnValue = new AtomicReference<>();
+        final AtomicReference<@Nullable AbstractTimedValue<V>> existing = new AtomicReference<>();
         cache.compute(key, (k, tValue) ->
         {
             V innerValue;
@@ -298,12 +431,23 @@ public sealed class TimedCache<K, V>
             {
                 innerValue = mappingFunction.apply(k);
                 returnValue.set(innerValue);
-                return timedValueCreator.apply(innerValue);
+                return replace(tValue, timedValueCreator.apply(innerValue));
             }
 
             returnValue.set(innerValue);
+            existing.set(tValue);
             return tValue;
         });
+
+        final @Nullable AbstractTimedValue<V> existingValue = existing.get();
+        if (existingValue == null)
+        {
+            missCount.increment();
+            onWrite(key);
+        }
+        else
+            onHit(key, existingValue);
+
         return returnValue.get();
     }
 
@@ -313,13 +457,18 @@ public sealed class TimedCache<K, V>
     public Optional<V> computeIfPresent(K key, BiFunction<K, @Nullable V, V> remappingFunction)
     {
         validateState();
-        return Optional.ofNullable(cache.compute(key, (k, timedValue) ->
+        expireIncrementally();
+        final @Nullable AbstractTimedValue<V> result = cache.compute(key, (k, timedValue) ->
         {
             if (timedValue == null || timedValue.timedOut())
-                return null;
+                return replace(timedValue, null);
             final var value = timedValue.getValue(refresh);
-            return createTimedValue(remappingFunction, k, value);
-        })).map(entry -> entry.getValue(refresh));
+            return replace(timedValue, createTimedValue(remappingFunction, k, value));
+        });
+
+        if (result != null)
+            onWrite(key);
+        return getValue(result);
     }
 
     private AbstractTimedValue<V> createTimedValue(BiFunction<K, @Nullable V, V> function, K key, @Nullable V val)
@@ -333,13 +482,17 @@ public sealed class TimedCache<K, V>
     public V compute(K key, BiFunction<K, @Nullable V, V> mappingFunction)
     {
         validateState();
-        return Util.requireNonNull(cache.compute(key, (k, timedValue) ->
+        expireIncrementally();
+        final AbstractTimedValue<V> result = cache.compute(key, (k, timedValue) ->
         {
             final V value = timedValue != null && !timedValue.timedOut() ?
                 timedValue.getValue(refresh) :
                 null;
-            return createTimedValue(mappingFunction, k, value);
-        }).getValue(refresh), "Computed cache value for key: \"" + key + "\"");
+            return replace(timedValue, createTimedValue(mappingFunction, k, value));
+        });
+
+        onWrite(key);
+        return Util.requireNonNull(result.getValue(refresh), "Computed cache value for key: \"" + key + "\"");
     }
 
     /**
@@ -348,7 +501,11 @@ public sealed class TimedCache<K, V>
     public Optional<V> remove(K key)
     {
         validateState();
-        return getValue(cache.remove(key));
+        final @Nullable AbstractTimedValue<V> removed = cache.remove(key);
+        final Optional<V> result = getValue(removed);
+        if (removed != null)
+            release(removed);
+        return result;
     }
 
     /**
@@ -364,16 +521,23 @@ public sealed class TimedCache<K, V>
     public Optional<V> get(K key)
     {
         validateState();
+        expireIncrementally();
         final AbstractTimedValue<V> entry = cache.get(key);
         if (entry == null)
+        {
+            missCount.increment();
             return Optional.empty();
+        }
 
         final V value = entry.getValue(refresh);
         if (value == null)
         {
-            cache.remove(key);
+            removeExact(key, entry);
+            missCount.increment();
             return Optional.empty();
         }
+
+        onHit(key, entry);
         return Optional.of(value);
     }
 
@@ -426,7 +590,73 @@ public sealed class TimedCache<K, V>
     public void clear()
     {
         validateState();
-        cache.clear();
+        for (final Map.Entry<K, AbstractTimedValue<V>> entry : cache.entrySet())
+            removeExact(entry.getKey(), entry.getValue());
+    }
+
+    /**
+     * Updates the maximum total weight of all resident entries in this cache.
+     * <p>
+     * When the maximum weight is exceeded, entries are evicted based on how frequently they are used. For caches that
+     * use soft references, evicted entries remain in the cache, but they are no longer held by a hard reference. This
+     * means the garbage collector can reclaim them when needed. For all other caches, evicted entries are removed.
+     * <p>
+     * When a maximum weight is set for a cache that did not have one, all existing entries become resident. When the
+     * maximum weight is lowered, entries are evicted immediately until the cache is within the new maximum weight. When
+     * the maximum weight is removed (set to 0), all entries lose their residency.
+     *
+     * @param maximumWeight
+     *     The new maximum weight. 0 to remove the maximum weight.
+     * @throws IllegalArgumentException
+     *     When the maximum weight is negative.
+     */
+    public void setMaximumWeight(long maximumWeight)
+    {
+        validateState();
+        if (maximumWeight < 0)
+            throw new IllegalArgumentException("The maximum weight cannot be negative! Received: " + maximumWeight);
+
+        if (maximumWeight > 0)
+            sketch.ensureCapacity(maximumWeight);
+        final boolean wasBounded = isBounded();
+        this.maximumWeight = maximumWeight;
+
+        if (maximumWeight == 0)
+        {
+            cache.values().forEach(this::release);
+            return;
+        }
+
+        if (!wasBounded)
+            cache.forEach(this::admitIfPresent);
+        evictExcess(null);
+    }
+
+    /**
+     * Gets the maximum total weight of all resident entries in this cache.
+     *
+     * @return The maximum weight, or 0 if this cache does not have a maximum weight.
+     */
+    public long getMaximumWeight()
+    {
+        return maximumWeight;
+    }
+
+    /**
+     * Gets a snapshot of the statistics of this cache.
+     *
+     * @return The statistics of this cache.
+     */
+    public TimedCacheStatistics getStatistics()
+    {
+        return new TimedCacheStatistics(
+            hitCount.sum(),
+            missCount.sum(),
+            evictionCount.sum(),
+            cache.size(),
+            residentWeight.get(),
+            maximumWeight
+        );
     }
 
     /**
@@ -453,7 +683,7 @@ public sealed class TimedCache<K, V>
      */
     private AbstractTimedValue<V> createTimedValue(V val)
     {
-        return new TimedValue<>(clock, val, timeOut);
+        return new TimedValue<>(clock, val, timeOut, weigh(val));
     }
 
     /**
@@ -466,7 +696,270 @@ public sealed class TimedCache<K, V>
      */
     private AbstractTimedValue<V> createTimedSoftValue(V val)
     {
-        return new TimedSoftValue<>(clock, val, timeOut, keepAfterTimeOut);
+        return new TimedSoftValue<>(clock, val, timeOut, keepAfterTimeOut, weigh(val));
+    }
+
+    /**
+     * Determines the weight of a value using the {@link #weigher}.
+     *
+     * @param val
+     *     The value to weigh.
+     * @return The weight of the value.
+     *
+     * @throws IllegalArgumentException
+     *     When the weigher returns a negative weight.
+     */
+    private int weigh(V val)
+    {
+        final int weight = weigher.applyAsInt(val);
+        if (weight < 0)
+            throw new IllegalArgumentException("Weight cannot be negative! Received: " + weight + " for: " + val);
+        return weight;
+    }
+
+    /**
+     * Checks if this cache has a maximum weight.
+     *
+     * @return True if this cache has a maximum weight.
+     */
+    private boolean isBounded()
+    {
+        return maximumWeight > 0;
+    }
+
+    /**
+     * Updates the weight of the cache when a value is replaced by another.
+     * <p>
+     * This method is intended to be called from within the remapping functions of the backing map. As such, it must not
+     * modify the map itself.
+     *
+     * @param oldValue
+     *     The value that is being replaced. May be null if there was no value.
+     * @param newValue
+     *     The value that replaces the old value. May be null if the old value is being removed.
+     * @return The new value.
+     */
+    private @Nullable AbstractTimedValue<V> replace(
+        @Nullable AbstractTimedValue<V> oldValue,
+        @Nullable AbstractTimedValue<V> newValue)
+    {
+        if (oldValue != null && oldValue != newValue)
+            release(oldValue);
+        if (newValue != null && isBounded())
+            admit(newValue);
+        return newValue;
+    }
+
+    /**
+     * Makes a value resident and adds its weight to the weight of this cache.
+     *
+     * @param value
+     *     The value to make resident.
+     */
+    private void admit(AbstractTimedValue<V> value)
+    {
+        if (value.setResident(true))
+            residentWeight.addAndGet(value.getWeight());
+    }
+
+    /**
+     * Makes a value non-resident and subtracts its weight from the weight of this cache.
+     *
+     * @param value
+     *     The value to make non-resident.
+     * @return True if the value was resident before this call.
+     */
+    private boolean release(AbstractTimedValue<V> value)
+    {
+        if (!value.setResident(false))
+            return false;
+        residentWeight.addAndGet(-value.getWeight());
+        return true;
+    }
+
+    /**
+     * Removes an entry from the cache if it is still mapped to the provided value.
+     *
+     * @param key
+     *     The key of the entry to remove.
+     * @param value
+     *     The value the key should be mapped to.
+     * @return True if the entry was removed.
+     */
+    private boolean removeExact(K key, AbstractTimedValue<V> value)
+    {
+        if (!cache.remove(key, value))
+            return false;
+        release(value);
+        return true;
+    }
+
+    /**
+     * Records that a lookup found an entry in the cache.
+     * <p>
+     * If the entry is not resident in a cache with a maximum weight, it will be made resident again.
+     *
+     * @param key
+     *     The key of the entry.
+     * @param entry
+     *     The entry that was found.
+     */
+    private void onHit(K key, AbstractTimedValue<V> entry)
+    {
+        hitCount.increment();
+        if (!isBounded())
+            return;
+
+        sketch.increment(key);
+        if (entry.isResident())
+            return;
+
+        admitIfPresent(key, entry);
+        evictExcess(key);
+    }
+
+    /**
+     * Makes an entry resident if the key is still mapped to it.
+     * <p>
+     * Entries that are no longer in the cache must not be made resident, as their weight would be counted forever.
+     *
+     * @param key
+     *     The key of the entry.
+     * @param entry
+     *     The entry to make resident.
+     */
+    private void admitIfPresent(K key, AbstractTimedValue<V> entry)
+    {
+        cache.computeIfPresent(key, (k, current) ->
+        {
+            if (current == entry)
+                admit(current);
+            return current;
+        });
+    }
+
+    /**
+     * Records that a value was written to the cache and evicts entries if the cache exceeds its maximum weight.
+     *
+     * @param key
+     *     The key of the value that was written.
+     */
+    private void onWrite(K key)
+    {
+        if (!isBounded())
+            return;
+
+        sketch.increment(key);
+        evictExcess(key);
+    }
+
+    /**
+     * Evicts entries until the total weight of all resident entries no longer exceeds the {@link #maximumWeight}.
+     * <p>
+     * The victim is selected from a sample of resident entries. See {@link #selectVictim(Object)}.
+     * <p>
+     * When a candidate is provided, it has to compete with the first victim: If the candidate was used less frequently
+     * than the victim, the candidate is evicted instead. This prevents entries that are used only once from pushing out
+     * entries that are used often.
+     * <p>
+     * When another thread is already evicting entries, this method returns immediately.
+     *
+     * @param candidateKey
+     *     The key of the entry that was just inserted or made resident. May be null if there is no such entry.
+     */
+    private void evictExcess(@Nullable K candidateKey)
+    {
+        final long maximumWeight0 = maximumWeight;
+        if (maximumWeight0 <= 0 || residentWeight.get() <= maximumWeight0 || !evictionLock.tryLock())
+            return;
+
+        try
+        {
+            boolean candidateCompeted = candidateKey == null;
+            while (residentWeight.get() > maximumWeight0)
+            {
+                final Map.@Nullable Entry<K, AbstractTimedValue<V>> victim = selectVictim(candidateKey);
+
+                if (victim == null || (!candidateCompeted &&
+                    sketch.frequency(candidateKey) < sketch.frequency(victim.getKey())))
+                {
+                    // Either the candidate is the only resident entry left or it lost to the victim.
+                    final @Nullable AbstractTimedValue<V> candidate =
+                        candidateKey == null ? null : cache.get(candidateKey);
+                    if (candidate == null || !evict(candidateKey, candidate))
+                        break;
+                    candidateKey = null;
+                    candidateCompeted = true;
+                    continue;
+                }
+
+                candidateCompeted = true;
+                evict(victim.getKey(), victim.getValue());
+            }
+        }
+        finally
+        {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Selects the least frequently used entry out of a sample of resident entries.
+     * <p>
+     * Each call continues sampling where the previous one left off.
+     *
+     * @param excludedKey
+     *     The key of an entry that should not be selected. May be null.
+     * @return The selected entry, or null if there are no resident entries other than the excluded one.
+     */
+    private Map.@Nullable Entry<K, AbstractTimedValue<V>> selectVictim(@Nullable K excludedKey)
+    {
+        Map.@Nullable Entry<K, AbstractTimedValue<V>> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+
+        final int maxInspected = cache.size();
+        int sampled = 0;
+        for (int inspected = 0; inspected < maxInspected && sampled < EVICTION_SAMPLE_SIZE; ++inspected)
+        {
+            Iterator<Map.Entry<K, AbstractTimedValue<V>>> cursor = evictionCursor;
+            if (cursor == null || !cursor.hasNext())
+                evictionCursor = cursor = cache.entrySet().iterator();
+            if (!cursor.hasNext())
+                break;
+
+            final Map.Entry<K, AbstractTimedValue<V>> entry = cursor.next();
+            if (!entry.getValue().isResident() || entry.getKey().equals(excludedKey))
+                continue;
+
+            ++sampled;
+            final int frequency = sketch.frequency(entry.getKey());
+            if (frequency < victimFrequency)
+            {
+                victim = entry;
+                victimFrequency = frequency;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Evicts an entry to reduce the weight of this cache.
+     * <p>
+     * For caches that use soft references, the entry is made non-resident, so it can be reclaimed by the garbage
+     * collector. For all other caches, the entry is removed.
+     *
+     * @param key
+     *     The key of the entry to evict.
+     * @param value
+     *     The value of the entry to evict.
+     * @return True if the entry was evicted.
+     */
+    private boolean evict(K key, AbstractTimedValue<V> value)
+    {
+        final boolean evicted = softReference ? release(value) : removeExact(key, value);
+        if (evicted)
+            evictionCount.increment();
+        return evicted;
     }
 
     /**
@@ -477,14 +970,60 @@ public sealed class TimedCache<K, V>
     protected void cleanupCache()
     {
         for (final Map.Entry<K, AbstractTimedValue<V>> entry : cache.entrySet())
-            if (entry.getValue().canBeEvicted())
-                cache.remove(entry.getKey());
+            evictIfPossible(entry);
+    }
+
+    /**
+     * Inspects a small number of entries and evicts any of them that have expired.
+     * <p>
+     * This is called on every access, so the cost of evicting expired entries is amortized over all accesses of the
+     * cache while the cost of each individual access remains constant. Each call continues where the previous one left
+     * off, so all entries are inspected eventually.
+     * <p>
+     * When another thread is already performing incremental expiry, this method returns immediately.
+     */
+    private void expireIncrementally()
+    {
+        if (cache.isEmpty() || !sweeping.compareAndSet(false, true))
+            return;
+
+        try
+        {
+            Iterator<Map.Entry<K, AbstractTimedValue<V>>> cursor = sweepCursor;
+            if (cursor == null || !cursor.hasNext())
+                cursor = cache.entrySet().iterator();
+
+            for (int idx = 0; idx < LAZY_EXPIRY_BATCH_SIZE && cursor.hasNext(); ++idx)
+                evictIfPossible(cursor.next());
+
+            sweepCursor = cursor;
+        }
+        finally
+        {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Removes an entry from the cache if it can be evicted.
+     * <p>
+     * The entry is only removed if it is still mapped to the same value, so values that were replaced concurrently are
+     * not affected.
+     *
+     * @param entry
+     *     The entry to evict if possible.
+     */
+    private void evictIfPossible(Map.Entry<K, AbstractTimedValue<V>> entry)
+    {
+        final AbstractTimedValue<V> value = entry.getValue();
+        if (value.canBeEvicted())
+            removeExact(entry.getKey(), value);
     }
 
     /**
      * Creates the cleanup task that will clean up the cache every 'period' milliseconds.
      * <p>
-     * See {@link #cleanupCache()}.
+     * See {@link #cleanupCache()} and {@link TimedCacheScheduler}.
      *
      * @param period
      *     The amount of time (in milliseconds) between each cleanup run. If this value is less than 1, nothing
@@ -495,15 +1034,7 @@ public sealed class TimedCache<K, V>
         if (period < 1)
             return;
 
-        final var verifyTask = new TimerTask()
-        {
-            @Override
-            public void run()
-            {
-                cleanupCache();
-            }
-        };
-        taskTimer.scheduleAtFixedRate(verifyTask, period, period);
+        cleanupTask = TimedCacheScheduler.scheduleCleanup(this, period);
     }
 
     /**
@@ -519,7 +1050,10 @@ public sealed class TimedCache<K, V>
         this.alive = false;
         log.atTrace().withStackTrace(StackSize.FULL).log("Shutting down TimedCache normally!");
         cache.clear();
-        taskTimer.cancel();
+
+        final @Nullable ScheduledFuture<?> cleanupTask0 = cleanupTask;
+        if (cleanupTask0 != null)
+            cleanupTask0.cancel(false);
     }
 
     /**
@@ -534,7 +1068,7 @@ public sealed class TimedCache<K, V>
     {
         EmptyCache()
         {
-            super(DEFAULT_CLOCK, 0, false, false, false);
+            super(DEFAULT_CLOCK, 0, false, false, false, null);
         }
 
         @Override
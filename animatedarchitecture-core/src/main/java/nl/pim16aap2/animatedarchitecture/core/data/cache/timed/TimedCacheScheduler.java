@@ -0,0 +1,112 @@
+package nl.pim16aap2.animatedarchitecture.core.data.cache.timed;
+
+import lombok.CustomLog;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the periodic cleanup of all {@link TimedCache} instances on a single, shared thread.
+ * <p>
+ * This ensures the number of threads used for cache maintenance remains constant regardless of how many caches exist.
+ * <p>
+ * Caches are only weakly referenced by their cleanup task, so a cache that is no longer used can still be garbage
+ * collected even if it was never shut down. The cleanup task of such a cache is cancelled the next time it runs.
+ */
+@CustomLog
+final class TimedCacheScheduler
+{
+    private static final String THREAD_NAME = "AnimatedArchitecture-TimedCache-Cleanup";
+
+    private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private TimedCacheScheduler()
+    {
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor()
+    {
+        final var executor = new ScheduledThreadPoolExecutor(
+            1,
+            Thread.ofPlatform().daemon().name(THREAD_NAME).factory()
+        );
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return executor;
+    }
+
+    /**
+     * Schedules the cleanup of a cache every 'period' milliseconds.
+     * <p>
+     * See {@link TimedCache#cleanupCache()}.
+     *
+     * @param cache
+     *     The cache to clean up.
+     * @param period
+     *     The amount of time (in milliseconds) between each cleanup run. Must be positive.
+     * @return The future representing the scheduled cleanup task. Cancel it to stop the cleanup of the cache.
+     */
+    static ScheduledFuture<?> scheduleCleanup(TimedCache<?, ?> cache, long period)
+    {
+        final CleanupTask task = new CleanupTask(cache);
+        final ScheduledFuture<?> future = EXECUTOR.scheduleAtFixedRate(task, period, period, TimeUnit.MILLISECONDS);
+        task.setFuture(future);
+        return future;
+    }
+
+    /**
+     * Gets the number of cleanup tasks that are currently scheduled.
+     *
+     * @return The number of scheduled cleanup tasks.
+     */
+    static int getScheduledTaskCount()
+    {
+        return EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * Represents a cleanup task for a single cache.
+     */
+    private static final class CleanupTask implements Runnable
+    {
+        private final WeakReference<TimedCache<?, ?>> cacheRef;
+
+        private volatile @Nullable ScheduledFuture<?> future;
+
+        private CleanupTask(TimedCache<?, ?> cache)
+        {
+            this.cacheRef = new WeakReference<>(cache);
+        }
+
+        private void setFuture(ScheduledFuture<?> future)
+        {
+            this.future = future;
+        }
+
+        @Override
+        public void run()
+        {
+            final @Nullable TimedCache<?, ?> cache = cacheRef.get();
+            if (cache == null)
+            {
+                final @Nullable ScheduledFuture<?> future0 = future;
+                if (future0 != null)
+                    future0.cancel(false);
+                return;
+            }
+
+            try
+            {
+                cache.cleanupCache();
+            }
+            catch (Exception e)
+            {
+                // Exceptions must not escape, as that would silently suppress all subsequent runs of this task.
+                log.atError().withCause(e).log("Failed to clean up TimedCache!");
+            }
+        }
+    }
+}
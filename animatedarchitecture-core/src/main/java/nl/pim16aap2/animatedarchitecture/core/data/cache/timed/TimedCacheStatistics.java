@@ -0,0 +1,60 @@
+package nl.pim16aap2.animatedarchitecture.core.data.cache.timed;
+
+/**
+ * Represents a snapshot of the statistics of a {@link TimedCache}.
+ *
+ * @param hitCount
+ *     The number of times a lookup found a value in the cache.
+ * @param missCount
+ *     The number of times a lookup did not find a value in the cache.
+ * @param evictionCount
+ *     The number of entries that were evicted to stay within the maximum weight of the cache.
+ *     <p>
+ *     This does not include entries that were removed because they expired.
+ * @param size
+ *     The number of entries in the cache, including expired entries that have not been removed yet.
+ * @param weight
+ *     The total weight of all entries that are resident in the cache. This is always 0 for caches without a maximum
+ *     weight.
+ * @param maximumWeight
+ *     The maximum weight of the cache. 0 if the cache does not have a maximum weight.
+ */
+public record TimedCacheStatistics(
+    long hitCount,
+    long missCount,
+    long evictionCount,
+    int size,
+    long weight,
+    long maximumWeight
+)
+{
+    /**
+     * Gets the ratio of lookups that found a value in the cache.
+     *
+     * @return The hit rate between 0 and 1. If no lookups have been performed yet, 1 is returned.
+     */
+    public double hitRate()
+    {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0D : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Formats the statistics as a human-readable string.
+     *
+     * @return The formatted statistics.
+     */
+    public String format()
+    {
+        return String.format(
+            "size: %d, weight: %d/%s, hits: %d, misses: %d, hit rate: %.2f%%, evictions: %d",
+            size,
+            weight,
+            maximumWeight > 0 ? Long.toString(maximumWeight) : "unbounded",
+            hitCount,
+            missCount,
+            hitRate() * 100,
+            evictionCount
+        );
+    }
+}
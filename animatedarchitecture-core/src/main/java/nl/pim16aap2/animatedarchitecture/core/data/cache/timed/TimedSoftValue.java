@@ -43,7 +43,8 @@ class TimedSoftValue<T> extends AbstractTimedValue<T>
 
     // The hard reference looks unused because it is never accessed.
     // However, its sole purpose is to keep a reference to the value
-    // to avoid garbage collection reclaiming it before it has timed out.
+    // to avoid garbage collection reclaiming it before it has timed out
+    // or while it is resident in a cache with a maximum weight.
     @SuppressWarnings("unused")
     private @Nullable T hardReference;
 
@@ -64,14 +65,17 @@ class TimedSoftValue<T> extends AbstractTimedValue<T>
      *     When this is false, {@link #canBeEvicted()} will return true as soon as the value has timed out, regardless
      *     of whether it may still be available. Similarly, {@link #getValue(boolean)} will return null after the value
      *     has timed out.
+     * @param weight
+     *     The weight of this entry. See {@link AbstractTimedValue#getWeight()}.
      */
     public TimedSoftValue(
         Clock clock,
         @SuppressWarnings("NullableProblems") T val,
         long timeOut,
-        boolean keepAfterTimeOut)
+        boolean keepAfterTimeOut,
+        int weight)
     {
-        super(clock, timeOut);
+        super(clock, timeOut, weight);
         this.keepAfterTimeOut = keepAfterTimeOut;
         value = new SoftReference<>(val);
         if (keepAfterTimeOut)
@@ -94,10 +98,22 @@ class TimedSoftValue<T> extends AbstractTimedValue<T>
     private void refresh(T val)
     {
         super.refresh();
-        if (keepAfterTimeOut)
+        if (keepAfterTimeOut || isResident())
             hardReference = val;
     }
 
+    /**
+     * Resident values are held by a hard reference until they time out, so the garbage collector cannot reclaim them.
+     * <p>
+     * When a value is no longer resident, the hard reference is removed, even when {@link #keepAfterTimeOut} is
+     * enabled. It will be restored when the value becomes resident again.
+     */
+    @Override
+    protected void onResidencyChanged(boolean resident)
+    {
+        hardReference = resident && !timedOut() ? value.get() : null;
+    }
+
     @Override
     public boolean timedOut()
     {
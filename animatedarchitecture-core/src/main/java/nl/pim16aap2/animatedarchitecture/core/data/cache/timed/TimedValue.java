@@ -50,10 +50,12 @@ class TimedValue<T> extends AbstractTimedValue<T>
      *     The value of this {@link TimedValue}.
      * @param timeOut
      *     The amount of time (in milliseconds) before this entry expires.
+     * @param weight
+     *     The weight of this entry. See {@link AbstractTimedValue#getWeight()}.
      */
-    public TimedValue(Clock clock, T val, long timeOut)
+    public TimedValue(Clock clock, T val, long timeOut, int weight)
     {
-        super(clock, timeOut);
+        super(clock, timeOut, weight);
         value = val;
     }
 
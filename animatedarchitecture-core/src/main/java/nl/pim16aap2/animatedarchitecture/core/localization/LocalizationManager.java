@@ -4,6 +4,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
@@ -13,6 +14,7 @@ import org.jspecify.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -164,6 +166,12 @@ public final class LocalizationManager extends Restartable implements ILocalizat
             () -> "Add resources from classes: " + classes.stream().map(Class::getName).toList());
     }
 
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of(IConfig.class);
+    }
+
     @Override
     public synchronized void initialize()
     {
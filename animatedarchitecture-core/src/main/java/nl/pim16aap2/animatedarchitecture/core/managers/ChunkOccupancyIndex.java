@@ -0,0 +1,123 @@
+package nl.pim16aap2.animatedarchitecture.core.managers;
+
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.structures.IStructureConst;
+import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the chunks that contain the rotation point or the power block of at least one structure.
+ * <p>
+ * This can be used to avoid querying the database for chunks that are known not to contain any structures. Because
+ * most chunks in a world do not contain any structures, this avoids the vast majority of chunk-based queries.
+ * <p>
+ * The index is conservative: Chunks are never removed from it while it is active. A chunk that is marked as occupied
+ * may therefore no longer contain any structures, but a chunk that is known to be empty will never contain any.
+ * <p>
+ * Until the index has been populated from the database, no chunk is considered to be empty.
+ */
+@Singleton
+public final class ChunkOccupancyIndex implements IDebuggable
+{
+    /**
+     * The IDs of all occupied chunks, mapped by the name of their world.
+     * <p>
+     * See {@link LocationUtil#getChunkId(int, int)}.
+     */
+    private final Map<String, LongSet> occupiedChunks = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the index has been populated from the database.
+     */
+    private volatile boolean populated = false;
+
+    @Inject
+    ChunkOccupancyIndex(DebuggableRegistry debuggableRegistry)
+    {
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    /**
+     * Checks if a chunk is known not to contain the rotation point or the power block of any structure.
+     *
+     * @param worldName
+     *     The name of the world the chunk is in.
+     * @param chunkId
+     *     The ID of the chunk. See {@link LocationUtil#getChunkId(int, int)}.
+     * @return True if the chunk is known to be empty. False if the chunk may contain structures or if this index has
+     * not been populated yet.
+     */
+    public boolean isKnownEmpty(String worldName, long chunkId)
+    {
+        if (!populated)
+            return false;
+
+        final @Nullable LongSet chunks = occupiedChunks.get(worldName);
+        return chunks == null || !chunks.contains(chunkId);
+    }
+
+    /**
+     * Marks the chunks that contain the rotation point and the power block of a structure as occupied.
+     * <p>
+     * This should be called whenever a structure is inserted or when either of these positions changes.
+     *
+     * @param structure
+     *     The structure whose chunks to mark as occupied.
+     */
+    public void markOccupied(IStructureConst structure)
+    {
+        final LongSet chunks = getChunks(structure.getWorld().worldName());
+        chunks.add(LocationUtil.getChunkId(structure.getCuboid().getCenterBlock()));
+        chunks.add(LocationUtil.getChunkId(structure.getPowerBlock()));
+    }
+
+    /**
+     * Adds the provided chunks to the index and marks the index as populated.
+     * <p>
+     * Chunks that were marked as occupied before this method was called remain occupied. This ensures that structures
+     * that were added while the data was being retrieved are not lost.
+     *
+     * @param chunks
+     *     The IDs of all occupied chunks, mapped by the name of their world.
+     */
+    void populate(Map<String, ? extends LongCollection> chunks)
+    {
+        chunks.forEach((worldName, chunkIds) -> getChunks(worldName).addAll(chunkIds));
+        populated = true;
+    }
+
+    /**
+     * Clears the index.
+     * <p>
+     * Until the index is populated again, no chunk is considered to be empty.
+     */
+    void reset()
+    {
+        populated = false;
+        occupiedChunks.clear();
+    }
+
+    private LongSet getChunks(String worldName)
+    {
+        return occupiedChunks.computeIfAbsent(worldName, key -> LongSets.synchronize(new LongOpenHashSet()));
+    }
+
+    @Override
+    public String getDebugInformation()
+    {
+        final StringBuilder sb = new StringBuilder("Chunk occupancy index populated: ").append(populated);
+        occupiedChunks.forEach((worldName, chunks) ->
+            sb.append("\n  ").append(worldName).append(": ").append(chunks.size()).append(" occupied chunks"));
+        return sb.toString();
+    }
+}
@@ -14,6 +14,8 @@ import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IAnimatedArchitectureEventFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.events.IAnimatedArchitectureEventCaller;
@@ -30,6 +32,7 @@ import nl.pim16aap2.animatedarchitecture.core.structures.StructureSnapshot;
 import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
 import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
 import nl.pim16aap2.animatedarchitecture.core.util.CompletableFutureExtensions;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
 import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.MathUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.StringUtil;
@@ -39,13 +42,18 @@ import org.jspecify.annotations.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -64,6 +72,22 @@ public final class DatabaseManager extends Restartable implements IDebuggable
      */
     private volatile ExecutorService threadPool;
 
+    /**
+     * The executor that runs queries on the {@link #threadPool} and keeps track of the number of pending queries and
+     * their latency.
+     */
+    private final Executor queryExecutor = this::executeQuery;
+
+    /**
+     * The number of queries that have been submitted but have not completed yet.
+     */
+    private final AtomicInteger pendingQueries = new AtomicInteger();
+
+    /**
+     * The time between the submission and the completion of queries.
+     */
+    private final LatencyHistogram queryLatency;
+
     private final IExecutor executor;
     private final IStorage db;
     private final StructureDeletionManager structureDeletionManager;
@@ -71,6 +95,14 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     private final Lazy<PowerBlockManager> powerBlockManager;
     private final IAnimatedArchitectureEventFactory animatedArchitectureEventFactory;
     private final StructureModifier structureModifier;
+    private final ChunkOccupancyIndex chunkOccupancyIndex;
+
+    /**
+     * The structure loads that are currently in progress, mapped by the UID of the structure being loaded.
+     * <p>
+     * Concurrent requests for the same structure share a single load. See {@link #getStructure(long)}.
+     */
+    private final Map<Long, CompletableFuture<Optional<Structure>>> pendingStructureLoads = new ConcurrentHashMap<>();
 
     /**
      * Constructs a new {@link DatabaseManager}.
@@ -89,7 +121,9 @@ public final class DatabaseManager extends Restartable implements IDebuggable
         Lazy<PowerBlockManager> powerBlockManager,
         IAnimatedArchitectureEventFactory animatedArchitectureEventFactory,
         IAnimatedArchitectureEventCaller animatedArchitectureEventCaller,
-        DebuggableRegistry debuggableRegistry)
+        ChunkOccupancyIndex chunkOccupancyIndex,
+        DebuggableRegistry debuggableRegistry,
+        MetricsRegistry metricsRegistry)
     {
         super(restartableHolder);
         this.executor = executor;
@@ -98,7 +132,10 @@ public final class DatabaseManager extends Restartable implements IDebuggable
         this.animatedArchitectureEventCaller = animatedArchitectureEventCaller;
         this.powerBlockManager = powerBlockManager;
         this.animatedArchitectureEventFactory = animatedArchitectureEventFactory;
+        this.chunkOccupancyIndex = chunkOccupancyIndex;
         this.structureModifier = StructureModifier.get(new FriendKey());
+        this.queryLatency = metricsRegistry.histogram("database.query_latency");
+        metricsRegistry.gauge("database.queue_depth", pendingQueries::get);
         initThreadPool();
         debuggableRegistry.registerDebuggable(this);
     }
@@ -113,10 +150,17 @@ public final class DatabaseManager extends Restartable implements IDebuggable
         return db.getDatabaseState();
     }
 
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of();
+    }
+
     @Override
     public void initialize()
     {
         initThreadPool();
+        populateChunkOccupancyIndex();
     }
 
     @Override
@@ -148,6 +192,59 @@ public final class DatabaseManager extends Restartable implements IDebuggable
         this.threadPool = Executors.newVirtualThreadPerTaskExecutor();
     }
 
+    /**
+     * Executes a query on the {@link #threadPool}.
+     * <p>
+     * The query is counted as pending from the moment it is submitted until it has completed, and the time between
+     * those two moments is recorded in the {@link #queryLatency} histogram.
+     *
+     * @param query
+     *     The query to execute.
+     */
+    private void executeQuery(Runnable query)
+    {
+        final long startNanos = System.nanoTime();
+        pendingQueries.incrementAndGet();
+        try
+        {
+            threadPool.execute(() ->
+            {
+                try
+                {
+                    query.run();
+                }
+                finally
+                {
+                    pendingQueries.decrementAndGet();
+                    queryLatency.recordSince(startNanos);
+                }
+            });
+        }
+        catch (RuntimeException exception)
+        {
+            pendingQueries.decrementAndGet();
+            throw exception;
+        }
+    }
+
+    /**
+     * Populates the {@link ChunkOccupancyIndex} with the chunks that contain the rotation point or the power block of
+     * any structure.
+     * <p>
+     * If the chunks cannot be retrieved, the index is left unpopulated, so no chunk is considered to be empty.
+     */
+    private void populateChunkOccupancyIndex()
+    {
+        chunkOccupancyIndex.reset();
+        CompletableFuture
+            .supplyAsync(db::getOccupiedChunks, queryExecutor)
+            .thenAccept(result -> result.ifPresentOrElse(
+                chunkOccupancyIndex::populate,
+                () -> log.atWarn().log("Failed to retrieve occupied chunks; chunk lookups will not be skipped!")))
+            .withExceptionContext("Populating the chunk occupancy index")
+            .handleExceptional(ex -> log.atError().withCause(ex).log("Failed to populate chunk occupancy index."));
+    }
+
     /**
      * Inserts a {@link Structure} into the database and assumes that the structure was NOT created by an
      * {@link IPlayer}. See {@link #addStructure(Structure, IPlayer)}.
@@ -185,6 +282,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
                 result.ifPresentOrElse(
                     newStructure ->
                     {
+                        chunkOccupancyIndex.markOccupied(newStructure);
                         powerBlockManager.get().invalidateChunkAt(
                             newStructure.getWorld().worldName(),
                             new Vector3Di(
@@ -198,7 +296,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
                 );
 
                 return new StructureInsertResult(result, false);
-            }, threadPool)
+            }, queryExecutor)
             .withExceptionContext(
                 "Adding structure %s with responsible %s",
                 structure.getBasicInfo(),
@@ -306,7 +404,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     {
         final long chunkId = LocationUtil.getChunkId(chunkX, chunkZ);
         return CompletableFuture
-            .supplyAsync(() -> db.getStructuresInChunk(chunkId), threadPool)
+            .supplyAsync(() -> db.getStructuresInChunk(chunkId), queryExecutor)
             .withExceptionContext("Retrieving structures in chunk %d", chunkId);
     }
 
@@ -320,7 +418,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<List<Structure>> getStructuresOfType(String typeName)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructuresOfType(typeName), threadPool)
+            .supplyAsync(() -> db.getStructuresOfType(typeName), queryExecutor)
             .withExceptionContext("Retrieving structures of type '%s'", typeName);
     }
 
@@ -336,7 +434,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<List<Structure>> getStructuresOfType(String typeName, int version)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructuresOfType(typeName, version), threadPool)
+            .supplyAsync(() -> db.getStructuresOfType(typeName, version), queryExecutor)
             .withExceptionContext("Retrieving structures of type '%s' with version %d", typeName, version);
     }
 
@@ -358,7 +456,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
             return CompletableFuture
                 .supplyAsync(() -> db.getStructure(playerUUID, structureUID.getAsLong())
                     .map(Collections::singletonList)
-                    .orElse(Collections.emptyList()), threadPool)
+                    .orElse(Collections.emptyList()), queryExecutor)
                 .withExceptionContext(
                     "Retrieving structure with UID %s for player with UUID %s",
                     structureUID.getAsLong(),
@@ -366,7 +464,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
                 );
 
         return CompletableFuture
-            .supplyAsync(() -> db.getStructures(playerUUID, structureID), threadPool)
+            .supplyAsync(() -> db.getStructures(playerUUID, structureID), queryExecutor)
             .withExceptionContext(
                 "Retrieving structures with name '%s' for player with UUID %s",
                 structureID,
@@ -392,7 +490,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<List<Structure>> getStructures(UUID playerUUID)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructures(playerUUID), threadPool)
+            .supplyAsync(() -> db.getStructures(playerUUID), queryExecutor)
             .withExceptionContext("Retrieving structures for player with UUID %s", playerUUID);
     }
 
@@ -421,7 +519,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
         PermissionLevel maxPermission)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructures(player.getUUID(), name, maxPermission), threadPool)
+            .supplyAsync(() -> db.getStructures(player.getUUID(), name, maxPermission), queryExecutor)
             .withExceptionContext(
                 "Retrieving structures with name '%s' for player %s with max permission %s",
                 name,
@@ -440,7 +538,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<List<Structure>> getStructures(String name)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructures(name), threadPool)
+            .supplyAsync(() -> db.getStructures(name), queryExecutor)
             .withExceptionContext("Retrieving structures with name '%s'", name);
     }
 
@@ -454,7 +552,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<Boolean> updatePlayer(IPlayer player)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.updatePlayerData(player.getPlayerData()), threadPool)
+            .supplyAsync(() -> db.updatePlayerData(player.getPlayerData()), queryExecutor)
             .withExceptionContext("Updating player data for player %s", player);
     }
 
@@ -468,7 +566,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<Optional<PlayerData>> getPlayerData(UUID uuid)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getPlayerData(uuid), threadPool)
+            .supplyAsync(() -> db.getPlayerData(uuid), queryExecutor)
             .withExceptionContext("Retrieving player data for UUID %s", uuid);
     }
 
@@ -485,12 +583,15 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<List<PlayerData>> getPlayerData(String playerName)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getPlayerData(playerName), threadPool)
+            .supplyAsync(() -> db.getPlayerData(playerName), queryExecutor)
             .withExceptionContext("Retrieving player data for name '%s'", playerName);
     }
 
     /**
      * Gets the {@link Structure} with a specific UID.
+     * <p>
+     * When the same structure is requested again while it is still being loaded, the pending load is shared instead of
+     * querying the database again.
      *
      * @param structureUID
      *     The UID of the {@link Structure}.
@@ -498,11 +599,52 @@ public final class DatabaseManager extends Restartable implements IDebuggable
      */
     public CompletableFuture<Optional<Structure>> getStructure(long structureUID)
     {
-        return CompletableFuture
-            .supplyAsync(() -> db.getStructure(structureUID), threadPool)
+        final CompletableFuture<Optional<Structure>> newLoad = new CompletableFuture<>();
+        final @Nullable CompletableFuture<Optional<Structure>> pendingLoad =
+            pendingStructureLoads.putIfAbsent(structureUID, newLoad);
+
+        if (pendingLoad == null)
+            loadStructure(structureUID, newLoad);
+
+        // Each caller gets its own copy, so completing or cancelling it does not affect the other callers.
+        return Objects.requireNonNullElse(pendingLoad, newLoad)
+            .copy()
             .withExceptionContext("Retrieving structure with UID %d", structureUID);
     }
 
+    /**
+     * Loads a structure from the database and completes the pending load with the result.
+     * <p>
+     * The pending load is removed from {@link #pendingStructureLoads} before it is completed, so any requests made after
+     * the load has completed will query the database again.
+     *
+     * @param structureUID
+     *     The UID of the structure to load.
+     * @param load
+     *     The pending load to complete.
+     */
+    private void loadStructure(long structureUID, CompletableFuture<Optional<Structure>> load)
+    {
+        try
+        {
+            CompletableFuture
+                .supplyAsync(() -> db.getStructure(structureUID), queryExecutor)
+                .whenComplete((result, throwable) ->
+                {
+                    pendingStructureLoads.remove(structureUID, load);
+                    if (throwable == null)
+                        load.complete(result);
+                    else
+                        load.completeExceptionally(throwable);
+                });
+        }
+        catch (Exception exception)
+        {
+            pendingStructureLoads.remove(structureUID, load);
+            load.completeExceptionally(exception);
+        }
+    }
+
     /**
      * Gets the {@link Structure} with the given UID owned by the player. If the given player does not own the provided
      * structure, no structure will be returned.
@@ -536,7 +678,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<Optional<Structure>> getStructure(UUID uuid, long structureUID)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructure(uuid, structureUID), threadPool)
+            .supplyAsync(() -> db.getStructure(uuid, structureUID), queryExecutor)
             .withExceptionContext(
                 "Retrieving structure with UID %d for player with UUID %s",
                 structureUID,
@@ -554,7 +696,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<Integer> countStructuresOwnedByPlayer(UUID playerUUID)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructureCountForPlayer(playerUUID), threadPool)
+            .supplyAsync(() -> db.getStructureCountForPlayer(playerUUID), queryExecutor)
             .withExceptionContext(
                 "Retrieving structure count for player with UUID %s",
                 playerUUID
@@ -573,7 +715,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<Integer> countStructuresOwnedByPlayer(UUID playerUUID, String structureName)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructureCountForPlayer(playerUUID, structureName), threadPool)
+            .supplyAsync(() -> db.getStructureCountForPlayer(playerUUID, structureName), queryExecutor)
             .withExceptionContext(
                 "Retrieving structure for player with UUID %s and structure name '%s'",
                 playerUUID,
@@ -591,7 +733,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     public CompletableFuture<Integer> countStructuresByName(String structureName)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getStructureCountByName(structureName), threadPool)
+            .supplyAsync(() -> db.getStructureCountByName(structureName), queryExecutor)
             .withExceptionContext(
                 "Retrieving structure count for structure name '%s'",
                 structureName
@@ -661,7 +803,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
                 }
 
                 return ActionResult.SUCCESS;
-            }, threadPool)
+            }, queryExecutor)
             .withExceptionContext(
                 "Adding owner %s to structure %s with permission %s with responsible %s",
                 player,
@@ -802,7 +944,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
                 }
 
                 return ActionResult.SUCCESS;
-            }, threadPool)
+            }, queryExecutor)
             .withExceptionContext(
                 "Removing owner %s (%s) from structure %s with responsible %s",
                 playerUUID,
@@ -821,8 +963,10 @@ public final class DatabaseManager extends Restartable implements IDebuggable
      */
     public CompletableFuture<DatabaseManager.ActionResult> syncStructureData(StructureSnapshot snapshot)
     {
+        // Mark the chunks before the data is written, so lookups never skip the new positions.
+        chunkOccupancyIndex.markOccupied(snapshot);
         return CompletableFuture
-            .supplyAsync(() -> db.syncStructureData(snapshot) ? ActionResult.SUCCESS : ActionResult.FAIL, threadPool)
+            .supplyAsync(() -> db.syncStructureData(snapshot) ? ActionResult.SUCCESS : ActionResult.FAIL, queryExecutor)
             .withExceptionContext("Syncing structure data for structure %s", snapshot);
     }
 
@@ -849,7 +993,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     )
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getPartialIdentifiers(input, player, maxPermission, properties), threadPool)
+            .supplyAsync(() -> db.getPartialIdentifiers(input, player, maxPermission, properties), queryExecutor)
             .withExceptionContext(
                 "Retrieving identifiers from partial input '%s' for player %s and max permission %s and properties: %s",
                 input,
@@ -869,7 +1013,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     CompletableFuture<Boolean> isAnimatedArchitectureWorld(String worldName)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.isAnimatedArchitectureWorld(worldName), threadPool)
+            .supplyAsync(() -> db.isAnimatedArchitectureWorld(worldName), queryExecutor)
             .withExceptionContext("Checking if world %s is an AnimatedArchitecture world", worldName);
     }
 
@@ -886,7 +1030,7 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     CompletableFuture<Int2ObjectMap<LongList>> getPowerBlockData(long chunkId)
     {
         return CompletableFuture
-            .supplyAsync(() -> db.getPowerBlockData(chunkId), threadPool)
+            .supplyAsync(() -> db.getPowerBlockData(chunkId), queryExecutor)
             .withExceptionContext(
                 "Retrieving power block data for chunk %d",
                 chunkId
@@ -896,7 +1040,10 @@ public final class DatabaseManager extends Restartable implements IDebuggable
     @Override
     public String getDebugInformation()
     {
-        return "Database " + StringUtil.toString(threadPool);
+        return "Database " + StringUtil.toString(threadPool) +
+            "\nPending structure loads: " + pendingStructureLoads.size() +
+            "\nPending queries: " + pendingQueries.get() +
+            "\nQuery latency: " + queryLatency.format();
     }
 
     /**
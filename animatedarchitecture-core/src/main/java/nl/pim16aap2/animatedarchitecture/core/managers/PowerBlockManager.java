@@ -1,6 +1,7 @@
 package nl.pim16aap2.animatedarchitecture.core.managers;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.LongImmutableList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongLists;
@@ -12,10 +13,15 @@ import lombok.experimental.ExtensionMethod;
 import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.ILocation;
 import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
 import nl.pim16aap2.animatedarchitecture.core.data.cache.timed.TimedCache;
+import nl.pim16aap2.animatedarchitecture.core.data.cache.timed.TimedCacheStatistics;
 import nl.pim16aap2.animatedarchitecture.core.structures.IStructureConst;
 import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
 import nl.pim16aap2.animatedarchitecture.core.util.CompletableFutureExtensions;
@@ -23,8 +29,10 @@ import nl.pim16aap2.animatedarchitecture.core.util.FutureUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector2Di;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.jspecify.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +40,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
 
 /**
  * Manages all power block interactions.
@@ -39,12 +48,15 @@ import java.util.concurrent.ConcurrentHashMap;
 @Singleton
 @CustomLog
 @ExtensionMethod(CompletableFutureExtensions.class)
-public final class PowerBlockManager extends Restartable implements StructureDeletionManager.IDeletionListener
+public final class PowerBlockManager
+    extends Restartable
+    implements StructureDeletionManager.IDeletionListener, IDebuggable
 {
     private final Map<String, PowerBlockWorld> powerBlockWorlds = new ConcurrentHashMap<>();
     private final IExecutor executor;
     private final IConfig config;
     private final DatabaseManager databaseManager;
+    private final ChunkOccupancyIndex chunkOccupancyIndex;
 
     @Inject
     PowerBlockManager(
@@ -52,15 +64,44 @@ public final class PowerBlockManager extends Restartable implements StructureDel
         IExecutor executor,
         IConfig config,
         DatabaseManager databaseManager,
-        StructureDeletionManager structureDeletionManager)
+        ChunkOccupancyIndex chunkOccupancyIndex,
+        StructureDeletionManager structureDeletionManager,
+        DebuggableRegistry debuggableRegistry,
+        MetricsRegistry metricsRegistry)
     {
         super(restartableHolder);
         this.executor = executor;
 
         this.config = config;
         this.databaseManager = databaseManager;
+        this.chunkOccupancyIndex = chunkOccupancyIndex;
 
         structureDeletionManager.registerDeletionListener(this);
+        debuggableRegistry.registerDebuggable(this);
+        registerMetrics(metricsRegistry);
+    }
+
+    private void registerMetrics(MetricsRegistry metricsRegistry)
+    {
+        metricsRegistry.gauge("power_blocks.chunk_cache.size", () -> sumCacheStatistics(TimedCacheStatistics::size));
+        metricsRegistry.gauge(
+            "power_blocks.chunk_cache.hits", () -> sumCacheStatistics(TimedCacheStatistics::hitCount));
+        metricsRegistry.gauge(
+            "power_blocks.chunk_cache.misses", () -> sumCacheStatistics(TimedCacheStatistics::missCount));
+    }
+
+    /**
+     * Sums a statistic of the power block chunk caches of all worlds.
+     *
+     * @param statistic
+     *     The statistic to sum.
+     * @return The sum of the statistic over all worlds.
+     */
+    private long sumCacheStatistics(ToLongFunction<TimedCacheStatistics> statistic)
+    {
+        return powerBlockWorlds.values().stream()
+            .mapToLong(world -> statistic.applyAsLong(world.powerBlockChunks.getStatistics()))
+            .sum();
     }
 
     /**
@@ -71,7 +112,9 @@ public final class PowerBlockManager extends Restartable implements StructureDel
      */
     public void unloadWorld(String worldName)
     {
-        powerBlockWorlds.remove(worldName);
+        final @Nullable PowerBlockWorld powerBlockWorld = powerBlockWorlds.remove(worldName);
+        if (powerBlockWorld != null)
+            powerBlockWorld.shutDown();
     }
 
     /**
@@ -82,7 +125,9 @@ public final class PowerBlockManager extends Restartable implements StructureDel
      */
     public void loadWorld(String worldName)
     {
-        powerBlockWorlds.put(worldName, new PowerBlockWorld(worldName));
+        final @Nullable PowerBlockWorld previous = powerBlockWorlds.put(worldName, new PowerBlockWorld(worldName));
+        if (previous != null)
+            previous.shutDown();
     }
 
     /**
@@ -223,12 +268,40 @@ public final class PowerBlockManager extends Restartable implements StructureDel
         powerBlockWorld.checkAnimatedArchitectureWorldStatus();
     }
 
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of(IConfig.class);
+    }
+
+    @Override
+    public void initialize()
+    {
+        final int maxChunks = config.powerblockCacheMaxChunks();
+        powerBlockWorlds.values().forEach(world -> world.setMaxChunks(maxChunks));
+    }
+
     @Override
     public void shutDown()
     {
         powerBlockWorlds.values().forEach(PowerBlockWorld::clear);
     }
 
+    @Override
+    public String getDebugInformation()
+    {
+        final StringBuilder sb = new StringBuilder("Power block caches:");
+        if (powerBlockWorlds.isEmpty())
+            return sb.append(" None").toString();
+
+        powerBlockWorlds.values().forEach(world ->
+            sb.append("\n  ")
+                .append(world.worldName)
+                .append(": ")
+                .append(world.powerBlockChunks.getStatistics().format()));
+        return sb.toString();
+    }
+
     @Override
     public void onStructureDeletion(IStructureConst structure)
     {
@@ -256,6 +329,7 @@ public final class PowerBlockManager extends Restartable implements StructureDel
                 .cleanup(Duration.ofMinutes(Math.max(1, config.powerblockCacheTimeout())))
                 .softReference(true)
                 .refresh(true)
+                .maximumWeight(Math.max(0, config.powerblockCacheMaxChunks()))
                 .build();
 
         private PowerBlockWorld(String worldName)
@@ -287,6 +361,9 @@ public final class PowerBlockManager extends Restartable implements StructureDel
 
         private CompletableFuture<PowerBlockManager.PowerBlockChunk> findPowerBlockChunk(long chunkId)
         {
+            if (chunkOccupancyIndex.isKnownEmpty(worldName, chunkId))
+                return CompletableFuture.completedFuture(new PowerBlockChunk(Int2ObjectMaps.emptyMap()));
+
             return databaseManager
                 .getPowerBlockData(chunkId)
                 .thenApply(PowerBlockChunk::new)
@@ -359,6 +436,27 @@ public final class PowerBlockManager extends Restartable implements StructureDel
         {
             powerBlockChunks.clear();
         }
+
+        /**
+         * Updates the maximum number of chunks that are kept in the cache of this world.
+         *
+         * @param maxChunks
+         *     The maximum number of chunks. 0 means there is no limit.
+         */
+        void setMaxChunks(int maxChunks)
+        {
+            powerBlockChunks.setMaximumWeight(Math.max(0, maxChunks));
+        }
+
+        /**
+         * Shuts down the cache of this world.
+         * <p>
+         * This should be called when the world is no longer used, so the cache will no longer be cleaned up.
+         */
+        void shutDown()
+        {
+            powerBlockChunks.shutDown();
+        }
     }
 
     /**
@@ -0,0 +1,313 @@
+package nl.pim16aap2.animatedarchitecture.core.managers;
+
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.ILocation;
+import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.factories.IPlayerFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.Restartable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spreads redstone verifications of structures over multiple ticks.
+ * <p>
+ * Verifying the redstone state of a structure involves a chunk check and a power query. When many structures need to
+ * be verified at once (e.g. after a restart), running all verifications at the same time causes a noticeable spike.
+ * Instead, this queue verifies at most {@link IConfig#redstoneVerificationsPerTick()} structures every tick.
+ * <p>
+ * Structures closest to an online player are verified first, as those are the structures players are most likely to
+ * notice. Structures in worlds without any players are verified last.
+ * <p>
+ * Each structure is queued at most once. Queueing a structure that is already queued only updates the time at which it
+ * may be verified.
+ */
+@Singleton
+@CustomLog
+public final class RedstoneVerificationQueue extends Restartable implements IDebuggable
+{
+    /**
+     * The amount of time (in milliseconds) between two runs of the queue.
+     */
+    private static final long TICK_PERIOD = 50L;
+
+    private final IExecutor executor;
+    private final IPlayerFactory playerFactory;
+    private final IConfig config;
+
+    /**
+     * The structures waiting to be verified, mapped by their UID.
+     */
+    @GuardedBy("this")
+    private final Map<Long, PendingVerification> pending = new LinkedHashMap<>();
+
+    /**
+     * The task that processes the queue. This is null when the queue is empty.
+     */
+    @GuardedBy("this")
+    private @Nullable TimerTask processTask;
+
+    @GuardedBy("this")
+    private int processTaskId;
+
+    @GuardedBy("this")
+    private int peakSize;
+
+    private final LongAdder verifiedCount = new LongAdder();
+
+    @Inject
+    RedstoneVerificationQueue(
+        RestartableHolder holder,
+        IExecutor executor,
+        IPlayerFactory playerFactory,
+        IConfig config,
+        DebuggableRegistry debuggableRegistry)
+    {
+        super(holder);
+        this.executor = executor;
+        this.playerFactory = playerFactory;
+        this.config = config;
+
+        debuggableRegistry.registerDebuggable(this);
+    }
+
+    /**
+     * Queues a structure for redstone verification.
+     * <p>
+     * See {@link Structure#verifyRedstoneState()}.
+     *
+     * @param structure
+     *     The structure to verify.
+     * @param delay
+     *     The minimum amount of time (in milliseconds) to wait before verifying the structure.
+     */
+    public void enqueue(Structure structure, long delay)
+    {
+        enqueueAll(List.of(structure), delay);
+    }
+
+    /**
+     * Queues structures for redstone verification.
+     * <p>
+     * See {@link Structure#verifyRedstoneState()}.
+     *
+     * @param structures
+     *     The structures to verify.
+     * @param delay
+     *     The minimum amount of time (in milliseconds) to wait before verifying the structures.
+     */
+    public synchronized void enqueueAll(Collection<Structure> structures, long delay)
+    {
+        final long notBefore = System.currentTimeMillis() + delay;
+        for (final Structure structure : structures)
+        {
+            final long uid = structure.getUid();
+            if (uid < 1)
+                continue;
+
+            pending.merge(
+                uid,
+                new PendingVerification(uid, structure, notBefore),
+                (existing, added) -> existing.notBefore() >= added.notBefore() ? existing : added
+            );
+        }
+
+        peakSize = Math.max(peakSize, pending.size());
+        if (!pending.isEmpty())
+            ensureProcessTaskScheduled();
+    }
+
+    @GuardedBy("this")
+    private void ensureProcessTaskScheduled()
+    {
+        if (processTask != null)
+            return;
+
+        final TimerTask task = new TimerTask()
+        {
+            @Override
+            public void run()
+            {
+                processTick();
+            }
+        };
+        processTask = task;
+        processTaskId = executor.runSyncRepeated(task, TICK_PERIOD, TICK_PERIOD);
+    }
+
+    @GuardedBy("this")
+    private void cancelProcessTask()
+    {
+        final @Nullable TimerTask task = processTask;
+        if (task == null)
+            return;
+
+        executor.cancel(task, processTaskId);
+        processTask = null;
+    }
+
+    /**
+     * Verifies the structures that are due, up to {@link IConfig#redstoneVerificationsPerTick()}.
+     * <p>
+     * This is run on the main thread, so the locations of the players can be retrieved safely. The verifications
+     * themselves are run asynchronously.
+     */
+    void processTick()
+    {
+        final long now = System.currentTimeMillis();
+        final List<PendingVerification> due = new ArrayList<>();
+        synchronized (this)
+        {
+            if (pending.isEmpty())
+            {
+                cancelProcessTask();
+                return;
+            }
+
+            for (final PendingVerification entry : pending.values())
+                if (entry.notBefore() <= now)
+                    due.add(entry);
+        }
+
+        if (due.isEmpty())
+            return;
+
+        final List<PendingVerification> batch = selectClosest(due, getVerificationsPerTick());
+        synchronized (this)
+        {
+            batch.forEach(entry -> pending.remove(entry.uid(), entry));
+        }
+
+        executor.runAsync(() -> batch.forEach(this::verify));
+    }
+
+    /**
+     * Selects the structures closest to an online player.
+     *
+     * @param due
+     *     The structures that are due to be verified.
+     * @param limit
+     *     The maximum number of structures to select.
+     * @return At most {@code limit} structures, ordered by their distance to the nearest player.
+     */
+    private List<PendingVerification> selectClosest(List<PendingVerification> due, int limit)
+    {
+        if (due.size() <= limit)
+            return due;
+
+        final Map<String, List<ILocation>> playerLocations = getPlayerLocations();
+        final Map<PendingVerification, Double> distances = HashMap.newHashMap(due.size());
+        for (final PendingVerification entry : due)
+            distances.put(entry, getDistanceToNearestPlayer(entry.structure(), playerLocations));
+
+        return due.stream()
+            .sorted(Comparator.comparingDouble(distances::get))
+            .limit(limit)
+            .toList();
+    }
+
+    private int getVerificationsPerTick()
+    {
+        return Math.max(1, config.redstoneVerificationsPerTick());
+    }
+
+    private Map<String, List<ILocation>> getPlayerLocations()
+    {
+        final Map<String, List<ILocation>> ret = new HashMap<>();
+        for (final IPlayer player : playerFactory.getOnlinePlayers())
+        {
+            final Optional<ILocation> location = player.getLocation();
+            location.ifPresent(loc ->
+                ret.computeIfAbsent(loc.getWorld().worldName(), key -> new ArrayList<>()).add(loc));
+        }
+        return ret;
+    }
+
+    private static double getDistanceToNearestPlayer(
+        Structure structure,
+        Map<String, List<ILocation>> playerLocations)
+    {
+        final List<ILocation> locations = playerLocations.get(structure.getWorld().worldName());
+        if (locations == null)
+            return Double.MAX_VALUE;
+
+        double minDistance = Double.MAX_VALUE;
+        for (final ILocation location : locations)
+            minDistance = Math.min(minDistance, structure.getPowerBlock().getDistance(location));
+        return minDistance;
+    }
+
+    private void verify(PendingVerification entry)
+    {
+        try
+        {
+            entry.structure().verifyRedstoneState();
+            verifiedCount.increment();
+        }
+        catch (Exception e)
+        {
+            log.atError().withCause(e).log("Failed to verify redstone state of structure %d", entry.uid());
+        }
+    }
+
+    /**
+     * Gets the number of structures that are waiting to be verified.
+     *
+     * @return The number of structures in the queue.
+     */
+    public synchronized int size()
+    {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized void shutDown()
+    {
+        pending.clear();
+        cancelProcessTask();
+    }
+
+    @Override
+    public synchronized String getDebugInformation()
+    {
+        return String.format(
+            "Redstone verification queue: %d pending (peak: %d), %d verified, %d per tick",
+            pending.size(),
+            peakSize,
+            verifiedCount.sum(),
+            getVerificationsPerTick()
+        );
+    }
+
+    /**
+     * Represents a structure waiting to be verified.
+     *
+     * @param uid
+     *     The UID of the structure.
+     * @param structure
+     *     The structure.
+     * @param notBefore
+     *     The earliest time (in epoch milliseconds) at which the structure may be verified.
+     */
+    private record PendingVerification(long uid, Structure structure, long notBefore)
+    {
+    }
+}
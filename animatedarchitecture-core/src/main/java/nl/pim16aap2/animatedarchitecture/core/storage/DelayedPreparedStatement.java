@@ -55,6 +55,16 @@ public class DelayedPreparedStatement
         this.indices = sqlStatement.getVariableIndices();
     }
 
+    /**
+     * Gets the {@link SQLStatement} this statement was created from.
+     *
+     * @return The {@link SQLStatement} this statement was created from.
+     */
+    public SQLStatement getSqlStatement()
+    {
+        return sqlStatement;
+    }
+
     @Override
     public String toString()
     {
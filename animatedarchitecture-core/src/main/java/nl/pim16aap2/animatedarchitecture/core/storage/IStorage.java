@@ -2,6 +2,7 @@ package nl.pim16aap2.animatedarchitecture.core.storage;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
 import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
 import nl.pim16aap2.animatedarchitecture.core.managers.DatabaseManager;
@@ -16,6 +17,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Pattern;
@@ -251,6 +253,14 @@ public interface IStorage
      */
     List<Structure> getStructuresInChunk(long chunkId);
 
+    /**
+     * Gets the IDs of all chunks that contain the rotation point or the power block of at least one structure.
+     *
+     * @return The IDs of all occupied chunks, mapped by the name of their world. If the chunks could not be retrieved,
+     * an empty {@link Optional} is returned instead.
+     */
+    Optional<Map<String, LongSet>> getOccupiedChunks();
+
     /**
      * Inserts a new structure in the database. If the insertion was successful, a new {@link Structure} will be created
      * with the correct structureUID.
@@ -181,6 +181,13 @@ public enum SQLStatement
         """
     ),
 
+    /**
+     * Obtains the chunks that contain the center point or the power block of any structure.
+     */
+    GET_OCCUPIED_CHUNKS(
+        "SELECT world, centerPointChunkId, powerBlockChunkId FROM Structure;"
+    ),
+
     /**
      * Obtains the structures whose center point's chunk hash value has a certain value.
      */
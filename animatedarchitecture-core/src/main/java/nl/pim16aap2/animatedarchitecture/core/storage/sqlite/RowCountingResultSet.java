@@ -0,0 +1,83 @@
+package nl.pim16aap2.animatedarchitecture.core.storage.sqlite;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+/**
+ * Counts the rows that are read from a {@link ResultSet}.
+ * <p>
+ * The row number of the cursor cannot be used for this: Not all drivers support it, and it is reset to 0 once the
+ * cursor has moved past the last row. Instead, every call to {@link ResultSet#next()} that moves the cursor to a row is
+ * counted.
+ * <p>
+ * Every call to the result set goes through reflection, so this should only be used when the number of rows is
+ * actually needed.
+ */
+final class RowCountingResultSet implements InvocationHandler
+{
+    private final ResultSet delegate;
+
+    private final ResultSet proxy;
+
+    private int rows = 0;
+
+    /**
+     * Creates a new {@link RowCountingResultSet}.
+     *
+     * @param delegate
+     *     The result set to count the rows of.
+     */
+    RowCountingResultSet(ResultSet delegate)
+    {
+        this.delegate = delegate;
+        this.proxy = (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class},
+            this
+        );
+    }
+
+    /**
+     * Gets the result set that counts the rows that are read from it.
+     * <p>
+     * Closing this result set closes the delegate.
+     *
+     * @return The result set that counts the rows that are read from it.
+     */
+    ResultSet getResultSet()
+    {
+        return proxy;
+    }
+
+    /**
+     * Gets the number of rows that have been read from the result set so far.
+     *
+     * @return The number of rows that have been read from the result set so far.
+     */
+    int getRows()
+    {
+        return rows;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+        throws Throwable
+    {
+        final Object result;
+        try
+        {
+            result = method.invoke(delegate, args);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw e.getCause();
+        }
+
+        if (Boolean.TRUE.equals(result) && "next".equals(method.getName()))
+            ++rows;
+        return result;
+    }
+}
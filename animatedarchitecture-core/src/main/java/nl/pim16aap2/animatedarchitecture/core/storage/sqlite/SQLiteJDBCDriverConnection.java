@@ -6,6 +6,8 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.CustomLog;
@@ -18,6 +20,7 @@ import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IWorldFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.StorageCallEvent;
 import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
 import nl.pim16aap2.animatedarchitecture.core.managers.DatabaseManager;
 import nl.pim16aap2.animatedarchitecture.core.managers.StructureTypeManager;
@@ -1000,6 +1003,28 @@ public final class SQLiteJDBCDriverConnection implements IStorage, IDebuggable
         );
     }
 
+    @Override
+    @Locked.Read("lock")
+    public Optional<Map<String, LongSet>> getOccupiedChunks()
+    {
+        return executeQuery(
+            SQLStatement.GET_OCCUPIED_CHUNKS.constructDelayedPreparedStatement(),
+            resultSet ->
+            {
+                final Map<String, LongSet> chunks = new HashMap<>();
+                while (resultSet.next())
+                {
+                    final LongSet worldChunks =
+                        chunks.computeIfAbsent(resultSet.getString("world"), key -> new LongOpenHashSet());
+                    worldChunks.add(resultSet.getLong("centerPointChunkId"));
+                    worldChunks.add(resultSet.getLong("powerBlockChunkId"));
+                }
+                return Optional.of(chunks);
+            },
+            Optional.empty()
+        );
+    }
+
     @Override
     @Locked.Write("lock")
     public boolean removeOwner(long structureUID, UUID playerUUID)
@@ -1142,15 +1167,19 @@ public final class SQLiteJDBCDriverConnection implements IStorage, IDebuggable
     private int executeUpdate(Connection conn, DelayedPreparedStatement delayedPreparedStatement)
     {
         logStatement(delayedPreparedStatement);
+        final StorageCallEvent event = new StorageCallEvent(delayedPreparedStatement.getSqlStatement().name());
+        event.begin();
+        int result = -1;
         try (PreparedStatement ps = delayedPreparedStatement.construct(conn))
         {
-            return ps.executeUpdate();
+            result = ps.executeUpdate();
         }
         catch (Exception e)
         {
             log.atError().withCause(e).log("Failed to execute update: %s", delayedPreparedStatement);
         }
-        return -1;
+        event.commit(result);
+        return result;
     }
 
     /**
@@ -1256,16 +1285,30 @@ public final class SQLiteJDBCDriverConnection implements IStorage, IDebuggable
         @Nullable T fallback)
     {
         logStatement(delayedPreparedStatement);
+        final StorageCallEvent event = new StorageCallEvent(delayedPreparedStatement.getSqlStatement().name());
+        event.begin();
+        int rows = -1;
         try (
             PreparedStatement ps = delayedPreparedStatement.construct(conn);
             ResultSet rs = ps.executeQuery())
         {
-            return fun.apply(rs);
+            // Counting the rows is only worth the overhead when the event will actually be recorded.
+            if (!event.isEnabled())
+                return fun.apply(rs);
+
+            final RowCountingResultSet countingResultSet = new RowCountingResultSet(rs);
+            final T result = fun.apply(countingResultSet.getResultSet());
+            rows = countingResultSet.getRows();
+            return result;
         }
         catch (Exception e)
         {
             log.atError().withCause(e).log("Failed to execute query: %s", delayedPreparedStatement);
         }
+        finally
+        {
+            event.commit(rows);
+        }
         return fallback;
     }
 
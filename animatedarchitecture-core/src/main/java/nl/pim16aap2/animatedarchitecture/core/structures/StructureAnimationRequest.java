@@ -10,6 +10,8 @@ import lombok.experimental.ExtensionMethod;
 import nl.pim16aap2.animatedarchitecture.core.animation.AnimationRequestData;
 import nl.pim16aap2.animatedarchitecture.core.animation.AnimationType;
 import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleLatencyTracker;
+import nl.pim16aap2.animatedarchitecture.core.animation.TogglePhase;
 import nl.pim16aap2.animatedarchitecture.core.api.IAnimatedArchitecturePlatform;
 import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.IMessageable;
@@ -75,6 +77,9 @@ public class StructureAnimationRequest
     @ToString.Exclude
     private final IExecutor executor;
 
+    @ToString.Exclude
+    private final ToggleLatencyTracker toggleLatencyTracker;
+
     @AssistedInject
     public StructureAnimationRequest(
         @Assisted StructureRetriever structureRetriever,
@@ -90,7 +95,8 @@ public class StructureAnimationRequest
         ITextFactory textFactory,
         StructureActivityManager structureActivityManager,
         IPlayerFactory playerFactory,
-        IExecutor executor)
+        IExecutor executor,
+        ToggleLatencyTracker toggleLatencyTracker)
     {
         this.structureRetriever = structureRetriever;
         this.cause = cause;
@@ -106,6 +112,7 @@ public class StructureAnimationRequest
         this.structureActivityManager = structureActivityManager;
         this.playerFactory = playerFactory;
         this.executor = executor;
+        this.toggleLatencyTracker = toggleLatencyTracker;
     }
 
     /**
@@ -116,13 +123,14 @@ public class StructureAnimationRequest
     public CompletableFuture<StructureToggleResult> execute()
     {
         log.atDebug().log("Executing toggle request: %s", this);
+        final long start = System.nanoTime();
         return structureRetriever
             .getStructure()
-            .thenCompose(this::execute)
+            .thenCompose(structureOpt -> execute(structureOpt, start))
             .withExceptionContext(() -> "Execute structure animation request: " + this);
     }
 
-    private CompletableFuture<StructureToggleResult> execute(Optional<Structure> structureOpt)
+    private CompletableFuture<StructureToggleResult> execute(Optional<Structure> structureOpt, long start)
     {
         if (structureOpt.isEmpty())
         {
@@ -130,6 +138,8 @@ public class StructureAnimationRequest
             return CompletableFuture.completedFuture(StructureToggleResult.ERROR);
         }
         final Structure structure = structureOpt.get();
+        toggleLatencyTracker.recordSince(TogglePhase.RETRIEVAL, structure.getType(), cause, start);
+
         final IPlayer actualResponsible = getActualResponsible(structure);
         verifyValidity(actualResponsible);
 
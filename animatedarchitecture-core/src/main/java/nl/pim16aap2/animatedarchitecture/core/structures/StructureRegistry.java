@@ -6,11 +6,18 @@ import jakarta.inject.Singleton;
 import lombok.CustomLog;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
 import nl.pim16aap2.animatedarchitecture.core.data.cache.timed.TimedCache;
 import nl.pim16aap2.animatedarchitecture.core.managers.StructureDeletionManager;
 import nl.pim16aap2.animatedarchitecture.core.util.Util;
+import org.jspecify.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -21,7 +28,8 @@ import java.util.function.Supplier;
  */
 @Singleton
 @CustomLog
-public final class StructureRegistry implements IDebuggable, StructureDeletionManager.IDeletionListener
+public final class StructureRegistry
+    implements IDebuggable, IRestartable, StructureDeletionManager.IDeletionListener
 {
     public static final Duration CACHE_EXPIRY = Duration.ofMinutes(15);
 
@@ -34,12 +42,21 @@ public final class StructureRegistry implements IDebuggable, StructureDeletionMa
 
     private final Duration cacheExpiry;
 
+    /**
+     * The config used to determine the maximum size of the cache.
+     * <p>
+     * This is null for registries that do not cache anything.
+     */
+    private final @Nullable IConfig config;
+
     private StructureRegistry(
         DebuggableRegistry debuggableRegistry,
         Duration cacheExpiry,
-        StructureDeletionManager structureDeletionManager)
+        StructureDeletionManager structureDeletionManager,
+        @Nullable IConfig config)
     {
         this.cacheExpiry = cacheExpiry;
+        this.config = config;
 
         if (cacheExpiry.isNegative())
             structureCache = TimedCache.emptyCache();
@@ -60,10 +77,23 @@ public final class StructureRegistry implements IDebuggable, StructureDeletionMa
      */
     @Inject
     StructureRegistry(
+        RestartableHolder restartableHolder,
         DebuggableRegistry debuggableRegistry,
-        StructureDeletionManager structureDeletionManager)
+        StructureDeletionManager structureDeletionManager,
+        IConfig config,
+        MetricsRegistry metricsRegistry)
     {
-        this(debuggableRegistry, CACHE_EXPIRY, structureDeletionManager);
+        this(debuggableRegistry, CACHE_EXPIRY, structureDeletionManager, config);
+        restartableHolder.registerRestartable(this);
+        registerMetrics(metricsRegistry);
+    }
+
+    private void registerMetrics(MetricsRegistry metricsRegistry)
+    {
+        metricsRegistry.gauge("structures.cache.size", structureCache::getSize);
+        metricsRegistry.gauge("structures.cache.hits", () -> structureCache.getStatistics().hitCount());
+        metricsRegistry.gauge("structures.cache.misses", () -> structureCache.getStatistics().missCount());
+        metricsRegistry.gauge("structures.cache.hit_rate", () -> structureCache.getStatistics().hitRate());
     }
 
     /**
@@ -78,13 +108,34 @@ public final class StructureRegistry implements IDebuggable, StructureDeletionMa
         final StructureRegistry structureRegistry = new StructureRegistry(
             debuggableRegistry,
             Duration.ofMillis(-1),
-            structureDeletionManager
+            structureDeletionManager,
+            null
         );
 
         structureRegistry.acceptNewEntries = false;
         return structureRegistry;
     }
 
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of(IConfig.class);
+    }
+
+    /**
+     * Applies the maximum cache size from the config.
+     * <p>
+     * Structures exceeding this limit are not removed from the registry. Instead, the least frequently used structures
+     * are no longer strongly referenced by the cache, so they can be garbage collected once they are no longer used
+     * anywhere else.
+     */
+    @Override
+    public void initialize()
+    {
+        if (config != null)
+            structureCache.setMaximumWeight(Math.max(0, config.structureCacheMaxSize()));
+    }
+
     @Override
     public void onStructureDeletion(IStructureConst structure)
     {
@@ -184,10 +235,12 @@ public final class StructureRegistry implements IDebuggable, StructureDeletionMa
                 Accepting new entries: %s
                 Cache expiry: %s
                 Cache size:   %d
+                Cache stats:  %s
                 """,
             acceptNewEntries,
             cacheExpiry,
-            structureCache.getSize()
+            structureCache.getSize(),
+            structureCache.getStatistics().format()
         );
     }
 }
@@ -2,6 +2,7 @@ package nl.pim16aap2.animatedarchitecture.core.structures;
 
 import com.google.common.flogger.StackSize;
 import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
 import lombok.CustomLog;
 import lombok.experimental.ExtensionMethod;
 import nl.pim16aap2.animatedarchitecture.core.animation.AnimatedBlockContainerFactory;
@@ -11,6 +12,9 @@ import nl.pim16aap2.animatedarchitecture.core.animation.Animator;
 import nl.pim16aap2.animatedarchitecture.core.animation.IAnimatedBlockContainer;
 import nl.pim16aap2.animatedarchitecture.core.animation.IAnimationComponent;
 import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleLatencyTracker;
+import nl.pim16aap2.animatedarchitecture.core.animation.TogglePhase;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleAdmissionController;
 import nl.pim16aap2.animatedarchitecture.core.api.Color;
 import nl.pim16aap2.animatedarchitecture.core.api.HighlightedBlockSpawner;
 import nl.pim16aap2.animatedarchitecture.core.api.IBlockAnalyzer;
@@ -20,8 +24,9 @@ import nl.pim16aap2.animatedarchitecture.core.api.IMessageable;
 import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
 import nl.pim16aap2.animatedarchitecture.core.api.IProtectionHookManager;
 import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IAnimatedArchitectureEventFactory;
-import nl.pim16aap2.animatedarchitecture.core.api.factories.ILocationFactory;
 import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
 import nl.pim16aap2.animatedarchitecture.core.events.IAnimatedArchitectureEventCaller;
 import nl.pim16aap2.animatedarchitecture.core.events.IStructureEventTogglePrepare;
@@ -33,33 +38,48 @@ import nl.pim16aap2.animatedarchitecture.core.managers.LimitsManager;
 import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
 import nl.pim16aap2.animatedarchitecture.core.util.CompletableFutureExtensions;
 import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
 import nl.pim16aap2.animatedarchitecture.core.util.Limit;
-import nl.pim16aap2.animatedarchitecture.core.util.MathUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.TaskScope;
 import nl.pim16aap2.animatedarchitecture.core.util.Util;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.event.Level;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a utility singleton that is used to open {@link Structure}s.
  */
+@Singleton
 @CustomLog
 @ExtensionMethod(CompletableFutureExtensions.class)
-final class StructureToggleHelper
+final class StructureToggleHelper implements IDebuggable
 {
+    /**
+     * The maximum amount of time the preparation of a toggle may take.
+     * <p>
+     * This covers everything from receiving the toggle request up to the start of the animation.
+     */
+    static final Duration TOGGLE_PREPARATION_TIMEOUT = Duration.ofSeconds(10);
+
     private final StructureActivityManager structureActivityManager;
+    private final ToggleAdmissionController toggleAdmissionController;
     private final IConfig config;
     private final IExecutor executor;
     private final IBlockAnalyzer<?> blockAnalyzer;
-    private final ILocationFactory locationFactory;
     private final IProtectionHookManager protectionHookManager;
     private final HighlightedBlockSpawner highlightedBlockSpawner;
     private final IAnimatedArchitectureEventFactory animatedArchitectureEventFactory;
@@ -69,14 +89,20 @@ final class StructureToggleHelper
     private final IAnimatedArchitectureEventCaller animatedArchitectureEventCaller;
     private final AnimatedBlockContainerFactory animatedBlockContainerFactory;
     private final AnimationRequestData.IFactory movementRequestDataFactory;
+    private final ToggleLatencyTracker toggleLatencyTracker;
+
+    /**
+     * The latency of toggle requests, from receiving the request up to the start of the animation.
+     */
+    private final LatencyHistogram toggleLatency = new LatencyHistogram();
 
     @Inject
     StructureToggleHelper(
         StructureActivityManager structureActivityManager,
+        ToggleAdmissionController toggleAdmissionController,
         IConfig config,
         IExecutor executor,
         IBlockAnalyzer<?> blockAnalyzer,
-        ILocationFactory locationFactory,
         IProtectionHookManager protectionHookManager,
         HighlightedBlockSpawner highlightedBlockSpawner,
         IAnimatedArchitectureEventFactory animatedArchitectureEventFactory,
@@ -85,13 +111,15 @@ final class StructureToggleHelper
         LimitsManager limitsManager,
         IAnimatedArchitectureEventCaller animatedArchitectureEventCaller,
         AnimatedBlockContainerFactory animatedBlockContainerFactory,
-        AnimationRequestData.IFactory movementRequestDataFactory)
+        AnimationRequestData.IFactory movementRequestDataFactory,
+        ToggleLatencyTracker toggleLatencyTracker,
+        DebuggableRegistry debuggableRegistry)
     {
         this.structureActivityManager = structureActivityManager;
+        this.toggleAdmissionController = toggleAdmissionController;
         this.config = config;
         this.executor = executor;
         this.blockAnalyzer = blockAnalyzer;
-        this.locationFactory = locationFactory;
         this.protectionHookManager = protectionHookManager;
         this.highlightedBlockSpawner = highlightedBlockSpawner;
         this.animatedArchitectureEventFactory = animatedArchitectureEventFactory;
@@ -101,6 +129,9 @@ final class StructureToggleHelper
         this.animatedArchitectureEventCaller = animatedArchitectureEventCaller;
         this.animatedBlockContainerFactory = animatedBlockContainerFactory;
         this.movementRequestDataFactory = movementRequestDataFactory;
+        this.toggleLatencyTracker = toggleLatencyTracker;
+
+        debuggableRegistry.registerDebuggable(this);
     }
 
 
@@ -122,7 +153,7 @@ final class StructureToggleHelper
      *     will 'release the lock' for the UID.
      * @return The same result that was passed in as argument.
      */
-    private CompletableFuture<StructureToggleResult> abort(
+    private StructureToggleResult abort(
         Structure structure,
         StructureToggleResult result,
         StructureActionCause cause,
@@ -156,7 +187,10 @@ final class StructureToggleHelper
         }
         else
         {
-            final Level level = result == StructureToggleResult.BUSY ? Level.DEBUG : Level.INFO;
+            final Level level =
+                result == StructureToggleResult.BUSY || result == StructureToggleResult.THROTTLED ?
+                    Level.DEBUG :
+                    Level.INFO;
 
             if (result == StructureToggleResult.INSTANCE_UNREGISTERED)
             {
@@ -170,7 +204,7 @@ final class StructureToggleHelper
                 log.at(level).log("Failed to toggle structure: %d, reason: %s", structure.getUid(), result.name());
             }
         }
-        return CompletableFuture.completedFuture(result);
+        return result;
     }
 
     /**
@@ -301,7 +335,13 @@ final class StructureToggleHelper
         return true;
     }
 
-    private CompletableFuture<StructureToggleResult> toggle(
+    /**
+     * Prepares the toggle of a structure that has passed the initial checks.
+     * <p>
+     * This registers the animation and runs the remaining checks. Must be run inside the provided scope.
+     */
+    private StructureToggleResult prepareToggle(
+        TaskScope scope,
         StructureSnapshot snapshot,
         Structure targetStructure,
         AnimationRequestData data,
@@ -309,11 +349,12 @@ final class StructureToggleHelper
         IMessageable messageReceiver,
         @Nullable IPlayer player,
         AnimationType animationType)
+        throws TimeoutException, ExecutionException, InterruptedException
     {
         if (snapshot.getOpenDirection() == MovementDirection.NONE)
         {
             log.atError().withStackTrace(StackSize.FULL).log("OpenDir cannot be 'NONE'!");
-            return CompletableFuture.completedFuture(StructureToggleResult.ERROR);
+            return StructureToggleResult.ERROR;
         }
 
         // Read-only animations are fine for unregistered structures, as they do (should) not have any side effects.
@@ -331,17 +372,64 @@ final class StructureToggleHelper
             structureActivityManager.registerAnimation(targetStructure, animationType.requiresWriteAccess());
 
         if (registrationResult.isEmpty())
-            return CompletableFuture.completedFuture(StructureToggleResult.BUSY);
+            return StructureToggleResult.BUSY;
 
         final long stamp = registrationResult.getAsLong();
+        try
+        {
+            return prepareRegisteredToggle(
+                scope,
+                stamp,
+                snapshot,
+                targetStructure,
+                data,
+                component,
+                messageReceiver,
+                player,
+                animationType
+            );
+        }
+        catch (TimeoutException | InterruptedException | CancellationException exception)
+        {
+            abort(
+                targetStructure,
+                StructureToggleResult.ERROR,
+                data.getCause(),
+                data.getResponsible(),
+                messageReceiver,
+                stamp
+            );
+            throw exception;
+        }
+        catch (Exception exception)
+        {
+            structureActivityManager.unregisterAnimation(targetStructure.getUid(), stamp);
+            throw exception;
+        }
+    }
 
+    private StructureToggleResult prepareRegisteredToggle(
+        TaskScope scope,
+        long stamp,
+        StructureSnapshot snapshot,
+        Structure targetStructure,
+        AnimationRequestData data,
+        IAnimationComponent component,
+        IMessageable messageReceiver,
+        @Nullable IPlayer player,
+        AnimationType animationType)
+        throws TimeoutException, ExecutionException, InterruptedException
+    {
         final StructureToggleResult isToggleable =
             canBeToggled(snapshot, targetStructure.getType(), data.getNewCuboid(), data.getActionType());
 
         if (isToggleable != StructureToggleResult.SUCCESS)
             return abort(targetStructure, isToggleable, data.getCause(), data.getResponsible(), messageReceiver, stamp);
 
+        scope.ensureActive();
+        final long prepareEventStart = System.nanoTime();
         final IStructureEventTogglePrepare prepareEvent = callTogglePrepareEvent(data);
+        recordLatency(TogglePhase.PREPARE_EVENT, targetStructure, data, prepareEventStart);
         if (prepareEvent.isCancelled())
             return abort(
                 targetStructure,
@@ -352,43 +440,54 @@ final class StructureToggleHelper
                 stamp
             );
 
-        final IPlayer responsiblePlayer = data.getCause() == StructureActionCause.PLAYER ?
-            data.getResponsible() :
-            null;
-
-        if (animationType.requiresWriteAccess() &&
-            !isLocationEmpty(data.getNewCuboid(), snapshot.getCuboid(), responsiblePlayer, snapshot.getWorld()))
-            return abort(
-                targetStructure,
-                StructureToggleResult.OBSTRUCTED,
-                data.getCause(),
-                data.getResponsible(),
-                messageReceiver,
-                stamp
-            );
-
-        if (!animationType.requiresWriteAccess())
-            return toggle(stamp, targetStructure, data, component, player, animationType);
-
-        return canBreakBlocks(snapshot, snapshot.getCuboid(), data.getNewCuboid(), data.getResponsible())
-            .thenCompose(canBreakBlocks ->
+        if (animationType.requiresWriteAccess())
+        {
+            final IPlayer responsiblePlayer = data.getCause() == StructureActionCause.PLAYER ?
+                data.getResponsible() :
+                null;
+
+            // The obstruction and protection checks are independent of each other, so they are run concurrently.
+            final long protectionStart = System.nanoTime();
+            final CompletableFuture<Boolean> canBreakBlocks = scope.adopt(
+                canBreakBlocks(snapshot, snapshot.getCuboid(), data.getNewCuboid(), data.getResponsible())
+                    .whenComplete((ignored, throwable) ->
+                        recordLatency(TogglePhase.PROTECTION_HOOKS, targetStructure, data, protectionStart)));
+            final CompletableFuture<Boolean> isLocationEmpty = scope.fork(() ->
             {
-                if (!canBreakBlocks)
-                    return abort(
-                        targetStructure,
-                        StructureToggleResult.NO_PERMISSION,
-                        data.getCause(),
-                        data.getResponsible(),
-                        messageReceiver,
-                        stamp
-                    );
-                return toggle(stamp, targetStructure, data, component, player, animationType);
+                final long obstructionStart = System.nanoTime();
+                final boolean isEmpty =
+                    isLocationEmpty(data.getNewCuboid(), snapshot.getCuboid(), responsiblePlayer, snapshot.getWorld());
+                recordLatency(TogglePhase.OBSTRUCTION_CHECK, targetStructure, data, obstructionStart);
+                return isEmpty;
             });
 
+            if (!scope.join(isLocationEmpty))
+                return abort(
+                    targetStructure,
+                    StructureToggleResult.OBSTRUCTED,
+                    data.getCause(),
+                    data.getResponsible(),
+                    messageReceiver,
+                    stamp
+                );
 
+            if (!scope.join(canBreakBlocks))
+                return abort(
+                    targetStructure,
+                    StructureToggleResult.NO_PERMISSION,
+                    data.getCause(),
+                    data.getResponsible(),
+                    messageReceiver,
+                    stamp
+                );
+        }
+
+        // Once the animation has been registered, the toggle can no longer time out or be cancelled.
+        scope.commit();
+        return toggle(stamp, targetStructure, data, component, player, animationType);
     }
 
-    private CompletableFuture<StructureToggleResult> toggle(
+    private StructureToggleResult toggle(
         long stamp,
         Structure targetStructure,
         AnimationRequestData data,
@@ -400,24 +499,145 @@ final class StructureToggleHelper
         if (!scheduled)
         {
             log.atError().log("Failed to schedule block mover for structure %d", targetStructure.getUid());
-            return CompletableFuture.completedFuture(StructureToggleResult.ERROR);
+            return StructureToggleResult.ERROR;
         }
 
         executor.runAsync(() -> callToggleStartEvent(targetStructure, data));
 
-        return CompletableFuture.completedFuture(StructureToggleResult.SUCCESS);
+        return StructureToggleResult.SUCCESS;
     }
 
+    /**
+     * Toggles a structure.
+     * <p>
+     * Toggles that require write access have to be admitted by the {@link ToggleAdmissionController} first. If too many
+     * structures are being animated already, the toggle may be delayed or rejected with
+     * {@link StructureToggleResult#THROTTLED}. Read-only animations (e.g. previews) are not subject to admission
+     * control, as they do not affect the world.
+     *
+     * @param structure
+     *     The structure to toggle.
+     * @param request
+     *     The request describing the toggle.
+     * @param responsible
+     *     Who is responsible for the toggle.
+     * @return The result of the toggle.
+     */
     CompletableFuture<StructureToggleResult> toggle(
         Structure structure,
         StructureAnimationRequest request,
         IPlayer responsible)
+    {
+        if (!request.getAnimationType().requiresWriteAccess())
+            return toggle0(structure, request, responsible);
+
+        final CompletableFuture<StructureToggleResult> admitted = toggleAdmissionController
+            .submit(structure, request.getCause(), () -> toggle0(structure, request, responsible));
+
+        final CompletableFuture<StructureToggleResult> result = admitted.thenApply(toggleResult ->
+        {
+            if (toggleResult != StructureToggleResult.THROTTLED)
+                return toggleResult;
+            return abort(structure, toggleResult, request.getCause(), responsible, request.getMessageReceiver(), null);
+        });
+
+        result.whenComplete((ignored, throwable) ->
+        {
+            if (result.isCancelled())
+                admitted.cancel(true);
+        });
+        return result;
+    }
+
+    /**
+     * Toggles a structure without admission control.
+     * <p>
+     * Everything up to the start of the animation (the initial checks, the protection and obstruction checks, and the
+     * events) is run in a single {@link TaskScope} on a virtual thread. The entire preparation has to complete within
+     * {@link #TOGGLE_PREPARATION_TIMEOUT}. When the deadline is reached or the returned future is cancelled, all
+     * remaining work is cancelled and the animation is unregistered.
+     * <p>
+     * The scope is committed right before the animation is started. From then on, the deadline no longer applies and
+     * cancelling the returned future no longer stops the toggle, so a toggle that is reported to have timed out never
+     * starts an animation.
+     *
+     * @param structure
+     *     The structure to toggle.
+     * @param request
+     *     The request describing the toggle.
+     * @param responsible
+     *     Who is responsible for the toggle.
+     * @return The result of the toggle.
+     */
+    private CompletableFuture<StructureToggleResult> toggle0(
+        Structure structure,
+        StructureAnimationRequest request,
+        IPlayer responsible)
+    {
+        final long start = System.nanoTime();
+        final TaskScope scope = new TaskScope(executor.getVirtualExecutor(), TOGGLE_PREPARATION_TIMEOUT);
+
+        final AtomicBoolean timedOut = new AtomicBoolean(false);
+
+        final CompletableFuture<StructureToggleResult> result = scope
+            .fork(() -> prepareToggle(scope, structure, request, responsible))
+            .handle((toggleResult, throwable) ->
+            {
+                scope.close();
+                toggleLatency.recordSince(start);
+
+                if (throwable == null)
+                    return toggleResult;
+
+                final Throwable rootCause = Util.getRootCause(throwable);
+                if (rootCause instanceof TimeoutException ||
+                    (rootCause instanceof CancellationException && timedOut.get()))
+                {
+                    log.atWarn().log(
+                        "Toggle of structure %d timed out after %s!",
+                        structure.getUid(),
+                        TOGGLE_PREPARATION_TIMEOUT
+                    );
+                    return StructureToggleResult.ERROR;
+                }
+                throw throwable instanceof CompletionException completionException ?
+                    completionException :
+                    new CompletionException(throwable);
+            });
+
+        // The preparation thread checks the deadline itself whenever it waits for something, but it may also be
+        // blocked elsewhere (e.g. by a slow event listener). Cancelling the scope interrupts it, unless the scope has
+        // already been committed; in that case, the animation has been started and the toggle is allowed to finish.
+        CompletableFuture
+            .delayedExecutor(TOGGLE_PREPARATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+            .execute(() ->
+            {
+                if (result.isDone())
+                    return;
+                timedOut.set(true);
+                scope.cancel();
+            });
+
+        result.whenComplete((ignored, throwable) ->
+        {
+            if (result.isCancelled())
+                scope.cancel();
+        });
+        return result;
+    }
+
+    private StructureToggleResult prepareToggle(
+        TaskScope scope,
+        Structure structure,
+        StructureAnimationRequest request,
+        IPlayer responsible)
+        throws TimeoutException, ExecutionException, InterruptedException
     {
         final AtomicReference<@Nullable StructureSnapshot> snapshot = new AtomicReference<>();
         final AtomicReference<@Nullable AnimationRequestData> data = new AtomicReference<>();
         final AtomicReference<@Nullable IAnimationComponent> component = new AtomicReference<>();
 
-        final CompletableFuture<StructureToggleResult> abortedResult = structure.withReadLock(() ->
+        final @Nullable StructureToggleResult abortedResult = structure.withReadLock(() ->
         {
             if (request.isSkipAnimation() && !structure.canSkipAnimation())
                 return abort(
@@ -429,7 +649,11 @@ final class StructureToggleHelper
                     null
                 );
 
-            if (exceedSizeLimit(structure, responsible))
+            final long limitsStart = System.nanoTime();
+            final boolean exceedsSizeLimit = exceedSizeLimit(structure, responsible);
+            toggleLatencyTracker.recordSince(TogglePhase.LIMITS, structure.getType(), request.getCause(), limitsStart);
+
+            if (exceedsSizeLimit)
                 return abort(
                     structure,
                     StructureToggleResult.TOO_BIG,
@@ -439,6 +663,7 @@ final class StructureToggleHelper
                     null
                 );
 
+            final long snapshotStart = System.nanoTime();
             final Optional<Cuboid> newCuboid = structure.getPotentialNewCoordinates();
             if (newCuboid.isEmpty())
                 return abort(
@@ -468,6 +693,12 @@ final class StructureToggleHelper
             component.setPlain(
                 structure.constructAnimationComponent(Util.requireNonNull(data.get(), "AnimationRequestData"))
             );
+            toggleLatencyTracker.recordSince(
+                TogglePhase.SNAPSHOT,
+                structure.getType(),
+                request.getCause(),
+                snapshotStart
+            );
 
             //noinspection DataFlowIssue
             return null;
@@ -477,7 +708,9 @@ final class StructureToggleHelper
         if (abortedResult != null)
             return abortedResult;
 
-        return toggle(
+        scope.ensureActive();
+        return prepareToggle(
+            scope,
             Util.requireNonNull(snapshot.get(), "Structure Snapshot"),
             structure,
             Util.requireNonNull(data.get(), "AnimationRequestData"),
@@ -488,6 +721,11 @@ final class StructureToggleHelper
         );
     }
 
+    private void recordLatency(TogglePhase phase, Structure structure, AnimationRequestData data, long startNanos)
+    {
+        toggleLatencyTracker.recordSince(phase, structure.getType(), data.getCause(), startNanos);
+    }
+
     /**
      * Checks if this structure exceeds the size limit for the given player.
      * <p>
@@ -591,59 +829,39 @@ final class StructureToggleHelper
      */
     public boolean isLocationEmpty(Cuboid newCuboid, Cuboid currentCuboid, @Nullable IPlayer player, IWorld world)
     {
-        final Vector3Di newMin = newCuboid.getMin();
-        final Vector3Di newMax = newCuboid.getMax();
-        final Vector3Di curMin = currentCuboid.getMin();
-        final Vector3Di curMax = currentCuboid.getMax();
+        // Blocks that are currently part of the structure are ignored. It's expected and accepted for them to be in the
+        // way. When there is no player to notify, we only need to know whether there is at least one obstruction.
+        final List<Vector3Di> obstructions =
+            blockAnalyzer.findObstructions(world, newCuboid, currentCuboid, player == null ? 1 : Integer.MAX_VALUE);
 
-        boolean isEmpty = true;
-        for (int xAxis = newMin.x(); xAxis <= newMax.x(); ++xAxis)
-        {
-            for (int yAxis = newMin.y(); yAxis <= newMax.y(); ++yAxis)
+        if (player != null && !obstructions.isEmpty())
+            highlightObstructions(player, world, obstructions);
+
+        return obstructions.isEmpty();
+    }
+
+    private void highlightObstructions(IPlayer player, IWorld world, List<Vector3Di> obstructions)
+    {
+        executor
+            .runOnMainThreadWithResponse(() ->
             {
-                for (int zAxis = newMin.z(); zAxis <= newMax.z(); ++zAxis)
-                {
-                    // Ignore blocks that are currently part of the structure.
-                    // It's expected and accepted for them to be in the way.
-                    if (MathUtil.between(xAxis, curMin.x(), curMax.x()) &&
-                        MathUtil.between(yAxis, curMin.y(), curMax.y()) &&
-                        MathUtil.between(zAxis, curMin.z(), curMax.z()))
-                        continue;
-
-                    if (!blockAnalyzer.isAirOrLiquid(locationFactory.create(world, xAxis, yAxis, zAxis)))
-                    {
-                        if (player == null)
-                            return false;
-
-                        final int xAxis0 = xAxis;
-                        final int yAxis0 = yAxis;
-                        final int zAxis0 = zAxis;
-
-                        executor
-                            .runOnMainThread(() -> highlightedBlockSpawner
-                                .builder()
-                                .forPlayer(player)
-                                .withColor(Color.RED)
-                                .forDuration(Duration.ofSeconds(4))
-                                .atPosition(xAxis0 + 0.5, yAxis0, zAxis0 + 0.5)
-                                .inWorld(world)
-                                .spawn())
-                            .orTimeout(1, TimeUnit.SECONDS)
-                            .handleExceptional(ex ->
-                                log.atWarn().withCause(ex).atMostEvery(5, TimeUnit.SECONDS).log(
-                                    "Failed to spawn highlighted block for player %s at %d, %d, %d in world %s",
-                                    player,
-                                    xAxis0,
-                                    yAxis0,
-                                    zAxis0,
-                                    world
-                                ));
-                        isEmpty = false;
-                    }
-                }
-            }
-        }
-        return isEmpty;
+                for (final Vector3Di position : obstructions)
+                    highlightedBlockSpawner
+                        .builder()
+                        .forPlayer(player)
+                        .withColor(Color.RED)
+                        .forDuration(Duration.ofSeconds(4))
+                        .atPosition(position.x() + 0.5, position.y(), position.z() + 0.5)
+                        .inWorld(world)
+                        .spawn();
+            }, IExecutor.MainThreadPriority.BACKGROUND)
+            .handleExceptional(ex ->
+                log.atWarn().withCause(ex).atMostEvery(5, TimeUnit.SECONDS).log(
+                    "Failed to spawn %d highlighted blocks for player %s in world %s",
+                    obstructions.size(),
+                    player,
+                    world
+                ));
     }
 
     /**
@@ -707,4 +925,10 @@ final class StructureToggleHelper
 
         return chunkLoader.checkChunks(structure.getWorld(), newCuboid, mode) != IChunkLoader.ChunkLoadResult.FAIL;
     }
+
+    @Override
+    public String getDebugInformation()
+    {
+        return "Toggle preparation latency: " + toggleLatency.format();
+    }
 }
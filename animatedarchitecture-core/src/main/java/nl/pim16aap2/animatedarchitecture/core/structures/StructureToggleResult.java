@@ -100,6 +100,11 @@ public enum StructureToggleResult
      * The {@link Structure} could not be toggled because its type was disabled at compile time.
      */
     TYPE_DISABLED("constants.structure_toggle_result.type_disabled"),
+
+    /**
+     * The {@link Structure} could not be toggled because too many structures are being animated at the same time.
+     */
+    THROTTLED("constants.structure_toggle_result.throttled"),
     ;
 
     @Getter
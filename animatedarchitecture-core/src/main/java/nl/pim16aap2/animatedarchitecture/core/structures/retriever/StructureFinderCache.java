@@ -14,6 +14,7 @@ import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Represents a cache of {@link StructureFinder}s.
@@ -95,6 +96,12 @@ final class StructureFinderCache implements IRestartable
         );
     }
 
+    @Override
+    public Collection<Class<? extends IRestartable>> getInitializationDependencies()
+    {
+        return List.of();
+    }
+
     @Override
     public void initialize()
     {
@@ -10,6 +10,10 @@ import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Dd;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
 import org.jetbrains.annotations.Contract;
 
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
 
 /**
@@ -402,6 +406,67 @@ public final class Cuboid
         };
     }
 
+    /**
+     * Checks if a predicate matches every position in this cuboid, while only testing a single position per cell.
+     * <p>
+     * This cuboid is split into cells along the faces of the provided regions. Every position in a cell is inside
+     * exactly the same regions. When the outcome of the predicate only depends on the regions a position is in, testing
+     * a single position per cell is therefore equivalent to testing every position in this cuboid.
+     * <p>
+     * For example, a cuboid that partially overlaps a single region is split into at most 27 cells, regardless of its
+     * volume.
+     *
+     * @param regions
+     *     The regions whose faces to split this cuboid along. Regions that do not overlap this cuboid do not affect the
+     *     result.
+     * @param predicate
+     *     The predicate to test. It receives the lowest position of each cell.
+     * @return True if the predicate matched all tested positions. Testing stops at the first position that does not
+     * match.
+     */
+    public boolean allCellsMatch(Collection<Cuboid> regions, Predicate<Vector3Di> predicate)
+    {
+        final int[] xStarts = getCellStarts(regions, Vector3Di::x);
+        final int[] yStarts = getCellStarts(regions, Vector3Di::y);
+        final int[] zStarts = getCellStarts(regions, Vector3Di::z);
+
+        for (final int x : xStarts)
+            for (final int y : yStarts)
+                for (final int z : zStarts)
+                    if (!predicate.test(new Vector3Di(x, y, z)))
+                        return false;
+        return true;
+    }
+
+    /**
+     * Gets the first coordinate of every cell along a single axis.
+     *
+     * @param regions
+     *     The regions whose faces to split this cuboid along.
+     * @param axis
+     *     The function that retrieves the coordinate of the axis from a position.
+     * @return The sorted start coordinates of all cells along the axis.
+     */
+    private int[] getCellStarts(Collection<Cuboid> regions, ToIntFunction<Vector3Di> axis)
+    {
+        final int lower = axis.applyAsInt(min);
+        final int upper = axis.applyAsInt(max);
+
+        final TreeSet<Integer> starts = new TreeSet<>();
+        starts.add(lower);
+        for (final Cuboid region : regions)
+        {
+            // A region covers the range [regionMin, regionMax], so the cells start at regionMin and regionMax + 1.
+            final int regionMin = axis.applyAsInt(region.getMin());
+            final int regionMax = axis.applyAsInt(region.getMax());
+            if (regionMin > lower && regionMin <= upper)
+                starts.add(regionMin);
+            if (regionMax >= lower && regionMax < upper)
+                starts.add(regionMax + 1);
+        }
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     /**
      * Returns a {@link Rectangle} that describes the area of this cuboid when you disregard the vertical (y)
      * dimension.
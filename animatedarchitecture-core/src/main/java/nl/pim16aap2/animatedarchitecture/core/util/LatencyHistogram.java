@@ -0,0 +1,186 @@
+package nl.pim16aap2.animatedarchitecture.core.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of latencies.
+ * <p>
+ * Latencies are stored in buckets whose bounds are powers of two of microseconds. This keeps recording cheap and the
+ * memory footprint constant, at the cost of precision: percentiles are reported as the upper bound of the bucket that
+ * contains them, so they may overestimate the actual latency by up to a factor of two.
+ */
+public final class LatencyHistogram
+{
+    /**
+     * The number of buckets. The last bucket contains all latencies of 2^30 microseconds (~18 minutes) or more.
+     */
+    static final int BUCKET_COUNT = 31;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a single latency.
+     *
+     * @param durationNanos
+     *     The latency in nanoseconds. Negative values are treated as 0.
+     */
+    public void record(long durationNanos)
+    {
+        final long nanos = Math.max(0, durationNanos);
+        buckets.incrementAndGet(getBucketIndex(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records the time that has passed since a given start time.
+     *
+     * @param startNanos
+     *     The start time as obtained from {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos)
+    {
+        record(System.nanoTime() - startNanos);
+    }
+
+    static int getBucketIndex(long nanos)
+    {
+        final long micros = nanos / 1_000L;
+        if (micros < 1)
+            return 0;
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Gets the upper bound of a bucket.
+     *
+     * @param index
+     *     The index of the bucket.
+     * @return The upper bound of the bucket in nanoseconds. Latencies in the bucket are smaller than this value.
+     */
+    static long getBucketUpperBound(int index)
+    {
+        return (1L << index) * 1_000L;
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return The number of recorded latencies.
+     */
+    public long getCount()
+    {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean latency.
+     *
+     * @return The mean latency, or {@link Duration#ZERO} if nothing was recorded.
+     */
+    public Duration getMean()
+    {
+        final long count0 = count.sum();
+        return count0 == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / count0);
+    }
+
+    /**
+     * Gets the highest recorded latency.
+     *
+     * @return The highest recorded latency, or {@link Duration#ZERO} if nothing was recorded.
+     */
+    public Duration getMax()
+    {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Gets an estimate of a percentile of the recorded latencies.
+     *
+     * @param percentile
+     *     The percentile to get. Must be in the range (0, 100].
+     * @return The upper bound of the bucket containing the percentile, capped by the highest recorded latency. If
+     * nothing was recorded, {@link Duration#ZERO} is returned.
+     *
+     * @throws IllegalArgumentException
+     *     If the percentile is not in the range (0, 100].
+     */
+    public Duration getPercentile(double percentile)
+    {
+        if (percentile <= 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be in the range (0, 100], but got: " + percentile);
+
+        final long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int idx = 0; idx < BUCKET_COUNT; ++idx)
+        {
+            counts[idx] = buckets.get(idx);
+            total += counts[idx];
+        }
+        if (total == 0)
+            return Duration.ZERO;
+
+        final long target = (long) Math.ceil(total * percentile / 100D);
+        long seen = 0;
+        for (int idx = 0; idx < BUCKET_COUNT; ++idx)
+        {
+            seen += counts[idx];
+            if (seen >= target)
+                return Duration.ofNanos(Math.min(getBucketUpperBound(idx), maxNanos.get()));
+        }
+        return getMax();
+    }
+
+    /**
+     * Removes all recorded latencies.
+     * <p>
+     * Latencies that are recorded while this method is running may be partially removed.
+     */
+    public void reset()
+    {
+        for (int idx = 0; idx < BUCKET_COUNT; ++idx)
+            buckets.set(idx, 0);
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Formats the histogram as a single line containing the count, mean, p50, p90, p99, and max latencies.
+     *
+     * @return The formatted histogram.
+     */
+    public String format()
+    {
+        if (getCount() == 0)
+            return "No data";
+
+        return String.format(
+            "count: %d, mean: %.3fms, p50: %.3fms, p90: %.3fms, p99: %.3fms, max: %.3fms",
+            getCount(),
+            toMillis(getMean()),
+            toMillis(getPercentile(50)),
+            toMillis(getPercentile(90)),
+            toMillis(getPercentile(99)),
+            toMillis(getMax())
+        );
+    }
+
+    private static double toMillis(Duration duration)
+    {
+        return duration.toNanos() / 1_000_000D;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "LatencyHistogram{" + format() + "}";
+    }
+}
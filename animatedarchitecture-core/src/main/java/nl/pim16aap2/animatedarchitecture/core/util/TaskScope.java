@@ -0,0 +1,271 @@
+package nl.pim16aap2.animatedarchitecture.core.util;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A scope for related subtasks that share a single deadline.
+ * <p>
+ * Subtasks are forked into the scope using {@link #fork(Callable)}, or existing futures can be adopted using
+ * {@link #adopt(CompletableFuture)}. Waiting for a subtask using {@link #join(Future)} never waits beyond the deadline
+ * of the scope.
+ * <p>
+ * When the scope is cancelled or closed, all subtasks that have not completed yet are cancelled. Forked subtasks are
+ * interrupted as well.
+ * <p>
+ * Work that ends in a side effect that cannot be undone should {@link #commit()} the scope right before performing it.
+ * Once committed, the scope can no longer be cancelled, so the side effect is never interrupted halfway or performed
+ * after the caller was told that the work was cancelled.
+ * <p>
+ * This fills the same role as {@code java.util.concurrent.StructuredTaskScope}, which is still a preview API in the
+ * Java version targeted by this project.
+ */
+public final class TaskScope implements AutoCloseable
+{
+    private final ExecutorService executor;
+    private final long deadlineNanos;
+    private final Set<Future<?>> subtasks = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<State> state = new AtomicReference<>(State.ACTIVE);
+
+    /**
+     * Creates a new scope.
+     *
+     * @param executor
+     *     The executor to run forked subtasks on. This should usually be a virtual thread executor.
+     * @param timeout
+     *     The amount of time from now until the deadline of the scope.
+     */
+    public TaskScope(ExecutorService executor, Duration timeout)
+    {
+        this.executor = executor;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Forks a new subtask in this scope.
+     *
+     * @param task
+     *     The task to run.
+     * @param <T>
+     *     The type of the result of the task.
+     * @return A future that is completed with the result of the task. When this future is completed exceptionally
+     * before the task has finished (e.g. because it was cancelled or timed out), the task is interrupted.
+     *
+     * @throws CancellationException
+     *     If this scope has already been cancelled.
+     */
+    public <T> CompletableFuture<T> fork(Callable<T> task)
+    {
+        ensureNotCancelled();
+
+        final CompletableFuture<T> result = register(new CompletableFuture<>());
+        final Future<?> future = executor.submit(() ->
+        {
+            try
+            {
+                result.complete(task.call());
+            }
+            catch (Throwable t)
+            {
+                result.completeExceptionally(t);
+            }
+        });
+
+        result.whenComplete((ignored, throwable) ->
+        {
+            subtasks.remove(result);
+            if (throwable != null)
+                future.cancel(true);
+        });
+        return result;
+    }
+
+    /**
+     * Adopts an existing future as a subtask of this scope.
+     * <p>
+     * The future will be cancelled when this scope is cancelled or closed before the future has completed.
+     *
+     * @param future
+     *     The future to adopt.
+     * @param <T>
+     *     The type of the result of the future.
+     * @return The same future.
+     *
+     * @throws CancellationException
+     *     If this scope has already been cancelled.
+     */
+    public <T> CompletableFuture<T> adopt(CompletableFuture<T> future)
+    {
+        ensureNotCancelled();
+        register(future);
+        future.whenComplete((ignored, throwable) -> subtasks.remove(future));
+        return future;
+    }
+
+    private <T> CompletableFuture<T> register(CompletableFuture<T> future)
+    {
+        subtasks.add(future);
+        // The scope may have been cancelled while the future was being registered.
+        if (isCancelled())
+            future.cancel(true);
+        return future;
+    }
+
+    /**
+     * Waits for a subtask to complete, but no longer than the deadline of this scope.
+     *
+     * @param future
+     *     The subtask to wait for.
+     * @param <T>
+     *     The type of the result of the subtask.
+     * @return The result of the subtask.
+     *
+     * @throws TimeoutException
+     *     If the deadline of this scope was reached before the subtask completed.
+     * @throws ExecutionException
+     *     If the subtask completed exceptionally.
+     * @throws InterruptedException
+     *     If the current thread was interrupted while waiting.
+     * @throws CancellationException
+     *     If the subtask or this scope was cancelled.
+     */
+    public <T> T join(Future<T> future)
+        throws TimeoutException, ExecutionException, InterruptedException
+    {
+        ensureNotCancelled();
+        return future.get(Math.max(0, getRemainingNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Ensures that this scope is still active.
+     * <p>
+     * This should be called between steps that do not wait on subtasks, so that work stops as soon as possible after
+     * the deadline has been reached or the scope has been cancelled.
+     *
+     * @throws CancellationException
+     *     If this scope has been cancelled.
+     * @throws TimeoutException
+     *     If the deadline of this scope has been reached.
+     */
+    public void ensureActive()
+        throws TimeoutException
+    {
+        ensureNotCancelled();
+        if (getRemainingNanos() <= 0)
+            throw new TimeoutException("The deadline of the task scope has been reached!");
+    }
+
+    private void ensureNotCancelled()
+    {
+        if (isCancelled())
+            throw new CancellationException("The task scope has been cancelled!");
+    }
+
+    /**
+     * Commits this scope.
+     * <p>
+     * This should be called right before performing a side effect that cannot be undone. After this method has
+     * returned successfully, {@link #cancel()} has no effect anymore, so the side effect is not interrupted.
+     * <p>
+     * Committing a scope that was already committed has no effect.
+     *
+     * @throws CancellationException
+     *     If this scope has been cancelled.
+     * @throws TimeoutException
+     *     If the deadline of this scope has been reached.
+     */
+    public void commit()
+        throws TimeoutException
+    {
+        ensureActive();
+        if (!state.compareAndSet(State.ACTIVE, State.COMMITTED) && isCancelled())
+            throw new CancellationException("The task scope has been cancelled!");
+    }
+
+    /**
+     * Checks if this scope has been committed.
+     *
+     * @return True if this scope has been committed.
+     */
+    public boolean isCommitted()
+    {
+        return state.get() == State.COMMITTED;
+    }
+
+    private long getRemainingNanos()
+    {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Gets the amount of time left until the deadline of this scope.
+     *
+     * @return The remaining time. This is {@link Duration#ZERO} if the deadline has already been reached.
+     */
+    public Duration getRemaining()
+    {
+        return Duration.ofNanos(Math.max(0, getRemainingNanos()));
+    }
+
+    /**
+     * Checks if this scope has been cancelled.
+     *
+     * @return True if this scope has been cancelled.
+     */
+    public boolean isCancelled()
+    {
+        return state.get() == State.CANCELLED;
+    }
+
+    /**
+     * Cancels this scope and all subtasks that have not completed yet.
+     * <p>
+     * No new subtasks can be forked or adopted after this scope has been cancelled.
+     * <p>
+     * A scope that has been {@link #commit() committed} cannot be cancelled.
+     *
+     * @return True if this scope was cancelled by this call, false if it had already been cancelled or committed.
+     */
+    public boolean cancel()
+    {
+        if (!state.compareAndSet(State.ACTIVE, State.CANCELLED))
+            return false;
+        cancelSubtasks();
+        return true;
+    }
+
+    private void cancelSubtasks()
+    {
+        for (final Future<?> subtask : subtasks)
+            subtask.cancel(true);
+        subtasks.clear();
+    }
+
+    /**
+     * Closes this scope, cancelling all subtasks that have not completed yet.
+     * <p>
+     * Unlike {@link #cancel()}, this does not mark the scope as cancelled.
+     */
+    @Override
+    public void close()
+    {
+        cancelSubtasks();
+    }
+
+    private enum State
+    {
+        ACTIVE,
+        COMMITTED,
+        CANCELLED
+    }
+}
@@ -0,0 +1,66 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import nl.pim16aap2.testing.annotations.AllocationTest;
+import nl.pim16aap2.testing.assertions.AssertionBuilder;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@AllocationTest
+class AnimationRegionTest
+{
+    /**
+     * Keeps the result of the measured action reachable, so it cannot be optimized away.
+     */
+    @SuppressWarnings("unused")
+    private static volatile @Nullable Object sink;
+
+    @Test
+    void getRegion_shouldContainAllMarkerBlocks()
+    {
+        // setup
+        final AnimationRegion region = newAnimationRegion();
+
+        // execute
+        final Cuboid result = region.getRegion();
+
+        // verify
+        assertThat(result).isEqualTo(new Cuboid(new Vector3Di(-2, 10, 4), new Vector3Di(6, 20, 9)));
+        assertThat(region.getMarkerBlocks()).hasSize(8);
+    }
+
+    @Test
+    void getRegion_shouldOnlyAllocateResult()
+    {
+        // setup
+        final AnimationRegion region = newAnimationRegion();
+
+        // execute & verify
+        AssertionBuilder
+            .assertAllocations(() -> sink = region.getRegion())
+            .withDescription("AnimationRegion#getRegion")
+            .allocatesAtMost(768);
+    }
+
+    private static AnimationRegion newAnimationRegion()
+    {
+        final List<IAnimatedBlock> blocks = List.of(
+            new TestAnimatedBlock(-2, 10, 4),
+            new TestAnimatedBlock(6, 15, 5),
+            new TestAnimatedBlock(0, 20, 9),
+            new TestAnimatedBlock(3, 12, 7)
+        );
+
+        return new AnimationRegion(
+            blocks,
+            (x, y, z) -> 0F,
+            (x, y, z) -> new RotatedPosition(x, y, z)
+        );
+    }
+}
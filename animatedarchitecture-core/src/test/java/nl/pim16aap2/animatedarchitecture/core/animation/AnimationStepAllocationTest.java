@@ -0,0 +1,117 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureSnapshot;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.bigdoor.BigDoorAnimationComponent;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.slidingdoor.SlidingDoorAnimationComponent;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import nl.pim16aap2.testing.annotations.AllocationTest;
+import nl.pim16aap2.testing.assertions.AssertionBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies that {@link IAnimationComponent#executeAnimationStep(IAnimator, Iterable, int)} does not allocate more than
+ * the goal position of each block.
+ */
+@AllocationTest
+class AnimationStepAllocationTest
+{
+    /**
+     * The number of blocks in the animated wall.
+     */
+    private static final int BLOCK_COUNT = 10 * 10;
+
+    /**
+     * The maximum number of bytes that may be allocated for each animated block in a single step.
+     * <p>
+     * This leaves room for the {@link RotatedPosition} and its vectors, but not for any per-block collections or
+     * boxing.
+     */
+    private static final long MAX_BYTES_PER_BLOCK = 128;
+
+    private static final Cuboid CUBOID = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(9, 9, 0));
+
+    private AnimationRequestData data;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        final StructureSnapshot snapshot = mock();
+        when(snapshot.getCuboid()).thenReturn(CUBOID);
+        when(snapshot.getRequiredPropertyValue(Property.ROTATION_POINT)).thenReturn(new Vector3Di(0, 0, 0));
+
+        data = mock();
+        when(data.getStructureSnapshot()).thenReturn(snapshot);
+        when(data.getAnimationTime()).thenReturn(10D);
+        when(data.getServerTickTime()).thenReturn(50);
+    }
+
+    @Test
+    void executeAnimationStep_slidingDoor()
+    {
+        assertStepAllocations(new SlidingDoorAnimationComponent(data, MovementDirection.EAST, 8));
+    }
+
+    @Test
+    void executeAnimationStep_bigDoor()
+    {
+        assertStepAllocations(new BigDoorAnimationComponent(data, MovementDirection.CLOCKWISE, 1));
+    }
+
+    private static void assertStepAllocations(IAnimationComponent component)
+    {
+        final TestAnimator animator = new TestAnimator(component);
+        component.prepareAnimation(animator);
+
+        final int[] ticks = {0};
+        AssertionBuilder
+            .assertAllocations(() ->
+                component.executeAnimationStep(animator, animator.getAnimatedBlocks(), ticks[0]++ % 200))
+            .withDescription(component.getClass().getSimpleName() + "#executeAnimationStep")
+            .withWarmupRuns(2_000)
+            .withMeasuredRuns(200)
+            .allocatesAtMost(MAX_BYTES_PER_BLOCK * BLOCK_COUNT);
+    }
+
+    /**
+     * An animator that moves its blocks directly to their goal positions.
+     */
+    private static final class TestAnimator implements IAnimator
+    {
+        private final List<IAnimatedBlock> animatedBlocks;
+
+        TestAnimator(IAnimationComponent component)
+        {
+            final List<IAnimatedBlock> blocks = new ArrayList<>(BLOCK_COUNT);
+            final Vector3Di min = CUBOID.getMin();
+            final Vector3Di max = CUBOID.getMax();
+            for (int x = min.x(); x <= max.x(); ++x)
+                for (int y = min.y(); y <= max.y(); ++y)
+                    for (int z = min.z(); z <= max.z(); ++z)
+                        blocks.add(new TestAnimatedBlock(component, x, y, z));
+            this.animatedBlocks = Collections.unmodifiableList(blocks);
+        }
+
+        @Override
+        public List<IAnimatedBlock> getAnimatedBlocks()
+        {
+            return animatedBlocks;
+        }
+
+        @Override
+        public void applyMovement(IAnimatedBlock animatedBlock, RotatedPosition goalPos)
+        {
+            animatedBlock.moveToTarget(goalPos);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnimatorTickCostTest
+{
+    @Test
+    void finishTick_shouldUpdateLastAndTotalTimes()
+    {
+        // Setup
+        final AnimatorTickCost tickCost = new AnimatorTickCost();
+
+        // Execute
+        tickCost.addEntityUpdateTime(100);
+        tickCost.addEntityUpdateTime(200);
+        tickCost.finishTick(1_000, 50, 10);
+
+        tickCost.addEntityUpdateTime(400);
+        tickCost.finishTick(2_000, 25, 12);
+
+        // Verify
+        assertEquals(2, tickCost.getTicks());
+        assertEquals(12, tickCost.getBlockCount());
+
+        assertEquals(2_000, tickCost.getLastStepNanos());
+        assertEquals(25, tickCost.getLastHooksNanos());
+        assertEquals(400, tickCost.getLastEntityUpdateNanos());
+        assertEquals(2_025, tickCost.getLastTickNanos());
+
+        assertEquals(3_000, tickCost.getTotalStepNanos());
+        assertEquals(75, tickCost.getTotalHooksNanos());
+        assertEquals(700, tickCost.getTotalEntityUpdateNanos());
+        assertEquals(3_075, tickCost.getTotalNanos());
+    }
+
+    @Test
+    void finishTick_shouldResetEntityUpdateTimeOfCurrentTick()
+    {
+        // Setup
+        final AnimatorTickCost tickCost = new AnimatorTickCost();
+        tickCost.addEntityUpdateTime(100);
+        tickCost.finishTick(1_000, 0, 1);
+
+        // Execute
+        tickCost.finishTick(1_000, 0, 1);
+
+        // Verify
+        assertEquals(0, tickCost.getLastEntityUpdateNanos());
+        assertEquals(100, tickCost.getTotalEntityUpdateNanos());
+    }
+
+    @Test
+    void mostExpensiveFirst_shouldSortByLastTick()
+    {
+        // Setup
+        final AnimatorTickCost cheap = new AnimatorTickCost();
+        cheap.finishTick(10_000, 0, 1);
+        cheap.finishTick(100, 0, 1);
+
+        final AnimatorTickCost expensive = new AnimatorTickCost();
+        expensive.finishTick(500, 500, 1);
+
+        final List<AnimatorTickCost> tickCosts = new ArrayList<>(List.of(cheap, expensive));
+
+        // Execute
+        tickCosts.sort(AnimatorTickCost.MOST_EXPENSIVE_FIRST);
+
+        // Verify
+        assertEquals(List.of(expensive, cheap), tickCosts);
+    }
+
+    @Test
+    void format_shouldIncludeAllValues()
+    {
+        // Setup
+        final AnimatorTickCost tickCost = new AnimatorTickCost();
+        tickCost.addEntityUpdateTime(250_000);
+        tickCost.finishTick(1_500_000, 500_000, 42);
+
+        // Execute
+        final String formatted = tickCost.format();
+
+        // Verify
+        assertEquals(
+            "blocks: 42, ticks: 1, last: 2.000ms (step: 1.500ms, hooks: 0.500ms, entities: 0.250ms), " +
+                "total: 2.000ms (step: 1.500ms, hooks: 0.500ms, entities: 0.250ms)",
+            formatted
+        );
+    }
+}
@@ -0,0 +1,235 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import lombok.Getter;
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.api.ILocation;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlockData;
+import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.IVector3D;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Dd;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An animated block that only keeps track of its positions and whether it is alive.
+ * <p>
+ * Unlike a mocked block, this block does not allocate any memory when it is moved, so it can be used to measure the
+ * allocations and the cost of the animation code itself.
+ * <p>
+ * Blocks created without a world are alive from the start. Blocks created with a world are alive only after they have
+ * been {@link #spawn() spawned}, in the same way as the blocks created by an {@link
+ * nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlockFactory}.
+ */
+public final class TestAnimatedBlock implements IAnimatedBlock, IAnimatedBlockData
+{
+    private final @Nullable IWorld world;
+
+    private final @Nullable LifecycleListener listener;
+
+    @Getter
+    private final RotatedPosition startPosition;
+
+    @Getter
+    private final RotatedPosition finalPosition;
+
+    @Getter
+    private final float radius;
+
+    private RotatedPosition currentTarget;
+    private RotatedPosition previousTarget;
+
+    @Getter
+    private volatile boolean alive;
+
+    @Getter
+    private int ticksLived = 0;
+
+    /**
+     * Creates a new block that is animated by the provided component.
+     * <p>
+     * The block is created in the same way an animated block container would create a block at the provided position.
+     *
+     * @param component
+     *     The animation component that will animate the block.
+     * @param x
+     *     The x coordinate of the block.
+     * @param y
+     *     The y coordinate of the block.
+     * @param z
+     *     The z coordinate of the block.
+     */
+    public TestAnimatedBlock(IAnimationComponent component, int x, int y, int z)
+    {
+        this(
+            null,
+            component.getStartPosition(x, y, z),
+            component.getFinalPosition(x, y, z),
+            component.getRadius(x, y, z),
+            null
+        );
+    }
+
+    /**
+     * Creates a new block that does not move.
+     *
+     * @param x
+     *     The x coordinate of the block.
+     * @param y
+     *     The y coordinate of the block.
+     * @param z
+     *     The z coordinate of the block.
+     */
+    public TestAnimatedBlock(double x, double y, double z)
+    {
+        this(null, new RotatedPosition(x, y, z), new RotatedPosition(x, y, z), 0, null);
+    }
+
+    /**
+     * Creates a new block.
+     *
+     * @param world
+     *     The world the block is in. When this is null, the block is alive from the start and accessing its world or
+     *     location throws an {@link UnsupportedOperationException}.
+     * @param startPosition
+     *     The position the block starts at.
+     * @param finalPosition
+     *     The position the block ends at.
+     * @param radius
+     *     The distance of the block to the rotation point.
+     * @param listener
+     *     The listener to notify when the block is spawned or killed.
+     */
+    public TestAnimatedBlock(
+        @Nullable IWorld world,
+        RotatedPosition startPosition,
+        RotatedPosition finalPosition,
+        float radius,
+        @Nullable LifecycleListener listener)
+    {
+        this.world = world;
+        this.listener = listener;
+        this.startPosition = startPosition;
+        this.finalPosition = finalPosition;
+        this.radius = radius;
+        this.currentTarget = startPosition;
+        this.previousTarget = startPosition;
+        this.alive = world == null;
+    }
+
+    @Override
+    public IAnimatedBlockData getAnimatedBlockData()
+    {
+        return this;
+    }
+
+    @Override
+    public Vector3Dd getCurrentPosition()
+    {
+        return currentTarget.position();
+    }
+
+    @Override
+    public Vector3Dd getPreviousPosition()
+    {
+        return previousTarget.position();
+    }
+
+    @Override
+    public Vector3Dd getPreviousTarget()
+    {
+        return previousTarget.position();
+    }
+
+    @Override
+    public void moveToTarget(RotatedPosition target)
+    {
+        previousTarget = currentTarget;
+        currentTarget = target;
+        ++ticksLived;
+    }
+
+    @Override
+    public Vector3Dd getPosition()
+    {
+        return getCurrentPosition();
+    }
+
+    @Override
+    public synchronized void spawn()
+    {
+        if (alive)
+            return;
+        alive = true;
+        if (listener != null)
+            listener.onLifecycleChange(true);
+    }
+
+    @Override
+    public void respawn()
+    {
+        kill();
+        spawn();
+    }
+
+    @Override
+    public synchronized void kill()
+    {
+        if (!alive)
+            return;
+        alive = false;
+        if (listener != null)
+            listener.onLifecycleChange(false);
+    }
+
+    @Override
+    public IWorld getWorld()
+    {
+        if (world == null)
+            throw new UnsupportedOperationException("This test block does not have a world!");
+        return world;
+    }
+
+    @Override
+    public ILocation getLocation()
+    {
+        return UnitTestUtil.getLocation(getPosition(), getWorld());
+    }
+
+    @Override
+    public boolean canRotate()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean rotateBlock(MovementDirection movementDirection, int times)
+    {
+        return false;
+    }
+
+    @Override
+    public void putBlock(IVector3D loc)
+    {
+    }
+
+    @Override
+    public void deleteOriginalBlock()
+    {
+    }
+
+    /**
+     * Listens to blocks being spawned and killed.
+     */
+    @FunctionalInterface
+    public interface LifecycleListener
+    {
+        /**
+         * Called after a block was spawned or killed.
+         *
+         * @param alive
+         *     True if the block was spawned, false if it was killed.
+         */
+        void onLifecycleChange(boolean alive);
+    }
+}
@@ -0,0 +1,239 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
+import nl.pim16aap2.animatedarchitecture.core.structures.IStructureConst;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureToggleResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ToggleAdmissionControllerTest
+{
+    @Mock
+    private IConfig config;
+
+    private final IWorld world = UnitTestUtil.getWorld();
+
+    private ToggleAdmissionController controller;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        when(config.maxConcurrentAnimations()).thenReturn(OptionalInt.of(1));
+        when(config.maxConcurrentAnimationsPerWorld()).thenReturn(OptionalInt.empty());
+        when(config.toggleQueueSize()).thenReturn(10);
+
+        controller = new ToggleAdmissionController(
+            mock(RestartableHolder.class),
+            config,
+            mock(DebuggableRegistry.class)
+        );
+    }
+
+    @Test
+    void submit_shouldStartToggleWhenSlotIsAvailable()
+    {
+        // execute
+        final var result = controller.submit(
+            structure(1, world),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+
+        // verify
+        assertThat(result).isCompletedWithValue(StructureToggleResult.SUCCESS);
+        assertThat(controller.getOccupiedSlots()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_shouldReleaseSlotWhenToggleFails()
+    {
+        // execute
+        controller.submit(
+            structure(1, world),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.OBSTRUCTED)
+        );
+
+        // verify
+        assertThat(controller.getOccupiedSlots()).isZero();
+    }
+
+    @Test
+    void submit_shouldQueuePlayerRequestsUntilSlotIsReleased()
+    {
+        // setup
+        occupySlot(1, world);
+        final AtomicInteger started = new AtomicInteger();
+
+        // execute
+        final var result = controller.submit(
+            structure(2, world),
+            StructureActionCause.PLAYER,
+            () ->
+            {
+                started.incrementAndGet();
+                return CompletableFuture.completedFuture(StructureToggleResult.SUCCESS);
+            }
+        );
+
+        // verify
+        assertThat(result).isNotDone();
+        assertThat(started).hasValue(0);
+        assertThat(controller.getPendingRequests()).isEqualTo(1);
+
+        controller.release(1);
+        assertThat(result).isCompletedWithValue(StructureToggleResult.SUCCESS);
+        assertThat(started).hasValue(1);
+        assertThat(controller.getPendingRequests()).isZero();
+    }
+
+    @Test
+    void submit_shouldThrottleWhenQueueIsFull()
+    {
+        // setup
+        when(config.toggleQueueSize()).thenReturn(0);
+        occupySlot(1, world);
+
+        // execute
+        final var result = controller.submit(
+            structure(2, world),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+
+        // verify
+        assertThat(result).isCompletedWithValue(StructureToggleResult.THROTTLED);
+    }
+
+    @Test
+    void submit_shouldDropPerpetualMovementRequests()
+    {
+        // setup
+        occupySlot(1, world);
+
+        // execute
+        final var result = controller.submit(
+            structure(2, world),
+            StructureActionCause.PERPETUAL_MOVEMENT,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+
+        // verify
+        assertThat(result).isCompletedWithValue(StructureToggleResult.THROTTLED);
+        assertThat(controller.getPendingRequests()).isZero();
+    }
+
+    @Test
+    void submit_shouldCoalesceRedstoneRequestsForTheSameStructure()
+    {
+        // setup
+        occupySlot(1, world);
+        final IStructureConst structure = structure(2, world);
+        final AtomicInteger firstStarted = new AtomicInteger();
+
+        // execute
+        final var first = controller.submit(
+            structure,
+            StructureActionCause.REDSTONE,
+            () ->
+            {
+                firstStarted.incrementAndGet();
+                return CompletableFuture.completedFuture(StructureToggleResult.SUCCESS);
+            }
+        );
+        final var second = controller.submit(
+            structure,
+            StructureActionCause.REDSTONE,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.ALREADY_OPEN)
+        );
+
+        // verify
+        assertThat(controller.getPendingRequests()).isEqualTo(1);
+
+        controller.release(1);
+        assertThat(firstStarted).hasValue(0);
+        assertThat(first).isCompletedWithValue(StructureToggleResult.ALREADY_OPEN);
+        assertThat(second).isCompletedWithValue(StructureToggleResult.ALREADY_OPEN);
+    }
+
+    @Test
+    void submit_shouldApplyLimitPerWorld()
+    {
+        // setup
+        when(config.maxConcurrentAnimations()).thenReturn(OptionalInt.empty());
+        when(config.maxConcurrentAnimationsPerWorld()).thenReturn(OptionalInt.of(1));
+        final IWorld otherWorld = UnitTestUtil.getWorld();
+        occupySlot(1, world);
+
+        // execute
+        final var sameWorld = controller.submit(
+            structure(2, world),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+        final var differentWorld = controller.submit(
+            structure(3, otherWorld),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+
+        // verify
+        assertThat(sameWorld).isNotDone();
+        assertThat(differentWorld).isCompletedWithValue(StructureToggleResult.SUCCESS);
+    }
+
+    @Test
+    void shutDown_shouldCancelPendingRequests()
+    {
+        // setup
+        occupySlot(1, world);
+        final var result = controller.submit(
+            structure(2, world),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+
+        // execute
+        controller.shutDown();
+
+        // verify
+        assertThat(result).isCompletedWithValue(StructureToggleResult.CANCELLED);
+        assertThat(controller.getOccupiedSlots()).isZero();
+    }
+
+    private void occupySlot(long uid, IWorld world)
+    {
+        controller.submit(
+            structure(uid, world),
+            StructureActionCause.PLAYER,
+            () -> CompletableFuture.completedFuture(StructureToggleResult.SUCCESS)
+        );
+    }
+
+    private static IStructureConst structure(long uid, IWorld world)
+    {
+        final IStructureConst structure = mock();
+        when(structure.getUid()).thenReturn(uid);
+        when(structure.getWorld()).thenReturn(world);
+        return structure;
+    }
+}
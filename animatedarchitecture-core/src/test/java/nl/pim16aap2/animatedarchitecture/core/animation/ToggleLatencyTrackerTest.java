@@ -0,0 +1,113 @@
+package nl.pim16aap2.animatedarchitecture.core.animation;
+
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ToggleLatencyTrackerTest
+{
+    @Mock
+    private DebuggableRegistry debuggableRegistry;
+
+    @Mock
+    private StructureType typeA;
+
+    @Mock
+    private StructureType typeB;
+
+    private ToggleLatencyTracker tracker;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        when(typeA.getFullNameWithVersion()).thenReturn("a:1");
+        when(typeB.getFullNameWithVersion()).thenReturn("b:1");
+
+        tracker = new ToggleLatencyTracker(debuggableRegistry);
+    }
+
+    @Test
+    void constructor_shouldRegisterDebuggable()
+    {
+        verify(debuggableRegistry).registerDebuggable(tracker);
+    }
+
+    @Test
+    void record_shouldKeepSeparateHistogramsPerPhaseTypeAndCause()
+    {
+        // execute
+        tracker.record(TogglePhase.SPAWN, typeA, StructureActionCause.PLAYER, Duration.ofMillis(1).toNanos());
+        tracker.record(TogglePhase.SPAWN, typeA, StructureActionCause.PLAYER, Duration.ofMillis(3).toNanos());
+        tracker.record(TogglePhase.SPAWN, typeA, StructureActionCause.REDSTONE, Duration.ofMillis(2).toNanos());
+        tracker.record(TogglePhase.SPAWN, typeB, StructureActionCause.PLAYER, Duration.ofMillis(4).toNanos());
+        tracker.record(TogglePhase.RETRIEVAL, typeB, StructureActionCause.PLAYER, Duration.ofMillis(5).toNanos());
+
+        // verify
+        assertThat(tracker.getEntries())
+            .extracting(ToggleLatencyTracker.Entry::phase, ToggleLatencyTracker.Entry::getName)
+            .containsExactly(
+                tuple(TogglePhase.RETRIEVAL, "b:1/player"),
+                tuple(TogglePhase.SPAWN, "a:1/player"),
+                tuple(TogglePhase.SPAWN, "a:1/redstone"),
+                tuple(TogglePhase.SPAWN, "b:1/player")
+            );
+
+        final ToggleLatencyTracker.Entry entry = tracker.getEntries().get(1);
+        assertThat(entry.histogram().getCount()).isEqualTo(2);
+        assertThat(entry.histogram().getMax()).isEqualTo(Duration.ofMillis(3));
+    }
+
+    @Test
+    void format_shouldGroupEntriesByPhase()
+    {
+        // setup
+        tracker.record(TogglePhase.SPAWN, typeA, StructureActionCause.PLAYER, 1_000_000);
+        tracker.record(TogglePhase.SPAWN, typeB, StructureActionCause.SERVER, 1_000_000);
+        tracker.record(TogglePhase.DATABASE_SYNC, typeA, StructureActionCause.PLAYER, 1_000_000);
+
+        // execute
+        final String formatted = tracker.format();
+
+        // verify
+        assertThat(formatted)
+            .isNotNull()
+            .startsWith("  spawn:\n    a:1/player: count: 1")
+            .contains("\n    b:1/server: count: 1")
+            .contains("\n  database_sync:\n    a:1/player: count: 1");
+    }
+
+    @Test
+    void format_shouldReturnNullWithoutData()
+    {
+        assertThat(tracker.format()).isNull();
+        assertThat(tracker.getDebugInformation()).isEqualTo("Toggle latency per phase: No data");
+    }
+
+    @Test
+    void reset_shouldRemoveAllEntries()
+    {
+        // setup
+        tracker.record(TogglePhase.SPAWN, typeA, StructureActionCause.PLAYER, 1_000_000);
+
+        // execute
+        tracker.reset();
+
+        // verify
+        assertThat(tracker.getEntries()).isEmpty();
+        assertThat(tracker.format()).isNull();
+    }
+}
@@ -0,0 +1,190 @@
+package nl.pim16aap2.animatedarchitecture.core.api.debugging;
+
+import nl.pim16aap2.animatedarchitecture.core.animation.Animator;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimatorTickCost;
+import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureSnapshot;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Dd;
+import nl.pim16aap2.testing.annotations.FileSystemTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PerformanceSnapshotRecorderTest
+{
+    private ExecutorService virtualExecutor;
+
+    private StructureActivityManager structureActivityManager;
+
+    private MetricsRegistry metricsRegistry;
+
+    private IExecutor executor;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        structureActivityManager = mock();
+        when(structureActivityManager.getMostExpensiveAnimators(anyInt())).thenReturn(List.of());
+
+        metricsRegistry = new MetricsRegistry(mock(DebuggableRegistry.class));
+
+        executor = mock();
+        when(executor.getVirtualExecutor()).thenReturn(virtualExecutor);
+        when(executor.runOnMainThread(any(Supplier.class), any(IExecutor.MainThreadPriority.class)))
+            .thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
+    @AfterEach
+    void afterEach()
+    {
+        virtualExecutor.shutdownNow();
+    }
+
+    @FileSystemTest
+    void record_shouldWriteActiveAnimatorsToFile(Path rootDir)
+        throws Exception
+    {
+        // setup
+        final Animator animator = mockAnimator();
+        when(structureActivityManager.getMostExpensiveAnimators(anyInt())).thenReturn(List.of(animator));
+        metricsRegistry.gauge(PerformanceSnapshotRecorder.MAIN_THREAD_QUEUE_DEPTH, () -> 7);
+        metricsRegistry.gauge(PerformanceSnapshotRecorder.DATABASE_QUEUE_DEPTH, () -> 2);
+
+        final PerformanceSnapshotRecorder recorder =
+            new PerformanceSnapshotRecorder(structureActivityManager, metricsRegistry, executor, rootDir);
+
+        // execute
+        final Path file = recorder.record(Duration.ZERO).join();
+
+        // verify
+        assertThat(file.getParent()).isEqualTo(rootDir.resolve(PerformanceSnapshotRecorder.DIRECTORY_NAME));
+
+        final List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0)).isEqualTo("# AnimatedArchitecture performance snapshot");
+        assertThat(lines.get(1)).endsWith("duration: 0ms, interval: 250ms, samples: 1");
+        assertThat(lines.get(2))
+            .startsWith("# peak: main_queue=7 db_queue=2 main_thread_delay=")
+            .endsWith("blocks=3 animator_tick=1.500ms (door (42))");
+        assertThat(lines.get(3))
+            .startsWith("+")
+            .contains(" main_queue=7 db_queue=2 ")
+            .endsWith(" animators=1 blocks=3");
+        assertThat(lines.get(4)).isEqualTo(
+            "  door (42) animatedarchitecture:bigdoor:1 blocks=3 ticks=10 " +
+                "last=1.500ms step=1.000ms hooks=0.500ms entities=0.250ms");
+        assertThat(lines.get(5)).isEqualTo("  chunks: world[0,0]=2 world[-1,2]=1");
+    }
+
+    @FileSystemTest
+    void record_shouldWriteUnavailableQueueDepths(Path rootDir)
+        throws Exception
+    {
+        // setup
+        final PerformanceSnapshotRecorder recorder =
+            new PerformanceSnapshotRecorder(structureActivityManager, metricsRegistry, executor, rootDir);
+
+        // execute
+        final Path file = recorder.record(Duration.ZERO).join();
+
+        // verify
+        final List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(2)).endsWith("blocks=0 animator_tick=n/a");
+        assertThat(lines.get(3))
+            .contains(" main_queue=n/a db_queue=n/a ")
+            .endsWith(" animators=0 blocks=0");
+    }
+
+    @FileSystemTest
+    void record_shouldTakeSampleForEachInterval(Path rootDir)
+        throws Exception
+    {
+        // setup
+        final PerformanceSnapshotRecorder recorder =
+            new PerformanceSnapshotRecorder(structureActivityManager, metricsRegistry, executor, rootDir);
+        final Duration duration = PerformanceSnapshotRecorder.SAMPLE_INTERVAL.multipliedBy(2);
+
+        // execute
+        final CompletableFuture<Path> recording = recorder.record(duration);
+        final CompletableFuture<Path> concurrentRecording = recorder.record(duration);
+
+        // verify
+        assertThat(concurrentRecording).isSameAs(recording);
+        assertThat(Files.readAllLines(recording.join()))
+            .filteredOn(line -> line.startsWith("+"))
+            .hasSize(3);
+    }
+
+    @Test
+    void record_shouldThrowExceptionForNegativeDuration()
+    {
+        // setup
+        final PerformanceSnapshotRecorder recorder =
+            new PerformanceSnapshotRecorder(structureActivityManager, metricsRegistry, executor, Path.of("."));
+
+        // execute & verify
+        assertThatIllegalArgumentException().isThrownBy(() -> recorder.record(Duration.ofMillis(-1)));
+    }
+
+    private static Animator mockAnimator()
+    {
+        final StructureType type = mock();
+        when(type.getFullNameWithVersion()).thenReturn("animatedarchitecture:bigdoor:1");
+
+        final IWorld world = mock();
+        when(world.worldName()).thenReturn("world");
+
+        final StructureSnapshot snapshot = mock();
+        when(snapshot.getNameAndUid()).thenReturn("door (42)");
+        when(snapshot.getType()).thenReturn(type);
+        when(snapshot.getWorld()).thenReturn(world);
+
+        final AnimatorTickCost tickCost = mock();
+        when(tickCost.getBlockCount()).thenReturn(3L);
+        when(tickCost.getTicks()).thenReturn(10L);
+        when(tickCost.getLastTickNanos()).thenReturn(1_500_000L);
+        when(tickCost.getLastStepNanos()).thenReturn(1_000_000L);
+        when(tickCost.getLastHooksNanos()).thenReturn(500_000L);
+        when(tickCost.getLastEntityUpdateNanos()).thenReturn(250_000L);
+
+        final List<IAnimatedBlock> animatedBlocks = List.of(
+            mockAnimatedBlock(new Vector3Dd(1.5, 64, 15.9)),
+            mockAnimatedBlock(new Vector3Dd(0, 70, 0)),
+            mockAnimatedBlock(new Vector3Dd(-0.5, 64, 32))
+        );
+
+        final Animator animator = mock();
+        when(animator.getSnapshot()).thenReturn(snapshot);
+        when(animator.getTickCost()).thenReturn(tickCost);
+        when(animator.getAnimatedBlocks()).thenReturn(animatedBlocks);
+        return animator;
+    }
+
+    private static IAnimatedBlock mockAnimatedBlock(Vector3Dd position)
+    {
+        final IAnimatedBlock animatedBlock = mock();
+        when(animatedBlock.getCurrentPosition()).thenReturn(position);
+        return animatedBlock;
+    }
+}
@@ -0,0 +1,143 @@
+package nl.pim16aap2.animatedarchitecture.core.api.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JfrEventManagerTest
+{
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private IConfig config;
+
+    private JfrEventManager jfrEventManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        jfrEventManager = new JfrEventManager(
+            mock(RestartableHolder.class),
+            config,
+            mock(DebuggableRegistry.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        jfrEventManager.shutDown();
+    }
+
+    @Test
+    void initialize_shouldRecordEventsWhenEnabled()
+        throws Exception
+    {
+        // setup
+        when(config.jfrEvents()).thenReturn(true);
+        jfrEventManager.initialize();
+
+        // execute
+        final List<RecordedEvent> events = record(() ->
+        {
+            final AnimationTickEvent tickEvent = new AnimationTickEvent(42L);
+            tickEvent.begin();
+            tickEvent.commit(7);
+
+            final StorageCallEvent storageCallEvent = new StorageCallEvent("GET_STRUCTURE");
+            storageCallEvent.begin();
+            storageCallEvent.commit(1);
+        });
+
+        // verify
+        assertThat(jfrEventManager.isRegistered()).isTrue();
+        assertThat(events)
+            .extracting(event -> event.getEventType().getName())
+            .containsExactlyInAnyOrder(AnimationTickEvent.NAME, StorageCallEvent.NAME);
+
+        final RecordedEvent tickEvent = events.stream()
+            .filter(event -> event.getEventType().getName().equals(AnimationTickEvent.NAME))
+            .findFirst()
+            .orElseThrow();
+        assertThat(tickEvent.getLong("structureUid")).isEqualTo(42L);
+        assertThat(tickEvent.getInt("blockCount")).isEqualTo(7);
+    }
+
+    @Test
+    void initialize_shouldNotRecordEventsWhenDisabled()
+        throws Exception
+    {
+        // setup
+        when(config.jfrEvents()).thenReturn(false);
+        jfrEventManager.initialize();
+
+        // execute
+        final List<RecordedEvent> events = record(() ->
+            new AnimationStartEvent(1L, "door", 10).commit());
+
+        // verify
+        assertThat(jfrEventManager.isRegistered()).isFalse();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void shutDown_shouldUnregisterEvents()
+        throws Exception
+    {
+        // setup
+        when(config.jfrEvents()).thenReturn(true);
+        jfrEventManager.initialize();
+
+        // execute
+        jfrEventManager.shutDown();
+        final List<RecordedEvent> events = record(() ->
+            new AnimationStopEvent(1L, "door", 10, 20L, false).commit());
+
+        // verify
+        assertThat(jfrEventManager.isRegistered()).isFalse();
+        assertThat(events).isEmpty();
+    }
+
+    /**
+     * Records the custom events committed by the provided action.
+     *
+     * @param action
+     *     The action that commits the events.
+     * @return The recorded custom events.
+     */
+    private List<RecordedEvent> record(Runnable action)
+        throws Exception
+    {
+        final Path file = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording())
+        {
+            JfrEventManager.EVENT_TYPES.forEach(type -> recording.enable(type).withoutThreshold());
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith(JfrEventManager.NAME_PREFIX))
+            .toList();
+    }
+}
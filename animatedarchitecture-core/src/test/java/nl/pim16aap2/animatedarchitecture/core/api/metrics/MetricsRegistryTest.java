@@ -0,0 +1,111 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MetricsRegistryTest
+{
+    private MetricsRegistry metricsRegistry;
+
+    @BeforeEach
+    void setUp()
+    {
+        metricsRegistry = new MetricsRegistry(mock(DebuggableRegistry.class));
+    }
+
+    @Test
+    void counter_shouldReturnSameCounterForSameName()
+    {
+        // execute
+        metricsRegistry.counter("test.counter").increment();
+        metricsRegistry.counter("test.counter").add(4);
+        metricsRegistry.counter("test.counter").add(-1);
+
+        // verify
+        assertThat(metricsRegistry.counter("test.counter").get()).isEqualTo(5);
+        assertThat(metricsRegistry.snapshot().values()).containsEntry("test.counter", 5D);
+    }
+
+    @Test
+    void gauge_shouldReadSupplierForEachSnapshot()
+    {
+        // setup
+        final AtomicInteger value = new AtomicInteger(1);
+        metricsRegistry.gauge("test.gauge", value::get);
+
+        // execute & verify
+        assertThat(metricsRegistry.snapshot().values()).containsEntry("test.gauge", 1D);
+        value.set(2);
+        assertThat(metricsRegistry.snapshot().values()).containsEntry("test.gauge", 2D);
+    }
+
+    @Test
+    void snapshot_shouldSkipFailingGauges()
+    {
+        // setup
+        metricsRegistry.gauge("test.failing", () ->
+        {
+            throw new IllegalStateException("Expected exception!");
+        });
+        metricsRegistry.gauge("test.working", () -> 3);
+
+        // execute
+        final MetricsSnapshot snapshot = metricsRegistry.snapshot();
+
+        // verify
+        assertThat(snapshot.values())
+            .doesNotContainKey("test.failing")
+            .containsEntry("test.working", 3D);
+    }
+
+    @Test
+    void snapshot_shouldFlattenHistograms()
+    {
+        // setup
+        final LatencyHistogram histogram = metricsRegistry.histogram("test.latency");
+        histogram.record(Duration.ofMillis(2).toNanos());
+        histogram.record(Duration.ofMillis(4).toNanos());
+
+        // execute
+        final MetricsSnapshot snapshot = metricsRegistry.snapshot();
+
+        // verify
+        assertThat(snapshot.values())
+            .containsEntry("test.latency.count", 2D)
+            .containsEntry("test.latency.mean_ms", 3D)
+            .containsEntry("test.latency.max_ms", 4D)
+            .containsKeys("test.latency.p50_ms", "test.latency.p90_ms", "test.latency.p99_ms");
+    }
+
+    @Test
+    void verifyName_shouldRejectInvalidNames()
+    {
+        assertThatThrownBy(() -> metricsRegistry.counter("Invalid"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> metricsRegistry.counter("invalid..name"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> metricsRegistry.counter("invalid name"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyName_shouldRejectNamesUsedByOtherMetricTypes()
+    {
+        // setup
+        metricsRegistry.counter("test.metric");
+
+        // execute & verify
+        assertThatThrownBy(() -> metricsRegistry.gauge("test.metric", () -> 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> metricsRegistry.histogram("test.metric"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
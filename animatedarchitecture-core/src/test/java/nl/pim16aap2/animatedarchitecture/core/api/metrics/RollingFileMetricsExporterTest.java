@@ -0,0 +1,82 @@
+package nl.pim16aap2.animatedarchitecture.core.api.metrics;
+
+import nl.pim16aap2.testing.annotations.FileSystemTest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RollingFileMetricsExporterTest
+{
+    private static final Instant TIMESTAMP = Instant.ofEpochSecond(1_700_000_000L);
+
+    @Test
+    void format_shouldUseGraphitePlaintextFormat()
+    {
+        // setup
+        final TreeMap<String, Double> values = new TreeMap<>();
+        values.put("database.queue_depth", 3D);
+        values.put("structures.cache.hit_rate", 0.5);
+
+        // execute
+        final String formatted = RollingFileMetricsExporter.format(new MetricsSnapshot(TIMESTAMP, values));
+
+        // verify
+        assertThat(formatted).isEqualTo(
+            "animatedarchitecture.database.queue_depth 3 1700000000\n" +
+                "animatedarchitecture.structures.cache.hit_rate 0.500 1700000000\n"
+        );
+    }
+
+    @FileSystemTest
+    void export_shouldAppendToCurrentFile(Path rootDir)
+        throws Exception
+    {
+        // setup
+        final RollingFileMetricsExporter exporter =
+            new RollingFileMetricsExporter(rootDir.resolve("metrics"), 1_024, 3);
+
+        // execute
+        exporter.export(snapshot(1));
+        exporter.export(snapshot(2));
+
+        // verify
+        assertThat(Files.readAllLines(exporter.getCurrentFile())).containsExactly(
+            "animatedarchitecture.value 1 1700000000",
+            "animatedarchitecture.value 2 1700000000"
+        );
+        assertThat(exporter.getFile(1)).doesNotExist();
+    }
+
+    @FileSystemTest
+    void export_shouldRollOverFullFiles(Path rootDir)
+        throws Exception
+    {
+        // setup
+        final RollingFileMetricsExporter exporter = new RollingFileMetricsExporter(rootDir, 1, 3);
+
+        // execute
+        for (int idx = 1; idx <= 4; ++idx)
+            exporter.export(snapshot(idx));
+
+        // verify
+        assertThat(Files.readAllLines(exporter.getCurrentFile()))
+            .containsExactly("animatedarchitecture.value 4 1700000000");
+        assertThat(Files.readAllLines(exporter.getFile(1)))
+            .containsExactly("animatedarchitecture.value 3 1700000000");
+        assertThat(Files.readAllLines(exporter.getFile(2)))
+            .containsExactly("animatedarchitecture.value 2 1700000000");
+        assertThat(exporter.getFile(3)).doesNotExist();
+    }
+
+    private static MetricsSnapshot snapshot(double value)
+    {
+        final TreeMap<String, Double> values = new TreeMap<>();
+        values.put("value", value);
+        return new MetricsSnapshot(TIMESTAMP, values);
+    }
+}
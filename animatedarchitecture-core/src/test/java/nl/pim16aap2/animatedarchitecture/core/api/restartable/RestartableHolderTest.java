@@ -0,0 +1,249 @@
+package nl.pim16aap2.animatedarchitecture.core.api.restartable;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RestartableHolderTest
+{
+    private final Queue<String> events = new ConcurrentLinkedQueue<>();
+
+    private RestartableHolder restartableHolder;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        restartableHolder = new RestartableHolder();
+    }
+
+    @Test
+    void initialize_shouldInitializeSequentiallyInRegistrationOrder()
+    {
+        // setup
+        final Thread currentThread = Thread.currentThread();
+        final Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+        final Runnable recordThread = () -> threads.add(Thread.currentThread());
+        restartableHolder.registerRestartable(new TestRestartable("first", List.of(), recordThread));
+        restartableHolder.registerRestartable(new TestRestartable("second", null, recordThread));
+        restartableHolder.registerRestartable(new TestRestartable("third", List.of(), recordThread));
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        assertThat(events).containsExactly("initialize first", "initialize second", "initialize third");
+        assertThat(threads).containsOnly(currentThread);
+    }
+
+    @Test
+    void shutDown_shouldShutDownInReverseOrder()
+    {
+        // setup
+        restartableHolder.registerRestartable(new TestRestartable("first", null));
+        restartableHolder.registerRestartable(new TestRestartable("second", null));
+
+        // execute
+        restartableHolder.shutDown();
+
+        // verify
+        assertThat(events).containsExactly("shut down second", "shut down first");
+        assertThat(restartableHolder.getLastShutDownTimings()).hasSize(2);
+    }
+
+    @Test
+    void initialize_shouldRecordTimingsSortedFromSlowestToFastest()
+    {
+        // setup
+        restartableHolder.registerRestartable(new TestRestartable("fast", null));
+        restartableHolder.registerRestartable(new SlowRestartable());
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        final List<RestartableHolder.RestartableTiming> timings = restartableHolder.getLastInitializationTimings();
+        assertThat(timings).hasSize(2);
+        assertThat(timings.getFirst().type()).isEqualTo(SlowRestartable.class.getName());
+        assertThat(timings.getFirst().durationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(timings).isSortedAccordingTo(RestartableHolder.RestartableTiming.SLOWEST_FIRST);
+    }
+
+    @Test
+    void initialize_shouldRecordTimingOfFailingRestartable()
+    {
+        // setup
+        restartableHolder.registerRestartable(new TestRestartable("failing", null, () ->
+        {
+            throw new IllegalStateException("Expected exception!");
+        }));
+        restartableHolder.registerRestartable(new TestRestartable("working", null));
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        assertThat(events).containsExactly("initialize failing", "initialize working");
+        assertThat(restartableHolder.getLastInitializationTimings()).hasSize(2);
+    }
+
+    @Test
+    void initialize_shouldInitializeIndependentRestartablesConcurrently()
+    {
+        // setup
+        restartableHolder.setParallelInitialization(() -> true);
+
+        // Both restartables can only finish when they are running at the same time.
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Runnable awaitOther = () ->
+        {
+            latch.countDown();
+            try
+            {
+                if (!latch.await(10, TimeUnit.SECONDS))
+                    throw new IllegalStateException("Restartables were not initialized concurrently!");
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            events.add("done");
+        };
+
+        restartableHolder.registerRestartable(new TestRestartable("first", List.of(), awaitOther));
+        restartableHolder.registerRestartable(new TestRestartable("second", List.of(), awaitOther));
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        assertThat(events).filteredOn("done"::equals).hasSize(2);
+    }
+
+    @Test
+    void initialize_shouldRespectDeclaredDependencies()
+    {
+        // setup
+        restartableHolder.setParallelInitialization(() -> true);
+
+        restartableHolder.registerRestartable(new SlowRestartable());
+        restartableHolder.registerRestartable(new TestRestartable("dependent", List.of(SlowRestartable.class)));
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        assertThat(events).containsExactly("initialize slow", "initialize dependent");
+    }
+
+    @Test
+    void initialize_shouldInitializeUndeclaredRestartablesOnCallingThreadAfterEarlierRestartables()
+    {
+        // setup
+        restartableHolder.setParallelInitialization(() -> true);
+        final Thread currentThread = Thread.currentThread();
+        final Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+        final Runnable recordThread = () -> threads.add(Thread.currentThread());
+
+        restartableHolder.registerRestartable(new SlowRestartable());
+        restartableHolder.registerRestartable(new TestRestartable("undeclared", null, recordThread));
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        assertThat(events).containsExactly("initialize slow", "initialize undeclared");
+        assertThat(threads).containsExactly(currentThread);
+    }
+
+    @Test
+    void initialize_shouldQueryParallelInitializationForEachRestartable()
+    {
+        // setup
+        final boolean[] parallel = {false};
+        restartableHolder.setParallelInitialization(() -> parallel[0]);
+
+        final Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+        final Runnable recordThread = () -> threads.add(Thread.currentThread());
+        restartableHolder.registerRestartable(new TestRestartable("config", null, () -> parallel[0] = true));
+        restartableHolder.registerRestartable(new TestRestartable("declared", List.of(), recordThread));
+
+        // execute
+        restartableHolder.initialize();
+
+        // verify
+        assertThat(threads).hasSize(1);
+        assertThat(threads.element()).isNotEqualTo(Thread.currentThread());
+    }
+
+    private class TestRestartable implements IRestartable
+    {
+        private final String name;
+        private final @Nullable Collection<Class<? extends IRestartable>> dependencies;
+        private final Runnable onInitialize;
+
+        TestRestartable(
+            String name,
+            @Nullable Collection<Class<? extends IRestartable>> dependencies,
+            Runnable onInitialize)
+        {
+            this.name = name;
+            this.dependencies = dependencies;
+            this.onInitialize = onInitialize;
+        }
+
+        TestRestartable(String name, @Nullable Collection<Class<? extends IRestartable>> dependencies)
+        {
+            this(name, dependencies, () ->
+            {
+            });
+        }
+
+        @Override
+        public void initialize()
+        {
+            events.add("initialize " + name);
+            onInitialize.run();
+        }
+
+        @Override
+        public void shutDown()
+        {
+            events.add("shut down " + name);
+        }
+
+        @Override
+        public @Nullable Collection<Class<? extends IRestartable>> getInitializationDependencies()
+        {
+            return dependencies;
+        }
+    }
+
+    private final class SlowRestartable extends TestRestartable
+    {
+        SlowRestartable()
+        {
+            super("slow", List.of(), () ->
+            {
+                try
+                {
+                    Thread.sleep(30);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package nl.pim16aap2.animatedarchitecture.core.api.restartable;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,93 @@
+package nl.pim16aap2.animatedarchitecture.core.commands;
+
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebugReporter;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.PerformanceSnapshotRecorder;
+import nl.pim16aap2.testing.AssistedFactoryMocker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static nl.pim16aap2.animatedarchitecture.core.UnitTestUtil.assertThatMessageable;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Timeout(1)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DebugTest
+{
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private IServer commandSender;
+
+    @Mock
+    private DebugReporter debugReporter;
+
+    @Mock
+    private PerformanceSnapshotRecorder performanceSnapshotRecorder;
+
+    @Mock
+    private IExecutor executor;
+
+    private Debug.IFactory factory;
+
+    @BeforeEach
+    void init()
+    {
+        when(executor.getVirtualExecutor()).thenReturn(Executors.newVirtualThreadPerTaskExecutor());
+        UnitTestUtil.initMessageable(commandSender);
+        CommandTestingUtil.initCommandSenderPermissions(commandSender, true, true);
+
+        factory = new AssistedFactoryMocker<>(Debug.class, Debug.IFactory.class)
+            .injectParameters(executor, debugReporter, performanceSnapshotRecorder)
+            .getFactory();
+    }
+
+    @Test
+    void run_shouldWriteDebugReport()
+    {
+        // Setup
+        when(debugReporter.getDebugReport()).thenReturn("report");
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newDebug(commandSender, false).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        verify(debugReporter).getDebugReport();
+        verify(performanceSnapshotRecorder, never()).record(any());
+        assertThatMessageable(commandSender).sentSuccessMessage("commands.debug.success");
+    }
+
+    @Test
+    void run_shouldRecordSnapshot()
+    {
+        // Setup
+        when(performanceSnapshotRecorder.record(PerformanceSnapshotRecorder.DEFAULT_DURATION))
+            .thenReturn(CompletableFuture.completedFuture(Path.of("snapshots", "snapshot.txt")));
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newDebug(commandSender, true).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        verify(performanceSnapshotRecorder).record(PerformanceSnapshotRecorder.DEFAULT_DURATION);
+        verify(debugReporter, never()).getDebugReport();
+        assertThatMessageable(commandSender)
+            .sentInfoMessage("commands.debug.snapshot.started")
+            .withArgs(PerformanceSnapshotRecorder.DEFAULT_DURATION.toSeconds());
+        assertThatMessageable(commandSender)
+            .sentSuccessMessage("commands.debug.snapshot.success")
+            .withArgs("snapshot.txt");
+    }
+}
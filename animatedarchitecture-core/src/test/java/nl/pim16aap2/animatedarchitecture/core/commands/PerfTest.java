@@ -0,0 +1,144 @@
+package nl.pim16aap2.animatedarchitecture.core.commands;
+
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.animation.Animator;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimatorTickCost;
+import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleLatencyTracker;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureSnapshot;
+import nl.pim16aap2.testing.AssistedFactoryMocker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static nl.pim16aap2.animatedarchitecture.core.UnitTestUtil.assertThatMessageable;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Timeout(1)
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PerfTest
+{
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private IServer commandSender;
+
+    @Mock
+    private ToggleLatencyTracker toggleLatencyTracker;
+
+    @Mock
+    private StructureActivityManager structureActivityManager;
+
+    @Mock
+    private IExecutor executor;
+
+    private Perf.IFactory factory;
+
+    @BeforeEach
+    void init()
+    {
+        when(executor.getVirtualExecutor()).thenReturn(Executors.newVirtualThreadPerTaskExecutor());
+        UnitTestUtil.initMessageable(commandSender);
+        CommandTestingUtil.initCommandSenderPermissions(commandSender, true, true);
+
+        factory = new AssistedFactoryMocker<>(Perf.class, Perf.IFactory.class)
+            .injectParameters(toggleLatencyTracker, structureActivityManager, executor)
+            .getFactory();
+    }
+
+    @Test
+    void run_shouldSendLatencies()
+    {
+        // Setup
+        when(toggleLatencyTracker.format()).thenReturn("  spawn:\n    bigdoor:1/player: count: 1\n");
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newPerf(commandSender, false).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        assertThatMessageable(commandSender)
+            .extractSentTextMessages()
+            .anyMatch(msg -> msg.contains("commands.perf.header") && msg.contains("bigdoor:1/player: count: 1"));
+        verify(toggleLatencyTracker, never()).reset();
+    }
+
+    @Test
+    void run_shouldSendMostExpensiveAnimators()
+    {
+        // Setup
+        final AnimatorTickCost tickCost = new AnimatorTickCost();
+        final StructureSnapshot snapshot = mock();
+        when(snapshot.getNameAndUid()).thenReturn("door (1)");
+
+        final Animator animator = mock();
+        when(animator.getSnapshot()).thenReturn(snapshot);
+        when(animator.getTickCost()).thenReturn(tickCost);
+
+        when(structureActivityManager.getMostExpensiveAnimators(anyInt())).thenReturn(List.of(animator));
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newPerf(commandSender, false).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        assertThatMessageable(commandSender)
+            .extractSentTextMessages()
+            .anyMatch(msg -> msg.contains("commands.perf.animators.header") && msg.contains("door (1): blocks: 0"));
+    }
+
+    @Test
+    void run_shouldSendInfoWithoutData()
+    {
+        // Setup
+        when(toggleLatencyTracker.format()).thenReturn(null);
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newPerf(commandSender, false).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        assertThatMessageable(commandSender).sentInfoMessage("commands.perf.no_data");
+    }
+
+    @Test
+    void run_shouldResetLatencies()
+    {
+        // Setup
+        when(toggleLatencyTracker.format()).thenReturn(null);
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newPerf(commandSender, true).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        verify(toggleLatencyTracker).reset();
+        assertThatMessageable(commandSender).sentSuccessMessage("commands.perf.success.reset");
+    }
+
+    @Test
+    void run_shouldSendLatenciesBeforeResetting()
+    {
+        // Setup
+        when(toggleLatencyTracker.format()).thenReturn("  spawn:\n    bigdoor:1/player: count: 1\n");
+
+        // Execute
+        assertDoesNotThrow(() -> factory.newPerf(commandSender, true).run().get(1, TimeUnit.SECONDS));
+
+        // Verify
+        final InOrder inOrder = inOrder(toggleLatencyTracker);
+        inOrder.verify(toggleLatencyTracker).format();
+        inOrder.verify(toggleLatencyTracker).reset();
+        assertThatMessageable(commandSender)
+            .extractSentTextMessages()
+            .anyMatch(msg -> msg.contains("commands.perf.header") && msg.contains("bigdoor:1/player: count: 1"));
+    }
+}
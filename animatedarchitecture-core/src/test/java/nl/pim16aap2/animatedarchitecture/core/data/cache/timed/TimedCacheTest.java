@@ -464,6 +464,223 @@ class TimedCacheTest
         Assertions.assertEquals(0, timedCache.getSize());
     }
 
+    /**
+     * Make sure that expired entries are evicted incrementally when the cache is accessed, even without a cleanup
+     * task.
+     */
+    @Test
+    void testIncrementalExpiry()
+    {
+        final MockClock clock = new MockClock(0);
+        final var timedCache = TimedCache
+            .<String, String>builderWithClock()
+            .clock(clock)
+            .timeOut(Duration.ofMillis(100))
+            .build();
+
+        for (int idx = 0; idx < 10; ++idx)
+            timedCache.put("key" + idx, "value" + idx);
+        Assertions.assertEquals(10, timedCache.getSize());
+
+        clock.addMillis(200);
+        timedCache.put("fresh", "value");
+
+        // Every access inspects a small batch of entries, so repeatedly
+        // accessing the same key should eventually evict all expired entries.
+        for (int idx = 0; idx < 10; ++idx)
+            Assertions.assertTrue(timedCache.get("fresh").isPresent());
+
+        Assertions.assertEquals(1, timedCache.getSize());
+    }
+
+    /**
+     * Make sure that shutting down a cache cancels its cleanup task on the shared scheduler.
+     */
+    @Test
+    void testShutDownCancelsCleanupTask()
+    {
+        final int initialTaskCount = TimedCacheScheduler.getScheduledTaskCount();
+
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMillis(100))
+            .cleanup(Duration.ofHours(1))
+            .build();
+        Assertions.assertEquals(initialTaskCount + 1, TimedCacheScheduler.getScheduledTaskCount());
+
+        timedCache.shutDown();
+        Assertions.assertEquals(initialTaskCount, TimedCacheScheduler.getScheduledTaskCount());
+    }
+
+    /**
+     * Make sure that a cache with a maximum weight does not grow beyond that weight.
+     */
+    @Test
+    void testMaximumWeight()
+    {
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .maximumWeight(3)
+            .build();
+
+        for (int idx = 0; idx < 5; ++idx)
+            timedCache.put("key" + idx, "value" + idx);
+
+        final TimedCacheStatistics statistics = timedCache.getStatistics();
+        Assertions.assertEquals(3, timedCache.getSize());
+        Assertions.assertEquals(3, statistics.weight());
+        Assertions.assertEquals(2, statistics.evictionCount());
+    }
+
+    /**
+     * Make sure that frequently used entries are not pushed out by entries that are used only once.
+     */
+    @Test
+    void testFrequentEntryRetained()
+    {
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .maximumWeight(2)
+            .build();
+
+        timedCache.put("hot", "value");
+        for (int idx = 0; idx < 5; ++idx)
+            optionalEquals(timedCache.get("hot"), "value");
+
+        for (int idx = 0; idx < 20; ++idx)
+            timedCache.put("cold" + idx, "value" + idx);
+
+        optionalEquals(timedCache.get("hot"), "value");
+        Assertions.assertEquals(2, timedCache.getSize());
+    }
+
+    /**
+     * Make sure that entries of a soft reference cache are demoted rather than removed when the cache exceeds its
+     * maximum weight.
+     */
+    @Test
+    void testSoftReferenceDemotion()
+    {
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .softReference(true)
+            .maximumWeight(1)
+            .build();
+
+        final String value0 = "value0";
+        final String value1 = "value1";
+        timedCache.put("key0", value0);
+        timedCache.put("key1", value1);
+
+        Assertions.assertEquals(2, timedCache.getSize());
+        Assertions.assertEquals(1, timedCache.getStatistics().weight());
+        Assertions.assertEquals(1, timedCache.getStatistics().evictionCount());
+
+        // The values are still strongly referenced here, so they cannot have been garbage collected.
+        optionalEquals(timedCache.get("key0"), value0);
+        optionalEquals(timedCache.get("key1"), value1);
+        Assertions.assertEquals(1, timedCache.getStatistics().weight());
+    }
+
+    /**
+     * Make sure that the weigher is used to determine the weight of each entry.
+     */
+    @Test
+    void testWeigher()
+    {
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .maximumWeight(10)
+            .weigher(String::length)
+            .build();
+
+        timedCache.put("key0", "1234");
+        timedCache.put("key1", "12345");
+        Assertions.assertEquals(9, timedCache.getStatistics().weight());
+
+        timedCache.put("key0", "1");
+        Assertions.assertEquals(6, timedCache.getStatistics().weight());
+
+        timedCache.put("key2", "123456");
+        Assertions.assertTrue(timedCache.getStatistics().weight() <= 10);
+
+        timedCache.remove("key2");
+        timedCache.remove("key1");
+        timedCache.remove("key0");
+        Assertions.assertEquals(0, timedCache.getStatistics().weight());
+
+        final var negativeCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .weigher(val -> -1)
+            .build();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> negativeCache.put("key", "value"));
+    }
+
+    /**
+     * Make sure that lowering the maximum weight evicts entries immediately and that removing it stops eviction.
+     */
+    @Test
+    void testSetMaximumWeight()
+    {
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .build();
+
+        for (int idx = 0; idx < 10; ++idx)
+            timedCache.put("key" + idx, "value" + idx);
+        Assertions.assertEquals(0, timedCache.getStatistics().weight());
+
+        timedCache.setMaximumWeight(4);
+        timedCache.put("key10", "value10");
+        Assertions.assertEquals(4, timedCache.getStatistics().weight());
+        Assertions.assertEquals(4, timedCache.getSize());
+
+        timedCache.setMaximumWeight(2);
+        Assertions.assertEquals(2, timedCache.getSize());
+
+        timedCache.setMaximumWeight(0);
+        Assertions.assertEquals(0, timedCache.getStatistics().weight());
+        for (int idx = 0; idx < 10; ++idx)
+            timedCache.put("key" + idx, "value" + idx);
+        Assertions.assertTrue(timedCache.getSize() >= 10);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> timedCache.setMaximumWeight(-1));
+    }
+
+    /**
+     * Make sure that hits and misses are recorded.
+     */
+    @Test
+    void testStatistics()
+    {
+        final var timedCache = TimedCache
+            .<String, String>builder()
+            .timeOut(Duration.ofMinutes(5))
+            .build();
+
+        Assertions.assertEquals(1.0D, timedCache.getStatistics().hitRate());
+
+        timedCache.put("key", "value");
+        timedCache.get("key");
+        timedCache.get("key");
+        timedCache.get("missing");
+        timedCache.computeIfAbsent("key", key -> "other");
+        timedCache.computeIfAbsent("new", key -> "value");
+
+        final TimedCacheStatistics statistics = timedCache.getStatistics();
+        Assertions.assertEquals(3, statistics.hitCount());
+        Assertions.assertEquals(2, statistics.missCount());
+        Assertions.assertEquals(0.6D, statistics.hitRate(), 1E-9);
+        Assertions.assertEquals(0, statistics.evictionCount());
+        Assertions.assertEquals(2, statistics.size());
+    }
+
     @Test
     void testEmptyCache()
     {
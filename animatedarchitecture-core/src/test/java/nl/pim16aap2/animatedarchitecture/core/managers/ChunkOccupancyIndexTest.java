@@ -0,0 +1,84 @@
+package nl.pim16aap2.animatedarchitecture.core.managers;
+
+import it.unimi.dsi.fastutil.longs.LongSet;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.structures.IStructureConst;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChunkOccupancyIndexTest
+{
+    private static final String WORLD_NAME = "world";
+
+    private ChunkOccupancyIndex index;
+
+    @BeforeEach
+    void setUp()
+    {
+        index = new ChunkOccupancyIndex(mock());
+    }
+
+    @Test
+    void isKnownEmpty_shouldReturnFalseBeforePopulated()
+    {
+        assertThat(index.isKnownEmpty(WORLD_NAME, 1L)).isFalse();
+    }
+
+    @Test
+    void isKnownEmpty_shouldOnlyReturnTrueForUnoccupiedChunks()
+    {
+        // execute
+        index.populate(Map.of(WORLD_NAME, LongSet.of(1L, 2L)));
+
+        // verify
+        assertThat(index.isKnownEmpty(WORLD_NAME, 1L)).isFalse();
+        assertThat(index.isKnownEmpty(WORLD_NAME, 2L)).isFalse();
+        assertThat(index.isKnownEmpty(WORLD_NAME, 3L)).isTrue();
+        assertThat(index.isKnownEmpty("other_world", 1L)).isTrue();
+    }
+
+    @Test
+    void markOccupied_shouldMarkRotationPointAndPowerBlockChunks()
+    {
+        // setup
+        final IWorld world = mock();
+        when(world.worldName()).thenReturn(WORLD_NAME);
+
+        final IStructureConst structure = mock();
+        when(structure.getWorld()).thenReturn(world);
+        when(structure.getCuboid()).thenReturn(new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(2, 2, 2)));
+        when(structure.getPowerBlock()).thenReturn(new Vector3Di(100, 0, 100));
+
+        // execute
+        index.markOccupied(structure);
+        index.populate(Map.of());
+
+        // verify
+        assertThat(index.isKnownEmpty(WORLD_NAME, LocationUtil.getChunkId(0, 0))).isFalse();
+        assertThat(index.isKnownEmpty(WORLD_NAME, LocationUtil.getChunkId(6, 6))).isFalse();
+        assertThat(index.isKnownEmpty(WORLD_NAME, LocationUtil.getChunkId(1, 1))).isTrue();
+    }
+
+    @Test
+    void reset_shouldClearIndex()
+    {
+        // setup
+        index.populate(Map.of(WORLD_NAME, LongSet.of(1L)));
+
+        // execute
+        index.reset();
+
+        // verify
+        assertThat(index.isKnownEmpty(WORLD_NAME, 2L)).isFalse();
+        index.populate(Map.of());
+        assertThat(index.isKnownEmpty(WORLD_NAME, 1L)).isTrue();
+    }
+}
@@ -0,0 +1,148 @@
+package nl.pim16aap2.animatedarchitecture.core.managers;
+
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.storage.IStorage;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+@ExtendWith(MockitoExtension.class)
+class DatabaseManagerTest
+{
+    @Mock
+    private IStorage storage;
+
+    private DatabaseManager databaseManager;
+
+    @BeforeEach
+    void setUp()
+    {
+        databaseManager = new DatabaseManager(
+            mock(IExecutor.class),
+            mock(RestartableHolder.class),
+            storage,
+            mock(StructureDeletionManager.class),
+            () -> mock(PowerBlockManager.class),
+            mock(),
+            mock(),
+            mock(ChunkOccupancyIndex.class),
+            mock(DebuggableRegistry.class),
+            new MetricsRegistry(mock(DebuggableRegistry.class))
+        );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        databaseManager.shutDown();
+    }
+
+    @Test
+    void getStructure_shouldShareConcurrentLoads()
+        throws InterruptedException
+    {
+        // setup
+        final Structure structure = mock();
+        final CountDownLatch queryStarted = new CountDownLatch(1);
+        final CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(storage.getStructure(1L)).thenAnswer(invocation ->
+        {
+            queryStarted.countDown();
+            releaseQuery.await();
+            return Optional.of(structure);
+        });
+
+        // execute
+        final CompletableFuture<Optional<Structure>> first = databaseManager.getStructure(1L);
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<Optional<Structure>> second = databaseManager.getStructure(1L);
+        releaseQuery.countDown();
+
+        // verify
+        assertThat(first.join()).containsSame(structure);
+        assertThat(second.join()).containsSame(structure);
+        verify(storage, times(1)).getStructure(1L);
+    }
+
+    @Test
+    void getStructure_shouldLoadAgainAfterCompletion()
+    {
+        // setup
+        when(storage.getStructure(1L)).thenReturn(Optional.empty());
+
+        // execute
+        databaseManager.getStructure(1L).join();
+        databaseManager.getStructure(1L).join();
+
+        // verify
+        verify(storage, times(2)).getStructure(1L);
+    }
+
+    @Test
+    void getStructure_shouldIsolateCallers()
+        throws InterruptedException
+    {
+        // setup
+        final CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(storage.getStructure(1L)).thenAnswer(invocation ->
+        {
+            releaseQuery.await();
+            return Optional.empty();
+        });
+
+        // execute
+        final CompletableFuture<Optional<Structure>> first = databaseManager.getStructure(1L);
+        final CompletableFuture<Optional<Structure>> second = databaseManager.getStructure(1L);
+        first.cancel(true);
+        releaseQuery.countDown();
+
+        // verify
+        assertThat(first).isCancelled();
+        assertThat(second.join()).isEmpty();
+    }
+
+    @Test
+    void getStructure_shouldPropagateExceptionsToAllCallers()
+        throws InterruptedException
+    {
+        // setup
+        final CountDownLatch queryStarted = new CountDownLatch(1);
+        final CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(storage.getStructure(1L)).thenAnswer(invocation ->
+        {
+            queryStarted.countDown();
+            releaseQuery.await();
+            throw new IllegalStateException("Test exception");
+        });
+
+        // execute
+        final CompletableFuture<Optional<Structure>> first = databaseManager.getStructure(1L);
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<Optional<Structure>> second = databaseManager.getStructure(1L);
+        releaseQuery.countDown();
+
+        // verify
+        assertThatThrownBy(first::join).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        verify(storage, times(1)).getStructure(1L);
+    }
+}
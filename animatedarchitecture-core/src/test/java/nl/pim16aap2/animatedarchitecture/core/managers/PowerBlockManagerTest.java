@@ -0,0 +1,129 @@
+package nl.pim16aap2.animatedarchitecture.core.managers;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import nl.pim16aap2.testing.annotations.AllocationTest;
+import nl.pim16aap2.testing.assertions.AssertionBuilder;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@AllocationTest
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PowerBlockManagerTest
+{
+    private static final String WORLD_NAME = "world";
+
+    private static final Vector3Di POWER_BLOCK = new Vector3Di(17, 64, -3);
+
+    /**
+     * Keeps the result of the measured action reachable, so it cannot be optimized away.
+     */
+    @SuppressWarnings("unused")
+    private static volatile @Nullable Object sink;
+
+    @Mock
+    private IConfig config;
+
+    @Mock
+    private DatabaseManager databaseManager;
+
+    @Mock
+    private IExecutor executor;
+
+    private ExecutorService virtualExecutor;
+
+    private PowerBlockManager powerBlockManager;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        when(config.powerblockCacheTimeout()).thenReturn(5);
+        when(config.powerblockCacheMaxChunks()).thenReturn(0);
+        when(executor.getVirtualExecutor()).thenReturn(virtualExecutor);
+
+        final Int2ObjectMap<LongList> powerBlocks = new Int2ObjectOpenHashMap<>();
+        powerBlocks.put(
+            LocationUtil.simpleChunkSpaceLocationHash(POWER_BLOCK.x(), POWER_BLOCK.y(), POWER_BLOCK.z()),
+            LongLists.singleton(1L)
+        );
+
+        when(databaseManager.isAnimatedArchitectureWorld(WORLD_NAME)).thenReturn(CompletableFuture.completedFuture(true));
+        when(databaseManager.getPowerBlockData(LocationUtil.getChunkId(POWER_BLOCK)))
+            .thenReturn(CompletableFuture.completedFuture(powerBlocks));
+
+        powerBlockManager = new PowerBlockManager(
+            mock(RestartableHolder.class),
+            executor,
+            config,
+            databaseManager,
+            mock(ChunkOccupancyIndex.class),
+            mock(StructureDeletionManager.class),
+            mock(DebuggableRegistry.class),
+            new MetricsRegistry(mock(DebuggableRegistry.class))
+        );
+        powerBlockManager.loadWorld(WORLD_NAME);
+    }
+
+    @AfterEach
+    void afterEach()
+    {
+        powerBlockManager.unloadWorld(WORLD_NAME);
+        virtualExecutor.shutdownNow();
+    }
+
+    @Test
+    void isAnimatedArchitectureWorld_shouldNotAllocate()
+    {
+        // setup
+        assertThat(powerBlockManager.isAnimatedArchitectureWorld(WORLD_NAME)).isTrue();
+
+        // execute & verify
+        AssertionBuilder
+            .assertAllocations(() -> powerBlockManager.isAnimatedArchitectureWorld(WORLD_NAME))
+            .withDescription("PowerBlockManager#isAnimatedArchitectureWorld")
+            .isAllocationFree();
+    }
+
+    @Test
+    void structuresFromPowerBlockLoc_shouldUseCachedChunk()
+    {
+        // setup
+        final Vector3Di location = POWER_BLOCK.add(0, 1, 0);
+        assertThat(powerBlockManager.structuresFromPowerBlockLoc(location, WORLD_NAME).join()).isEmpty();
+
+        // execute & verify
+        // The budget covers the future chain, including the submission to the (mocked) executor.
+        AssertionBuilder
+            .assertAllocations(() -> sink = powerBlockManager.structuresFromPowerBlockLoc(location, WORLD_NAME))
+            .withDescription("PowerBlockManager#structuresFromPowerBlockLoc")
+            .allocatesAtMost(4_096);
+
+        verify(databaseManager, times(1)).getPowerBlockData(anyLong());
+    }
+}
@@ -0,0 +1,168 @@
+package nl.pim16aap2.animatedarchitecture.core.managers;
+
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.ILocation;
+import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.factories.IPlayerFactory;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimerTask;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedstoneVerificationQueueTest
+{
+    private static final String WORLD_NAME = "world";
+    private static final int VERIFICATIONS_PER_TICK = 4;
+
+    @Mock
+    private IExecutor executor;
+
+    @Mock
+    private IPlayerFactory playerFactory;
+
+    @Mock
+    private IConfig config;
+
+    @Mock
+    private IWorld world;
+
+    private RedstoneVerificationQueue queue;
+
+    @BeforeEach
+    void setUp()
+    {
+        when(world.worldName()).thenReturn(WORLD_NAME);
+        when(playerFactory.getOnlinePlayers()).thenReturn(List.of());
+        when(config.redstoneVerificationsPerTick()).thenReturn(VERIFICATIONS_PER_TICK);
+        queue = new RedstoneVerificationQueue(mock(), executor, playerFactory, config, mock());
+    }
+
+    @Test
+    void enqueue_shouldMergeDuplicateStructures()
+    {
+        // setup
+        final Structure structure = mockStructure(1, 0);
+
+        // execute
+        queue.enqueue(structure, 0);
+        queue.enqueue(structure, 0);
+
+        // verify
+        assertThat(queue.size()).isEqualTo(1);
+        verify(executor, times(1)).runSyncRepeated(any(TimerTask.class), anyLong(), anyLong());
+    }
+
+    @Test
+    void processTick_shouldNotVerifyStructuresBeforeDelay()
+    {
+        // setup
+        queue.enqueue(mockStructure(1, 0), 60_000L);
+
+        // execute
+        queue.processTick();
+
+        // verify
+        verify(executor, never()).runAsync(any());
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void processTick_shouldRespectBudgetAndPrioritizeClosestStructures()
+    {
+        // setup
+        final ILocation location = mock();
+        when(location.getWorld()).thenReturn(world);
+        final IPlayer player = mock();
+        when(player.getLocation()).thenReturn(Optional.of(location));
+        when(playerFactory.getOnlinePlayers()).thenReturn(List.of(player));
+
+        final int count = VERIFICATIONS_PER_TICK * 2;
+        // The structures are queued in order of decreasing distance to the player, who is at the origin.
+        final List<Structure> structures = new ArrayList<>(IntStream
+            .range(0, count)
+            .mapToObj(idx -> mockStructure(idx + 1, (count - idx) * 10))
+            .toList());
+        queue.enqueueAll(structures, 0);
+
+        // execute
+        queue.processTick();
+
+        // verify
+        runCapturedAsyncTask();
+
+        final List<Structure> closest = structures.subList(VERIFICATIONS_PER_TICK, count);
+        final List<Structure> farthest = structures.subList(0, VERIFICATIONS_PER_TICK);
+        closest.forEach(structure -> verify(structure).verifyRedstoneState());
+        farthest.forEach(structure -> verify(structure, never()).verifyRedstoneState());
+        assertThat(queue.size()).isEqualTo(VERIFICATIONS_PER_TICK);
+    }
+
+    @Test
+    void processTick_shouldCancelTaskWhenQueueIsEmpty()
+    {
+        // setup
+        when(executor.runSyncRepeated(any(TimerTask.class), anyLong(), anyLong())).thenReturn(7);
+        queue.enqueue(mockStructure(1, 0), 0);
+
+        // execute
+        queue.processTick();
+        queue.processTick();
+
+        // verify
+        runCapturedAsyncTask();
+        verify(executor).cancel(any(TimerTask.class), eq(7));
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void processTick_shouldContinueAfterFailedVerification()
+    {
+        // setup
+        final Structure failing = mockStructure(1, 0);
+        doThrow(new IllegalStateException("Expected exception!")).when(failing).verifyRedstoneState();
+        final Structure structure = mockStructure(2, 0);
+        queue.enqueueAll(List.of(failing, structure), 0);
+
+        // execute
+        queue.processTick();
+        runCapturedAsyncTask();
+
+        // verify
+        verify(structure).verifyRedstoneState();
+    }
+
+    private void runCapturedAsyncTask()
+    {
+        final ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).runAsync(captor.capture());
+        captor.getValue().run();
+    }
+
+    private Structure mockStructure(long uid, int x)
+    {
+        final Structure structure = mock();
+        when(structure.getUid()).thenReturn(uid);
+        when(structure.getWorld()).thenReturn(world);
+        when(structure.getPowerBlock()).thenReturn(new Vector3Di(x, 0, 0));
+        return structure;
+    }
+}
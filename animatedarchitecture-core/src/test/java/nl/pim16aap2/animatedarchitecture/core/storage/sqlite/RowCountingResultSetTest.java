@@ -0,0 +1,67 @@
+package nl.pim16aap2.animatedarchitecture.core.storage.sqlite;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RowCountingResultSetTest
+{
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    void getRows_shouldCountRowsReadFromResultSet()
+        throws SQLException
+    {
+        // setup
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 3L);
+        final RowCountingResultSet countingResultSet = new RowCountingResultSet(resultSet);
+        final ResultSet rs = countingResultSet.getResultSet();
+
+        // execute
+        long sum = 0;
+        while (rs.next())
+            sum += rs.getLong(1);
+        rs.next();
+
+        // verify
+        assertThat(sum).isEqualTo(6L);
+        assertThat(countingResultSet.getRows()).isEqualTo(3);
+    }
+
+    @Test
+    void getResultSet_shouldRethrowExceptionsOfDelegate()
+        throws SQLException
+    {
+        // setup
+        final SQLException exception = new SQLException("Expected exception!");
+        when(resultSet.next()).thenThrow(exception);
+        final ResultSet rs = new RowCountingResultSet(resultSet).getResultSet();
+
+        // execute & verify
+        assertThatThrownBy(rs::next).isSameAs(exception);
+    }
+
+    @Test
+    void getResultSet_shouldCloseDelegate()
+        throws SQLException
+    {
+        // setup
+        final ResultSet rs = new RowCountingResultSet(resultSet).getResultSet();
+
+        // execute
+        rs.close();
+
+        // verify
+        verify(resultSet).close();
+    }
+}
@@ -0,0 +1,92 @@
+package nl.pim16aap2.animatedarchitecture.core.structures;
+
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.PropertyContainer;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.bigdoor.StructureTypeBigDoor;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import nl.pim16aap2.testing.annotations.AllocationTest;
+import nl.pim16aap2.testing.assertions.AssertionBuilder;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@AllocationTest
+class StructureSnapshotTest
+{
+    /**
+     * Keeps the result of the measured action reachable, so it cannot be optimized away.
+     */
+    @SuppressWarnings("unused")
+    private static volatile @Nullable Object sink;
+
+    private Structure structure;
+
+    @BeforeEach
+    void beforeEach()
+        throws Exception
+    {
+        structure = UnitTestUtil.newStructureBuilder().structureBuilder()
+            .builder(StructureTypeBigDoor.get())
+            .uid(UnitTestUtil.newStructureID(1))
+            .name("Big Door")
+            .cuboid(new Cuboid(new Vector3Di(0, 64, 0), new Vector3Di(4, 68, 0)))
+            .powerBlock(new Vector3Di(0, 60, 0))
+            .world(UnitTestUtil.getWorld())
+            .isLocked(false)
+            .openDir(MovementDirection.CLOCKWISE)
+            .primeOwner(UnitTestUtil.createStructureOwner(1))
+            .ownersOfStructure(null)
+            .propertiesOfStructure(PropertyContainer.of(
+                Property.OPEN_STATUS, false, true,
+                Property.ROTATION_POINT, new Vector3Di(0, 64, 0), true
+            ))
+            .build();
+    }
+
+    @Test
+    void newSnapshot_shouldCopyStructure()
+    {
+        // execute
+        final StructureSnapshot snapshot = new StructureSnapshot(structure);
+
+        // verify
+        assertThat(snapshot.getUid()).isEqualTo(structure.getUid());
+        assertThat(snapshot.getCuboid()).isEqualTo(structure.getCuboid());
+        assertThat(snapshot.getOwners()).containsExactlyInAnyOrderElementsOf(structure.getOwners());
+        assertThat(snapshot.getRequiredPropertyValue(Property.ROTATION_POINT)).isEqualTo(new Vector3Di(0, 64, 0));
+    }
+
+    @Test
+    void newSnapshot_shouldOnlyAllocateSnapshot()
+    {
+        // setup
+        structure.getPropertyContainerSnapshot();
+
+        // execute & verify
+        AssertionBuilder
+            .assertAllocations(() -> sink = new StructureSnapshot(structure))
+            .withDescription("new StructureSnapshot")
+            .allocatesAtMost(3_072);
+    }
+
+    @Test
+    void getSnapshot_shouldNotAllocateWhenCached()
+    {
+        // setup
+        final StructureSnapshot snapshot = structure.getSnapshot();
+
+        // execute
+        AssertionBuilder
+            .assertAllocations(() -> sink = structure.getSnapshot())
+            .withDescription("Structure#getSnapshot")
+            .isAllocationFree();
+
+        // verify
+        assertThat(structure.getSnapshot()).isSameAs(snapshot);
+    }
+}
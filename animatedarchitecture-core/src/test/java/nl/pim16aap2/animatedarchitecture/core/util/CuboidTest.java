@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
@@ -281,4 +283,56 @@ class CuboidTest
         final Cuboid c = new Cuboid(new Vector3Di(11, 12, 13), new Vector3Di(20, 21, 22));
         Assertions.assertEquals(c, Cuboid.of(a, b));
     }
+
+    @Test
+    void testAllCellsMatchWithoutRegions()
+    {
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(29, 9, 29));
+        final List<Vector3Di> tested = new ArrayList<>();
+
+        Assertions.assertTrue(cuboid.allCellsMatch(List.of(), tested::add));
+        Assertions.assertEquals(List.of(new Vector3Di(0, 0, 0)), tested);
+    }
+
+    @Test
+    void testAllCellsMatchSplitsAlongRegionFaces()
+    {
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(29, 9, 29));
+        // Only overlaps the cuboid along the x-axis and the lower part of the y-axis.
+        final Cuboid region = new Cuboid(new Vector3Di(10, -5, -10), new Vector3Di(19, 4, 50));
+        final List<Vector3Di> tested = new ArrayList<>();
+
+        Assertions.assertTrue(cuboid.allCellsMatch(List.of(region), tested::add));
+        Assertions.assertEquals(
+            Set.of(
+                new Vector3Di(0, 0, 0), new Vector3Di(10, 0, 0), new Vector3Di(20, 0, 0),
+                new Vector3Di(0, 5, 0), new Vector3Di(10, 5, 0), new Vector3Di(20, 5, 0)
+            ),
+            Set.copyOf(tested)
+        );
+        Assertions.assertEquals(6, tested.size());
+    }
+
+    @Test
+    void testAllCellsMatchIgnoresDistantRegions()
+    {
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(9, 9, 9));
+        final Cuboid region = new Cuboid(new Vector3Di(100, 100, 100), new Vector3Di(110, 110, 110));
+        final List<Vector3Di> tested = new ArrayList<>();
+
+        Assertions.assertTrue(cuboid.allCellsMatch(List.of(region), tested::add));
+        Assertions.assertEquals(1, tested.size());
+    }
+
+    @Test
+    void testAllCellsMatchStopsAtFirstMismatch()
+    {
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(9, 9, 9));
+        final Cuboid region = new Cuboid(new Vector3Di(5, 5, 5), new Vector3Di(20, 20, 20));
+        final List<Vector3Di> tested = new ArrayList<>();
+
+        Assertions.assertFalse(cuboid.allCellsMatch(List.of(region), pos -> tested.add(pos) && pos.x() < 5));
+        Assertions.assertTrue(tested.stream().allMatch(pos -> pos.x() <= 5));
+        Assertions.assertEquals(5, tested.getLast().x());
+    }
 }
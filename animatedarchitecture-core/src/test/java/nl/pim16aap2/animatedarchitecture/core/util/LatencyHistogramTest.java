@@ -0,0 +1,80 @@
+package nl.pim16aap2.animatedarchitecture.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyHistogramTest
+{
+    @Test
+    void getBucketIndex_shouldUsePowersOfTwoOfMicroseconds()
+    {
+        // execute & verify
+        assertThat(LatencyHistogram.getBucketIndex(0)).isZero();
+        assertThat(LatencyHistogram.getBucketIndex(999)).isZero();
+        assertThat(LatencyHistogram.getBucketIndex(1_000)).isEqualTo(1);
+        assertThat(LatencyHistogram.getBucketIndex(3_999)).isEqualTo(2);
+        assertThat(LatencyHistogram.getBucketIndex(4_000)).isEqualTo(3);
+        assertThat(LatencyHistogram.getBucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void getPercentile_shouldReturnUpperBoundOfBucket()
+    {
+        // setup
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int idx = 0; idx < 90; ++idx)
+            histogram.record(Duration.ofMillis(1).toNanos());
+        for (int idx = 0; idx < 10; ++idx)
+            histogram.record(Duration.ofMillis(100).toNanos());
+
+        // execute & verify
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getPercentile(50)).isBetween(Duration.ofMillis(1), Duration.ofMillis(2));
+        assertThat(histogram.getPercentile(90)).isBetween(Duration.ofMillis(1), Duration.ofMillis(2));
+        assertThat(histogram.getPercentile(99)).isEqualTo(Duration.ofMillis(100));
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofMillis(100));
+        assertThat(histogram.getMean()).isEqualTo(Duration.ofNanos(10_900_000));
+    }
+
+    @Test
+    void getPercentile_shouldReturnZeroWithoutData()
+    {
+        // setup
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // execute & verify
+        assertThat(histogram.getPercentile(99)).isZero();
+        assertThat(histogram.getMean()).isZero();
+        assertThat(histogram.format()).isEqualTo("No data");
+    }
+
+    @Test
+    void getPercentile_shouldThrowExceptionForInvalidPercentile()
+    {
+        // setup
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // execute & verify
+        assertThatThrownBy(() -> histogram.getPercentile(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> histogram.getPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void reset_shouldRemoveAllData()
+    {
+        // setup
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000);
+
+        // execute
+        histogram.reset();
+
+        // verify
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMax()).isZero();
+        assertThat(histogram.getPercentile(100)).isZero();
+    }
+}
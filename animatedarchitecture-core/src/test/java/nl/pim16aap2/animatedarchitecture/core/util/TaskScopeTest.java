@@ -0,0 +1,206 @@
+package nl.pim16aap2.animatedarchitecture.core.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Timeout(10)
+class TaskScopeTest
+{
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void join_shouldReturnResultOfSubtask()
+        throws Exception
+    {
+        // setup
+        try (TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5)))
+        {
+            // execute
+            final CompletableFuture<Integer> subtask = scope.fork(() -> 42);
+
+            // verify
+            assertThat(scope.join(subtask)).isEqualTo(42);
+        }
+    }
+
+    @Test
+    void join_shouldThrowExceptionOfSubtask()
+    {
+        // setup
+        try (TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5)))
+        {
+            // execute
+            final CompletableFuture<Integer> subtask = scope.fork(() ->
+            {
+                throw new IllegalStateException("Expected exception!");
+            });
+
+            // verify
+            assertThatThrownBy(() -> scope.join(subtask))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void join_shouldNotWaitBeyondDeadline()
+    {
+        // setup
+        try (TaskScope scope = new TaskScope(executor, Duration.ofMillis(50)))
+        {
+            final CompletableFuture<Integer> subtask = scope.adopt(new CompletableFuture<>());
+
+            // execute & verify
+            assertThatThrownBy(() -> scope.join(subtask)).isInstanceOf(TimeoutException.class);
+            assertThatThrownBy(scope::ensureActive).isInstanceOf(TimeoutException.class);
+        }
+    }
+
+    @Test
+    void cancel_shouldInterruptForkedSubtasks()
+        throws Exception
+    {
+        // setup
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5));
+        final CompletableFuture<Object> subtask = scope.fork(() ->
+        {
+            started.countDown();
+            try
+            {
+                Thread.sleep(Duration.ofSeconds(30));
+            }
+            catch (InterruptedException e)
+            {
+                interrupted.countDown();
+                throw e;
+            }
+            return null;
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // execute
+        scope.cancel();
+
+        // verify
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subtask).isCancelled();
+        assertThat(scope.isCancelled()).isTrue();
+        assertThatThrownBy(() -> scope.fork(() -> 1)).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void close_shouldCancelAdoptedSubtasks()
+    {
+        // setup
+        final CompletableFuture<Integer> subtask;
+        final CompletableFuture<Integer> completed;
+        try (TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5)))
+        {
+            subtask = scope.adopt(new CompletableFuture<>());
+            completed = scope.adopt(CompletableFuture.completedFuture(1));
+
+            // execute (implicit close)
+        }
+
+        // verify
+        assertThat(subtask).isCancelled();
+        assertThat(completed).isCompletedWithValue(1);
+    }
+
+    @Test
+    void fork_shouldInterruptSubtaskWhenResultTimesOut()
+        throws Exception
+    {
+        // setup
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        try (TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5)))
+        {
+            // execute
+            scope
+                .fork(() ->
+                {
+                    try
+                    {
+                        Thread.sleep(Duration.ofSeconds(30));
+                    }
+                    catch (InterruptedException e)
+                    {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return null;
+                })
+                .orTimeout(50, TimeUnit.MILLISECONDS);
+
+            // verify
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void cancel_shouldNotAffectCommittedScope()
+        throws Exception
+    {
+        // setup
+        final TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5));
+        final CompletableFuture<Integer> subtask = scope.adopt(new CompletableFuture<>());
+
+        // execute
+        scope.commit();
+
+        // verify
+        assertThat(scope.cancel()).isFalse();
+        assertThat(scope.isCommitted()).isTrue();
+        assertThat(scope.isCancelled()).isFalse();
+        assertThat(subtask).isNotDone();
+        scope.ensureActive();
+    }
+
+    @Test
+    void commit_shouldFailAfterCancellation()
+    {
+        // setup
+        final TaskScope scope = new TaskScope(executor, Duration.ofSeconds(5));
+
+        // execute
+        assertThat(scope.cancel()).isTrue();
+
+        // verify
+        assertThatThrownBy(scope::commit).isInstanceOf(CancellationException.class);
+        assertThat(scope.isCommitted()).isFalse();
+        assertThat(scope.cancel()).isFalse();
+    }
+
+    @Test
+    void commit_shouldFailAfterDeadline()
+    {
+        // setup
+        try (TaskScope scope = new TaskScope(executor, Duration.ZERO))
+        {
+            // execute & verify
+            assertThatThrownBy(scope::commit).isInstanceOf(TimeoutException.class);
+            assertThat(scope.isCommitted()).isFalse();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import me.angeschossen.lands.api.LandsIntegration;
 import me.angeschossen.lands.api.flags.type.Flags;
 import me.angeschossen.lands.api.land.Area;
+import me.angeschossen.lands.api.land.Land;
 import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
 import nl.pim16aap2.animatedarchitecture.spigot.util.hooks.IProtectionHookSpigot;
@@ -14,6 +15,9 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -35,6 +39,17 @@ public class LandsProtectionHook implements IProtectionHookSpigot
         landsAddon = LandsIntegration.of(context.getAnimatedArchitecturePlugin());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The Lands API can be used from any thread and the checks of this hook do not access the world.
+     */
+    @Override
+    public boolean isThreadSafe()
+    {
+        return true;
+    }
+
     private boolean canBreakBlock(@Nullable Area area, Player player, Location loc)
     {
         if (area == null)
@@ -55,6 +70,15 @@ public class LandsProtectionHook implements IProtectionHookSpigot
         return CompletableFuture.completedFuture(canBreakBlock(landsAddon.getArea(loc), player, loc));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lands claims entire chunks, so the land is resolved once for every chunk the cuboid overlaps and unclaimed chunks
+     * are skipped entirely.
+     * <p>
+     * A claimed chunk can contain several areas, so the area is resolved for every block of the cuboid in that chunk.
+     * This is a cheap lookup. The permission itself is only checked once for every area.
+     */
     @Override
     public CompletableFuture<Boolean> canBreakBlocksInCuboid(Player player, World world, Cuboid cuboid)
     {
@@ -67,26 +91,68 @@ public class LandsProtectionHook implements IProtectionHookSpigot
         final int z2 = max.z() >> 4;
 
         final Location loc = new Location(world, 0, 0, 0);
+        final Set<Area> allowedAreas = Collections.newSetFromMap(new IdentityHashMap<>());
 
         for (int chunkX = x1; chunkX <= x2; ++chunkX)
         {
-            loc.setX(chunkX << 4);
+            final int minX = Math.max(min.x(), chunkX << 4);
+            final int maxX = Math.min(max.x(), (chunkX << 4) + 15);
+
             for (int chunkZ = z1; chunkZ <= z2; ++chunkZ)
             {
-                loc.setZ(chunkZ << 4);
-                for (int y = min.y(); y <= max.y(); ++y)
+                final @Nullable Land land = landsAddon.getLandByChunk(world, chunkX, chunkZ);
+                if (land == null)
+                    continue;
+
+                final int minZ = Math.max(min.z(), chunkZ << 4);
+                final int maxZ = Math.min(max.z(), (chunkZ << 4) + 15);
+
+                if (!canBreakBlocksInChunk(player, loc, allowedAreas, minX, maxX, min.y(), max.y(), minZ, maxZ))
+                    return CompletableFuture.completedFuture(false);
+            }
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+
+    /**
+     * Checks if a player can break all blocks in a part of a cuboid that lies in a single claimed chunk.
+     *
+     * @param allowedAreas
+     *     The areas the player is already known to be allowed to break blocks in. Any newly checked areas that the
+     *     player is allowed to break blocks in are added to this set.
+     * @return True if the player can break all blocks in the region.
+     */
+    private boolean canBreakBlocksInChunk(
+        Player player,
+        Location loc,
+        Set<Area> allowedAreas,
+        int minX,
+        int maxX,
+        int minY,
+        int maxY,
+        int minZ,
+        int maxZ)
+    {
+        for (int xPos = minX; xPos <= maxX; ++xPos)
+        {
+            loc.setX(xPos);
+            for (int zPos = minZ; zPos <= maxZ; ++zPos)
+            {
+                loc.setZ(zPos);
+                for (int yPos = minY; yPos <= maxY; ++yPos)
                 {
-                    loc.setY(y);
+                    loc.setY(yPos);
 
-                    final Area area = landsAddon.getArea(loc);
-                    if (area == null)
+                    final @Nullable Area area = landsAddon.getArea(loc);
+                    if (area == null || allowedAreas.contains(area))
                         continue;
 
                     if (!canBreakBlock(area, player, loc))
-                        return CompletableFuture.completedFuture(false);
+                        return false;
+                    allowedAreas.add(area);
                 }
             }
         }
-        return CompletableFuture.completedFuture(true);
+        return true;
     }
 }
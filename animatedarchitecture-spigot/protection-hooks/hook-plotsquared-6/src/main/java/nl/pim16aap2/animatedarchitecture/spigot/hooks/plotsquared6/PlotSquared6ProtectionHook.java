@@ -21,6 +21,8 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.Nullable;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -109,6 +111,10 @@ public class PlotSquared6ProtectionHook implements IProtectionHookSpigot
         com.plotsquared.core.location.Location psLocation;
 
         final boolean canBreakRoads = canBreakRoads(player);
+        // Areas whose height limits have been checked and plots that the player is allowed to break all blocks in.
+        // These only have to be checked once, instead of once for every column.
+        final Set<PlotArea> checkedAreas = new HashSet<>();
+        final Set<Plot> allowedPlots = new HashSet<>();
 
         final Vector3Di min = cuboid.getMin();
         final Vector3Di max = cuboid.getMax();
@@ -121,17 +127,46 @@ public class PlotSquared6ProtectionHook implements IProtectionHookSpigot
                 if (area == null)
                     continue;
 
-                if (!isHeightAllowed(player, area, min.y()) || !isHeightAllowed(player, area, max.y()))
+                if (checkedAreas.add(area) &&
+                    (!isHeightAllowed(player, area, min.y()) || !isHeightAllowed(player, area, max.y())))
                     return CompletableFuture.completedFuture(false);
 
                 loc.setY(area.getMaxBuildHeight() - 1);
 
                 final Plot newPlot = area.getPlot(psLocation);
-                if (newPlot == null && !canBreakRoads)
-                    return CompletableFuture.completedFuture(false);
-                else if (!canBreakBlock(player, area, newPlot, loc))
+                if (newPlot == null)
+                {
+                    if (!canBreakRoads)
+                        return CompletableFuture.completedFuture(false);
+                    continue;
+                }
+
+                if (allowedPlots.contains(newPlot))
+                    continue;
+
+                if (!canBreakBlock(player, area, newPlot, loc))
                     return CompletableFuture.completedFuture(false);
+
+                if (isResultSameForEntirePlot(player, newPlot))
+                    allowedPlots.add(newPlot);
             }
         return CompletableFuture.completedFuture(true);
     }
+
+    /**
+     * Checks if the result of {@link #canBreakBlock(Player, PlotArea, Plot, Location)} is the same for every block in
+     * a plot.
+     * <p>
+     * This is the case unless the player has to rely on the {@link BreakFlag}, which depends on the type of the block.
+     *
+     * @param player
+     *     The player to check.
+     * @param plot
+     *     The plot to check.
+     * @return True if the result only depends on the plot and not on the block that is being broken.
+     */
+    private static boolean isResultSameForEntirePlot(Player player, Plot plot)
+    {
+        return !plot.hasOwner() || plot.isAdded(player.getUniqueId());
+    }
 }
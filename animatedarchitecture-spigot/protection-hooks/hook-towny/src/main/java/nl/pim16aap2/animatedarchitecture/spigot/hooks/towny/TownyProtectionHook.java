@@ -1,7 +1,9 @@
 package nl.pim16aap2.animatedarchitecture.spigot.hooks.towny;
 
 import com.palmergames.bukkit.towny.TownyAPI;
+import com.palmergames.bukkit.towny.TownySettings;
 import com.palmergames.bukkit.towny.object.TownyPermission.ActionType;
+import com.palmergames.bukkit.towny.object.WorldCoord;
 import com.palmergames.bukkit.towny.utils.PlayerCacheUtil;
 import lombok.CustomLog;
 import lombok.Getter;
@@ -10,10 +12,13 @@ import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
 import nl.pim16aap2.animatedarchitecture.spigot.util.hooks.IProtectionHookSpigot;
 import nl.pim16aap2.animatedarchitecture.spigot.util.hooks.ProtectionHookContext;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -51,18 +56,89 @@ public class TownyProtectionHook implements IProtectionHookSpigot
         return CompletableFuture.completedFuture(canBreakBlock0(player, loc));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Towny permissions are defined per town block, so the cuboid is split into the {@link WorldCoord} cells it
+     * overlaps and the permission is checked once for every claimed cell, using a single block of that cell.
+     * <p>
+     * Wilderness cells are the exception: The unclaimed-zone ignore list of a world is a list of materials, so the
+     * result in the wilderness depends on the type of the block. In those cells, the permission is checked once for
+     * every type of block in the part of the cuboid that overlaps the cell.
+     */
     @Override
     public CompletableFuture<Boolean> canBreakBlocksInCuboid(Player player, World world, Cuboid cuboid)
     {
+        final int townBlockSize = TownySettings.getTownBlockSize();
         final Vector3Di min = cuboid.getMin();
         final Vector3Di max = cuboid.getMax();
-        for (int xPos = min.x(); xPos <= max.x(); ++xPos)
-            for (int yPos = min.y(); yPos <= max.y(); ++yPos)
-                for (int zPos = min.z(); zPos <= max.z(); ++zPos)
-                    if (!canBreakBlock0(player, new Location(world, xPos, yPos, zPos)))
-                        return CompletableFuture.completedFuture(false);
+
+        final int cellX1 = Math.floorDiv(min.x(), townBlockSize);
+        final int cellZ1 = Math.floorDiv(min.z(), townBlockSize);
+        final int cellX2 = Math.floorDiv(max.x(), townBlockSize);
+        final int cellZ2 = Math.floorDiv(max.z(), townBlockSize);
+
+        final Location loc = new Location(world, 0, 0, 0);
+        for (int cellX = cellX1; cellX <= cellX2; ++cellX)
+        {
+            final int minX = Math.max(min.x(), cellX * townBlockSize);
+            final int maxX = Math.min(max.x(), (cellX + 1) * townBlockSize - 1);
+
+            for (int cellZ = cellZ1; cellZ <= cellZ2; ++cellZ)
+            {
+                final int minZ = Math.max(min.z(), cellZ * townBlockSize);
+                final int maxZ = Math.min(max.z(), (cellZ + 1) * townBlockSize - 1);
+
+                final WorldCoord worldCoord = new WorldCoord(world.getName(), cellX, cellZ);
+                final boolean allowed = worldCoord.isWilderness() ?
+                    canBreakBlocksInWilderness(player, loc, minX, maxX, min.y(), max.y(), minZ, maxZ) :
+                    canBreakBlock0(player, setLocation(loc, minX, min.y(), minZ));
+
+                if (!allowed)
+                    return CompletableFuture.completedFuture(false);
+            }
+        }
         return CompletableFuture.completedFuture(true);
     }
-}
 
+    /**
+     * Checks if a player can break all blocks in a part of a cuboid that lies in a single wilderness cell.
+     * <p>
+     * The permission is checked once for every type of block in the region.
+     *
+     * @return True if the player can break all blocks in the region.
+     */
+    private boolean canBreakBlocksInWilderness(
+        Player player,
+        Location loc,
+        int minX,
+        int maxX,
+        int minY,
+        int maxY,
+        int minZ,
+        int maxZ)
+    {
+        final Set<Material> allowed = EnumSet.noneOf(Material.class);
+        for (int xPos = minX; xPos <= maxX; ++xPos)
+            for (int zPos = minZ; zPos <= maxZ; ++zPos)
+                for (int yPos = minY; yPos <= maxY; ++yPos)
+                {
+                    setLocation(loc, xPos, yPos, zPos);
+                    final Material material = loc.getBlock().getType();
+                    if (allowed.contains(material))
+                        continue;
+                    if (!canBreakBlock0(player, loc))
+                        return false;
+                    allowed.add(material);
+                }
+        return true;
+    }
 
+    private static Location setLocation(Location loc, int x, int y, int z)
+    {
+        loc.setX(x);
+        loc.setY(y);
+        loc.setZ(z);
+        return loc;
+    }
+}
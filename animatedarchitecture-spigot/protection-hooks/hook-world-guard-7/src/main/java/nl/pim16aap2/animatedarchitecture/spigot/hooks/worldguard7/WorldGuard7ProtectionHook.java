@@ -1,15 +1,20 @@
 package nl.pim16aap2.animatedarchitecture.spigot.hooks.worldguard7;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.LocalPlayer;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.BukkitPlayer;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
+import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.association.RegionAssociable;
 import com.sk89q.worldguard.protection.flags.Flags;
 import com.sk89q.worldguard.protection.flags.StateFlag;
 import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
+import com.sk89q.worldguard.protection.regions.RegionType;
 import lombok.CustomLog;
 import lombok.Getter;
 import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
@@ -25,6 +30,8 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
@@ -36,6 +43,13 @@ public class WorldGuard7ProtectionHook implements IProtectionHookSpigot
 {
     private static final StateFlag[] FLAGS = new StateFlag[]{Flags.BLOCK_BREAK, Flags.BLOCK_PLACE, Flags.BUILD};
 
+    /**
+     * The ID of the temporary region used to find the regions that overlap with a cuboid.
+     * <p>
+     * This region is never added to a region manager.
+     */
+    private static final String CUBOID_QUERY_REGION_ID = "animatedarchitecture_cuboid_query";
+
     private final WorldGuard worldGuard;
     private final WorldGuardPlugin worldGuardPlugin;
     @Getter
@@ -55,6 +69,17 @@ public class WorldGuard7ProtectionHook implements IProtectionHookSpigot
         return regionManager != null && regionManager.size() > 0;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * WorldGuard region queries are thread-safe and the checks of this hook do not access the world.
+     */
+    @Override
+    public boolean isThreadSafe()
+    {
+        return true;
+    }
+
     @Override
     public HookPreCheckResult preCheck(Player player, World world)
     {
@@ -131,27 +156,101 @@ public class WorldGuard7ProtectionHook implements IProtectionHookSpigot
         return CompletableFuture.completedFuture(query().testState(wgLoc, wgPlayer, FLAGS));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The regions that overlap with the cuboid are retrieved in a single query. When all of them are cuboids, the
+     * cuboid is split into cells along the faces of those regions and only a single location is tested per cell. Every
+     * location in a cell is covered by the same regions, so this gives the same result as testing every block.
+     * <p>
+     * When any of the overlapping regions is not a cuboid (e.g. a polygonal region), every block is tested instead.
+     */
     @Override
     public CompletableFuture<Boolean> canBreakBlocksInCuboid(Player player, World world, Cuboid cuboid)
     {
         final var wgWorld = toWorldGuardWorld(world);
 
-        final RegionQuery query = worldGuard.getPlatform().getRegionContainer().createQuery();
+        final RegionQuery query = query();
         final RegionAssociable regionAssociable = regionAssociableFromPlayer(player);
 
+        final @Nullable List<Cuboid> regionBounds = getOverlappingRegionBounds(wgWorld, cuboid);
+        if (regionBounds == null)
+        {
+            log.atTrace().log(
+                "Found non-cuboid region overlapping cuboid %s in world '%s', testing every block.",
+                cuboid,
+                world.getName()
+            );
+            return CompletableFuture.completedFuture(testEveryBlock(query, regionAssociable, wgWorld, cuboid));
+        }
+
+        final boolean result = cuboid.allCellsMatch(
+            regionBounds,
+            pos -> testState(query, regionAssociable, wgWorld, pos)
+        );
+        return CompletableFuture.completedFuture(result);
+    }
+
+    /**
+     * Gets the bounds of all regions that overlap with a cuboid.
+     *
+     * @param world
+     *     The world to find the regions in.
+     * @param cuboid
+     *     The cuboid to find the overlapping regions of.
+     * @return The bounds of all regions that overlap with the cuboid, excluding the global region. If any of the
+     * overlapping regions is not a cuboid, null is returned.
+     */
+    private @Nullable List<Cuboid> getOverlappingRegionBounds(com.sk89q.worldedit.world.World world, Cuboid cuboid)
+    {
+        final RegionManager regionManager = worldGuard.getPlatform().getRegionContainer().get(world);
+        if (regionManager == null)
+            return List.of();
+
+        final ProtectedRegion queryRegion = new ProtectedCuboidRegion(
+            CUBOID_QUERY_REGION_ID,
+            toBlockVector(cuboid.getMin()),
+            toBlockVector(cuboid.getMax())
+        );
+        final ApplicableRegionSet regions = regionManager.getApplicableRegions(queryRegion);
+
+        final List<Cuboid> ret = new ArrayList<>(regions.size());
+        for (final ProtectedRegion region : regions)
+        {
+            if (region.getType() == RegionType.GLOBAL)
+                continue;
+            if (region.getType() != RegionType.CUBOID)
+                return null;
+            ret.add(new Cuboid(toVector(region.getMinimumPoint()), toVector(region.getMaximumPoint())));
+        }
+        return ret;
+    }
+
+    private boolean testEveryBlock(
+        RegionQuery query,
+        RegionAssociable regionAssociable,
+        com.sk89q.worldedit.world.World world,
+        Cuboid cuboid)
+    {
         final Vector3Di min = cuboid.getMin();
         final Vector3Di max = cuboid.getMax();
         for (int xPos = min.x(); xPos <= max.x(); ++xPos)
             for (int yPos = min.y(); yPos <= max.y(); ++yPos)
                 for (int zPos = min.z(); zPos <= max.z(); ++zPos)
-                {
-                    final com.sk89q.worldedit.util.Location wgLoc =
-                        new com.sk89q.worldedit.util.Location(wgWorld, xPos, yPos, zPos);
+                    if (!testState(query, regionAssociable, world, new Vector3Di(xPos, yPos, zPos)))
+                        return false;
+        return true;
+    }
 
-                    if (!query.testState(wgLoc, regionAssociable, FLAGS))
-                        return CompletableFuture.completedFuture(false);
-                }
-        return CompletableFuture.completedFuture(true);
+    private boolean testState(
+        RegionQuery query,
+        RegionAssociable regionAssociable,
+        com.sk89q.worldedit.world.World world,
+        Vector3Di pos)
+    {
+        final com.sk89q.worldedit.util.Location wgLoc =
+            new com.sk89q.worldedit.util.Location(world, pos.x(), pos.y(), pos.z());
+        return query.testState(wgLoc, regionAssociable, FLAGS);
     }
 
     private RegionAssociable regionAssociableFromPlayer(Player player)
@@ -182,6 +281,16 @@ public class WorldGuard7ProtectionHook implements IProtectionHookSpigot
         return BukkitAdapter.adapt(Objects.requireNonNull(world, "World cannot be null!"));
     }
 
+    private static BlockVector3 toBlockVector(Vector3Di vec)
+    {
+        return BlockVector3.at(vec.x(), vec.y(), vec.z());
+    }
+
+    private static Vector3Di toVector(BlockVector3 vec)
+    {
+        return new Vector3Di(vec.x(), vec.y(), vec.z());
+    }
+
     private com.sk89q.worldedit.util.Location toWorldGuardLocation(Location loc, com.sk89q.worldedit.world.World world)
     {
         return new com.sk89q.worldedit.util.Location(world, loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
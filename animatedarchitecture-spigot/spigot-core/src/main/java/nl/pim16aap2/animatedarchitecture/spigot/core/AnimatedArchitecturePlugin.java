@@ -90,9 +90,28 @@ public final class AnimatedArchitecturePlugin extends JavaPlugin implements IAni
             .setRestartableHolder(restartableHolder)
             .build();
 
+        restartableHolder.setParallelInitialization(this::isParallelInitializationEnabled);
         updateLogger();
     }
 
+    /**
+     * Checks if the restartables should be initialized concurrently using {@link IConfig#parallelInitialization()}.
+     * <p>
+     * If the config is not available for some reason, this defaults to false.
+     */
+    private boolean isParallelInitializationEnabled()
+    {
+        try
+        {
+            return animatedArchitectureSpigotComponent.getConfig().parallelInitialization();
+        }
+        catch (Exception e)
+        {
+            log.atError().withCause(e).log("Failed to read config! Defaulting to sequential initialization!");
+            return false;
+        }
+    }
+
     /**
      * Tries to update the logger using {@link IConfig#logLevel()}.
      * <p>
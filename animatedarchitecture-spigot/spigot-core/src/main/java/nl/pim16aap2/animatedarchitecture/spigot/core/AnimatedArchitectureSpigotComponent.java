@@ -17,6 +17,8 @@ import nl.pim16aap2.animatedarchitecture.core.api.factories.IAnimatedArchitectur
 import nl.pim16aap2.animatedarchitecture.core.api.factories.ILocationFactory;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IPlayerFactory;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IWorldFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.JfrEventManager;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExportManager;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.audio.AudioAnimationHook;
 import nl.pim16aap2.animatedarchitecture.core.audio.IAudioPlayer;
@@ -145,6 +147,10 @@ interface AnimatedArchitectureSpigotComponent
 
     DebuggableRegistry getDebuggableRegistry();
 
+    MetricsExportManager getMetricsExportManager();
+
+    JfrEventManager getJfrEventManager();
+
     ProtectionHookManagerSpigot getProtectionHookManager();
 
     GuiFactory getGUIFactory();
@@ -19,6 +19,8 @@ import nl.pim16aap2.animatedarchitecture.core.api.factories.IAnimatedArchitectur
 import nl.pim16aap2.animatedarchitecture.core.api.factories.ILocationFactory;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IPlayerFactory;
 import nl.pim16aap2.animatedarchitecture.core.api.factories.IWorldFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.JfrEventManager;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExportManager;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.audio.IAudioPlayer;
 import nl.pim16aap2.animatedarchitecture.core.commands.CommandFactory;
@@ -199,6 +201,12 @@ public final class AnimatedArchitectureSpigotPlatform implements IAnimatedArchit
     @SuppressWarnings({"FieldCanBeLocal", "unused", "PMD.SingularField"})
     private final WorldListener worldListener;
 
+    @SuppressWarnings({"FieldCanBeLocal", "unused", "PMD.SingularField"})
+    private final MetricsExportManager metricsExportManager;
+
+    @SuppressWarnings({"FieldCanBeLocal", "unused", "PMD.SingularField"})
+    private final JfrEventManager jfrEventManager;
+
     @Getter
     private final CommandManager commandListener;
 
@@ -262,6 +270,8 @@ public final class AnimatedArchitectureSpigotPlatform implements IAnimatedArchit
         animatedArchitectureConfig = safeGetter(AnimatedArchitectureSpigotComponent::getConfig);
         executor = safeGetter(AnimatedArchitectureSpigotComponent::getExecutor);
         worldListener = safeGetter(AnimatedArchitectureSpigotComponent::getWorldListener);
+        metricsExportManager = safeGetter(AnimatedArchitectureSpigotComponent::getMetricsExportManager);
+        jfrEventManager = safeGetter(AnimatedArchitectureSpigotComponent::getJfrEventManager);
         highlightedBlockSpawner = safeGetter(AnimatedArchitectureSpigotComponent::getHighlightedBlockSpawner);
         server = safeGetter(AnimatedArchitectureSpigotComponent::getServer);
         audioPlayer = safeGetter(AnimatedArchitectureSpigotComponent::getIAudioPlayer);
@@ -103,11 +103,19 @@ class CommandExecutor
     void debug(CommandContext<ICommandSender> context)
     {
         commandFactory
-            .newDebug(context.getSender())
+            .newDebug(context.getSender(), false)
             .runWithRawResult(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
             .handleExceptional(ex -> handleException(context, ex, "debug"));
     }
 
+    void debugSnapshot(CommandContext<ICommandSender> context)
+    {
+        commandFactory
+            .newDebug(context.getSender(), true)
+            .runWithRawResult(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .handleExceptional(ex -> handleException(context, ex, "debugSnapshot"));
+    }
+
     void delete(CommandContext<ICommandSender> context)
     {
         final StructureRetriever structureRetriever = PARAM_STRUCTURE_RETRIEVER.get(context);
@@ -197,6 +205,22 @@ class CommandExecutor
             .handleExceptional(ex -> handleException(context, ex, "newStructure"));
     }
 
+    void perf(CommandContext<ICommandSender> context)
+    {
+        commandFactory
+            .newPerf(context.getSender(), false)
+            .runWithRawResult(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .handleExceptional(ex -> handleException(context, ex, "perf"));
+    }
+
+    void perfReset(CommandContext<ICommandSender> context)
+    {
+        commandFactory
+            .newPerf(context.getSender(), true)
+            .runWithRawResult(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .handleExceptional(ex -> handleException(context, ex, "perfReset"));
+    }
+
     void removeOwner(CommandContext<ICommandSender> context)
     {
         final IPlayer targetPlayer = playerFactory.wrapPlayer(PARAM_TARGET_PLAYER.get(context));
@@ -169,6 +169,7 @@ public final class CommandManager
         initCmdMenu(manager, builder);
         initCmdMovePowerBlock(manager, builder);
         initCmdNewStructure(manager, builder);
+        initCmdPerf(manager, builder);
         initCmdRemoveOwner(manager, builder);
         initCmdRestart(manager, builder);
         initCmdSetBlocksToMove(manager, builder);
@@ -270,9 +271,15 @@ public final class CommandManager
         BukkitCommandManager<ICommandSender> manager,
         Command.Builder<ICommandSender> builder)
     {
+        final Command.Builder<ICommandSender> debugBuilder =
+            baseInit(builder, CommandDefinition.DEBUG, "commands.debug.description");
+
+        manager.command(debugBuilder.handler(commandExecutor::debug));
         manager.command(
-            baseInit(builder, CommandDefinition.DEBUG, "commands.debug.description")
-                .handler(commandExecutor::debug)
+            debugBuilder
+                .literal("snapshot")
+                .meta(CommandMeta.DESCRIPTION, localizer.getMessage("commands.debug.snapshot.description"))
+                .handler(commandExecutor::debugSnapshot)
         );
     }
 
@@ -380,6 +387,22 @@ public final class CommandManager
             .anyMatch(type -> permissionsManager.hasPermissionToCreateStructure(player, type));
     }
 
+    private void initCmdPerf(
+        BukkitCommandManager<ICommandSender> manager,
+        Command.Builder<ICommandSender> builder)
+    {
+        final Command.Builder<ICommandSender> perfBuilder =
+            baseInit(builder, CommandDefinition.PERF, "commands.perf.description");
+
+        manager.command(perfBuilder.handler(commandExecutor::perf));
+        manager.command(
+            perfBuilder
+                .literal("reset")
+                .meta(CommandMeta.DESCRIPTION, localizer.getMessage("commands.perf.reset.description"))
+                .handler(commandExecutor::perfReset)
+        );
+    }
+
     private void initCmdRemoveOwner(
         BukkitCommandManager<ICommandSender> manager,
         Command.Builder<ICommandSender> builder)
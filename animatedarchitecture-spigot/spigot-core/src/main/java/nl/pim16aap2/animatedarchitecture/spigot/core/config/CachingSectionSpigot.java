@@ -22,8 +22,10 @@ import java.util.function.Consumer;
 public class CachingSectionSpigot extends CachingSection<CachingSectionSpigot.Result>
 {
     public static final String PATH_HEAD_CACHE_TIMEOUT = "head_cache_timeout";
+    public static final String PATH_PROTECTION_CHECK_CACHE_TIMEOUT = "protection_check_cache_timeout";
 
     public static final int DEFAULT_HEAD_CACHE_TIMEOUT = 120;
+    public static final int DEFAULT_PROTECTION_CHECK_CACHE_TIMEOUT = 5;
 
     @Getter
     private final @Nullable Consumer<Result> resultConsumer;
@@ -35,8 +37,10 @@ public class CachingSectionSpigot extends CachingSection<CachingSectionSpigot.Re
         return super
             .buildInitialLimitsNode()
             .act(node ->
-                addInitialHeadCacheTimeout(node.node(PATH_HEAD_CACHE_TIMEOUT))
-            );
+            {
+                addInitialHeadCacheTimeout(node.node(PATH_HEAD_CACHE_TIMEOUT));
+                addInitialProtectionCheckCacheTimeout(node.node(PATH_PROTECTION_CHECK_CACHE_TIMEOUT));
+            });
     }
 
     private void addInitialHeadCacheTimeout(CommentedConfigurationNode node)
@@ -53,12 +57,35 @@ public class CachingSectionSpigot extends CachingSection<CachingSectionSpigot.Re
             );
     }
 
+    private void addInitialProtectionCheckCacheTimeout(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_PROTECTION_CHECK_CACHE_TIMEOUT)
+            .comment("""
+                Amount of time (in seconds) to cache the results of protection hook checks.
+                
+                Structures that are toggled repeatedly (e.g. by redstone) move between the same positions.
+                Caching the results avoids asking all protection plugins for permission on every toggle.
+                
+                Changes to the claims or regions of protection plugins are not tracked, so they may take this
+                long to take effect for existing structures. Keep this value short.
+                
+                Use 0 to disable this cache.
+                
+                Default: %d
+                """.formatted(DEFAULT_PROTECTION_CHECK_CACHE_TIMEOUT)
+            );
+    }
+
     @Override
     protected Result getResult(ConfigurationNode sectionNode, boolean silent)
     {
         return new Result(
             getCacheTimeout(sectionNode),
-            getHeadCacheTimeout(sectionNode)
+            getPowerblockCacheMaxChunks(sectionNode),
+            getStructureCacheMaxSize(sectionNode),
+            getHeadCacheTimeout(sectionNode),
+            getProtectionCheckCacheTimeout(sectionNode)
         );
     }
 
@@ -67,22 +94,52 @@ public class CachingSectionSpigot extends CachingSection<CachingSectionSpigot.Re
         return sectionNode.node(PATH_POWERBLOCK_CACHE_TIMEOUT).getInt(DEFAULT_POWERBLOCK_CACHE_TIMEOUT);
     }
 
+    private int getPowerblockCacheMaxChunks(ConfigurationNode sectionNode)
+    {
+        return Math.max(
+            0,
+            sectionNode.node(PATH_POWERBLOCK_CACHE_MAX_CHUNKS).getInt(DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS)
+        );
+    }
+
+    private int getStructureCacheMaxSize(ConfigurationNode sectionNode)
+    {
+        return Math.max(0, sectionNode.node(PATH_STRUCTURE_CACHE_MAX_SIZE).getInt(DEFAULT_STRUCTURE_CACHE_MAX_SIZE));
+    }
+
     private int getHeadCacheTimeout(ConfigurationNode sectionNode)
     {
         return sectionNode.node(PATH_HEAD_CACHE_TIMEOUT).getInt(DEFAULT_HEAD_CACHE_TIMEOUT);
     }
 
+    private int getProtectionCheckCacheTimeout(ConfigurationNode sectionNode)
+    {
+        return Math.max(
+            0,
+            sectionNode.node(PATH_PROTECTION_CHECK_CACHE_TIMEOUT).getInt(DEFAULT_PROTECTION_CHECK_CACHE_TIMEOUT)
+        );
+    }
+
     /**
      * Represents the result of the caching configuration section.
      *
      * @param powerblockCacheTimeout
      *     The timeout for caching powerblocks (in minutes).
+     * @param powerblockCacheMaxChunks
+     *     The maximum number of chunks per world to cache powerblocks for. 0 means there is no limit.
+     * @param structureCacheMaxSize
+     *     The maximum number of structures to keep in the structure cache. 0 means there is no limit.
      * @param headCacheTimeout
      *     The timeout for player head caching (in minutes).
+     * @param protectionCheckCacheTimeout
+     *     The timeout for caching the results of protection hook checks (in seconds). 0 means there is no caching.
      */
     public record Result(
         int powerblockCacheTimeout,
-        int headCacheTimeout
+        int powerblockCacheMaxChunks,
+        int structureCacheMaxSize,
+        int headCacheTimeout,
+        int protectionCheckCacheTimeout
     ) implements IConfigSectionResult
     {
         /**
@@ -90,7 +147,10 @@ public class CachingSectionSpigot extends CachingSection<CachingSectionSpigot.Re
          */
         public static final Result DEFAULT = new Result(
             CachingSection.DEFAULT_POWERBLOCK_CACHE_TIMEOUT,
-            CachingSectionSpigot.DEFAULT_HEAD_CACHE_TIMEOUT
+            CachingSection.DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS,
+            CachingSection.DEFAULT_STRUCTURE_CACHE_MAX_SIZE,
+            CachingSectionSpigot.DEFAULT_HEAD_CACHE_TIMEOUT,
+            CachingSectionSpigot.DEFAULT_PROTECTION_CHECK_CACHE_TIMEOUT
         );
     }
 }
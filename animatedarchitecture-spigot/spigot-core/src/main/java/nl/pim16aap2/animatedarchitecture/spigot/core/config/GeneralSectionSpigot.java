@@ -23,6 +23,7 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
     public static final String PATH_RESOURCE_PACK_ENABLED = "resource_pack_enabled";
     public static final String PATH_MATERIAL_BLACKLIST = "material_blacklist";
     public static final String PATH_COMMAND_ALIASES = "command_aliases";
+    public static final String PATH_PARALLEL_INITIALIZATION = "parallel_initialization";
 
     public static final boolean DEFAULT_RESOURCE_PACK_ENABLED = true;
     public static final List<String> DEFAULT_MATERIAL_BLACKLIST = List.of();
@@ -31,6 +32,7 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
         "AnimatedArchitecture",
         "aa"
     );
+    public static final boolean DEFAULT_PARALLEL_INITIALIZATION = false;
 
     private static final MaterialParser MATERIAL_BLACKLIST_PARSER = MaterialParser.builder()
         .context("Material blacklist")
@@ -50,6 +52,7 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
                 addInitialResourcePackEnabled(node.node(PATH_RESOURCE_PACK_ENABLED));
                 addInitialMaterialBlacklist(node.node(PATH_MATERIAL_BLACKLIST));
                 addInitialCommandAliases(node.node(PATH_COMMAND_ALIASES));
+                addInitialParallelInitialization(node.node(PATH_PARALLEL_INITIALIZATION));
             });
     }
 
@@ -107,6 +110,22 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
                 """.formatted(formatDefaultCollection(DEFAULT_COMMAND_ALIASES)));
     }
 
+    private void addInitialParallelInitialization(CommentedConfigurationNode node)
+        throws SerializationException
+    {
+        node.set(DEFAULT_PARALLEL_INITIALIZATION)
+            .comment("""
+                Whether independent parts of the plugin should be initialized at the same time.
+                
+                This can reduce the time it takes to enable the plugin and to run `/animatedarchitecture restart`.
+                Parts of the plugin that have to run on the main thread are always initialized one after the other.
+                
+                The time it took to initialize each part of the plugin is logged after every (re)start.
+                
+                Default: %b
+                """.formatted(DEFAULT_PARALLEL_INITIALIZATION));
+    }
+
     @Override
     protected Result getResult(ConfigurationNode sectionNode, boolean silent)
         throws SerializationException
@@ -116,7 +135,8 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
             getMaterialBlackList(sectionNode, silent),
             getResourcePackEnabled(sectionNode),
             aliases,
-            aliases.isEmpty() ? DEFAULT_COMMAND_ALIASES.getFirst() : aliases.getFirst()
+            aliases.isEmpty() ? DEFAULT_COMMAND_ALIASES.getFirst() : aliases.getFirst(),
+            getParallelInitialization(sectionNode)
         );
     }
 
@@ -131,6 +151,11 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
         return sectionNode.node(PATH_RESOURCE_PACK_ENABLED).getBoolean(DEFAULT_RESOURCE_PACK_ENABLED);
     }
 
+    private boolean getParallelInitialization(ConfigurationNode sectionNode)
+    {
+        return sectionNode.node(PATH_PARALLEL_INITIALIZATION).getBoolean(DEFAULT_PARALLEL_INITIALIZATION);
+    }
+
     private List<String> getCommandAliases(ConfigurationNode sectionNode)
         throws SerializationException
     {
@@ -148,12 +173,15 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
      *     The list of command aliases for the plugin commands.
      * @param primaryCommandName
      *     The primary command name (first alias).
+     * @param parallelInitialization
+     *     Whether restartables that declare their dependencies should be initialized concurrently.
      */
     public record Result(
         Set<Material> materialBlacklist,
         boolean resourcePackEnabled,
         List<String> commandAliases,
-        String primaryCommandName
+        String primaryCommandName,
+        boolean parallelInitialization
     ) implements IConfigSectionResult
     {
         /**
@@ -163,7 +191,8 @@ public class GeneralSectionSpigot extends GeneralSection<GeneralSectionSpigot.Re
             Set.of(),
             DEFAULT_RESOURCE_PACK_ENABLED,
             DEFAULT_COMMAND_ALIASES,
-            DEFAULT_COMMAND_ALIASES.getFirst()
+            DEFAULT_COMMAND_ALIASES.getFirst(),
+            DEFAULT_PARALLEL_INITIALIZATION
         );
 
         public Result
@@ -55,6 +55,13 @@ public interface IConfigSpigot extends IConfig, IBlockAnalyzerConfig
      */
     int headCacheTimeout();
 
+    /**
+     * Gets the timeout for the protection check cache.
+     *
+     * @return The timeout in seconds for the cached results of protection hook checks. 0 if caching is disabled.
+     */
+    int protectionCheckCacheTimeout();
+
     /**
      * Checks if a specific protection hook is enabled.
      *
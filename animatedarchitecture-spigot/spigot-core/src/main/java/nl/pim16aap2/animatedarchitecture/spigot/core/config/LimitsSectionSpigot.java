@@ -31,7 +31,11 @@ public class LimitsSectionSpigot extends LimitsSection<LimitsSectionSpigot.Resul
             getMaxBlocksToMove(sectionNode),
             getMaxStructureSize(sectionNode),
             getMaxPowerblockDistance(sectionNode),
-            getMaxBlockSpeed(sectionNode)
+            getMaxBlockSpeed(sectionNode),
+            getMaxConcurrentAnimations(sectionNode),
+            getMaxConcurrentAnimationsPerWorld(sectionNode),
+            getToggleQueueSize(sectionNode),
+            getRedstoneVerificationsPerTick(sectionNode)
         );
     }
 
@@ -60,6 +64,33 @@ public class LimitsSectionSpigot extends LimitsSection<LimitsSectionSpigot.Resul
         return sectionNode.node(PATH_MAX_BLOCK_SPEED).getDouble(DEFAULT_MAX_BLOCK_SPEED);
     }
 
+    private int getMaxConcurrentAnimations(ConfigurationNode sectionNode)
+    {
+        return sectionNode.node(PATH_MAX_CONCURRENT_ANIMATIONS).getInt(DEFAULT_MAX_CONCURRENT_ANIMATIONS);
+    }
+
+    private int getMaxConcurrentAnimationsPerWorld(ConfigurationNode sectionNode)
+    {
+        return sectionNode
+            .node(PATH_MAX_CONCURRENT_ANIMATIONS_PER_WORLD)
+            .getInt(DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD);
+    }
+
+    private int getToggleQueueSize(ConfigurationNode sectionNode)
+    {
+        return Math.max(0, sectionNode.node(PATH_TOGGLE_QUEUE_SIZE).getInt(DEFAULT_TOGGLE_QUEUE_SIZE));
+    }
+
+    private int getRedstoneVerificationsPerTick(ConfigurationNode sectionNode)
+    {
+        return Math.max(
+            1,
+            sectionNode
+                .node(PATH_REDSTONE_VERIFICATIONS_PER_TICK)
+                .getInt(DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK)
+        );
+    }
+
     /**
      * Represents the result of the LimitsSectionSpigot configuration.
      *
@@ -73,13 +104,25 @@ public class LimitsSectionSpigot extends LimitsSection<LimitsSectionSpigot.Resul
      *     The maximum distance between power blocks in a structure.
      * @param maxBlockSpeed
      *     The maximum speed at which blocks can move in an animation.
+     * @param maxConcurrentAnimations
+     *     The maximum number of structures that can be animated at the same time.
+     * @param maxConcurrentAnimationsPerWorld
+     *     The maximum number of structures that can be animated at the same time in a single world.
+     * @param toggleQueueSize
+     *     The maximum number of toggle requests that can wait for an animation slot.
+     * @param redstoneVerificationsPerTick
+     *     The maximum number of structures whose redstone state is verified per tick.
      */
     public record Result(
         OptionalInt maxStructureCount,
         OptionalInt maxBlocksToMove,
         OptionalInt maxStructureSize,
         OptionalInt maxPowerblockDistance,
-        OptionalDouble maxBlockSpeed
+        OptionalDouble maxBlockSpeed,
+        OptionalInt maxConcurrentAnimations,
+        OptionalInt maxConcurrentAnimationsPerWorld,
+        int toggleQueueSize,
+        int redstoneVerificationsPerTick
     ) implements IConfigSectionResult
     {
         /**
@@ -90,7 +133,11 @@ public class LimitsSectionSpigot extends LimitsSection<LimitsSectionSpigot.Resul
             DEFAULT_MAX_BLOCKS_TO_MOVE,
             DEFAULT_MAX_STRUCTURE_SIZE,
             DEFAULT_MAX_POWERBLOCK_DISTANCE,
-            DEFAULT_MAX_BLOCK_SPEED
+            DEFAULT_MAX_BLOCK_SPEED,
+            DEFAULT_MAX_CONCURRENT_ANIMATIONS,
+            DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD,
+            DEFAULT_TOGGLE_QUEUE_SIZE,
+            DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK
         );
 
         public Result(
@@ -98,7 +145,11 @@ public class LimitsSectionSpigot extends LimitsSection<LimitsSectionSpigot.Resul
             int maxBlocksToMove,
             int maxStructureSize,
             int maxPowerblockDistance,
-            double maxBlockSpeed
+            double maxBlockSpeed,
+            int maxConcurrentAnimations,
+            int maxConcurrentAnimationsPerWorld,
+            int toggleQueueSize,
+            int redstoneVerificationsPerTick
         )
         {
             this(
@@ -106,7 +157,11 @@ public class LimitsSectionSpigot extends LimitsSection<LimitsSectionSpigot.Resul
                 getOptionalLimit(maxBlocksToMove),
                 getOptionalLimit(maxStructureSize),
                 getOptionalLimit(maxPowerblockDistance),
-                getOptionalLimit(maxBlockSpeed)
+                getOptionalLimit(maxBlockSpeed),
+                getOptionalLimit(maxConcurrentAnimations),
+                getOptionalLimit(maxConcurrentAnimationsPerWorld),
+                toggleQueueSize,
+                redstoneVerificationsPerTick
             );
         }
 
@@ -2,6 +2,7 @@ package nl.pim16aap2.animatedarchitecture.spigot.core.config;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExporterType;
 import nl.pim16aap2.animatedarchitecture.core.config.IConfigSectionResult;
 import nl.pim16aap2.animatedarchitecture.core.config.LoggingSection;
 import nl.pim16aap2.animatedarchitecture.core.util.Util;
@@ -30,7 +31,10 @@ public class LoggingSectionSpigot extends LoggingSection<LoggingSectionSpigot.Re
     {
         return new Result(
             getLevel(sectionNode),
-            getDebug(sectionNode)
+            getDebug(sectionNode),
+            getMetricsExporter(sectionNode),
+            getMetricsExportInterval(sectionNode),
+            getJfrEvents(sectionNode)
         );
     }
 
@@ -46,6 +50,23 @@ public class LoggingSectionSpigot extends LoggingSection<LoggingSectionSpigot.Re
         return sectionNode.node(PATH_DEBUG).getBoolean(DEFAULT_DEBUG);
     }
 
+    private MetricsExporterType getMetricsExporter(ConfigurationNode sectionNode)
+        throws SerializationException
+    {
+        final String exporterName = sectionNode.node(PATH_METRICS_EXPORTER).get(String.class);
+        return Objects.requireNonNullElse(MetricsExporterType.parse(exporterName), DEFAULT_METRICS_EXPORTER);
+    }
+
+    private int getMetricsExportInterval(ConfigurationNode sectionNode)
+    {
+        return Math.max(1, sectionNode.node(PATH_METRICS_EXPORT_INTERVAL).getInt(DEFAULT_METRICS_EXPORT_INTERVAL));
+    }
+
+    private boolean getJfrEvents(ConfigurationNode sectionNode)
+    {
+        return sectionNode.node(PATH_JFR_EVENTS).getBoolean(DEFAULT_JFR_EVENTS);
+    }
+
     /**
      * Represents the result of the logging configuration section.
      *
@@ -53,10 +74,19 @@ public class LoggingSectionSpigot extends LoggingSection<LoggingSectionSpigot.Re
      *     the logging level to be used.
      * @param debug
      *     Some debug information that should not be used in production.
+     * @param metricsExporter
+     *     The type of exporter to use for the collected metrics.
+     * @param metricsExportInterval
+     *     The amount of time (in seconds) between two exports of the collected metrics.
+     * @param jfrEvents
+     *     Whether the custom Java Flight Recorder events should be registered.
      */
     public record Result(
         Level logLevel,
-        boolean debug
+        boolean debug,
+        MetricsExporterType metricsExporter,
+        int metricsExportInterval,
+        boolean jfrEvents
     ) implements IConfigSectionResult
     {
         /**
@@ -64,7 +94,10 @@ public class LoggingSectionSpigot extends LoggingSection<LoggingSectionSpigot.Re
          */
         public static final Result DEFAULT = new Result(
             LoggingSection.DEFAULT_LOG_LEVEL,
-            LoggingSection.DEFAULT_DEBUG
+            LoggingSection.DEFAULT_DEBUG,
+            LoggingSection.DEFAULT_METRICS_EXPORTER,
+            LoggingSection.DEFAULT_METRICS_EXPORT_INTERVAL,
+            LoggingSection.DEFAULT_JFR_EVENTS
         );
     }
 }
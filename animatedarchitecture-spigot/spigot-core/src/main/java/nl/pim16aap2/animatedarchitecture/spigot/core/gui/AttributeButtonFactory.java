@@ -72,7 +72,10 @@ class AttributeButtonFactory
             .runWithRawResult(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
             // Force a draw with dynamic fields update to ensure the correct
             // state is displayed in case the command did not change the status.
-            .thenRun(() -> executor.runOnMainThread(() -> change.getGui().draw(player.getBukkitPlayer(), true, false)))
+            .thenRun(() -> executor.runOnMainThread(
+                () -> change.getGui().draw(player.getBukkitPlayer(), true, false),
+                IExecutor.MainThreadPriority.INTERACTIVE
+            ))
             .orTimeout(1, TimeUnit.SECONDS)
             .handleExceptional(ex -> handleExceptional(ex, player, "lock_button"));
     }
@@ -242,7 +245,10 @@ class AttributeButtonFactory
             .runWithRawResult(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
             // Force a draw with dynamic fields update to ensure the correct
             // state is displayed in case the command did not change the status.
-            .thenRun(() -> executor.runOnMainThread(() -> change.getGui().draw(player.getBukkitPlayer(), true, false)))
+            .thenRun(() -> executor.runOnMainThread(
+                () -> change.getGui().draw(player.getBukkitPlayer(), true, false),
+                IExecutor.MainThreadPriority.INTERACTIVE
+            ))
             .orTimeout(1, TimeUnit.SECONDS)
             .handleExceptional(ex -> handleExceptional(ex, player, "is_open_button"));
     }
@@ -45,7 +45,10 @@ public class GuiFactory implements IGuiFactory
             .search(finalSource, "", StructureRetrieverFactory.StructureFinderMode.NEW_INSTANCE, PermissionLevel.USER)
             .getStructures()
             .thenApply(structures -> structures.parallelStream().map(MainGui.NamedStructure::new).toList())
-            .thenCompose(structures -> executor.runOnMainThread(() -> factory.newGUI(inventoryHolder, structures)))
+            .thenCompose(structures -> executor.runOnMainThread(
+                () -> factory.newGUI(inventoryHolder, structures),
+                IExecutor.MainThreadPriority.INTERACTIVE
+            ))
             .orTimeout(5, TimeUnit.SECONDS)
             .handleExceptional(ex ->
             {
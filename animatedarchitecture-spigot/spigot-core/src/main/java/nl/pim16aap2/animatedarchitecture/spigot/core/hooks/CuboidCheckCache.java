@@ -0,0 +1,162 @@
+package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
+
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IProtectionHookManager.HookCheckResult;
+import nl.pim16aap2.animatedarchitecture.core.data.cache.timed.TimedCache;
+import nl.pim16aap2.animatedarchitecture.core.data.cache.timed.TimedCacheStatistics;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the results of {@link ProtectionHookManagerSpigot#canBreakBlocksInCuboid} checks.
+ * <p>
+ * Every key contains the version of the set of hooks that was loaded when the check was started. Whenever the cache is
+ * {@link #invalidate() invalidated}, this version is incremented, so results of checks that were started before the
+ * invalidation are never stored.
+ * <p>
+ * The underlying cache is replaced on every {@link #reset(int)} and {@link #shutDown()}. Results of checks that were
+ * started before then are silently discarded instead of being put in a cache that has been shut down.
+ * <p>
+ * Changes to the claims or regions of protection plugins are not tracked. A cached result therefore remains in use
+ * until it expires or until the cache is invalidated explicitly via
+ * {@link ProtectionHookManagerSpigot#invalidateCache()}. This is why results are only kept for a short time.
+ */
+@CustomLog
+final class CuboidCheckCache
+{
+    /**
+     * The maximum number of results to keep in the cache.
+     */
+    static final int MAX_SIZE = 1_000;
+
+    private final AtomicLong hookSetVersion = new AtomicLong();
+
+    /**
+     * The cache holding the results.
+     * <p>
+     * Replaced and shut down only while holding the lock on this object, so {@link #put(Key, HookCheckResult)} never
+     * interacts with a cache that has been shut down.
+     */
+    private volatile TimedCache<Key, HookCheckResult> cache = TimedCache.emptyCache();
+
+    /**
+     * Creates a new key for a check that is about to be started.
+     *
+     * @param playerUUID
+     *     The UUID of the player the check is run for.
+     * @param worldName
+     *     The name of the world the check is run in.
+     * @param cuboid
+     *     The cuboid that is checked.
+     * @return The new key.
+     */
+    Key key(UUID playerUUID, String worldName, Cuboid cuboid)
+    {
+        return new Key(playerUUID, worldName, cuboid, hookSetVersion.get());
+    }
+
+    /**
+     * Gets the cached result for a key, if any.
+     *
+     * @param key
+     *     The key to look up.
+     * @return The cached result, or an empty optional if no valid result is cached for the key.
+     */
+    synchronized Optional<HookCheckResult> get(Key key)
+    {
+        return cache.get(key);
+    }
+
+    /**
+     * Stores the result of a check.
+     * <p>
+     * The result is discarded if the cache was invalidated, reset, or shut down after the key was created.
+     *
+     * @param key
+     *     The key that was created before the check was started.
+     * @param result
+     *     The result of the check.
+     */
+    synchronized void put(Key key, HookCheckResult result)
+    {
+        if (key.hookSetVersion() != hookSetVersion.get())
+        {
+            log.atTrace().log("Discarding result %s for outdated key %s.", result, key);
+            return;
+        }
+        cache.put(key, result);
+    }
+
+    /**
+     * Invalidates all cached results as well as the results of all checks that are currently running.
+     */
+    synchronized void invalidate()
+    {
+        hookSetVersion.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Replaces the current cache with a new one.
+     *
+     * @param timeout
+     *     The amount of time (in seconds) to keep results in the cache. When this is 0 or less, no results are cached.
+     */
+    synchronized void reset(int timeout)
+    {
+        final TimedCache<Key, HookCheckResult> old = cache;
+        hookSetVersion.incrementAndGet();
+        cache = createCache(timeout);
+        old.shutDown();
+    }
+
+    /**
+     * Shuts down the current cache. Any results that are stored afterward are discarded.
+     */
+    void shutDown()
+    {
+        reset(0);
+    }
+
+    /**
+     * Gets the statistics of the current cache.
+     *
+     * @return The statistics of the current cache.
+     */
+    TimedCacheStatistics getStatistics()
+    {
+        return cache.getStatistics();
+    }
+
+    private static TimedCache<Key, HookCheckResult> createCache(int timeout)
+    {
+        if (timeout <= 0)
+            return TimedCache.emptyCache();
+
+        return TimedCache.<Key, HookCheckResult>builder()
+            .timeOut(Duration.ofSeconds(timeout))
+            .cleanup(Duration.ofSeconds(Math.max(30, timeout)))
+            .maximumWeight(MAX_SIZE)
+            .build();
+    }
+
+    /**
+     * The key of a cached result.
+     *
+     * @param playerUUID
+     *     The UUID of the player the check was run for.
+     * @param worldName
+     *     The name of the world the check was run in.
+     * @param cuboid
+     *     The cuboid that was checked.
+     * @param hookSetVersion
+     *     The version of the set of hooks that was used for the check.
+     */
+    record Key(UUID playerUUID, String worldName, Cuboid cuboid, long hookSetVersion)
+    {
+    }
+}
@@ -1,10 +1,12 @@
 package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
 
+import com.google.errorprone.annotations.concurrent.GuardedBy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import lombok.CustomLog;
 import nl.pim16aap2.animatedarchitecture.spigot.core.AnimatedArchitecturePlugin;
+import nl.pim16aap2.animatedarchitecture.spigot.util.hooks.IFakePlayer;
 import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -12,33 +14,67 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Constructor;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Class used to create a fake-online player who is actually offline.
+ * <p>
+ * Fake players can be reused through {@link #acquirePlayer(OfflinePlayer, Location)} and
+ * {@link #releasePlayer(Player)}. This avoids creating a new instance of the generated class for every protection
+ * check of a structure whose owner is offline.
  */
 @Singleton
 @CustomLog
 public class FakePlayerCreator
 {
-    private final @Nullable Constructor<?> ctor;
+    /**
+     * The maximum number of released fake players to keep for reuse.
+     */
+    static final int MAX_POOLED_PLAYERS = 64;
+
+    private final @Nullable FakePlayerFactory factory;
+
+    /**
+     * The released fake players that can be reused, mapped by the UUID of the player they represent.
+     * <p>
+     * Players are removed from this map while they are in use, so a fake player is never used by two checks at the
+     * same time. When the map is full, the least recently released player is discarded.
+     */
+    @GuardedBy("this")
+    private final Map<UUID, Player> pool = new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Player> eldest)
+        {
+            return size() > MAX_POOLED_PLAYERS;
+        }
+    };
 
     @Inject
     FakePlayerCreator(
         AnimatedArchitecturePlugin plugin,
         @Named("pluginBaseDirectory") Path pluginBaseDirectory)
     {
-        this.ctor = getFakePlayerConstructor(plugin, pluginBaseDirectory);
+        this(getFakePlayerFactory(plugin, pluginBaseDirectory));
     }
 
-    private @Nullable Constructor<?> getFakePlayerConstructor(
+    FakePlayerCreator(@Nullable FakePlayerFactory factory)
+    {
+        this.factory = factory;
+    }
+
+    private static @Nullable FakePlayerFactory getFakePlayerFactory(
         AnimatedArchitecturePlugin plugin,
         Path pluginBaseDirectory)
     {
         try
         {
             final Path outputDir = pluginBaseDirectory.resolve("generated_classes");
-            return new FakePlayerClassGenerator(plugin, outputDir).getGeneratedConstructor();
+            final Constructor<?> ctor = new FakePlayerClassGenerator(plugin, outputDir).getGeneratedConstructor();
+            return (player, location) -> (Player) ctor.newInstance(player, location);
         }
         catch (Exception e)
         {
@@ -54,7 +90,7 @@ public class FakePlayerCreator
      */
     public boolean canCreatePlayers()
     {
-        return ctor != null;
+        return factory != null;
     }
 
     /**
@@ -68,7 +104,7 @@ public class FakePlayerCreator
      */
     public Optional<Player> createPlayer(OfflinePlayer player, Location location)
     {
-        if (ctor == null)
+        if (factory == null)
         {
             log.atDebug().log("Failed to create fake player: No constructor available!");
             return Optional.empty();
@@ -76,7 +112,7 @@ public class FakePlayerCreator
 
         try
         {
-            return Optional.of((Player) ctor.newInstance(player, location));
+            return Optional.of(factory.create(player, location));
         }
         catch (Exception e)
         {
@@ -84,4 +120,107 @@ public class FakePlayerCreator
             return Optional.empty();
         }
     }
+
+    /**
+     * Gets a fake player for exclusive use.
+     * <p>
+     * If a fake player for the given player was released before, it is moved to the given location and reused.
+     * Otherwise, a new fake player is created.
+     * <p>
+     * Once the fake player is no longer needed, it should be returned using {@link #releasePlayer(Player)}.
+     *
+     * @param player
+     *     The offline player to get the fake-online player for.
+     * @param location
+     *     The location of the fake player.
+     * @return The fake player.
+     */
+    public Optional<Player> acquirePlayer(OfflinePlayer player, Location location)
+    {
+        final @Nullable Player pooled;
+        synchronized (this)
+        {
+            pooled = pool.remove(player.getUniqueId());
+        }
+
+        if (pooled instanceof IFakePlayer fakePlayer)
+        {
+            moveTo(fakePlayer.getLocation0(), location);
+            return Optional.of(pooled);
+        }
+
+        // The fake player keeps a reference to its location, so give it its own copy that can be moved later.
+        return createPlayer(player, location.clone());
+    }
+
+    /**
+     * Returns a fake player obtained from {@link #acquirePlayer(OfflinePlayer, Location)}, so it can be reused.
+     * <p>
+     * The fake player must not be used anymore after it was released.
+     * <p>
+     * Players that are not fake players are ignored.
+     *
+     * @param player
+     *     The player to release.
+     */
+    public void releasePlayer(Player player)
+    {
+        if (!(player instanceof IFakePlayer))
+            return;
+
+        synchronized (this)
+        {
+            pool.putIfAbsent(player.getUniqueId(), player);
+        }
+    }
+
+    /**
+     * Gets the number of released fake players that are available for reuse.
+     *
+     * @return The number of pooled fake players.
+     */
+    public synchronized int getPooledPlayerCount()
+    {
+        return pool.size();
+    }
+
+    /**
+     * Discards all released fake players.
+     */
+    public synchronized void clearPool()
+    {
+        pool.clear();
+    }
+
+    /**
+     * Creates new fake players.
+     */
+    @FunctionalInterface
+    interface FakePlayerFactory
+    {
+        /**
+         * Creates a new fake player.
+         *
+         * @param player
+         *     The offline player to create the fake-online player for.
+         * @param location
+         *     The location of the fake player.
+         * @return The new fake player.
+         *
+         * @throws Exception
+         *     When the fake player could not be created.
+         */
+        Player create(OfflinePlayer player, Location location)
+            throws Exception;
+    }
+
+    private static void moveTo(Location target, Location source)
+    {
+        target.setWorld(source.getWorld());
+        target.setX(source.getX());
+        target.setY(source.getY());
+        target.setZ(source.getZ());
+        target.setYaw(source.getYaw());
+        target.setPitch(source.getPitch());
+    }
 }
@@ -17,6 +17,7 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,7 +27,7 @@ import java.util.function.Function;
 /**
  * Represents a group of {@link HookCheckState}s.
  * <p>
- * This class should be instantiated using {@link HookCheckStateContainer#of(List)}.
+ * This class should be instantiated using {@link HookCheckStateContainer#of(List, ProtectionHookTimings)}.
  */
 @Accessors(fluent = true, chain = true)
 @CustomLog
@@ -50,6 +51,11 @@ final class HookCheckStateContainer
     @Getter(value = AccessLevel.PRIVATE)
     private volatile @Nullable String denyingHookName = null;
 
+    /**
+     * Whether an exception occurred while running any of the checks that is not tracked by a {@link HookCheckState}.
+     */
+    private volatile boolean hasErrored = false;
+
     private HookCheckStateContainer(List<HookCheckState> hookCheckStates)
     {
         this.hookCheckStates = hookCheckStates;
@@ -60,11 +66,36 @@ final class HookCheckStateContainer
      *
      * @param hooks
      *     The hooks to create the results from.
+     * @param timings
+     *     The timings to record the duration of the main check of each hook in.
      * @return The created {@link HookCheckStateContainer}.
      */
-    static HookCheckStateContainer of(List<IProtectionHookSpigot> hooks)
+    static HookCheckStateContainer of(List<IProtectionHookSpigot> hooks, ProtectionHookTimings timings)
+    {
+        return new HookCheckStateContainer(hooks.stream().map(hook -> new HookCheckState(hook, timings)).toList());
+    }
+
+    /**
+     * Gets the number of hooks in this container.
+     *
+     * @return The number of hooks in this container.
+     */
+    public int hookCount()
+    {
+        return hookCheckStates.size();
+    }
+
+    /**
+     * Check if an exception occurred while running any of the checks.
+     * <p>
+     * When this is true, the result of the checks may have been caused by the exception rather than by an actual
+     * decision of a hook, so it should not be reused for other checks.
+     *
+     * @return True if an exception occurred while running any of the checks.
+     */
+    public boolean hasErrored()
     {
-        return new HookCheckStateContainer(hooks.stream().map(HookCheckState::new).toList());
+        return hasErrored || hookCheckStates.stream().anyMatch(HookCheckState::hasErrored);
     }
 
     /**
@@ -182,6 +213,7 @@ final class HookCheckStateContainer
                             "An exception occurred while running async pre-check for hook '%s'.",
                             hookCheckState.hookName()
                         );
+                        this.hasErrored = true;
                         this.denyingHookName = hookCheckState.hookErrorName();
                         return HookPreCheckResult.DENY;
                     })
@@ -226,7 +258,13 @@ final class HookCheckStateContainer
     /**
      * Run the main check for all hooks.
      * <p>
-     * Each check is run sequentially. If a check denies the action, the remaining checks are skipped.
+     * The checks of {@link IProtectionHookSpigot#isThreadSafe() thread-safe} hooks are all started asynchronously at
+     * the same time. The checks of the other hooks are run sequentially on the main thread. If a check denies the
+     * action, the remaining sequential checks are skipped.
+     * <p>
+     * The verdict completes as soon as any check denies the action, without waiting for the other checks to complete.
+     * Otherwise, it completes when all checks have allowed the action. Checks that are still running when the verdict
+     * completes are not cancelled; the settled future completes once they are all done.
      * <p>
      * If {@link #isDenied()} is true, the checks are skipped and the result is a denied state.
      * <p>
@@ -238,12 +276,12 @@ final class HookCheckStateContainer
      *     The function to run for each hook. This is intended to be either
      *     {@link IProtectionHookSpigot#canBreakBlock(Player, Location)} or
      *     {@link IProtectionHookSpigot#canBreakBlocksInCuboid(Player, World, Cuboid)}.
-     * @return The result of the checks. This is a {@link CompletableFuture} that completes when all checks are done.
+     * @return The futures of the verdict of the checks and of the completion of all checks.
      *
      * @throws IllegalStateException
      *     If the method is called on the wrong thread.
      */
-    private CompletableFuture<HookCheckResult> runMainChecks(
+    private CheckFutures runMainChecks(
         IExecutor executor,
         Function<IProtectionHookSpigot, CompletableFuture<Boolean>> function)
     {
@@ -252,37 +290,56 @@ final class HookCheckStateContainer
         if (isDenied())
         {
             log.atDebug().log("At least one hook denied the check. Skipping main checks.");
-            return CompletableFuture.completedFuture(HookCheckResult.denied(denyingHookName()));
+            return CheckFutures.completed(HookCheckResult.denied(denyingHookName()));
         }
         else if (allBypassed())
         {
             log.atDebug().log("All hooks are bypassed. Skipping main checks.");
-            return CompletableFuture.completedFuture(HookCheckResult.allowed());
+            return CheckFutures.completed(HookCheckResult.allowed());
         }
 
-        var result = CompletableFuture.completedFuture(HookCheckResult.allowed());
+        // Completed with the first denied result, or with an allowed result once all checks have allowed the action.
+        final CompletableFuture<HookCheckResult> result = new CompletableFuture<>();
+        final List<CompletableFuture<HookCheckResult>> checks = new ArrayList<>();
 
+        // Start the thread-safe checks first, so they run while the sequential checks are running on the main thread.
+        for (final HookCheckState hookCheckState : hookCheckStates)
+        {
+            if (hookCheckState.isBypassed() || !hookCheckState.hook().isThreadSafe())
+                continue;
+
+            log.atTrace().log("Checking thread-safe hook %s asynchronously", hookCheckState.hookName());
+            checks.add(
+                CompletableFuture
+                    .supplyAsync(() -> hookCheckState.check(function), executor.getVirtualExecutor())
+                    .thenCompose(check -> check)
+            );
+        }
+
+        var sequentialResult = CompletableFuture.completedFuture(HookCheckResult.allowed());
         for (final HookCheckState hookCheckState : hookCheckStates)
         {
             if (hookCheckState.isBypassed())
             {
-                log.atTrace().log("Hook '%s' is bypassed. Skipping check...", hookCheckState.hook().getName());
+                log.atTrace().log("Hook '%s' is bypassed. Skipping check...", hookCheckState.hookName());
                 continue;
             }
+            if (hookCheckState.hook().isThreadSafe())
+                continue;
 
             // Compose the result with the next check.
             // This way, we run the checks sequentially and stop when a check denies the action.
-            result = result.thenCompose(previousResult ->
+            sequentialResult = sequentialResult.thenCompose(previousResult ->
             {
-                log.atTrace().log("Checking hook %s", hookCheckState.hook().getName());
+                log.atTrace().log("Checking hook %s", hookCheckState.hookName());
 
                 // Propagate the previous result if it was denied. We only need a single hook to deny the check.
-                if (previousResult.isDenied())
+                // When a thread-safe hook has already denied the check, there is no need to run this check either.
+                if (previousResult.isDenied() || result.isDone())
                 {
                     log.atTrace().log(
-                        "Not checking hook %s because it was already denied by hook %s",
-                        hookCheckState.hook().getName(),
-                        previousResult.denyingHookName()
+                        "Not checking hook %s because the check was already denied",
+                        hookCheckState.hookName()
                     );
                     return CompletableFuture.completedFuture(previousResult);
                 }
@@ -290,27 +347,53 @@ final class HookCheckStateContainer
                 return hookCheckState.check(function);
             });
         }
+        checks.add(sequentialResult);
 
-        return result.exceptionally(e ->
-        {
-            log.atError().withCause(e).log("An exception occurred while running main checks.");
-            return HookCheckResult.ERROR;
-        });
+        for (final CompletableFuture<HookCheckResult> check : checks)
+            check
+                .exceptionally(e ->
+                {
+                    log.atError().withCause(e).log("An exception occurred while running main checks.");
+                    hasErrored = true;
+                    return HookCheckResult.ERROR;
+                })
+                .thenAccept(checkResult ->
+                {
+                    if (checkResult.isDenied())
+                        result.complete(checkResult);
+                });
+
+        final CompletableFuture<Void> settled = CompletableFuture
+            .allOf(checks.toArray(CompletableFuture[]::new))
+            .handle((ignored, throwable) ->
+            {
+                result.complete(throwable == null ? HookCheckResult.allowed() : HookCheckResult.ERROR);
+                return null;
+            });
+
+        return new CheckFutures(result, settled);
     }
 
     /**
      * Implementation of {@link #runAllChecks(IExecutor, Player, World, Function)}.
      */
-    private CompletableFuture<HookCheckResult> runAllChecks0(
+    private CheckFutures runAllChecks0(
         IExecutor executor,
         Player player,
         World world,
         Function<IProtectionHookSpigot, CompletableFuture<Boolean>> function)
     {
-        return runPreChecks(executor, player, world)
-            .thenCompose(container ->
-                executor.composeOnMainThread(() ->
-                    runMainChecks(executor, function)))
+        final CompletableFuture<CheckFutures> mainChecks = runPreChecks(executor, player, world)
+            .thenCompose(ignored -> executor.runOnMainThread(() -> runMainChecks(executor, function)));
+
+        // When the main checks could not be started, there is nothing left to wait for.
+        final CompletableFuture<Void> settled = mainChecks
+            .handle((futures, throwable) ->
+                futures == null ? CompletableFuture.<Void>completedFuture(null) : futures.settled())
+            .thenCompose(Function.identity());
+
+        final CompletableFuture<HookCheckResult> verdict = mainChecks
+            .thenCompose(CheckFutures::verdict)
             .withExceptionContext("Running all checks for player %s in world '%s'", player, world.getName())
             .thenApply(result ->
             {
@@ -322,6 +405,8 @@ final class HookCheckStateContainer
                 );
                 return result;
             });
+
+        return new CheckFutures(verdict, settled);
     }
 
     /**
@@ -341,9 +426,9 @@ final class HookCheckStateContainer
      *     The function to run for each hook. This is intended to be either
      *     {@link IProtectionHookSpigot#canBreakBlock(Player, Location)} or
      *     {@link IProtectionHookSpigot#canBreakBlocksInCuboid(Player, World, Cuboid)}.
-     * @return The result of the checks. This is a {@link CompletableFuture} that completes when all checks are done.
+     * @return The futures of the verdict of the checks and of the completion of all checks. See {@link CheckFutures}.
      */
-    public CompletableFuture<HookCheckResult> runAllChecks(
+    public CheckFutures runAllChecks(
         IExecutor executor,
         Player player,
         World world,
@@ -356,7 +441,8 @@ final class HookCheckStateContainer
         catch (Exception e)
         {
             log.atError().withCause(e).log("An exception occurred while running all checks.");
-            return CompletableFuture.completedFuture(HookCheckResult.ERROR);
+            hasErrored = true;
+            return CheckFutures.completed(HookCheckResult.ERROR);
         }
     }
 
@@ -370,6 +456,34 @@ final class HookCheckStateContainer
             '}';
     }
 
+    /**
+     * The futures of a set of checks.
+     * <p>
+     * The verdict may complete before all checks are done; as soon as a single hook denies the action, the verdict is
+     * known. Any resources used by the checks (e.g. the player) must therefore not be released or reused until the
+     * settled future has completed.
+     *
+     * @param verdict
+     *     The future that completes with the result of the checks as soon as it is known.
+     * @param settled
+     *     The future that completes once all checks are done, regardless of their result. This future never completes
+     *     exceptionally.
+     */
+    record CheckFutures(CompletableFuture<HookCheckResult> verdict, CompletableFuture<Void> settled)
+    {
+        /**
+         * Creates a new {@link CheckFutures} for a result that is known without running any checks.
+         *
+         * @param result
+         *     The result of the checks.
+         * @return The new {@link CheckFutures} with both futures completed.
+         */
+        static CheckFutures completed(HookCheckResult result)
+        {
+            return new CheckFutures(CompletableFuture.completedFuture(result), CompletableFuture.completedFuture(null));
+        }
+    }
+
     /**
      * Represents the state of a hook check.
      */
@@ -379,11 +493,19 @@ final class HookCheckStateContainer
     {
         @Getter
         private final IProtectionHookSpigot hook;
+        private final ProtectionHookTimings timings;
         private volatile HookPreCheckResult result = HookPreCheckResult.ALLOW;
 
-        private HookCheckState(IProtectionHookSpigot hook)
+        /**
+         * Whether an exception occurred while running the pre-check of the hook.
+         */
+        @Getter(AccessLevel.PRIVATE)
+        private volatile boolean hasErrored = false;
+
+        private HookCheckState(IProtectionHookSpigot hook, ProtectionHookTimings timings)
         {
             this.hook = hook;
+            this.timings = timings;
         }
 
         private CompletableFuture<HookCheckResult> check(
@@ -400,7 +522,9 @@ final class HookCheckStateContainer
                 return CompletableFuture.completedFuture(HookCheckResult.allowed());
             }
 
+            final long start = System.nanoTime();
             return predicate.apply(hook)
+                .whenComplete((ignored, throwable) -> timings.record(hookName(), System.nanoTime() - start))
                 .thenApply(allowed ->
                 {
                     log.atTrace().log("Hook '%s' main check result: %s", hookName(), allowed);
@@ -513,6 +637,7 @@ final class HookCheckStateContainer
                     "An exception occurred while running pre-check for hook '%s'.",
                     hookName()
                 );
+                hasErrored = true;
                 result = HookPreCheckResult.DENY;
             }
 
@@ -558,6 +683,7 @@ final class HookCheckStateContainer
                 {
                     log.atError().withCause(e).log(
                         "An exception occurred while running async pre-check for hook '%s'.", hookName());
+                    hasErrored = true;
                     return HookPreCheckResult.DENY;
                 })
                 .thenApply(this::processPreCheckResult);
@@ -11,9 +11,12 @@ import nl.pim16aap2.animatedarchitecture.core.api.IProtectionHookManager;
 import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.jfr.ProtectionCheckEvent;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
 import nl.pim16aap2.animatedarchitecture.core.util.StringUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.Util;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.IVector3D;
@@ -69,6 +72,21 @@ public final class ProtectionHookManagerSpigot
 
     private volatile List<IProtectionHookSpigot> protectionHooks = new CopyOnWriteArrayList<>();
 
+    /**
+     * The cached results of {@link #canBreakBlocksInCuboid(IPlayer, Cuboid, IWorld)}.
+     */
+    private final CuboidCheckCache cuboidCheckCache = new CuboidCheckCache();
+
+    /**
+     * The time spent in the main checks of each hook.
+     */
+    private final ProtectionHookTimings hookTimings = new ProtectionHookTimings();
+
+    /**
+     * The time between the start and the completion of all checks of a single protection check.
+     */
+    private final LatencyHistogram checkLatency;
+
     @Inject
     ProtectionHookManagerSpigot(
         JavaPlugin animatedArchitecture,
@@ -77,7 +95,8 @@ public final class ProtectionHookManagerSpigot
         Lazy<IConfigSpigot> config,
         IPermissionsManagerSpigot permissionsManager,
         FakePlayerCreator fakePlayerCreator,
-        IExecutor executor)
+        IExecutor executor,
+        MetricsRegistry metricsRegistry)
     {
         this.animatedArchitecture = animatedArchitecture;
         this.fakePlayerCreator = fakePlayerCreator;
@@ -94,6 +113,10 @@ public final class ProtectionHookManagerSpigot
 
         holder.registerRestartable(this);
         debuggableRegistry.registerDebuggable(this);
+
+        this.checkLatency = metricsRegistry.histogram("protection_hooks.check_latency");
+        metricsRegistry.gauge(
+            "protection_hooks.cuboid_cache.hit_rate", () -> cuboidCheckCache.getStatistics().hitRate());
     }
 
     /**
@@ -118,7 +141,10 @@ public final class ProtectionHookManagerSpigot
     @SuppressWarnings("unused")
     public boolean unloadHook(IProtectionHookSpigot hook)
     {
-        return this.protectionHooks.remove(hook);
+        final boolean result = this.protectionHooks.remove(hook);
+        if (result)
+            invalidateCache();
+        return result;
     }
 
     /**
@@ -132,7 +158,21 @@ public final class ProtectionHookManagerSpigot
     {
         if (!isActive)
             throw new IllegalStateException("Cannot unload hooks when the manager is not active!");
-        return this.protectionHooks.removeIf(hook -> hook.getName().equals(pluginName));
+        final boolean result = this.protectionHooks.removeIf(hook -> hook.getName().equals(pluginName));
+        if (result)
+            invalidateCache();
+        return result;
+    }
+
+    /**
+     * Invalidates all cached protection check results.
+     * <p>
+     * This is done automatically when a hook is loaded or unloaded. It should also be called when the protected areas
+     * of a protection plugin have changed and the changes should take effect before the cached results expire.
+     */
+    public void invalidateCache()
+    {
+        cuboidCheckCache.invalidate();
     }
 
     /**
@@ -205,6 +245,7 @@ public final class ProtectionHookManagerSpigot
 
             final var context = new ProtectionHookContext(animatedArchitecture, spec, permissionsManager, executor);
             this.protectionHooks.add(hookClass.getConstructor(ProtectionHookContext.class).newInstance(context));
+            invalidateCache();
             log.atInfo().log(
                 "Successfully loaded protection hook for plugin '%s' (version '%s')!",
                 pluginName,
@@ -246,6 +287,9 @@ public final class ProtectionHookManagerSpigot
      * Get the player to use for protection checks.
      * <p>
      * This will return the online player if they are online, otherwise it will return a fake-online player.
+     * <p>
+     * Fake players must be released using {@link FakePlayerCreator#releasePlayer(Player)} once all hooks are done with
+     * the check.
      *
      * @param player
      *     The player to get the bukkit player for.
@@ -259,7 +303,7 @@ public final class ProtectionHookManagerSpigot
         final Player onlinePlayer = offlinePlayer.getPlayer();
         if (onlinePlayer != null)
             return Optional.of(onlinePlayer);
-        return fakePlayerCreator.createPlayer(offlinePlayer, location);
+        return fakePlayerCreator.acquirePlayer(offlinePlayer, location);
     }
 
     @Override
@@ -270,7 +314,13 @@ public final class ProtectionHookManagerSpigot
 
         final Location bukkitLocation = SpigotAdapter.getBukkitLocation(location);
 
-        return runCheck(player, bukkitLocation, (hook, player0) -> hook.canBreakBlock(player0, bukkitLocation))
+        return runCheck(
+            "canBreakBlock",
+            HookCheckStateContainer.of(protectionHooks, hookTimings),
+            player,
+            bukkitLocation,
+            (hook, player0) -> hook.canBreakBlock(player0, bukkitLocation))
+            .verdict()
             .thenApply(result ->
             {
                 if (result.isDenied())
@@ -284,23 +334,47 @@ public final class ProtectionHookManagerSpigot
             });
     }
 
-    private CompletableFuture<HookCheckResult> runCheck(
+    /**
+     * Runs a check for all hooks.
+     *
+     * @param checkName
+     *     The name of the check to run. This is used for profiling.
+     * @param checks
+     *     The container to run the checks with.
+     * @param player
+     *     The player to run the checks for.
+     * @param location
+     *     The location to run the checks at.
+     * @param function
+     *     The check to run for each hook.
+     * @return The futures of the verdict of the checks and of the completion of all checks. The settled future
+     * completes after the resources of the checks have been cleaned up.
+     */
+    private HookCheckStateContainer.CheckFutures runCheck(
+        String checkName,
+        HookCheckStateContainer checks,
         IPlayer player,
         Location location,
         BiFunction<IProtectionHookSpigot, Player, CompletableFuture<Boolean>> function)
     {
-        final var result = HookCheckStateContainer.of(protectionHooks);
+        final ProtectionCheckEvent event = new ProtectionCheckEvent(checkName, player.getName(), checks.hookCount());
+        event.begin();
+
+        final long startNanos = System.nanoTime();
 
         final World world = Util.requireNonNull(location.getWorld(), "World");
 
-        return getPlayer(player, location)
+        final Optional<Player> checkPlayer = getPlayer(player, location);
+        final HookCheckStateContainer.CheckFutures futures = checkPlayer
             .map(bukkitPlayer ->
-                result.runAllChecks(
+                checks.runAllChecks(
                     executor,
                     bukkitPlayer,
                     world,
                     hook -> function.apply(hook, bukkitPlayer)))
-            .orElseGet(() -> CompletableFuture.completedFuture(HookCheckResult.ERROR))
+            .orElseGet(() -> HookCheckStateContainer.CheckFutures.completed(HookCheckResult.ERROR));
+
+        final CompletableFuture<HookCheckResult> verdict = futures.verdict()
             .exceptionally(e ->
             {
                 log.atError().withCause(e).log(
@@ -309,6 +383,19 @@ public final class ProtectionHookManagerSpigot
                 );
                 return HookCheckResult.ERROR;
             });
+
+        // Hooks may still be running when the verdict is known, so the check is only done once they have finished.
+        final CompletableFuture<Void> settled = verdict.thenAcceptBoth(
+            futures.settled(),
+            (checkResult, ignored) ->
+            {
+                // Hooks that are still running may still be using the fake player, so it cannot be reused before now.
+                checkPlayer.ifPresent(fakePlayerCreator::releasePlayer);
+                checkLatency.recordSince(startNanos);
+                event.commit(checkResult);
+            });
+
+        return new HookCheckStateContainer.CheckFutures(verdict, settled);
     }
 
     @Override
@@ -320,11 +407,43 @@ public final class ProtectionHookManagerSpigot
         if (canSkipCheck(player))
             return CompletableFuture.completedFuture(HookCheckResult.allowed());
 
+        final CuboidCheckCache.Key key = cuboidCheckCache.key(player.getUUID(), world.worldName(), cuboid);
+
+        final Optional<HookCheckResult> cachedResult = cuboidCheckCache.get(key);
+        if (cachedResult.isPresent())
+        {
+            log.atTrace().log(
+                "Using cached protection check result for player %s in cuboid %s: %s",
+                player.getName(),
+                cuboid,
+                cachedResult.get()
+            );
+            return CompletableFuture.completedFuture(cachedResult.get());
+        }
+
         final IVector3D vec = cuboid.getMin();
         final World world0 = Util.requireNonNull(SpigotAdapter.getBukkitWorld(world), "World");
         final Location loc0 = new Location(world0, vec.xD(), vec.yD(), vec.zD());
 
-        return runCheck(player, loc0, (hook, player0) -> hook.canBreakBlocksInCuboid(player0, world0, cuboid))
+        final var checks = HookCheckStateContainer.of(protectionHooks, hookTimings);
+        final var futures = runCheck(
+            "canBreakBlocksInCuboid",
+            checks,
+            player,
+            loc0,
+            (hook, player0) -> hook.canBreakBlocksInCuboid(player0, world0, cuboid));
+
+        // Results caused by errors are not cached, so the next check can try again. The result is only cached once
+        // all hooks are done, so errors in hooks that were still running when the verdict was known are included.
+        futures.verdict().thenAcceptBoth(
+            futures.settled(),
+            (result, ignored) ->
+            {
+                if (!HookCheckResult.ERROR.equals(result) && !checks.hasErrored())
+                    cuboidCheckCache.put(key, result);
+            });
+
+        return futures.verdict()
             .thenApply(result ->
             {
                 if (result.isDenied())
@@ -364,6 +483,8 @@ public final class ProtectionHookManagerSpigot
     @Override
     public void initialize()
     {
+        this.hookTimings.clear();
+        this.cuboidCheckCache.reset(config.get().protectionCheckCacheTimeout());
         this.protectionHooks = new CopyOnWriteArrayList<>();
         this.isActive = true;
         loadHooks();
@@ -375,6 +496,9 @@ public final class ProtectionHookManagerSpigot
         this.isActive = false;
         protectionHooks.clear();
         this.protectionHooks = Collections.emptyList();
+        fakePlayerCreator.clearPool();
+
+        cuboidCheckCache.shutDown();
     }
 
     @Override
@@ -383,10 +507,16 @@ public final class ProtectionHookManagerSpigot
         return String.format(
             """
                 Can create fake players: %s
+                Pooled fake players: %d
                 Protection hooks: %s
+                Cuboid check cache: %s
+                Hook check timings: %s
                 """,
             fakePlayerCreator.canCreatePlayers(),
-            StringUtil.formatCollection(protectionHooks, IProtectionHookSpigot::getName)
+            fakePlayerCreator.getPooledPlayerCount(),
+            StringUtil.formatCollection(protectionHooks, IProtectionHookSpigot::getName),
+            cuboidCheckCache.getStatistics().format(),
+            hookTimings.format()
         );
     }
 }
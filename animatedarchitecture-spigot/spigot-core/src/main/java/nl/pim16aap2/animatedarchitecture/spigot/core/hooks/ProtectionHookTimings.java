@@ -0,0 +1,126 @@
+package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps track of how much time the main checks of each protection hook take.
+ * <p>
+ * This is used to show which protection hooks add the most latency to toggling and creating structures.
+ */
+final class ProtectionHookTimings
+{
+    private final Map<String, HookTiming> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Records the duration of a single check.
+     *
+     * @param hookName
+     *     The name of the hook that ran the check.
+     * @param durationNanos
+     *     The duration of the check in nanoseconds.
+     */
+    void record(String hookName, long durationNanos)
+    {
+        timings.computeIfAbsent(hookName, ignored -> new HookTiming()).record(durationNanos);
+    }
+
+    /**
+     * Gets a snapshot of the timings of a hook.
+     *
+     * @param hookName
+     *     The name of the hook.
+     * @return The snapshot of the timings of the hook. If no checks were recorded for the hook, all values are 0.
+     */
+    Snapshot getSnapshot(String hookName)
+    {
+        final HookTiming timing = timings.get(hookName);
+        return timing == null ? new Snapshot(hookName, 0, 0, 0) : timing.snapshot(hookName);
+    }
+
+    /**
+     * Removes all recorded timings.
+     */
+    void clear()
+    {
+        timings.clear();
+    }
+
+    /**
+     * Formats the timings of all hooks, ordered by the total time spent in each hook (descending).
+     *
+     * @return The formatted timings.
+     */
+    String format()
+    {
+        if (timings.isEmpty())
+            return "No checks recorded";
+
+        return timings.entrySet().stream()
+            .map(entry -> entry.getValue().snapshot(entry.getKey()))
+            .sorted(Comparator.comparingLong(Snapshot::totalNanos).reversed())
+            .map(Snapshot::format)
+            .collect(Collectors.joining("\n", "\n", ""));
+    }
+
+    /**
+     * A snapshot of the timings of a single hook.
+     *
+     * @param hookName
+     *     The name of the hook.
+     * @param count
+     *     The number of checks that were recorded.
+     * @param totalNanos
+     *     The total duration of all checks in nanoseconds.
+     * @param maxNanos
+     *     The duration of the slowest check in nanoseconds.
+     */
+    record Snapshot(String hookName, long count, long totalNanos, long maxNanos)
+    {
+        /**
+         * Gets the average duration of a check.
+         *
+         * @return The average duration of a check in nanoseconds, or 0 if no checks were recorded.
+         */
+        long averageNanos()
+        {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        private String format()
+        {
+            return String.format(
+                "  %s: %d checks, total: %dms, avg: %.3fms, max: %.3fms",
+                hookName,
+                count,
+                Duration.ofNanos(totalNanos).toMillis(),
+                averageNanos() / 1_000_000D,
+                maxNanos / 1_000_000D
+            );
+        }
+    }
+
+    private static final class HookTiming
+    {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long durationNanos)
+        {
+            count.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+        }
+
+        private Snapshot snapshot(String hookName)
+        {
+            return new Snapshot(hookName, count.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.bukkit.entity.Player;
 import org.jspecify.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -200,4 +201,10 @@ public class PlayerFactorySpigot implements IPlayerFactory
                 return Optional.empty();
             });
     }
+
+    @Override
+    public List<IPlayer> getOnlinePlayers()
+    {
+        return Bukkit.getOnlinePlayers().stream().<IPlayer>map(this::wrapPlayer).toList();
+    }
 }
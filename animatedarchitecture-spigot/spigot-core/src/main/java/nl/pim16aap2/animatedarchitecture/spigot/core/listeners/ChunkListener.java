@@ -9,11 +9,13 @@ import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager
 import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.managers.ChunkOccupancyIndex;
 import nl.pim16aap2.animatedarchitecture.core.managers.DatabaseManager;
 import nl.pim16aap2.animatedarchitecture.core.managers.PowerBlockManager;
 import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
 import nl.pim16aap2.animatedarchitecture.core.util.CompletableFutureExtensions;
 import nl.pim16aap2.animatedarchitecture.core.util.FutureUtil;
+import nl.pim16aap2.animatedarchitecture.core.util.LocationUtil;
 import nl.pim16aap2.animatedarchitecture.core.util.Rectangle;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector2Di;
 import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
@@ -47,6 +49,7 @@ public class ChunkListener extends AbstractListener
 
     private final DatabaseManager databaseManager;
     private final PowerBlockManager powerBlockManager;
+    private final ChunkOccupancyIndex chunkOccupancyIndex;
     private final StructureActivityManager structureActivityManager;
     private final AnimatedBlockHelper animatedBlockHelper;
     private final IExecutor executor;
@@ -56,6 +59,7 @@ public class ChunkListener extends AbstractListener
         JavaPlugin javaPlugin,
         DatabaseManager databaseManager,
         PowerBlockManager powerBlockManager,
+        ChunkOccupancyIndex chunkOccupancyIndex,
         RestartableHolder restartableHolder,
         StructureActivityManager structureActivityManager,
         AnimatedBlockHelper animatedBlockHelper,
@@ -64,6 +68,7 @@ public class ChunkListener extends AbstractListener
         super(restartableHolder, javaPlugin);
         this.databaseManager = databaseManager;
         this.powerBlockManager = powerBlockManager;
+        this.chunkOccupancyIndex = chunkOccupancyIndex;
         this.structureActivityManager = structureActivityManager;
         this.animatedBlockHelper = animatedBlockHelper;
         this.executor = executor;
@@ -71,6 +76,9 @@ public class ChunkListener extends AbstractListener
 
     private void onChunkLoad(World world, Chunk chunk)
     {
+        if (chunkOccupancyIndex.isKnownEmpty(world.getName(), LocationUtil.getChunkId(chunk.getX(), chunk.getZ())))
+            return;
+
         final CompletableFuture<List<Structure>> rotationPoints =
             databaseManager.getStructuresInChunk(chunk.getX(), chunk.getZ());
 
@@ -1,6 +1,7 @@
 package nl.pim16aap2.animatedarchitecture.spigot.core.config;
 
 import nl.altindag.log.LogCaptor;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsExporterType;
 import nl.pim16aap2.animatedarchitecture.core.managers.StructureTypeManager;
 import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
 import nl.pim16aap2.animatedarchitecture.core.structures.types.bigdoor.StructureTypeBigDoor;
@@ -69,6 +70,7 @@ class ConfigSpigotTest
             .contains(
                 "  resource_pack_enabled: %b".formatted(GeneralSectionSpigot.DEFAULT_RESOURCE_PACK_ENABLED),
                 "  material_blacklist: []",
+                "  parallel_initialization: %b".formatted(GeneralSectionSpigot.DEFAULT_PARALLEL_INITIALIZATION),
                 "  allow_redstone: %b".formatted(RedstoneSectionSpigot.DEFAULT_ALLOW_REDSTONE),
                 "  powerblock_types:",
                 "  load_chunks_for_toggle: %b".formatted(AnimationsSectionSpigot.DEFAULT_LOAD_CHUNKS_FOR_TOGGLE),
@@ -79,12 +81,24 @@ class ConfigSpigotTest
                 "  max_blocks_to_move: %d".formatted(LimitsSectionSpigot.DEFAULT_MAX_BLOCKS_TO_MOVE),
                 "  max_powerblock_distance: %d".formatted(LimitsSectionSpigot.DEFAULT_MAX_POWERBLOCK_DISTANCE),
                 "  max_block_speed: %.1f".formatted(LimitsSectionSpigot.DEFAULT_MAX_BLOCK_SPEED),
+                "  max_concurrent_animations: %d".formatted(LimitsSectionSpigot.DEFAULT_MAX_CONCURRENT_ANIMATIONS),
+                "  max_concurrent_animations_per_world: %d".formatted(
+                    LimitsSectionSpigot.DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD),
+                "  toggle_queue_size: %d".formatted(LimitsSectionSpigot.DEFAULT_TOGGLE_QUEUE_SIZE),
+                "  redstone_verifications_per_tick: %d".formatted(
+                    LimitsSectionSpigot.DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK),
                 "  locale: %s".formatted(LocaleSectionSpigot.DEFAULT_LOCALE),
                 "  allow_client_locale: %b".formatted(LocaleSectionSpigot.DEFAULT_ALLOW_CLIENT_LOCALE),
                 "  powerblock_cache_timeout: %d".formatted(CachingSectionSpigot.DEFAULT_POWERBLOCK_CACHE_TIMEOUT),
+                "  powerblock_cache_max_chunks: %d".formatted(
+                    CachingSectionSpigot.DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS),
+                "  structure_cache_max_size: %d".formatted(CachingSectionSpigot.DEFAULT_STRUCTURE_CACHE_MAX_SIZE),
                 "  head_cache_timeout: %d".formatted(CachingSectionSpigot.DEFAULT_HEAD_CACHE_TIMEOUT),
                 "  log_level: %s".formatted(LoggingSectionSpigot.DEFAULT_LOG_LEVEL.getName()),
-                "  debug: %b".formatted(LoggingSectionSpigot.DEFAULT_DEBUG)
+                "  debug: %b".formatted(LoggingSectionSpigot.DEFAULT_DEBUG),
+                "  metrics_exporter: %s".formatted(LoggingSectionSpigot.DEFAULT_METRICS_EXPORTER.name()),
+                "  metrics_export_interval: %d".formatted(LoggingSectionSpigot.DEFAULT_METRICS_EXPORT_INTERVAL),
+                "  jfr_events: %b".formatted(LoggingSectionSpigot.DEFAULT_JFR_EVENTS)
             );
 
         for (final var block : RedstoneSectionSpigot.DEFAULT_POWERBLOCK_TYPES)
@@ -150,6 +164,7 @@ class ConfigSpigotTest
         final boolean resourcePackEnabled = !GeneralSectionSpigot.DEFAULT_RESOURCE_PACK_ENABLED;
         final List<Material> materialBlacklist = List.of(Material.DIAMOND_BLOCK, Material.STONE);
         final List<String> commandAliases = List.of("testCommand0", "testCommand1");
+        final boolean parallelInitialization = !GeneralSectionSpigot.DEFAULT_PARALLEL_INITIALIZATION;
 
         // redstone
         final boolean allowRedstone = !RedstoneSectionSpigot.DEFAULT_ALLOW_REDSTONE;
@@ -165,6 +180,10 @@ class ConfigSpigotTest
         final int maxBlocksToMove = LimitsSectionSpigot.DEFAULT_MAX_BLOCKS_TO_MOVE + 9000;
         final double maxBlockSpeed = LimitsSectionSpigot.DEFAULT_MAX_BLOCK_SPEED + 900.0D;
         final int maxPowerblockDistance = LimitsSectionSpigot.DEFAULT_MAX_POWERBLOCK_DISTANCE + 10;
+        final int maxConcurrentAnimations = LimitsSectionSpigot.DEFAULT_MAX_CONCURRENT_ANIMATIONS + 6;
+        final int maxConcurrentAnimationsPerWorld = LimitsSectionSpigot.DEFAULT_MAX_CONCURRENT_ANIMATIONS_PER_WORLD + 9;
+        final int toggleQueueSize = LimitsSectionSpigot.DEFAULT_TOGGLE_QUEUE_SIZE + 20;
+        final int redstoneVerificationsPerTick = LimitsSectionSpigot.DEFAULT_REDSTONE_VERIFICATIONS_PER_TICK + 8;
 
         // protection hooks
         final var availableProtectionHooks = AbstractProtectionHookSpecification.DEFAULT_HOOK_DEFINITIONS;
@@ -202,11 +221,17 @@ class ConfigSpigotTest
 
         // caching
         final int powerblockCacheTimeout = CachingSectionSpigot.DEFAULT_POWERBLOCK_CACHE_TIMEOUT + 10;
+        final int powerblockCacheMaxChunks = CachingSectionSpigot.DEFAULT_POWERBLOCK_CACHE_MAX_CHUNKS + 30;
+        final int structureCacheMaxSize = CachingSectionSpigot.DEFAULT_STRUCTURE_CACHE_MAX_SIZE + 40;
         final int headCacheTimeout = CachingSectionSpigot.DEFAULT_HEAD_CACHE_TIMEOUT + 20;
+        final int protectionCheckCacheTimeout = CachingSectionSpigot.DEFAULT_PROTECTION_CHECK_CACHE_TIMEOUT + 5;
 
         // logging
         final Level logLevel = Level.SEVERE;
         final boolean debug = !LoggingSectionSpigot.DEFAULT_DEBUG;
+        final MetricsExporterType metricsExporter = MetricsExporterType.FILE;
+        final int metricsExportInterval = LoggingSectionSpigot.DEFAULT_METRICS_EXPORT_INTERVAL + 15;
+        final boolean jfrEvents = !LoggingSectionSpigot.DEFAULT_JFR_EVENTS;
 
         final ConfigSpigot config = newConfig(rootDirectory, protectionHookManager, structureTypeManager);
 
@@ -215,6 +240,7 @@ class ConfigSpigotTest
               resource_pack_enabled: %b
               material_blacklist: %s
               command_aliases: %s
+              parallel_initialization: %b
             redstone:
               allow_redstone: %b
               powerblock_types: %s
@@ -227,6 +253,10 @@ class ConfigSpigotTest
               max_blocks_to_move: %d
               max_powerblock_distance: %d
               max_block_speed: %.1f
+              max_concurrent_animations: %d
+              max_concurrent_animations_per_world: %d
+              toggle_queue_size: %d
+              redstone_verifications_per_tick: %d
             protection_hooks:
               GriefDefender:
                 enabled: %b
@@ -258,16 +288,23 @@ class ConfigSpigotTest
               allow_client_locale: %b
             caching:
               powerblock_cache_timeout: %d
+              powerblock_cache_max_chunks: %d
+              structure_cache_max_size: %d
               head_cache_timeout: %d
+              protection_check_cache_timeout: %d
             logging:
               log_level: %s
               debug: %b
+              metrics_exporter: %s
+              metrics_export_interval: %d
+              jfr_events: %b
             version: 0
             """.formatted(
             // general
             resourcePackEnabled,
             formatConfigEntryList(4, materialBlacklist),
             formatConfigEntryList(4, commandAliases),
+            parallelInitialization,
             // redstone
             allowRedstone,
             formatConfigEntryList(4, powerblockTypes),
@@ -280,6 +317,10 @@ class ConfigSpigotTest
             maxBlocksToMove,
             maxPowerblockDistance,
             maxBlockSpeed,
+            maxConcurrentAnimations,
+            maxConcurrentAnimationsPerWorld,
+            toggleQueueSize,
+            redstoneVerificationsPerTick,
             // protection hooks
             enabledProtectionHooks.contains(AbstractProtectionHookSpecification.GRIEF_DEFENDER),
             enabledProtectionHooks.contains(AbstractProtectionHookSpecification.GRIEF_PREVENTION),
@@ -304,10 +345,16 @@ class ConfigSpigotTest
             allowClientLocale,
             // caching
             powerblockCacheTimeout,
+            powerblockCacheMaxChunks,
+            structureCacheMaxSize,
             headCacheTimeout,
+            protectionCheckCacheTimeout,
             // logging
             logLevel.getName(),
-            debug
+            debug,
+            metricsExporter.name().toLowerCase(Locale.ROOT),
+            metricsExportInterval,
+            jfrEvents
         );
 
         Files.writeString(config.configPath(), content);
@@ -322,6 +369,7 @@ class ConfigSpigotTest
         assertThat(config.resourcePackEnabled()).isEqualTo(resourcePackEnabled);
         assertThat(config.materialBlacklist()).containsExactlyInAnyOrderElementsOf(materialBlacklist);
         assertThat(config.commandAliases()).containsExactlyElementsOf(commandAliases);
+        assertThat(config.parallelInitialization()).isEqualTo(parallelInitialization);
 
         // redstone
         assertThat(config.allowRedstone()).isEqualTo(allowRedstone);
@@ -337,6 +385,10 @@ class ConfigSpigotTest
         assertThat(config.maxBlocksToMove()).hasValue(maxBlocksToMove);
         assertThat(config.maxPowerblockDistance()).hasValue(maxPowerblockDistance);
         assertThat(config.maxBlockSpeed()).hasValue(maxBlockSpeed);
+        assertThat(config.maxConcurrentAnimations()).hasValue(maxConcurrentAnimations);
+        assertThat(config.maxConcurrentAnimationsPerWorld()).hasValue(maxConcurrentAnimationsPerWorld);
+        assertThat(config.toggleQueueSize()).isEqualTo(toggleQueueSize);
+        assertThat(config.redstoneVerificationsPerTick()).isEqualTo(redstoneVerificationsPerTick);
 
         // protection hooks
         for (final IProtectionHookSpigotSpecification hook : availableProtectionHooks)
@@ -372,11 +424,17 @@ class ConfigSpigotTest
 
         // caching
         assertThat(config.powerblockCacheTimeout()).isEqualTo(powerblockCacheTimeout);
+        assertThat(config.powerblockCacheMaxChunks()).isEqualTo(powerblockCacheMaxChunks);
+        assertThat(config.structureCacheMaxSize()).isEqualTo(structureCacheMaxSize);
         assertThat(config.headCacheTimeout()).isEqualTo(headCacheTimeout);
+        assertThat(config.protectionCheckCacheTimeout()).isEqualTo(protectionCheckCacheTimeout);
 
         // logging
         assertThat(config.logLevel()).isEqualTo(logLevel);
         assertThat(config.debug()).isEqualTo(debug);
+        assertThat(config.metricsExporter()).isEqualTo(metricsExporter);
+        assertThat(config.metricsExportInterval()).isEqualTo(metricsExportInterval);
+        assertThat(config.jfrEvents()).isEqualTo(jfrEvents);
     }
 
     private static String formatConfigEntryList(int indent, List<?> entries)
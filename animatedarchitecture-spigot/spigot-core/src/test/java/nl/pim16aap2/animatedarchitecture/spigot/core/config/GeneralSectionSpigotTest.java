@@ -20,7 +20,8 @@ class GeneralSectionSpigotTest
             Set.of(),
             true,
             aliases,
-            aliases.getFirst()
+            aliases.getFirst(),
+            false
         );
 
         // verify
@@ -38,7 +39,8 @@ class GeneralSectionSpigotTest
             Set.of(),
             true,
             aliases,
-            aliases.getFirst()
+            aliases.getFirst(),
+            false
         );
 
         // verify
@@ -61,7 +63,8 @@ class GeneralSectionSpigotTest
             Set.of(),
             true,
             List.of(),
-            ""
+            "",
+            false
         );
 
         // verify
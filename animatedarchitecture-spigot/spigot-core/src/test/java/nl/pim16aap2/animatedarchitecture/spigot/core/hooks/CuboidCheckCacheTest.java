@@ -0,0 +1,121 @@
+package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
+
+import nl.pim16aap2.animatedarchitecture.core.api.IProtectionHookManager.HookCheckResult;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CuboidCheckCacheTest
+{
+    private static final UUID PLAYER = UUID.randomUUID();
+    private static final String WORLD = "world";
+    private static final Cuboid CUBOID = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(4, 4, 4));
+
+    private CuboidCheckCache cache;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        cache = new CuboidCheckCache();
+        cache.reset(60);
+    }
+
+    @AfterEach
+    void afterEach()
+    {
+        cache.shutDown();
+    }
+
+    @Test
+    void get_shouldReturnStoredResult()
+    {
+        // setup
+        final CuboidCheckCache.Key key = cache.key(PLAYER, WORLD, CUBOID);
+        final HookCheckResult result = HookCheckResult.denied("WorldGuard");
+
+        // execute
+        cache.put(key, result);
+
+        // verify
+        assertThat(cache.get(cache.key(PLAYER, WORLD, CUBOID))).contains(result);
+        assertThat(cache.get(cache.key(UUID.randomUUID(), WORLD, CUBOID))).isEmpty();
+        assertThat(cache.get(cache.key(PLAYER, "other_world", CUBOID))).isEmpty();
+        assertThat(cache.getStatistics().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_shouldRemoveStoredResults()
+    {
+        // setup
+        cache.put(cache.key(PLAYER, WORLD, CUBOID), HookCheckResult.allowed());
+
+        // execute
+        cache.invalidate();
+
+        // verify
+        assertThat(cache.get(cache.key(PLAYER, WORLD, CUBOID))).isEmpty();
+    }
+
+    @Test
+    void put_shouldDiscardResultOfCheckStartedBeforeInvalidation()
+    {
+        // setup
+        final CuboidCheckCache.Key outdatedKey = cache.key(PLAYER, WORLD, CUBOID);
+        cache.invalidate();
+
+        // execute
+        cache.put(outdatedKey, HookCheckResult.allowed());
+
+        // verify
+        final CuboidCheckCache.Key currentKey = cache.key(PLAYER, WORLD, CUBOID);
+        assertThat(currentKey.hookSetVersion()).isGreaterThan(outdatedKey.hookSetVersion());
+        assertThat(cache.get(currentKey)).isEmpty();
+        assertThat(cache.get(outdatedKey)).isEmpty();
+    }
+
+    @Test
+    void put_shouldIgnoreResultsAfterShutDown()
+    {
+        // setup
+        final CuboidCheckCache.Key key = cache.key(PLAYER, WORLD, CUBOID);
+        cache.shutDown();
+
+        // execute & verify
+        assertThatCode(() -> cache.put(key, HookCheckResult.allowed())).doesNotThrowAnyException();
+        assertThat(cache.get(cache.key(PLAYER, WORLD, CUBOID))).isEmpty();
+    }
+
+    @Test
+    void reset_shouldDiscardResultOfCheckStartedBeforeReset()
+    {
+        // setup
+        final CuboidCheckCache.Key key = cache.key(PLAYER, WORLD, CUBOID);
+        cache.reset(60);
+
+        // execute
+        cache.put(key, HookCheckResult.allowed());
+
+        // verify
+        assertThat(cache.get(cache.key(PLAYER, WORLD, CUBOID))).isEmpty();
+    }
+
+    @Test
+    void put_shouldNotStoreResultsWhenDisabled()
+    {
+        // setup
+        cache.reset(0);
+        final CuboidCheckCache.Key key = cache.key(PLAYER, WORLD, CUBOID);
+
+        // execute
+        cache.put(key, HookCheckResult.allowed());
+
+        // verify
+        assertThat(cache.get(key)).isEmpty();
+    }
+}
@@ -0,0 +1,160 @@
+package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
+
+import nl.pim16aap2.animatedarchitecture.spigot.util.hooks.IFakePlayer;
+import org.bukkit.Location;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FakePlayerCreatorTest
+{
+    private AtomicInteger createdCount;
+
+    private FakePlayerCreator fakePlayerCreator;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        createdCount = new AtomicInteger();
+        fakePlayerCreator = new FakePlayerCreator((player, location) ->
+        {
+            createdCount.incrementAndGet();
+            return newFakePlayer(player.getUniqueId(), location);
+        });
+    }
+
+    @Test
+    void acquirePlayer_shouldCreateNewPlayerWithCopyOfLocation()
+    {
+        // setup
+        final Location location = new Location(null, 1, 2, 3);
+
+        // execute
+        final Player player = fakePlayerCreator.acquirePlayer(newOfflinePlayer(), location).orElseThrow();
+
+        // verify
+        assertThat(createdCount).hasValue(1);
+        assertThat(((IFakePlayer) player).getLocation0())
+            .isEqualTo(location)
+            .isNotSameAs(location);
+    }
+
+    @Test
+    void acquirePlayer_shouldReuseReleasedPlayerAtNewLocation()
+    {
+        // setup
+        final OfflinePlayer offlinePlayer = newOfflinePlayer();
+        final Player first = fakePlayerCreator.acquirePlayer(offlinePlayer, new Location(null, 1, 2, 3)).orElseThrow();
+        fakePlayerCreator.releasePlayer(first);
+        final Location newLocation = new Location(null, 10, 20, 30, 90, 45);
+
+        // execute
+        final Player second = fakePlayerCreator.acquirePlayer(offlinePlayer, newLocation).orElseThrow();
+
+        // verify
+        assertThat(second).isSameAs(first);
+        assertThat(createdCount).hasValue(1);
+        assertThat(((IFakePlayer) second).getLocation0())
+            .isEqualTo(newLocation)
+            .isNotSameAs(newLocation);
+        assertThat(fakePlayerCreator.getPooledPlayerCount()).isZero();
+    }
+
+    @Test
+    void acquirePlayer_shouldNotShareUnreleasedPlayers()
+    {
+        // setup
+        final OfflinePlayer offlinePlayer = newOfflinePlayer();
+        final Location location = new Location(null, 1, 2, 3);
+
+        // execute
+        final Player first = fakePlayerCreator.acquirePlayer(offlinePlayer, location).orElseThrow();
+        final Player second = fakePlayerCreator.acquirePlayer(offlinePlayer, location).orElseThrow();
+
+        // verify
+        assertThat(second).isNotSameAs(first);
+        assertThat(createdCount).hasValue(2);
+    }
+
+    @Test
+    void releasePlayer_shouldIgnoreRealPlayers()
+    {
+        // setup
+        final Player player = mock();
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        // execute
+        fakePlayerCreator.releasePlayer(player);
+
+        // verify
+        assertThat(fakePlayerCreator.getPooledPlayerCount()).isZero();
+    }
+
+    @Test
+    void releasePlayer_shouldEvictLeastRecentlyReleasedPlayerWhenFull()
+    {
+        // setup
+        final OfflinePlayer eldest = newOfflinePlayer();
+        final Location location = new Location(null, 0, 0, 0);
+        fakePlayerCreator.releasePlayer(fakePlayerCreator.acquirePlayer(eldest, location).orElseThrow());
+        for (int idx = 0; idx < FakePlayerCreator.MAX_POOLED_PLAYERS; ++idx)
+            fakePlayerCreator.releasePlayer(newFakePlayer(UUID.randomUUID(), new Location(null, idx, 0, 0)));
+
+        // execute
+        fakePlayerCreator.acquirePlayer(eldest, location).orElseThrow();
+
+        // verify
+        assertThat(createdCount).hasValue(2);
+        assertThat(fakePlayerCreator.getPooledPlayerCount()).isEqualTo(FakePlayerCreator.MAX_POOLED_PLAYERS);
+    }
+
+    @Test
+    void clearPool_shouldDiscardReleasedPlayers()
+    {
+        // setup
+        final OfflinePlayer offlinePlayer = newOfflinePlayer();
+        final Location location = new Location(null, 1, 2, 3);
+        fakePlayerCreator.releasePlayer(fakePlayerCreator.acquirePlayer(offlinePlayer, location).orElseThrow());
+
+        // execute
+        fakePlayerCreator.clearPool();
+
+        // verify
+        assertThat(fakePlayerCreator.getPooledPlayerCount()).isZero();
+        fakePlayerCreator.acquirePlayer(offlinePlayer, location).orElseThrow();
+        assertThat(createdCount).hasValue(2);
+    }
+
+    @Test
+    void acquirePlayer_shouldReturnEmptyWithoutFactory()
+    {
+        // setup
+        final FakePlayerCreator creator = new FakePlayerCreator(null);
+
+        // execute & verify
+        assertThat(creator.canCreatePlayers()).isFalse();
+        assertThat(creator.acquirePlayer(newOfflinePlayer(), new Location(null, 0, 0, 0))).isEmpty();
+    }
+
+    private static OfflinePlayer newOfflinePlayer()
+    {
+        final OfflinePlayer offlinePlayer = mock();
+        when(offlinePlayer.getUniqueId()).thenReturn(UUID.randomUUID());
+        return offlinePlayer;
+    }
+
+    private static Player newFakePlayer(UUID uuid, Location location)
+    {
+        final Player player = mock(Player.class, withSettings().extraInterfaces(IFakePlayer.class));
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(((IFakePlayer) player).getLocation0()).thenReturn(location);
+        return player;
+    }
+}
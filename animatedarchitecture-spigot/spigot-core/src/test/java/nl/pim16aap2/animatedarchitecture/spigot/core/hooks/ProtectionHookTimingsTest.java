@@ -0,0 +1,66 @@
+package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProtectionHookTimingsTest
+{
+    @Test
+    void record_shouldAggregatePerHook()
+    {
+        // setup
+        final ProtectionHookTimings timings = new ProtectionHookTimings();
+
+        // execute
+        timings.record("WorldGuard", 1_000L);
+        timings.record("WorldGuard", 3_000L);
+        timings.record("Lands", 10_000L);
+
+        // verify
+        assertThat(timings.getSnapshot("WorldGuard"))
+            .isEqualTo(new ProtectionHookTimings.Snapshot("WorldGuard", 2, 4_000L, 3_000L));
+        assertThat(timings.getSnapshot("WorldGuard").averageNanos()).isEqualTo(2_000L);
+        assertThat(timings.getSnapshot("Lands"))
+            .isEqualTo(new ProtectionHookTimings.Snapshot("Lands", 1, 10_000L, 10_000L));
+    }
+
+    @Test
+    void getSnapshot_shouldReturnEmptySnapshotForUnknownHook()
+    {
+        final ProtectionHookTimings timings = new ProtectionHookTimings();
+
+        assertThat(timings.getSnapshot("Towny"))
+            .isEqualTo(new ProtectionHookTimings.Snapshot("Towny", 0, 0, 0));
+        assertThat(timings.getSnapshot("Towny").averageNanos()).isZero();
+    }
+
+    @Test
+    void format_shouldOrderHooksByTotalTime()
+    {
+        // setup
+        final ProtectionHookTimings timings = new ProtectionHookTimings();
+        timings.record("WorldGuard", 1_000L);
+        timings.record("Lands", 10_000L);
+
+        // execute
+        final String formatted = timings.format();
+
+        // verify
+        assertThat(formatted.indexOf("Lands")).isLessThan(formatted.indexOf("WorldGuard"));
+    }
+
+    @Test
+    void clear_shouldRemoveAllTimings()
+    {
+        // setup
+        final ProtectionHookTimings timings = new ProtectionHookTimings();
+        timings.record("WorldGuard", 1_000L);
+
+        // execute
+        timings.clear();
+
+        // verify
+        assertThat(timings.format()).isEqualTo("No checks recorded");
+    }
+}
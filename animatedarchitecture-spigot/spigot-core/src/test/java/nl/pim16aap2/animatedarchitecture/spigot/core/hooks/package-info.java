@@ -0,0 +1,4 @@
+@NullMarked
+package nl.pim16aap2.animatedarchitecture.spigot.core.hooks;
+
+import org.jspecify.annotations.NullMarked;
@@ -3,19 +3,28 @@ package nl.pim16aap2.animatedarchitecture.spigot.util.api;
 import lombok.CustomLog;
 import nl.pim16aap2.animatedarchitecture.core.api.IAnimatedArchitecturePlatform;
 import nl.pim16aap2.animatedarchitecture.core.api.IBlockAnalyzer;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.ILocation;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
 import nl.pim16aap2.animatedarchitecture.spigot.util.SpigotAdapter;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.data.BlockData;
 import org.jspecify.annotations.Nullable;
 
-import java.util.EnumSet;
-import java.util.HashSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Specialization of the block analyzer for the Spigot platform.
@@ -25,6 +34,26 @@ import java.util.stream.Stream;
 @CustomLog
 public abstract class BlockAnalyzerSpigot implements IBlockAnalyzer<Material>, IRestartable
 {
+    /**
+     * The maximum amount of time to wait for the main thread to capture the chunk snapshots.
+     */
+    static final Duration CHUNK_CAPTURE_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The flag in the classification table that indicates that a material is air or a liquid.
+     */
+    private static final byte FLAG_AIR_OR_LIQUID = 1;
+
+    /**
+     * The flag in the classification table that indicates that a material is allowed to be animated.
+     */
+    private static final byte FLAG_ALLOWED = 1 << 1;
+
+    /**
+     * All materials, cached to avoid copying the array every time it is needed.
+     */
+    private static final Material[] MATERIALS = Material.values();
+
     /**
      * The configuration for the block analyzer.
      * <p>
@@ -33,33 +62,65 @@ public abstract class BlockAnalyzerSpigot implements IBlockAnalyzer<Material>, I
     private final IBlockAnalyzerConfig config;
 
     /**
-     * The set of materials that are whitelisted.
+     * The executor used to capture chunk snapshots on the main thread.
+     */
+    private final IExecutor executor;
+
+    /**
+     * The classification of every material, indexed by {@link Material#ordinal()}.
      * <p>
-     * Materials in this set will be allowed to be animated.
+     * Each entry is a combination of {@link #FLAG_AIR_OR_LIQUID} and {@link #FLAG_ALLOWED}. This allows checking a
+     * material with a single array read, which matters when every block in a large area has to be checked.
+     * <p>
+     * Until the analyzer has been initialized, no materials are allowed.
      */
-    private volatile Set<Material> whitelist = EnumSet.noneOf(Material.class);
+    private volatile byte[] classifications = createClassifications(Set.of(), false);
 
     protected BlockAnalyzerSpigot(
         IBlockAnalyzerConfig config,
+        IExecutor executor,
         RestartableHolder restartableHolder)
     {
         this.config = config;
+        this.executor = executor;
 
         restartableHolder.registerRestartable(this);
     }
 
     /**
-     * Updates {@link #whitelist} based on the current configuration.
+     * Updates {@link #classifications} based on the current configuration.
      */
-    private void updateWhitelist()
+    private void updateClassifications()
     {
-        final Set<Material> blacklist = config.materialBlacklist();
+        classifications = createClassifications(config.materialBlacklist(), true);
+    }
 
-        whitelist = Stream
-            .of(Material.values())
-            .filter(mat -> !blacklist.contains(mat))
-            .filter(mat -> getDefaultMaterialStatus(mat) == MaterialStatus.WHITELISTED)
-            .collect(Collectors.toCollection(HashSet::new));
+    /**
+     * Creates a new classification table.
+     *
+     * @param blacklist
+     *     The materials that should never be allowed to be animated.
+     * @param classifyAllowed
+     *     Whether to check which materials are allowed to be animated. When false, no materials are allowed.
+     * @return The new classification table.
+     */
+    private byte[] createClassifications(Set<Material> blacklist, boolean classifyAllowed)
+    {
+        final byte[] ret = new byte[MATERIALS.length];
+        for (final Material material : MATERIALS)
+        {
+            byte flags = 0;
+            if (material.isAir() || material == Material.WATER || material == Material.LAVA)
+                flags |= FLAG_AIR_OR_LIQUID;
+
+            if (classifyAllowed &&
+                !blacklist.contains(material) &&
+                getDefaultMaterialStatus(material) == MaterialStatus.WHITELISTED)
+                flags |= FLAG_ALLOWED;
+
+            ret[material.ordinal()] = flags;
+        }
+        return ret;
     }
 
     /**
@@ -106,9 +167,7 @@ public abstract class BlockAnalyzerSpigot implements IBlockAnalyzer<Material>, I
     @Override
     public boolean isAirOrLiquid(Material material)
     {
-        return material.isAir() ||
-            material == Material.WATER ||
-            material == Material.LAVA;
+        return (classifications[material.ordinal()] & FLAG_AIR_OR_LIQUID) != 0;
     }
 
     @Override
@@ -120,7 +179,186 @@ public abstract class BlockAnalyzerSpigot implements IBlockAnalyzer<Material>, I
     @Override
     public boolean isAllowed(Material material)
     {
-        return whitelist.contains(material);
+        return (classifications[material.ordinal()] & FLAG_ALLOWED) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The chunks overlapping the cuboid are captured as {@link ChunkSnapshot}s on the main thread, after which they are
+     * scanned on the calling thread. When called from another thread, this method blocks until the snapshots have been
+     * captured, but no longer than {@link #CHUNK_CAPTURE_TIMEOUT}. The wait can be interrupted, so callers that cancel
+     * the thread running this method (e.g. when a deadline is reached) do not have to wait for a stalled main thread.
+     * See {@link #captureChunks(World, Cuboid)} and {@link #findObstructions(List, int, int, Cuboid, Cuboid, int)}.
+     *
+     * @throws IllegalStateException
+     *     If the snapshots could not be captured in time or the capture failed.
+     */
+    @Override
+    public List<Vector3Di> findObstructions(IWorld world, Cuboid cuboid, @Nullable Cuboid excluded, int limit)
+    {
+        final @Nullable World bukkitWorld = SpigotAdapter.getBukkitWorld(world);
+        if (bukkitWorld == null)
+            throw new IllegalArgumentException("Could not find Bukkit world for world: " + world);
+
+        final List<ChunkSnapshot> chunks = awaitChunks(
+            executor.runOnMainThread(() -> captureChunks(bukkitWorld, cuboid)),
+            cuboid
+        );
+
+        return findObstructions(
+            chunks,
+            bukkitWorld.getMinHeight(),
+            bukkitWorld.getMaxHeight(),
+            cuboid,
+            excluded,
+            limit
+        );
+    }
+
+    /**
+     * Waits for chunk snapshots that are being captured on the main thread.
+     * <p>
+     * When the wait is interrupted or times out, the capture is cancelled if it has not started yet.
+     *
+     * @param future
+     *     The future that is completed with the captured snapshots.
+     * @param cuboid
+     *     The cuboid whose chunks are being captured. This is only used for error messages.
+     * @return The captured snapshots.
+     *
+     * @throws IllegalStateException
+     *     If the snapshots could not be captured within {@link #CHUNK_CAPTURE_TIMEOUT}, the capture failed, or the
+     *     current thread was interrupted while waiting. In the last case, the interrupt flag is restored.
+     */
+    static List<ChunkSnapshot> awaitChunks(CompletableFuture<List<ChunkSnapshot>> future, Cuboid cuboid)
+    {
+        try
+        {
+            return future.get(CHUNK_CAPTURE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for chunk snapshots of cuboid " + cuboid, e);
+        }
+        catch (TimeoutException e)
+        {
+            future.cancel(false);
+            throw new IllegalStateException("Timed out waiting for chunk snapshots of cuboid " + cuboid, e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new IllegalStateException("Failed to capture chunk snapshots of cuboid " + cuboid, e.getCause());
+        }
+    }
+
+    /**
+     * Captures snapshots of all chunks that overlap with a cuboid.
+     * <p>
+     * The snapshots do not include any height maps, biomes, or temperatures, as only the block types are needed to
+     * find obstructions.
+     * <p>
+     * This method must be called on the main thread. The resulting snapshots can be safely analyzed on any thread
+     * using {@link #findObstructions(List, int, int, Cuboid, Cuboid, int)}.
+     *
+     * @param world
+     *     The world to capture the chunks from.
+     * @param cuboid
+     *     The cuboid whose chunks to capture. Any chunks that are not loaded yet will be loaded.
+     * @return The snapshots of the chunks that overlap with the cuboid.
+     */
+    public static List<ChunkSnapshot> captureChunks(World world, Cuboid cuboid)
+    {
+        final Vector3Di min = cuboid.getMin();
+        final Vector3Di max = cuboid.getMax();
+
+        final List<ChunkSnapshot> ret = new ArrayList<>();
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; ++chunkX)
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; ++chunkZ)
+                ret.add(world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+        return ret;
+    }
+
+    /**
+     * Finds all blocks in a cuboid that are neither air nor liquid using previously captured chunk snapshots.
+     * <p>
+     * Chunk sections that contain only air are skipped entirely. Blocks outside the height limits of the world are
+     * considered to be air.
+     * <p>
+     * This method does not access the world, so it can be called from any thread.
+     *
+     * @param chunks
+     *     The snapshots of the chunks to scan. See {@link #captureChunks(World, Cuboid)}. Any blocks in chunks that are
+     *     not part of this list are not checked.
+     * @param worldMinHeight
+     *     The minimum height of the world the chunks are part of. See {@link World#getMinHeight()}.
+     * @param worldMaxHeight
+     *     The maximum height of the world the chunks are part of. See {@link World#getMaxHeight()}.
+     * @param cuboid
+     *     The area to check.
+     * @param excluded
+     *     An area to ignore. May be null to check all blocks in the cuboid.
+     * @param limit
+     *     The maximum number of obstructions to find. The scan stops as soon as this many obstructions have been found.
+     * @return The positions of the blocks that are neither air nor liquid.
+     */
+    public List<Vector3Di> findObstructions(
+        List<ChunkSnapshot> chunks,
+        int worldMinHeight,
+        int worldMaxHeight,
+        Cuboid cuboid,
+        @Nullable Cuboid excluded,
+        int limit)
+    {
+        final List<Vector3Di> ret = new ArrayList<>();
+        if (limit < 1)
+            return ret;
+
+        final Vector3Di min = cuboid.getMin();
+        final Vector3Di max = cuboid.getMax();
+        final int minY = Math.max(min.y(), worldMinHeight);
+        final int maxY = Math.min(max.y(), worldMaxHeight - 1);
+
+        for (final ChunkSnapshot chunk : chunks)
+        {
+            final int chunkMinX = chunk.getX() << 4;
+            final int chunkMinZ = chunk.getZ() << 4;
+            final int minX = Math.max(min.x(), chunkMinX);
+            final int maxX = Math.min(max.x(), chunkMinX + 15);
+            final int minZ = Math.max(min.z(), chunkMinZ);
+            final int maxZ = Math.min(max.z(), chunkMinZ + 15);
+            if (minX > maxX || minZ > maxZ)
+                continue;
+
+            int sectionMinY = minY;
+            while (sectionMinY <= maxY)
+            {
+                final int sectionIdx = (sectionMinY - worldMinHeight) >> 4;
+                final int sectionMaxY = Math.min(maxY, worldMinHeight + (sectionIdx << 4) + 15);
+
+                if (!chunk.isSectionEmpty(sectionIdx))
+                {
+                    for (int y = sectionMinY; y <= sectionMaxY; ++y)
+                        for (int x = minX; x <= maxX; ++x)
+                            for (int z = minZ; z <= maxZ; ++z)
+                            {
+                                if (excluded != null && excluded.isInRange(x, y, z, 0))
+                                    continue;
+
+                                if (isAirOrLiquid(chunk.getBlockType(x & 15, y, z & 15)))
+                                    continue;
+
+                                ret.add(new Vector3Di(x, y, z));
+                                if (ret.size() >= limit)
+                                    return ret;
+                            }
+                }
+                sectionMinY = sectionMaxY + 1;
+            }
+        }
+        return ret;
     }
 
     private static Material materialAtLocation(ILocation location)
@@ -131,6 +369,6 @@ public abstract class BlockAnalyzerSpigot implements IBlockAnalyzer<Material>, I
     @Override
     public final void initialize()
     {
-        updateWhitelist();
+        updateClassifications();
     }
 }
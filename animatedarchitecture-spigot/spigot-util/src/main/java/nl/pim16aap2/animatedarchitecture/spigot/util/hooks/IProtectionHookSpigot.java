@@ -115,6 +115,25 @@ public interface IProtectionHookSpigot
      */
     CompletableFuture<Boolean> canBreakBlocksInCuboid(Player player, World world, Cuboid cuboid);
 
+    /**
+     * Whether the main checks of this hook can be run off the main thread.
+     * <p>
+     * The main checks are {@link #canBreakBlock(Player, Location)} and
+     * {@link #canBreakBlocksInCuboid(Player, World, Cuboid)}.
+     * <p>
+     * The main checks of thread-safe hooks are run asynchronously and concurrently with the checks of other hooks. The
+     * main checks of hooks that are not thread-safe are run on the main thread, one after the other.
+     * <p>
+     * Hooks should only return true if they do not access the world (e.g. to get the type of a block) and the plugin
+     * they hook into allows its API to be used from any thread.
+     *
+     * @return True if the main checks of this hook can be run off the main thread. Defaults to false.
+     */
+    default boolean isThreadSafe()
+    {
+        return false;
+    }
+
     /**
      * Get the name of the {@link JavaPlugin} that is being hooked into.
      *
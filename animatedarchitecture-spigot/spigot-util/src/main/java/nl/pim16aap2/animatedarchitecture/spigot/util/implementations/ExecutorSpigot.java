@@ -7,6 +7,7 @@ import lombok.CustomLog;
 import lombok.experimental.ExtensionMethod;
 import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.debugging.IDebuggable;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.core.util.CompletableFutureExtensions;
@@ -23,6 +24,10 @@ import java.util.function.Supplier;
 
 /**
  * Implementation of {@link IExecutor} for the Spigot platform.
+ * <p>
+ * Tasks scheduled using {@link #scheduleOnMainThread(Runnable, MainThreadPriority)} and
+ * {@link #scheduleOnMainThread(Supplier, MainThreadPriority)} are not scheduled individually. Instead, they are run in
+ * batches by a single repeating task, ordered by their priority. See {@link MainThreadTaskQueue}.
  */
 @Singleton
 @CustomLog
@@ -31,6 +36,7 @@ public final class ExecutorSpigot implements IExecutor, IRestartable, IDebuggabl
 {
     private final JavaPlugin plugin;
     private final long mainThreadId;
+    private final MainThreadTaskQueue mainThreadTaskQueue;
 
     private volatile ExecutorService executor = newVirtualExecutorService();
 
@@ -38,12 +44,18 @@ public final class ExecutorSpigot implements IExecutor, IRestartable, IDebuggabl
     public ExecutorSpigot(
         JavaPlugin plugin,
         @Named("mainThreadId") long mainThreadId,
-        RestartableHolder restartableHolder)
+        RestartableHolder restartableHolder,
+        MetricsRegistry metricsRegistry)
     {
         this.plugin = plugin;
         this.mainThreadId = mainThreadId;
+        this.mainThreadTaskQueue = new MainThreadTaskQueue(
+            drainTask -> Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, drainTask, 1L, 1L),
+            MainThreadTaskQueue.DEFAULT_DRAIN_BUDGET
+        );
 
         restartableHolder.registerRestartable(this);
+        metricsRegistry.gauge("executor.main_thread.queue_depth", mainThreadTaskQueue::size);
     }
 
     @Override
@@ -54,16 +66,38 @@ public final class ExecutorSpigot implements IExecutor, IRestartable, IDebuggabl
 
     @Override
     public <T> CompletableFuture<T> scheduleOnMainThread(Supplier<T> supplier)
+    {
+        return scheduleOnMainThread(supplier, MainThreadPriority.ANIMATION_CRITICAL);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> scheduleOnMainThread(Supplier<T> supplier, MainThreadPriority priority)
     {
         final CompletableFuture<T> result = new CompletableFuture<>();
-        Bukkit.getScheduler().scheduleSyncDelayedTask(plugin, () -> result.complete(supplier.get()));
+        mainThreadTaskQueue.add(() ->
+        {
+            try
+            {
+                result.complete(supplier.get());
+            }
+            catch (Exception e)
+            {
+                result.completeExceptionally(e);
+            }
+        }, priority);
         return result;
     }
 
     @Override
     public void scheduleOnMainThread(Runnable runnable)
     {
-        Bukkit.getScheduler().scheduleSyncDelayedTask(plugin, safeRunnable(runnable));
+        scheduleOnMainThread(runnable, MainThreadPriority.ANIMATION_CRITICAL);
+    }
+
+    @Override
+    public void scheduleOnMainThread(Runnable runnable, MainThreadPriority priority)
+    {
+        mainThreadTaskQueue.add(runnable, priority);
     }
 
     @Override
@@ -256,6 +290,6 @@ public final class ExecutorSpigot implements IExecutor, IRestartable, IDebuggabl
     @Override
     public String getDebugInformation()
     {
-        return "General " + StringUtil.toString(executor);
+        return "General " + StringUtil.toString(executor) + "\n" + mainThreadTaskQueue.getDebugInformation();
     }
 }
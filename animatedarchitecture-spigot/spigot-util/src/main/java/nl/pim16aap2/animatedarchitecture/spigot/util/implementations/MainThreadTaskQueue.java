@@ -0,0 +1,286 @@
+package nl.pim16aap2.animatedarchitecture.spigot.util.implementations;
+
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor.MainThreadPriority;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs tasks submitted from any thread on the main thread in batches.
+ * <p>
+ * Instead of scheduling a separate task with the scheduler for every small piece of work, tasks are added to a
+ * lock-free queue that is drained by a single repeating task on the main thread.
+ * <p>
+ * Every {@link MainThreadPriority} has its own lane. Every tick, the lanes are drained in order of priority. Each lane
+ * is drained until it is empty, until it has used up its own budget, or until the time budget for the entire tick has
+ * been used up. Any remaining tasks are run in the next tick.
+ * <p>
+ * To prevent starvation, every lane runs at least one task every tick, even when the budget for that tick has already
+ * been used up by lanes with a higher priority.
+ */
+@CustomLog
+final class MainThreadTaskQueue
+{
+    /**
+     * The default maximum amount of time to spend running tasks in a single tick.
+     */
+    static final Duration DEFAULT_DRAIN_BUDGET = Duration.ofMillis(10);
+
+    /**
+     * The share of the tick budget that {@link MainThreadPriority#BACKGROUND} tasks may use.
+     */
+    static final double BACKGROUND_BUDGET_SHARE = 0.25D;
+
+    private static final MainThreadPriority[] PRIORITIES = MainThreadPriority.values();
+
+    /**
+     * The lanes, indexed by {@link MainThreadPriority#ordinal()}.
+     */
+    private final Lane[] lanes;
+
+    private final AtomicBoolean drainTaskStarted = new AtomicBoolean(false);
+
+    private final Consumer<Runnable> drainTaskStarter;
+    private final long drainBudgetNanos;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder overflowingTicks = new LongAdder();
+    private final LongAccumulator maxDrainNanos = new LongAccumulator(Math::max, 0);
+    private volatile long lastDrainNanos;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param drainTaskStarter
+     *     Starts a task that runs the provided runnable on the main thread every tick. This is called once, when the
+     *     first task is added to the queue.
+     * @param drainBudget
+     *     The maximum amount of time to spend running tasks in a single tick.
+     */
+    MainThreadTaskQueue(Consumer<Runnable> drainTaskStarter, Duration drainBudget)
+    {
+        this(drainTaskStarter, drainBudget, System::nanoTime);
+    }
+
+    MainThreadTaskQueue(Consumer<Runnable> drainTaskStarter, Duration drainBudget, LongSupplier nanoClock)
+    {
+        this.drainTaskStarter = drainTaskStarter;
+        this.drainBudgetNanos = drainBudget.toNanos();
+        this.nanoClock = nanoClock;
+
+        this.lanes = Arrays.stream(PRIORITIES)
+            .map(priority -> new Lane(priority, getLaneBudget(priority, drainBudgetNanos)))
+            .toArray(Lane[]::new);
+    }
+
+    private static long getLaneBudget(MainThreadPriority priority, long drainBudgetNanos)
+    {
+        return switch (priority)
+        {
+            case INTERACTIVE, ANIMATION_CRITICAL -> drainBudgetNanos;
+            case BACKGROUND -> Math.round(drainBudgetNanos * BACKGROUND_BUDGET_SHARE);
+        };
+    }
+
+    /**
+     * Adds a task to the queue.
+     * <p>
+     * The task will be run on the main thread during one of the next ticks. Tasks with the same priority are run in the
+     * order in which they were added.
+     *
+     * @param task
+     *     The task to run.
+     * @param priority
+     *     The priority of the task.
+     */
+    void add(Runnable task, MainThreadPriority priority)
+    {
+        lanes[priority.ordinal()].add(task);
+
+        if (drainTaskStarted.compareAndSet(false, true))
+            drainTaskStarter.accept(this::drain);
+    }
+
+    /**
+     * Runs the tasks in the queue until the queue is empty or the time budget for this tick has been used up.
+     * <p>
+     * This method must be called on the main thread.
+     */
+    void drain()
+    {
+        final long start = nanoClock.getAsLong();
+        long now = start;
+        int executed = 0;
+        boolean overflowed = false;
+
+        for (final Lane lane : lanes)
+        {
+            final long laneStart = now;
+            int laneExecuted = 0;
+            do
+            {
+                final @Nullable Runnable task = lane.poll();
+                if (task == null)
+                    break;
+
+                runTask(task);
+                ++laneExecuted;
+                now = nanoClock.getAsLong();
+            }
+            while (now - laneStart < lane.budgetNanos && now - start < drainBudgetNanos);
+
+            if (laneExecuted == 0)
+                continue;
+
+            executed += laneExecuted;
+            lane.executedTasks.add(laneExecuted);
+            if (lane.size() > 0)
+            {
+                lane.overflowingTicks.increment();
+                overflowed = true;
+            }
+        }
+
+        if (executed == 0)
+            return;
+
+        final long duration = now - start;
+        lastDrainNanos = duration;
+        maxDrainNanos.accumulate(duration);
+        if (overflowed)
+            overflowingTicks.increment();
+    }
+
+    private static void runTask(Runnable task)
+    {
+        try
+        {
+            task.run();
+        }
+        catch (Exception e)
+        {
+            log.atError().withCause(e).log("Encountered an exception while executing a main thread task.");
+        }
+    }
+
+    /**
+     * Gets the number of tasks that are waiting to be run.
+     *
+     * @return The number of tasks in all lanes.
+     */
+    int size()
+    {
+        int size = 0;
+        for (final Lane lane : lanes)
+            size += lane.size();
+        return size;
+    }
+
+    /**
+     * Gets the number of tasks with a given priority that are waiting to be run.
+     *
+     * @param priority
+     *     The priority of the lane.
+     * @return The number of tasks in the lane.
+     */
+    int size(MainThreadPriority priority)
+    {
+        return lanes[priority.ordinal()].size();
+    }
+
+    /**
+     * Gets the number of ticks in which the time budget was used up before the queue was empty.
+     *
+     * @return The number of ticks in which tasks had to be carried over to the next tick.
+     */
+    long getOverflowingTicks()
+    {
+        return overflowingTicks.sum();
+    }
+
+    String getDebugInformation()
+    {
+        return String.format(
+            "Main thread queue: %d pending, %d overflowing ticks, last drain: %.3fms, max drain: %.3fms, budget: %dms%s",
+            size(),
+            overflowingTicks.sum(),
+            lastDrainNanos / 1_000_000D,
+            maxDrainNanos.get() / 1_000_000D,
+            Duration.ofNanos(drainBudgetNanos).toMillis(),
+            Arrays.stream(lanes).map(Lane::format).collect(Collectors.joining("\n", "\n", ""))
+        );
+    }
+
+    /**
+     * A queue for tasks with a single priority.
+     */
+    private static final class Lane
+    {
+        private final MainThreadPriority priority;
+        private final long budgetNanos;
+
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The number of tasks in the queue.
+         * <p>
+         * This is tracked separately, as {@link ConcurrentLinkedQueue#size()} has to traverse the entire queue.
+         */
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final LongAdder executedTasks = new LongAdder();
+        private final LongAdder overflowingTicks = new LongAdder();
+        private volatile int peakSize;
+
+        private Lane(MainThreadPriority priority, long budgetNanos)
+        {
+            this.priority = priority;
+            this.budgetNanos = budgetNanos;
+        }
+
+        private void add(Runnable task)
+        {
+            queue.add(task);
+            final int newSize = size.incrementAndGet();
+            if (newSize > peakSize)
+                peakSize = newSize;
+        }
+
+        private @Nullable Runnable poll()
+        {
+            final @Nullable Runnable task = queue.poll();
+            if (task != null)
+                size.decrementAndGet();
+            return task;
+        }
+
+        private int size()
+        {
+            return size.get();
+        }
+
+        private String format()
+        {
+            return String.format(
+                "  %s: %d pending (peak: %d), %d executed, %d overflowing ticks, budget: %.3fms",
+                priority,
+                size(),
+                peakSize,
+                executedTasks.sum(),
+                overflowingTicks.sum(),
+                budgetNanos / 1_000_000D
+            );
+        }
+    }
+}
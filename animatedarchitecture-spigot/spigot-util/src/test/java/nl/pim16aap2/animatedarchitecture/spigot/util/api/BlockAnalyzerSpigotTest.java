@@ -0,0 +1,229 @@
+package nl.pim16aap2.animatedarchitecture.spigot.util.api;
+
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BlockAnalyzerSpigotTest
+{
+    private final BlockAnalyzerSpigot blockAnalyzer = new TestBlockAnalyzer();
+
+    @Test
+    void findObstructions_shouldFindSolidBlocksAcrossChunks()
+    {
+        // setup
+        final ChunkSnapshot chunk0 = chunk(0, 0, Set.of(), Map.of(
+            new Vector3Di(5, 3, 5), Material.STONE,
+            new Vector3Di(6, 3, 6), Material.WATER,
+            new Vector3Di(7, 3, 7), Material.LAVA
+        ));
+        final ChunkSnapshot chunk1 = chunk(1, 0, Set.of(), Map.of(
+            new Vector3Di(20, 10, 2), Material.STONE
+        ));
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(31, 15, 15));
+
+        // execute
+        final List<Vector3Di> result =
+            blockAnalyzer.findObstructions(List.of(chunk0, chunk1), 0, 64, cuboid, null, Integer.MAX_VALUE);
+
+        // verify
+        assertThat(result).containsExactly(new Vector3Di(5, 3, 5), new Vector3Di(20, 10, 2));
+    }
+
+    @Test
+    void findObstructions_shouldSkipEmptySections()
+    {
+        // setup
+        final ChunkSnapshot chunk = chunk(0, 0, Set.of(1), Map.of(
+            new Vector3Di(1, -60, 1), Material.STONE,
+            new Vector3Di(1, -40, 1), Material.STONE
+        ));
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, -64, 0), new Vector3Di(3, -33, 3));
+
+        // execute
+        final List<Vector3Di> result =
+            blockAnalyzer.findObstructions(List.of(chunk), -64, 320, cuboid, null, Integer.MAX_VALUE);
+
+        // verify
+        assertThat(result).containsExactly(new Vector3Di(1, -60, 1));
+        verify(chunk).isSectionEmpty(0);
+        verify(chunk).isSectionEmpty(1);
+        verify(chunk, never()).getBlockType(anyInt(), intThat(y -> y >= -48), anyInt());
+    }
+
+    @Test
+    void findObstructions_shouldOnlyScanWithinWorldHeight()
+    {
+        // setup
+        final ChunkSnapshot chunk = chunk(0, 0, Set.of(), Map.of());
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, -10, 0), new Vector3Di(0, 100, 0));
+
+        // execute
+        final List<Vector3Di> result =
+            blockAnalyzer.findObstructions(List.of(chunk), 0, 32, cuboid, null, Integer.MAX_VALUE);
+
+        // verify
+        assertThat(result).isEmpty();
+        verify(chunk, times(32)).getBlockType(anyInt(), anyInt(), anyInt());
+        verify(chunk, never()).getBlockType(anyInt(), intThat(y -> y < 0 || y >= 32), anyInt());
+    }
+
+    @Test
+    void findObstructions_shouldIgnoreExcludedCuboid()
+    {
+        // setup
+        final ChunkSnapshot chunk = chunk(0, 0, Set.of(), Map.of(
+            new Vector3Di(1, 1, 1), Material.STONE,
+            new Vector3Di(8, 1, 8), Material.STONE
+        ));
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(15, 3, 15));
+        final Cuboid excluded = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(2, 3, 2));
+
+        // execute
+        final List<Vector3Di> result =
+            blockAnalyzer.findObstructions(List.of(chunk), 0, 64, cuboid, excluded, Integer.MAX_VALUE);
+
+        // verify
+        assertThat(result).containsExactly(new Vector3Di(8, 1, 8));
+        verify(chunk, never()).getBlockType(intThat(x -> x <= 2), anyInt(), intThat(z -> z <= 2));
+    }
+
+    @Test
+    void findObstructions_shouldStopAtLimit()
+    {
+        // setup
+        final ChunkSnapshot chunk0 = chunk(0, 0, Set.of(), Map.of(
+            new Vector3Di(0, 0, 0), Material.STONE,
+            new Vector3Di(0, 0, 1), Material.STONE,
+            new Vector3Di(0, 0, 2), Material.STONE
+        ));
+        final ChunkSnapshot chunk1 = chunk(1, 0, Set.of(), Map.of(
+            new Vector3Di(16, 0, 0), Material.STONE
+        ));
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(31, 15, 15));
+
+        // execute
+        final List<Vector3Di> result = blockAnalyzer.findObstructions(List.of(chunk0, chunk1), 0, 64, cuboid, null, 2);
+
+        // verify
+        assertThat(result).containsExactly(new Vector3Di(0, 0, 0), new Vector3Di(0, 0, 1));
+        verify(chunk0, times(2)).getBlockType(anyInt(), anyInt(), anyInt());
+        verifyNoInteractions(chunk1);
+    }
+
+    @Test
+    void findObstructions_shouldNotScanWithoutLimit()
+    {
+        // setup
+        final ChunkSnapshot chunk = chunk(0, 0, Set.of(), Map.of(new Vector3Di(0, 0, 0), Material.STONE));
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(15, 15, 15));
+
+        // execute
+        final List<Vector3Di> result = blockAnalyzer.findObstructions(List.of(chunk), 0, 64, cuboid, null, 0);
+
+        // verify
+        assertThat(result).isEmpty();
+        verifyNoInteractions(chunk);
+    }
+
+    @Test
+    void awaitChunks_shouldReturnCapturedChunks()
+    {
+        // setup
+        final ChunkSnapshot chunk = mock();
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(15, 15, 15));
+
+        // execute
+        final List<ChunkSnapshot> result =
+            BlockAnalyzerSpigot.awaitChunks(CompletableFuture.completedFuture(List.of(chunk)), cuboid);
+
+        // verify
+        assertThat(result).containsExactly(chunk);
+    }
+
+    @Test
+    void awaitChunks_shouldStopWaitingWhenInterrupted()
+    {
+        // setup
+        final CompletableFuture<List<ChunkSnapshot>> future = new CompletableFuture<>();
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(15, 15, 15));
+        Thread.currentThread().interrupt();
+
+        // execute & verify
+        assertThatThrownBy(() -> BlockAnalyzerSpigot.awaitChunks(future, cuboid))
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(future).isCancelled();
+    }
+
+    @Test
+    void awaitChunks_shouldUnwrapCaptureFailure()
+    {
+        // setup
+        final Cuboid cuboid = new Cuboid(new Vector3Di(0, 0, 0), new Vector3Di(15, 15, 15));
+        final IllegalStateException failure = new IllegalStateException("Expected exception!");
+
+        // execute & verify
+        assertThatThrownBy(() -> BlockAnalyzerSpigot.awaitChunks(CompletableFuture.failedFuture(failure), cuboid))
+            .isInstanceOf(IllegalStateException.class)
+            .hasCause(failure);
+    }
+
+    /**
+     * Creates a chunk snapshot.
+     *
+     * @param chunkX
+     *     The x coordinate of the chunk.
+     * @param chunkZ
+     *     The z coordinate of the chunk.
+     * @param emptySections
+     *     The indices of the sections that contain only air.
+     * @param blocks
+     *     The materials of the blocks in the chunk, mapped by their world coordinates. All other blocks are air.
+     * @return The new chunk snapshot.
+     */
+    private static ChunkSnapshot chunk(
+        int chunkX,
+        int chunkZ,
+        Set<Integer> emptySections,
+        Map<Vector3Di, Material> blocks)
+    {
+        final ChunkSnapshot chunk = mock();
+        when(chunk.getX()).thenReturn(chunkX);
+        when(chunk.getZ()).thenReturn(chunkZ);
+        when(chunk.isSectionEmpty(anyInt()))
+            .thenAnswer(invocation -> emptySections.contains(invocation.<Integer>getArgument(0)));
+        when(chunk.getBlockType(anyInt(), anyInt(), anyInt())).thenAnswer(invocation ->
+        {
+            final int x = (chunkX << 4) + invocation.<Integer>getArgument(0);
+            final int z = (chunkZ << 4) + invocation.<Integer>getArgument(2);
+            return blocks.getOrDefault(new Vector3Di(x, invocation.<Integer>getArgument(1), z), Material.AIR);
+        });
+        return chunk;
+    }
+
+    private static final class TestBlockAnalyzer extends BlockAnalyzerSpigot
+    {
+        TestBlockAnalyzer()
+        {
+            super(mock(), mock(), mock());
+        }
+
+        @Override
+        protected MaterialStatus getDefaultMaterialStatus(Material material)
+        {
+            return MaterialStatus.WHITELISTED;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package nl.pim16aap2.animatedarchitecture.spigot.util.api;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,201 @@
+package nl.pim16aap2.animatedarchitecture.spigot.util.implementations;
+
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor.MainThreadPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MainThreadTaskQueueTest
+{
+    private static final Duration BUDGET = Duration.ofMillis(10);
+
+    private final List<Runnable> drainTasks = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    private MainThreadTaskQueue queue;
+
+    @BeforeEach
+    void setUp()
+    {
+        drainTasks.clear();
+        clock.set(0);
+        queue = new MainThreadTaskQueue(drainTasks::add, BUDGET, clock::get);
+    }
+
+    @Test
+    void add_shouldStartDrainTaskOnlyOnce()
+    {
+        // execute
+        queue.add(() -> {}, MainThreadPriority.ANIMATION_CRITICAL);
+        queue.add(() -> {}, MainThreadPriority.ANIMATION_CRITICAL);
+
+        // verify
+        assertThat(drainTasks).hasSize(1);
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void drain_shouldRunTasksInOrder()
+    {
+        // setup
+        final List<Integer> executed = new ArrayList<>();
+        for (int idx = 0; idx < 5; ++idx)
+        {
+            final int idx0 = idx;
+            queue.add(() -> executed.add(idx0), MainThreadPriority.ANIMATION_CRITICAL);
+        }
+
+        // execute
+        drainTasks.getFirst().run();
+
+        // verify
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4);
+        assertThat(queue.size()).isZero();
+        assertThat(queue.getOverflowingTicks()).isZero();
+    }
+
+    @Test
+    void drain_shouldCarryOverTasksWhenBudgetIsExceeded()
+    {
+        // setup
+        final List<Integer> executed = new ArrayList<>();
+        for (int idx = 0; idx < 5; ++idx)
+        {
+            final int idx0 = idx;
+            queue.add(() ->
+            {
+                executed.add(idx0);
+                clock.addAndGet(BUDGET.toNanos() / 2);
+            }, MainThreadPriority.ANIMATION_CRITICAL);
+        }
+
+        // execute
+        queue.drain();
+
+        // verify
+        assertThat(executed).containsExactly(0, 1);
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.getOverflowingTicks()).isEqualTo(1);
+
+        queue.drain();
+        queue.drain();
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4);
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void drain_shouldRunAtLeastOneTaskPerTick()
+    {
+        // setup
+        final List<Integer> executed = new ArrayList<>();
+        queue.add(() ->
+        {
+            executed.add(0);
+            clock.addAndGet(BUDGET.toNanos() * 2);
+        }, MainThreadPriority.ANIMATION_CRITICAL);
+        queue.add(() -> executed.add(1), MainThreadPriority.ANIMATION_CRITICAL);
+
+        // execute
+        queue.drain();
+
+        // verify
+        assertThat(executed).containsExactly(0);
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldContinueAfterFailingTask()
+    {
+        // setup
+        final List<Integer> executed = new ArrayList<>();
+        queue.add(() ->
+        {
+            throw new IllegalStateException("Expected exception!");
+        }, MainThreadPriority.ANIMATION_CRITICAL);
+        queue.add(() -> executed.add(1), MainThreadPriority.ANIMATION_CRITICAL);
+
+        // execute
+        queue.drain();
+
+        // verify
+        assertThat(executed).containsExactly(1);
+        assertThat(queue.getDebugInformation()).contains("0 pending", "2 executed");
+    }
+
+    @Test
+    void drain_shouldRunHigherPrioritiesFirst()
+    {
+        // setup
+        final List<MainThreadPriority> executed = new ArrayList<>();
+        queue.add(() -> executed.add(MainThreadPriority.BACKGROUND), MainThreadPriority.BACKGROUND);
+        queue.add(() -> executed.add(MainThreadPriority.ANIMATION_CRITICAL), MainThreadPriority.ANIMATION_CRITICAL);
+        queue.add(() -> executed.add(MainThreadPriority.INTERACTIVE), MainThreadPriority.INTERACTIVE);
+
+        // execute
+        queue.drain();
+
+        // verify
+        assertThat(executed).containsExactly(
+            MainThreadPriority.INTERACTIVE,
+            MainThreadPriority.ANIMATION_CRITICAL,
+            MainThreadPriority.BACKGROUND
+        );
+    }
+
+    @Test
+    void drain_shouldLimitBackgroundTasksToTheirShareOfTheBudget()
+    {
+        // setup
+        final long backgroundBudget = Math.round(BUDGET.toNanos() * MainThreadTaskQueue.BACKGROUND_BUDGET_SHARE);
+        final long taskDuration = backgroundBudget / 2;
+        final List<Integer> executed = new ArrayList<>();
+        for (int idx = 0; idx < 10; ++idx)
+        {
+            final int idx0 = idx;
+            queue.add(() ->
+            {
+                executed.add(idx0);
+                clock.addAndGet(taskDuration);
+            }, MainThreadPriority.BACKGROUND);
+        }
+
+        // execute
+        queue.drain();
+
+        // verify
+        assertThat(executed).containsExactly(0, 1);
+        assertThat(queue.size(MainThreadPriority.BACKGROUND)).isEqualTo(8);
+    }
+
+    @Test
+    void drain_shouldNotStarveLowerPriorities()
+    {
+        // setup
+        final List<MainThreadPriority> executed = new ArrayList<>();
+        for (int idx = 0; idx < 3; ++idx)
+            queue.add(() ->
+            {
+                executed.add(MainThreadPriority.INTERACTIVE);
+                clock.addAndGet(BUDGET.toNanos());
+            }, MainThreadPriority.INTERACTIVE);
+        queue.add(() -> executed.add(MainThreadPriority.ANIMATION_CRITICAL), MainThreadPriority.ANIMATION_CRITICAL);
+        queue.add(() -> executed.add(MainThreadPriority.BACKGROUND), MainThreadPriority.BACKGROUND);
+
+        // execute
+        queue.drain();
+
+        // verify
+        assertThat(executed).containsExactly(
+            MainThreadPriority.INTERACTIVE,
+            MainThreadPriority.ANIMATION_CRITICAL,
+            MainThreadPriority.BACKGROUND
+        );
+        assertThat(queue.size(MainThreadPriority.INTERACTIVE)).isEqualTo(2);
+    }
+}
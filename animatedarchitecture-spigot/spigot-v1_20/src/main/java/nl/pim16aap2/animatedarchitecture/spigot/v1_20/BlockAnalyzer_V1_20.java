@@ -3,6 +3,7 @@ package nl.pim16aap2.animatedarchitecture.spigot.v1_20;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.spigot.util.api.BlockAnalyzerSpigot;
 import nl.pim16aap2.animatedarchitecture.spigot.util.api.IBlockAnalyzerConfig;
@@ -33,9 +34,10 @@ final class BlockAnalyzer_V1_20 extends BlockAnalyzerSpigot
     @Inject
     BlockAnalyzer_V1_20(
         IBlockAnalyzerConfig config,
+        IExecutor executor,
         RestartableHolder restartableHolder)
     {
-        super(config, restartableHolder);
+        super(config, executor, restartableHolder);
     }
 
     /**
@@ -3,6 +3,7 @@ package nl.pim16aap2.animatedarchitecture.spigot.v1_21;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.IRestartable;
 import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
 import nl.pim16aap2.animatedarchitecture.spigot.util.api.BlockAnalyzerSpigot;
@@ -39,9 +40,10 @@ final class BlockAnalyzer_V1_21 extends BlockAnalyzerSpigot implements IRestarta
     @Inject
     BlockAnalyzer_V1_21(
         IBlockAnalyzerConfig config,
+        IExecutor executor,
         RestartableHolder restartableHolder)
     {
-        super(config, restartableHolder);
+        super(config, executor, restartableHolder);
     }
 
     /**
@@ -3,6 +3,7 @@ package nl.pim16aap2.animatedarchitecture.core.storage;
 import com.google.common.flogger.LogSiteStackTrace;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import nl.altindag.log.LogCaptor;
 import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
 import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
@@ -52,6 +53,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -607,6 +609,12 @@ public class SQLiteJDBCDriverConnectionTest
         final List<List<Long>> entries = new ArrayList<>(powerBlockData.values());
         Assertions.assertEquals(1, entries.size());
         Assertions.assertEquals(3, entries.getFirst().size());
+
+        final Map<String, LongSet> occupiedChunks = storage.getOccupiedChunks().orElseThrow();
+        final LongSet worldChunks = occupiedChunks.get(structure1.getWorld().worldName());
+        Assertions.assertNotNull(worldChunks);
+        Assertions.assertTrue(worldChunks.contains(chunkId));
+        Assertions.assertTrue(worldChunks.contains(LocationUtil.getChunkId(structure1.getCuboid().getCenterBlock())));
     }
 
     /**
@@ -0,0 +1,599 @@
+package nl.pim16aap2.animatedarchitecture.soak;
+
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.UnitTestUtil;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimatedBlockContainerFactory;
+import nl.pim16aap2.animatedarchitecture.core.animation.AnimationRequestData;
+import nl.pim16aap2.animatedarchitecture.core.animation.StructureActivityManager;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleAdmissionController;
+import nl.pim16aap2.animatedarchitecture.core.animation.ToggleLatencyTracker;
+import nl.pim16aap2.animatedarchitecture.core.api.HighlightedBlockSpawner;
+import nl.pim16aap2.animatedarchitecture.core.api.IBlockAnalyzer;
+import nl.pim16aap2.animatedarchitecture.core.api.IChunkLoader;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import nl.pim16aap2.animatedarchitecture.core.api.IMessageable;
+import nl.pim16aap2.animatedarchitecture.core.api.IPlayer;
+import nl.pim16aap2.animatedarchitecture.core.api.IProtectionHookManager;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.LimitContainer;
+import nl.pim16aap2.animatedarchitecture.core.api.PlayerData;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlockFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.debugging.DebuggableRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.factories.IAnimatedArchitectureEventFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.factories.ILocationFactory;
+import nl.pim16aap2.animatedarchitecture.core.api.metrics.MetricsRegistry;
+import nl.pim16aap2.animatedarchitecture.core.api.restartable.RestartableHolder;
+import nl.pim16aap2.animatedarchitecture.core.config.IConfig;
+import nl.pim16aap2.animatedarchitecture.core.events.IAnimatedArchitectureEventCaller;
+import nl.pim16aap2.animatedarchitecture.core.events.IStructureEventToggleStart;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionCause;
+import nl.pim16aap2.animatedarchitecture.core.events.StructureActionType;
+import nl.pim16aap2.animatedarchitecture.core.managers.DatabaseManager;
+import nl.pim16aap2.animatedarchitecture.core.managers.LimitsManager;
+import nl.pim16aap2.animatedarchitecture.core.managers.RedstoneVerificationQueue;
+import nl.pim16aap2.animatedarchitecture.core.managers.StructureDeletionManager;
+import nl.pim16aap2.animatedarchitecture.core.structures.PermissionLevel;
+import nl.pim16aap2.animatedarchitecture.core.structures.Structure;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureAnimationRequest;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureAnimationRequestBuilder;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureBuilder;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureOwner;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureRegistry;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureToggleResult;
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureType;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.Property;
+import nl.pim16aap2.animatedarchitecture.core.structures.properties.PropertyContainer;
+import nl.pim16aap2.animatedarchitecture.core.structures.retriever.StructureRetrieverFactory;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.bigdoor.StructureTypeBigDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.drawbridge.StructureTypeDrawbridge;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.garagedoor.StructureTypeGarageDoor;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.portcullis.StructureTypePortcullis;
+import nl.pim16aap2.animatedarchitecture.core.structures.types.slidingdoor.StructureTypeSlidingDoor;
+import nl.pim16aap2.animatedarchitecture.core.util.Cuboid;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
+import nl.pim16aap2.animatedarchitecture.core.util.MovementDirection;
+import nl.pim16aap2.animatedarchitecture.core.util.vector.Vector3Di;
+import nl.pim16aap2.animatedarchitecture.testimplementations.TestAnimatedBlockFactory;
+import nl.pim16aap2.animatedarchitecture.testimplementations.TestExecutor;
+import nl.pim16aap2.animatedarchitecture.testimplementations.TestLocationFactory;
+import nl.pim16aap2.animatedarchitecture.testimplementations.TestWorld;
+import nl.pim16aap2.testing.AssistedFactoryMocker;
+import org.jspecify.annotations.Nullable;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.when;
+
+/**
+ * A load driver that toggles many structures of different types for a number of simulated ticks.
+ * <p>
+ * The toggle requests are sent through the {@link StructureAnimationRequestBuilder} and go through the actual toggle
+ * pipeline: The admission controller, the toggle preparation, and the animators. The platform is replaced by the test
+ * implementations (see {@link TestExecutor} and {@link TestAnimatedBlockFactory}) and everything that does not affect
+ * the animations themselves (e.g. protection hooks, events, and the database) is mocked to always allow the toggle.
+ * <p>
+ * While running, the harness records the duration of each tick, the memory allocated during each tick, and the number
+ * of active animators. Once all animations have finished, it verifies that every structure ended up in the state that
+ * matches the number of animations that were started for it.
+ * <p>
+ * Note that the number of animations can be lower than the number of toggle requests that were completed with
+ * {@link StructureToggleResult#SUCCESS}, as requests that are coalesced by the {@link ToggleAdmissionController} all
+ * receive the result of the same animation.
+ */
+@CustomLog
+public final class AnimationSoakHarness implements AutoCloseable
+{
+    private static final MockSettings MOCK_SETTINGS = Mockito.withSettings().stubOnly();
+
+    private static final List<StructureType> TYPES = List.of(
+        StructureTypeBigDoor.get(),
+        StructureTypeDrawbridge.get(),
+        StructureTypeGarageDoor.get(),
+        StructureTypePortcullis.get(),
+        StructureTypeSlidingDoor.get()
+    );
+
+    private static final List<StructureActionCause> CAUSES = List.of(
+        StructureActionCause.PLAYER,
+        StructureActionCause.REDSTONE,
+        StructureActionCause.SERVER
+    );
+
+    /**
+     * The distance between two neighbouring structures.
+     */
+    private static final int STRUCTURE_SPACING = 32;
+
+    private final AnimationSoakSettings settings;
+    private final Random random;
+    private final TestExecutor executor;
+    private final TestAnimatedBlockFactory animatedBlockFactory = new TestAnimatedBlockFactory();
+    private final IWorld world = new TestWorld("soak_world");
+    private final IPlayer player = Mockito.mock(IPlayer.class, MOCK_SETTINGS);
+    private final StructureActivityManager structureActivityManager;
+    private final StructureAnimationRequestBuilder animationRequestBuilder;
+    private final Object animationRequestFactory;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private final List<Structure> structures;
+    private final List<Cuboid> initialCuboids;
+    private final List<@Nullable Boolean> initialOpenStatuses;
+
+    /**
+     * The number of animations that were started per structure, indexed by the position of the structure in
+     * {@link #structures}.
+     */
+    private final AtomicIntegerArray startedAnimations;
+
+    private final AtomicLongArray results = new AtomicLongArray(StructureToggleResult.values().length);
+    private final List<CompletableFuture<StructureToggleResult>> pendingToggles = new ArrayList<>();
+
+    private final LatencyHistogram tickTime = new LatencyHistogram();
+    private final LongSummaryStatistics allocatedBytesPerTick = new LongSummaryStatistics();
+    private final LongSummaryStatistics mainThreadAllocatedBytesPerTick = new LongSummaryStatistics();
+    private final LongSummaryStatistics animatorsPerTick = new LongSummaryStatistics();
+
+    private long requestedToggles = 0;
+    private long failedToggles = 0;
+
+    /**
+     * Creates a new harness and the structures it toggles.
+     * <p>
+     * The thread that creates the harness is used as the main thread, so {@link #run()} has to be called from the same
+     * thread.
+     *
+     * @param settings
+     *     The settings of the soak test.
+     * @throws Exception
+     *     When the toggle pipeline could not be created.
+     */
+    public AnimationSoakHarness(AnimationSoakSettings settings)
+        throws Exception
+    {
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+        this.executor = new TestExecutor();
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.startedAnimations = new AtomicIntegerArray(settings.structureCount());
+
+        final IConfig config = Mockito.mock(IConfig.class, MOCK_SETTINGS);
+        when(config.allowRedstone()).thenReturn(true);
+        when(config.isStructureTypeEnabled(any())).thenReturn(true);
+        when(config.animationTimeMultiplier(any())).thenReturn(1.0D);
+        when(config.toggleQueueSize()).thenReturn(Integer.MAX_VALUE);
+        when(config.maxConcurrentAnimations()).thenReturn(
+            settings.maxConcurrentAnimations() == 0 ?
+                OptionalInt.empty() :
+                OptionalInt.of(settings.maxConcurrentAnimations()));
+
+        final RestartableHolder restartableHolder = new RestartableHolder();
+        final DebuggableRegistry debuggableRegistry = Mockito.mock(DebuggableRegistry.class, MOCK_SETTINGS);
+        final IAnimatedArchitectureEventFactory eventFactory = Mockito.mock(
+            IAnimatedArchitectureEventFactory.class,
+            Mockito.withSettings().stubOnly().defaultAnswer(sharedMockAnswer())
+        );
+        // The start event is only created for toggles that actually started an animation.
+        final IStructureEventToggleStart toggleStartEvent =
+            Mockito.mock(IStructureEventToggleStart.class, MOCK_SETTINGS);
+        when(eventFactory.createToggleStartEvent(any(), any(), any(), any(), any(), anyDouble(), anyBoolean(), any()))
+            .thenAnswer(invocation ->
+            {
+                startedAnimations.incrementAndGet(getIndex(invocation.getArgument(0)));
+                return toggleStartEvent;
+            });
+        final IAnimatedArchitectureEventCaller eventCaller =
+            Mockito.mock(IAnimatedArchitectureEventCaller.class, MOCK_SETTINGS);
+        final HighlightedBlockSpawner highlightedBlockSpawner =
+            Mockito.mock(HighlightedBlockSpawner.class, MOCK_SETTINGS);
+
+        final ToggleAdmissionController toggleAdmissionController =
+            new ToggleAdmissionController(restartableHolder, config, debuggableRegistry);
+        structureActivityManager = new StructureActivityManager(
+            restartableHolder,
+            eventFactory,
+            eventCaller,
+            Mockito.mock(RedstoneVerificationQueue.class, MOCK_SETTINGS),
+            toggleAdmissionController,
+            debuggableRegistry,
+            Mockito.mock(StructureDeletionManager.class, MOCK_SETTINGS),
+            new MetricsRegistry(debuggableRegistry)
+        );
+        restartableHolder.initialize();
+
+        final ToggleLatencyTracker toggleLatencyTracker = new ToggleLatencyTracker(debuggableRegistry);
+
+        final AssistedFactoryMocker<?, ?> animationRequestFactoryMocker = new AssistedFactoryMocker<>(
+            StructureAnimationRequest.class,
+            StructureAnimationRequest.IFactory.class,
+            MOCK_SETTINGS
+        )
+            .injectParameter(StructureActivityManager.class, structureActivityManager)
+            .injectParameter(IExecutor.class, executor)
+            .injectParameter(toggleLatencyTracker);
+        animationRequestFactory = animationRequestFactoryMocker.getFactory();
+
+        animationRequestBuilder = new StructureAnimationRequestBuilder(
+            (StructureAnimationRequest.IFactory) animationRequestFactory,
+            Mockito.mock(IMessageable.class, MOCK_SETTINGS),
+            Mockito.mock(),
+            config
+        );
+
+        final AnimationRequestData.IFactory animationRequestDataFactory = new AssistedFactoryMocker<>(
+            AnimationRequestData.class,
+            AnimationRequestData.IFactory.class,
+            MOCK_SETTINGS
+        )
+            .injectParameter(StructureActivityManager.class, structureActivityManager)
+            .injectParameter(IExecutor.class, executor)
+            .injectParameter(IConfig.class, config)
+            .injectParameter(HighlightedBlockSpawner.class, highlightedBlockSpawner)
+            .injectParameter(toggleLatencyTracker)
+            .injectParameter(int.class, "serverTickTime", TestExecutor.TICK_DURATION_MILLIS)
+            .getFactory();
+
+        final IProtectionHookManager protectionHookManager =
+            Mockito.mock(IProtectionHookManager.class, MOCK_SETTINGS);
+        when(protectionHookManager.canSkipCheck()).thenReturn(true);
+
+        final IChunkLoader chunkLoader = Mockito.mock(IChunkLoader.class, MOCK_SETTINGS);
+        when(chunkLoader.checkChunks(any(), any(), any())).thenReturn(IChunkLoader.ChunkLoadResult.PASS);
+
+        final StructureRegistry structureRegistry = Mockito.mock(StructureRegistry.class, MOCK_SETTINGS);
+        when(structureRegistry.isRegistered(any(Structure.class))).thenReturn(true);
+
+        final DatabaseManager databaseManager = Mockito.mock(DatabaseManager.class, MOCK_SETTINGS);
+        when(databaseManager.syncStructureData(any()))
+            .thenReturn(CompletableFuture.completedFuture(DatabaseManager.ActionResult.SUCCESS));
+
+        final Object structureToggleHelper = newStructureToggleHelper(
+            structureActivityManager,
+            toggleAdmissionController,
+            config,
+            executor,
+            Mockito.mock(IBlockAnalyzer.class, MOCK_SETTINGS),
+            protectionHookManager,
+            highlightedBlockSpawner,
+            eventFactory,
+            structureRegistry,
+            chunkLoader,
+            Mockito.mock(LimitsManager.class, MOCK_SETTINGS),
+            eventCaller,
+            newAnimatedBlockContainerFactory(
+                new TestLocationFactory(),
+                animatedBlockFactory,
+                executor,
+                highlightedBlockSpawner),
+            animationRequestDataFactory,
+            toggleLatencyTracker,
+            debuggableRegistry
+        );
+
+        final UnitTestUtil.StructureBuilderResult structureBuilderResult = UnitTestUtil.newStructureBuilder();
+        structureBuilderResult.assistedFactoryMocker()
+            .injectParameter(IExecutor.class, executor)
+            .injectParameter(DatabaseManager.class, databaseManager)
+            .injectParameter(structureToggleHelper)
+            .injectParameter(StructureAnimationRequestBuilder.class, animationRequestBuilder)
+            .injectParameter(StructureActivityManager.class, structureActivityManager)
+            .injectParameter(IChunkLoader.class, chunkLoader)
+            .injectParameter(IConfig.class, config);
+
+        structures = createStructures(structureBuilderResult.structureBuilder());
+        initialCuboids = structures.stream().map(Structure::getCuboid).toList();
+        initialOpenStatuses = structures.stream().map(AnimationSoakHarness::isOpen).toList();
+    }
+
+    /**
+     * Runs the soak test.
+     * <p>
+     * Toggle requests are sent during the first {@link AnimationSoakSettings#ticks()} ticks. After that, the harness
+     * keeps ticking until all animations have finished or until {@link AnimationSoakSettings#maxDrainTicks()} ticks
+     * have passed.
+     *
+     * @return The report of the soak test.
+     */
+    public AnimationSoakReport run()
+    {
+        executor.assertMainThread("The soak test must be run on the thread that created the harness!");
+
+        for (int tick = 0; tick < settings.ticks(); ++tick)
+        {
+            runTick(true);
+            // The factory mock records every request it creates, which would keep all of them alive.
+            Mockito.clearInvocations(animationRequestFactory);
+        }
+
+        int drainTicks = 0;
+        while (!isSettled() && drainTicks++ < settings.maxDrainTicks())
+            runTick(false);
+
+        if (!isSettled())
+            log.atError().log("Animations did not finish within %d ticks!", settings.maxDrainTicks());
+
+        return createReport();
+    }
+
+    private void runTick(boolean sendToggles)
+    {
+        final long mainThreadId = Thread.currentThread().threadId();
+        final long allocatedBytes = threadMXBean.getTotalThreadAllocatedBytes();
+        final long mainThreadAllocatedBytes = threadMXBean.getThreadAllocatedBytes(mainThreadId);
+        final long start = System.nanoTime();
+
+        if (sendToggles)
+            sendToggles();
+        executor.tick();
+
+        tickTime.recordSince(start);
+        allocatedBytesPerTick.accept(threadMXBean.getTotalThreadAllocatedBytes() - allocatedBytes);
+        mainThreadAllocatedBytesPerTick.accept(
+            threadMXBean.getThreadAllocatedBytes(mainThreadId) - mainThreadAllocatedBytes);
+        animatorsPerTick.accept(structureActivityManager.getBlockMovers().count());
+    }
+
+    /**
+     * Sends the toggle requests for the current tick.
+     * <p>
+     * The number of requests is {@link AnimationSoakSettings#togglesPerTick()}, where the fraction is the chance of
+     * sending one additional request.
+     */
+    private void sendToggles()
+    {
+        final double togglesPerTick = settings.togglesPerTick();
+        final int count = (int) togglesPerTick + (random.nextDouble() < togglesPerTick % 1 ? 1 : 0);
+
+        for (int idx = 0; idx < count; ++idx)
+        {
+            final int structureIdx = random.nextInt(structures.size());
+            final StructureActionCause cause = CAUSES.get(random.nextInt(CAUSES.size()));
+            final double time = 1 + random.nextDouble() * 3;
+
+            ++requestedToggles;
+            final CompletableFuture<StructureToggleResult> result = animationRequestBuilder
+                .builder()
+                .structure(StructureRetrieverFactory.ofStructure(structures.get(structureIdx)))
+                .structureActionCause(cause)
+                .structureActionType(StructureActionType.TOGGLE)
+                .responsible(player)
+                .time(time)
+                .build()
+                .execute();
+
+            result.thenAccept(toggleResult -> results.incrementAndGet(toggleResult.ordinal()));
+            pendingToggles.add(result);
+        }
+        removeCompletedToggles();
+    }
+
+    private void removeCompletedToggles()
+    {
+        pendingToggles.removeIf(future ->
+        {
+            if (!future.isDone())
+                return false;
+            if (future.isCompletedExceptionally())
+            {
+                ++failedToggles;
+                log.atError().withCause(future.exceptionNow()).log("Toggle request failed!");
+            }
+            return true;
+        });
+    }
+
+    private boolean isSettled()
+    {
+        removeCompletedToggles();
+        return pendingToggles.isEmpty() &&
+            structureActivityManager.getBlockMovers().findAny().isEmpty() &&
+            executor.isIdle();
+    }
+
+    private AnimationSoakReport createReport()
+    {
+        removeCompletedToggles();
+
+        long totalStartedAnimations = 0;
+        long openStatusMismatches = 0;
+        long cuboidMismatches = 0;
+        for (int idx = 0; idx < structures.size(); ++idx)
+        {
+            final Structure structure = structures.get(idx);
+            final int animations = startedAnimations.get(idx);
+            final boolean toggledEvenTimes = animations % 2 == 0;
+            totalStartedAnimations += animations;
+
+            final @Nullable Boolean initialOpenStatus = initialOpenStatuses.get(idx);
+            if (initialOpenStatus != null && !Objects.equals(isOpen(structure), initialOpenStatus == toggledEvenTimes))
+            {
+                ++openStatusMismatches;
+                log.atError().log("Unexpected open status after %d animations: %s", animations, structure);
+            }
+
+            if (toggledEvenTimes && !structure.getCuboid().equals(initialCuboids.get(idx)))
+            {
+                ++cuboidMismatches;
+                log.atError().log("Unexpected cuboid after %d animations: %s", animations, structure);
+            }
+        }
+
+        final Map<StructureToggleResult, Long> resultCounts = new EnumMap<>(StructureToggleResult.class);
+        for (final StructureToggleResult result : StructureToggleResult.values())
+            resultCounts.put(result, results.get(result.ordinal()));
+
+        return new AnimationSoakReport(
+            settings,
+            executor.getCurrentTick(),
+            tickTime,
+            allocatedBytesPerTick,
+            mainThreadAllocatedBytesPerTick,
+            animatorsPerTick,
+            totalStartedAnimations,
+            animatedBlockFactory.getCreatedBlocks(),
+            resultCounts,
+            requestedToggles,
+            failedToggles,
+            pendingToggles.size(),
+            structureActivityManager.getBlockMovers().count(),
+            animatedBlockFactory.getAliveBlocks(),
+            openStatusMismatches,
+            cuboidMismatches
+        );
+    }
+
+    private List<Structure> createStructures(StructureBuilder structureBuilder)
+    {
+        final PlayerData playerData = new PlayerData(
+            new UUID(random.nextLong(), random.nextLong()),
+            "soak_player",
+            new LimitContainer(OptionalInt.empty(), OptionalInt.empty(), OptionalInt.empty(), OptionalInt.empty()),
+            true,
+            true
+        );
+        when(player.getUUID()).thenReturn(playerData.getUUID());
+        when(player.getName()).thenReturn(playerData.getName());
+
+        final int structuresPerRow = (int) Math.ceil(Math.sqrt(settings.structureCount()));
+        final List<Structure> ret = new ArrayList<>(settings.structureCount());
+        for (int idx = 0; idx < settings.structureCount(); ++idx)
+        {
+            final long uid = idx + 1L;
+            final StructureType type = TYPES.get(random.nextInt(TYPES.size()));
+
+            final Vector3Di powerBlock = new Vector3Di(
+                (idx % structuresPerRow) * STRUCTURE_SPACING,
+                64,
+                (idx / structuresPerRow) * STRUCTURE_SPACING
+            );
+            final Vector3Di min = powerBlock.add(0, 1, 0);
+            final Vector3Di max = min.add(1 + random.nextInt(6), 1 + random.nextInt(6), 0);
+
+            final PropertyContainer properties = PropertyContainer.forType(type);
+            if (properties.hasProperty(Property.ROTATION_POINT))
+                properties.setPropertyValue(Property.ROTATION_POINT, min);
+            if (properties.hasProperty(Property.BLOCKS_TO_MOVE))
+                properties.setPropertyValue(Property.BLOCKS_TO_MOVE, 1 + random.nextInt(8));
+            if (properties.hasProperty(Property.OPEN_STATUS))
+                properties.setPropertyValue(Property.OPEN_STATUS, random.nextBoolean());
+
+            final StructureOwner primeOwner = new StructureOwner(uid, PermissionLevel.CREATOR, playerData);
+
+            ret.add(structureBuilder
+                .builder(type)
+                .uid(UnitTestUtil.newStructureID(uid))
+                .name("soak_" + uid)
+                .cuboid(min, max)
+                .powerBlock(powerBlock)
+                .world(world)
+                .isLocked(false)
+                .openDir(type.getValidOpenDirectionsList().stream().findFirst().orElse(MovementDirection.NONE))
+                .primeOwner(primeOwner)
+                .ownersOfStructure(Map.of(playerData.getUUID(), primeOwner))
+                .propertiesOfStructure(properties)
+                .build());
+        }
+        return ret;
+    }
+
+    /**
+     * Gets the index of a structure in {@link #structures}.
+     * <p>
+     * The structures are created with consecutive UIDs starting at 1.
+     */
+    private static int getIndex(Structure structure)
+    {
+        return Math.toIntExact(structure.getUid() - 1);
+    }
+
+    private static @Nullable Boolean isOpen(Structure structure)
+    {
+        return structure.getPropertyValue(Property.OPEN_STATUS).value();
+    }
+
+    /**
+     * Creates an answer that returns the same stub-only mock for all invocations with the same return type.
+     * <p>
+     * This is used for the event factory, so toggling a structure does not create several new mocks.
+     */
+    private static Answer<?> sharedMockAnswer()
+    {
+        final Map<Class<?>, Object> mocks = new ConcurrentHashMap<>();
+        return invocation -> mocks.computeIfAbsent(
+            invocation.getMethod().getReturnType(),
+            type -> Mockito.mock(type, MOCK_SETTINGS)
+        );
+    }
+
+    private static Object newStructureToggleHelper(Object... args)
+        throws Exception
+    {
+        final Class<?> classStructureToggleHelper =
+            Class.forName(Structure.class.getPackageName() + ".StructureToggleHelper");
+
+        final Constructor<?> ctor = classStructureToggleHelper.getDeclaredConstructor(
+            StructureActivityManager.class,
+            ToggleAdmissionController.class,
+            IConfig.class,
+            IExecutor.class,
+            IBlockAnalyzer.class,
+            IProtectionHookManager.class,
+            HighlightedBlockSpawner.class,
+            IAnimatedArchitectureEventFactory.class,
+            StructureRegistry.class,
+            IChunkLoader.class,
+            LimitsManager.class,
+            IAnimatedArchitectureEventCaller.class,
+            AnimatedBlockContainerFactory.class,
+            AnimationRequestData.IFactory.class,
+            ToggleLatencyTracker.class,
+            DebuggableRegistry.class
+        );
+        ctor.setAccessible(true);
+        return ctor.newInstance(args);
+    }
+
+    private static AnimatedBlockContainerFactory newAnimatedBlockContainerFactory(
+        ILocationFactory locationFactory,
+        IAnimatedBlockFactory animatedBlockFactory,
+        IExecutor executor,
+        HighlightedBlockSpawner highlightedBlockSpawner)
+        throws Exception
+    {
+        final Constructor<AnimatedBlockContainerFactory> ctor = AnimatedBlockContainerFactory.class
+            .getDeclaredConstructor(
+                ILocationFactory.class,
+                IAnimatedBlockFactory.class,
+                IExecutor.class,
+                HighlightedBlockSpawner.class
+            );
+        ctor.setAccessible(true);
+        return ctor.newInstance(locationFactory, animatedBlockFactory, executor, highlightedBlockSpawner);
+    }
+
+    @Override
+    public void close()
+    {
+        structureActivityManager.shutDown();
+        executor.close();
+    }
+}
@@ -0,0 +1,173 @@
+package nl.pim16aap2.animatedarchitecture.soak;
+
+import nl.pim16aap2.animatedarchitecture.core.structures.StructureToggleResult;
+import nl.pim16aap2.animatedarchitecture.core.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
+/**
+ * The results of an animation soak test.
+ * <p>
+ * The report is formatted as one {@code key=value} pair per line with a fixed order of the keys, so the reports of
+ * different commits can be compared using a regular diff tool.
+ *
+ * @param settings
+ *     The settings of the soak test.
+ * @param totalTicks
+ *     The total number of ticks that were run, including the ticks after the last toggle request was sent.
+ * @param tickTime
+ *     The time it took to run each tick.
+ * @param allocatedBytesPerTick
+ *     The number of bytes allocated by all threads during each tick.
+ * @param mainThreadAllocatedBytesPerTick
+ *     The number of bytes allocated by the main thread during each tick.
+ * @param animatorsPerTick
+ *     The number of active animators at the end of each tick.
+ * @param startedAnimations
+ *     The total number of animations that were started.
+ * @param createdAnimatedBlocks
+ *     The total number of animated blocks that were created.
+ * @param results
+ *     The number of toggle requests per result.
+ * @param requestedToggles
+ *     The number of toggle requests that were sent.
+ * @param failedToggles
+ *     The number of toggle requests that completed exceptionally.
+ * @param unfinishedToggles
+ *     The number of toggle requests that had not completed when the soak test ended.
+ * @param remainingAnimators
+ *     The number of animators that were still active when the soak test ended.
+ * @param aliveAnimatedBlocks
+ *     The number of animated blocks that were still alive when the soak test ended.
+ * @param openStatusMismatches
+ *     The number of structures whose open status did not match the number of animations that were started for them.
+ * @param cuboidMismatches
+ *     The number of structures that were animated an even number of times, but did not end up in their original
+ *     position.
+ */
+public record AnimationSoakReport(
+    AnimationSoakSettings settings,
+    long totalTicks,
+    LatencyHistogram tickTime,
+    LongSummaryStatistics allocatedBytesPerTick,
+    LongSummaryStatistics mainThreadAllocatedBytesPerTick,
+    LongSummaryStatistics animatorsPerTick,
+    long startedAnimations,
+    long createdAnimatedBlocks,
+    Map<StructureToggleResult, Long> results,
+    long requestedToggles,
+    long failedToggles,
+    long unfinishedToggles,
+    long remainingAnimators,
+    long aliveAnimatedBlocks,
+    long openStatusMismatches,
+    long cuboidMismatches
+)
+{
+    /**
+     * Checks if all toggle requests were handled correctly.
+     * <p>
+     * This means that every request completed normally, that every animation finished and cleaned up its animated
+     * blocks, and that every structure ended up in the state that matches the number of animations that were started
+     * for it.
+     *
+     * @return True if all toggle requests were handled correctly.
+     */
+    public boolean isCorrect()
+    {
+        return failedToggles == 0 &&
+            unfinishedToggles == 0 &&
+            remainingAnimators == 0 &&
+            aliveAnimatedBlocks == 0 &&
+            openStatusMismatches == 0 &&
+            cuboidMismatches == 0;
+    }
+
+    /**
+     * Formats this report.
+     *
+     * @return The formatted report.
+     */
+    public String format()
+    {
+        final StringBuilder sb = new StringBuilder();
+
+        append(sb, "settings.seed", settings.seed());
+        append(sb, "settings.structureCount", settings.structureCount());
+        append(sb, "settings.ticks", settings.ticks());
+        appendDecimal(sb, "settings.togglesPerTick", settings.togglesPerTick());
+        append(sb, "settings.maxConcurrentAnimations", settings.maxConcurrentAnimations());
+        append(sb, "settings.maxDrainTicks", settings.maxDrainTicks());
+
+        append(sb, "ticks.total", totalTicks);
+        appendDecimal(sb, "ticks.time.meanMs", toMillis(tickTime.getMean()));
+        appendDecimal(sb, "ticks.time.p50Ms", toMillis(tickTime.getPercentile(50)));
+        appendDecimal(sb, "ticks.time.p90Ms", toMillis(tickTime.getPercentile(90)));
+        appendDecimal(sb, "ticks.time.p99Ms", toMillis(tickTime.getPercentile(99)));
+        appendDecimal(sb, "ticks.time.maxMs", toMillis(tickTime.getMax()));
+
+        appendDecimal(sb, "allocation.bytesPerTick.mean", allocatedBytesPerTick.getAverage());
+        append(sb, "allocation.bytesPerTick.max", allocatedBytesPerTick.getMax());
+        appendDecimal(sb, "allocation.mainThread.bytesPerTick.mean", mainThreadAllocatedBytesPerTick.getAverage());
+        append(sb, "allocation.mainThread.bytesPerTick.max", mainThreadAllocatedBytesPerTick.getMax());
+
+        appendDecimal(sb, "animators.perTick.mean", animatorsPerTick.getAverage());
+        append(sb, "animators.perTick.max", animatorsPerTick.getMax());
+        append(sb, "animations.started", startedAnimations);
+        append(sb, "animatedBlocks.created", createdAnimatedBlocks);
+
+        append(sb, "toggles.requested", requestedToggles);
+        for (final StructureToggleResult result : StructureToggleResult.values())
+            append(sb, "toggles.result." + result.name(), results.getOrDefault(result, 0L));
+
+        append(sb, "correctness.failedToggles", failedToggles);
+        append(sb, "correctness.unfinishedToggles", unfinishedToggles);
+        append(sb, "correctness.remainingAnimators", remainingAnimators);
+        append(sb, "correctness.aliveAnimatedBlocks", aliveAnimatedBlocks);
+        append(sb, "correctness.openStatusMismatches", openStatusMismatches);
+        append(sb, "correctness.cuboidMismatches", cuboidMismatches);
+        append(sb, "correctness.passed", isCorrect());
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes the formatted report to a file.
+     * <p>
+     * Any missing parent directories are created and any existing file is overwritten.
+     *
+     * @param file
+     *     The file to write the report to.
+     * @throws IOException
+     *     When the report could not be written.
+     */
+    public void write(Path file)
+        throws IOException
+    {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        Files.writeString(file, format());
+    }
+
+    private static void append(StringBuilder sb, String key, Object value)
+    {
+        sb.append(key).append('=').append(value).append('\n');
+    }
+
+    private static void appendDecimal(StringBuilder sb, String key, double value)
+    {
+        append(sb, key, String.format(Locale.ROOT, "%.3f", value));
+    }
+
+    private static double toMillis(Duration duration)
+    {
+        return duration.toNanos() / 1_000_000D;
+    }
+}
@@ -0,0 +1,70 @@
+package nl.pim16aap2.animatedarchitecture.soak;
+
+/**
+ * The settings of an animation soak test.
+ *
+ * @param seed
+ *     The seed used to generate the structures and the toggle requests. Runs with the same settings send the same
+ *     toggle requests in the same ticks.
+ * @param structureCount
+ *     The number of structures to create.
+ * @param ticks
+ *     The number of ticks in which toggle requests are sent. After these ticks, the harness keeps ticking until all
+ *     animations have finished or until {@code maxDrainTicks} have passed.
+ * @param togglesPerTick
+ *     The average number of toggle requests that are sent every tick.
+ * @param maxConcurrentAnimations
+ *     The maximum number of structures that can be animated at the same time, or 0 for no limit.
+ * @param maxDrainTicks
+ *     The maximum number of ticks to wait for all animations to finish after the last toggle request was sent.
+ */
+public record AnimationSoakSettings(
+    long seed,
+    int structureCount,
+    int ticks,
+    double togglesPerTick,
+    int maxConcurrentAnimations,
+    int maxDrainTicks
+)
+{
+    /**
+     * The prefix of the system properties that can be used to override the default settings.
+     */
+    public static final String PROPERTY_PREFIX = "animatedarchitecture.soak.";
+
+    public AnimationSoakSettings
+    {
+        if (structureCount < 1)
+            throw new IllegalArgumentException("Structure count must be positive, but received: " + structureCount);
+        if (ticks < 1)
+            throw new IllegalArgumentException("Tick count must be positive, but received: " + ticks);
+        if (togglesPerTick < 0)
+            throw new IllegalArgumentException("Toggles per tick cannot be negative, but received: " + togglesPerTick);
+        if (maxConcurrentAnimations < 0)
+            throw new IllegalArgumentException(
+                "Max concurrent animations cannot be negative, but received: " + maxConcurrentAnimations);
+        if (maxDrainTicks < 0)
+            throw new IllegalArgumentException("Max drain ticks cannot be negative, but received: " + maxDrainTicks);
+    }
+
+    /**
+     * Creates new settings from the system properties.
+     * <p>
+     * Every setting can be overridden using the system property with the name of the setting prefixed by
+     * {@value #PROPERTY_PREFIX} (e.g. {@code -Danimatedarchitecture.soak.structureCount=1000}). Settings without a
+     * system property use the default value, which is small enough to run as part of the regular test suite.
+     *
+     * @return The new settings.
+     */
+    public static AnimationSoakSettings fromSystemProperties()
+    {
+        return new AnimationSoakSettings(
+            Long.getLong(PROPERTY_PREFIX + "seed", 0x50A4L),
+            Integer.getInteger(PROPERTY_PREFIX + "structureCount", 100),
+            Integer.getInteger(PROPERTY_PREFIX + "ticks", 600),
+            Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "togglesPerTick", "0.5")),
+            Integer.getInteger(PROPERTY_PREFIX + "maxConcurrentAnimations", 16),
+            Integer.getInteger(PROPERTY_PREFIX + "maxDrainTicks", 2_000)
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package nl.pim16aap2.animatedarchitecture.soak;
+
+import lombok.CustomLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@link AnimationSoakHarness}.
+ * <p>
+ * By default, the soak test is small enough to run as part of the regular test suite. Use the system properties
+ * described in {@link AnimationSoakSettings#fromSystemProperties()} to run a larger soak test. For example:
+ * <pre>{@code
+ * mvn test -pl animatedarchitecture-testing/animatedarchitecture-integration-test -am \
+ *     -Dtest=AnimationSoakTest -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Danimatedarchitecture.soak.structureCount=5000 -Danimatedarchitecture.soak.ticks=12000 \
+ *     -Danimatedarchitecture.soak.togglesPerTick=20
+ * }</pre>
+ * <p>
+ * The report is written to the file provided by the {@value #REPORT_FILE_PROPERTY} system property, which defaults to
+ * {@code target/soak/animation-soak-report.properties}.
+ */
+@CustomLog
+class AnimationSoakTest
+{
+    /**
+     * The system property that can be used to change the file the report is written to.
+     */
+    static final String REPORT_FILE_PROPERTY = AnimationSoakSettings.PROPERTY_PREFIX + "reportFile";
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.MINUTES)
+    void soakTest()
+        throws Exception
+    {
+        // setup
+        final AnimationSoakSettings settings = AnimationSoakSettings.fromSystemProperties();
+        final Path reportFile =
+            Path.of(System.getProperty(REPORT_FILE_PROPERTY, "target/soak/animation-soak-report.properties"));
+
+        // execute
+        final AnimationSoakReport report;
+        try (var harness = new AnimationSoakHarness(settings))
+        {
+            report = harness.run();
+        }
+        report.write(reportFile);
+        log.atInfo().log("Animation soak test report (%s):\n%s", reportFile.toAbsolutePath(), report.format());
+
+        // verify
+        assertThat(report.requestedToggles()).isPositive();
+        assertThat(report.isCorrect())
+            .as("Soak test report:\n%s", report.format())
+            .isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package nl.pim16aap2.animatedarchitecture.testimplementations;
+
+import nl.pim16aap2.animatedarchitecture.core.animation.RotatedPosition;
+import nl.pim16aap2.animatedarchitecture.core.animation.TestAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.api.IWorld;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlock;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlockData;
+import nl.pim16aap2.animatedarchitecture.core.api.animatedblock.IAnimatedBlockFactory;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Creates {@link TestAnimatedBlock}s and keeps track of how many of them are alive.
+ */
+public final class TestAnimatedBlockFactory implements IAnimatedBlockFactory
+{
+    private final AtomicLong createdBlocks = new AtomicLong();
+    private final AtomicLong aliveBlocks = new AtomicLong();
+
+    @Override
+    public Optional<IAnimatedBlock> create(
+        IWorld world,
+        RotatedPosition startPosition,
+        float radius,
+        boolean onEdge,
+        RotatedPosition finalPosition,
+        @Nullable Consumer<IAnimatedBlockData> blockDataRotator)
+    {
+        createdBlocks.incrementAndGet();
+        return Optional.of(new TestAnimatedBlock(world, startPosition, finalPosition, radius, this::onLifecycleChange));
+    }
+
+    /**
+     * @return The total number of animated blocks created by this factory.
+     */
+    public long getCreatedBlocks()
+    {
+        return createdBlocks.get();
+    }
+
+    /**
+     * @return The number of animated blocks created by this factory that have been spawned and not killed yet.
+     */
+    public long getAliveBlocks()
+    {
+        return aliveBlocks.get();
+    }
+
+    private void onLifecycleChange(boolean alive)
+    {
+        if (alive)
+            aliveBlocks.incrementAndGet();
+        else
+            aliveBlocks.decrementAndGet();
+    }
+}
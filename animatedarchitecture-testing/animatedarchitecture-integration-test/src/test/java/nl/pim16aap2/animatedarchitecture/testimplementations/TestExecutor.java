@@ -0,0 +1,263 @@
+package nl.pim16aap2.animatedarchitecture.testimplementations;
+
+import lombok.CustomLog;
+import nl.pim16aap2.animatedarchitecture.core.api.IExecutor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * An executor with a simulated main thread that is driven by calling {@link #tick()}.
+ * <p>
+ * The thread that creates this executor is the main thread. Every tick, the main thread first runs the tasks that were
+ * scheduled on it before the tick started and then the synchronous tasks that are due. Asynchronous tasks that are due
+ * are run on virtual threads, and the tick does not end until they have finished. This way, all work that is scheduled
+ * for a tick is included in the duration of that tick.
+ * <p>
+ * Delays and periods are provided in milliseconds and converted to ticks of {@link #TICK_DURATION_MILLIS} each, in the
+ * same way as the Spigot implementation does.
+ */
+@CustomLog
+public final class TestExecutor implements IExecutor, AutoCloseable
+{
+    /**
+     * The (simulated) duration of a single tick in milliseconds.
+     */
+    public static final int TICK_DURATION_MILLIS = 50;
+
+    private final long mainThreadId = Thread.currentThread().threadId();
+    private final ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Queue<Runnable> mainThreadQueue = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, ScheduledTask> scheduledTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger taskIds = new AtomicInteger();
+
+    private volatile long currentTick = 0;
+
+    /**
+     * Runs a single tick.
+     *
+     * @throws IllegalThreadStateException
+     *     When not called from the main thread.
+     */
+    public void tick()
+    {
+        assertMainThread("Ticks must be run on the main thread!");
+        final long tick = ++currentTick;
+
+        // Tasks that are scheduled on the main thread while running these tasks are run in the next tick.
+        for (int remaining = mainThreadQueue.size(); remaining > 0; --remaining)
+        {
+            final @Nullable Runnable runnable = mainThreadQueue.poll();
+            if (runnable == null)
+                break;
+            runSafely(runnable);
+        }
+
+        final List<CompletableFuture<?>> asyncTasks = new ArrayList<>();
+        for (final ScheduledTask task : scheduledTasks.values())
+        {
+            if (task.nextTick > tick)
+                continue;
+
+            if (task.period > 0)
+                task.nextTick += task.period;
+            else
+                scheduledTasks.remove(task.id);
+
+            if (task.sync)
+                runSafely(task.runnable);
+            else
+                asyncTasks.add(CompletableFuture.runAsync(() -> runSafely(task.runnable), virtualExecutor));
+        }
+        CompletableFuture.allOf(asyncTasks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * @return The number of ticks that have been run so far.
+     */
+    public long getCurrentTick()
+    {
+        return currentTick;
+    }
+
+    /**
+     * @return True if no tasks are waiting to be run on the main thread and no (repeating) tasks are scheduled.
+     */
+    public boolean isIdle()
+    {
+        return mainThreadQueue.isEmpty() && scheduledTasks.isEmpty();
+    }
+
+    @Override
+    public ExecutorService getVirtualExecutor()
+    {
+        return virtualExecutor;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> scheduleOnMainThread(Supplier<T> supplier)
+    {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        mainThreadQueue.add(() ->
+        {
+            try
+            {
+                result.complete(supplier.get());
+            }
+            catch (Exception e)
+            {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void scheduleOnMainThread(Runnable runnable)
+    {
+        mainThreadQueue.add(runnable);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier)
+    {
+        return CompletableFuture.supplyAsync(supplier, virtualExecutor);
+    }
+
+    @Override
+    public int runAsync(Runnable runnable)
+    {
+        virtualExecutor.execute(() -> runSafely(runnable));
+        return taskIds.incrementAndGet();
+    }
+
+    @Override
+    public int runSync(Runnable runnable)
+    {
+        return schedule(runnable, true, true, 0, 0);
+    }
+
+    @Override
+    public int runAsyncRepeated(TimerTask timerTask, long delay, long period)
+    {
+        return schedule(timerTask, false, false, delay, period);
+    }
+
+    @Override
+    public int runAsyncRepeated(Runnable runnable, long delay, long period)
+    {
+        return schedule(runnable, false, false, delay, period);
+    }
+
+    @Override
+    public int runSyncRepeated(TimerTask timerTask, long delay, long period)
+    {
+        return schedule(timerTask, true, false, delay, period);
+    }
+
+    @Override
+    public int runSyncRepeated(Runnable runnable, long delay, long period)
+    {
+        return schedule(runnable, true, false, delay, period);
+    }
+
+    @Override
+    public void runAsyncLater(TimerTask timerTask, long delay)
+    {
+        schedule(timerTask, false, true, delay, 0);
+    }
+
+    @Override
+    public void runAsyncLater(Runnable runnable, long delay)
+    {
+        schedule(runnable, false, true, delay, 0);
+    }
+
+    @Override
+    public void runSyncLater(TimerTask timerTask, long delay)
+    {
+        schedule(timerTask, true, true, delay, 0);
+    }
+
+    @Override
+    public void runSyncLater(Runnable runnable, long delay)
+    {
+        schedule(runnable, true, true, delay, 0);
+    }
+
+    @Override
+    public void cancel(TimerTask timerTask, int taskID)
+    {
+        timerTask.cancel();
+        scheduledTasks.remove(taskID);
+    }
+
+    @Override
+    public boolean isMainThread(long threadId)
+    {
+        return threadId == mainThreadId;
+    }
+
+    @Override
+    public void close()
+    {
+        scheduledTasks.clear();
+        mainThreadQueue.clear();
+        virtualExecutor.shutdownNow();
+    }
+
+    private int schedule(Runnable runnable, boolean sync, boolean once, long delay, long period)
+    {
+        final int id = taskIds.incrementAndGet();
+        final long periodTicks = once ? 0 : Math.max(1, toTicks(period));
+        final long firstTick = currentTick + Math.max(1, toTicks(delay));
+        scheduledTasks.put(id, new ScheduledTask(id, runnable, sync, firstTick, periodTicks));
+        return id;
+    }
+
+    private static long toTicks(long milliseconds)
+    {
+        return Math.round(milliseconds / (double) TICK_DURATION_MILLIS);
+    }
+
+    private static void runSafely(Runnable runnable)
+    {
+        try
+        {
+            runnable.run();
+        }
+        catch (Exception e)
+        {
+            log.atError().withCause(e).log("Encountered an exception while executing a task.");
+        }
+    }
+
+    private static final class ScheduledTask
+    {
+        private final int id;
+        private final Runnable runnable;
+        private final boolean sync;
+        private final long period;
+        private long nextTick;
+
+        private ScheduledTask(int id, Runnable runnable, boolean sync, long nextTick, long period)
+        {
+            this.id = id;
+            this.runnable = runnable;
+            this.sync = sync;
+            this.nextTick = nextTick;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package nl.pim16aap2.testing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the number of bytes allocated on the heap by the current thread.
+ * <p>
+ * This uses the {@link com.sun.management.ThreadMXBean} of the platform, which reports the exact number of bytes
+ * allocated by a thread. Allocations that are removed by the JIT compiler (e.g. through escape analysis) are not
+ * counted, so code should be warmed up before it is measured.
+ * <p>
+ * See {@link nl.pim16aap2.testing.assertions.AssertionBuilder#assertAllocations(Runnable)} for assertions based on this
+ * class.
+ */
+public final class AllocationMeter
+{
+    private static final com.sun.management.@Nullable ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private AllocationMeter()
+    {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    private static com.sun.management.@Nullable ThreadMXBean getThreadMXBean()
+    {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean))
+            return null;
+
+        if (threadMXBean.isThreadAllocatedMemorySupported() && !threadMXBean.isThreadAllocatedMemoryEnabled())
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+
+    /**
+     * Checks if the allocated memory of threads can be measured on this platform.
+     *
+     * @return True if the allocated memory can be measured.
+     */
+    public static boolean isSupported()
+    {
+        return THREAD_MX_BEAN != null && isSupported(THREAD_MX_BEAN);
+    }
+
+    private static boolean isSupported(com.sun.management.ThreadMXBean threadMXBean)
+    {
+        return threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Gets the total number of bytes allocated by the current thread so far.
+     *
+     * @return The total number of bytes allocated by the current thread.
+     *
+     * @throws IllegalStateException
+     *     When the allocated memory cannot be measured on this platform. See {@link #isSupported()}.
+     */
+    public static long getAllocatedBytes()
+    {
+        final com.sun.management.@Nullable ThreadMXBean threadMXBean = THREAD_MX_BEAN;
+        if (threadMXBean == null || !isSupported(threadMXBean))
+            throw new IllegalStateException("Measuring allocated memory is not supported on this platform!");
+        return threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Measures the number of bytes allocated by a single run of an action.
+     * <p>
+     * The action is not warmed up before it is measured.
+     *
+     * @param action
+     *     The action to measure.
+     * @return The number of bytes allocated by the action.
+     */
+    public static long measure(Runnable action)
+    {
+        final long start = getAllocatedBytes();
+        action.run();
+        return getAllocatedBytes() - start;
+    }
+
+    /**
+     * Measures the average number of bytes allocated by a single run of an action.
+     * <p>
+     * The action is first run {@code warmupRuns} times without being measured, so it can be compiled by the JIT
+     * compiler. Afterward, the action is measured {@code rounds} times, where each round runs the action
+     * {@code measuredRuns} times. The lowest average of all rounds is returned, so allocations that happen only
+     * occasionally (e.g. when the JIT compiler replaces a method in the middle of a round) do not affect the result.
+     *
+     * @param action
+     *     The action to measure.
+     * @param warmupRuns
+     *     The number of times to run the action before it is measured.
+     * @param measuredRuns
+     *     The number of times to run the action in each round.
+     * @param rounds
+     *     The number of rounds to measure.
+     * @return The lowest average number of bytes allocated per run of all rounds.
+     */
+    public static double measurePerRun(Runnable action, int warmupRuns, int measuredRuns, int rounds)
+    {
+        if (warmupRuns < 0)
+            throw new IllegalArgumentException("Warmup runs must not be negative, but got: " + warmupRuns);
+        if (measuredRuns < 1)
+            throw new IllegalArgumentException("Measured runs must be positive, but got: " + measuredRuns);
+        if (rounds < 1)
+            throw new IllegalArgumentException("Rounds must be positive, but got: " + rounds);
+
+        for (int idx = 0; idx < warmupRuns; ++idx)
+            action.run();
+
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; ++round)
+        {
+            final long start = getAllocatedBytes();
+            for (int idx = 0; idx < measuredRuns; ++idx)
+                action.run();
+            lowest = Math.min(lowest, getAllocatedBytes() - start);
+        }
+        return (double) lowest / measuredRuns;
+    }
+}
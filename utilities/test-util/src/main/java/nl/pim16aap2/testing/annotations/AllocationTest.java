@@ -0,0 +1,31 @@
+package nl.pim16aap2.testing.annotations;
+
+import nl.pim16aap2.testing.assertions.AssertionBuilder;
+import org.junit.jupiter.api.Tag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation to be used on test classes that measure the memory allocated by a piece of code.
+ * <p>
+ * This is shorthand for <code>@Tag("allocation")</code>.
+ * <p>
+ * The inline mock maker adds instrumentation to every method of a mocked class, which allocates memory on every call
+ * for as long as the JVM runs. Tests with this tag should therefore be run in their own JVM, away from tests that mock
+ * the measured classes.
+ * <p>
+ * See {@link AssertionBuilder#assertAllocations(Runnable)}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag(AllocationTest.TAG)
+public @interface AllocationTest
+{
+    /**
+     * The tag of tests that measure the memory allocated by a piece of code.
+     */
+    String TAG = "allocation";
+}
@@ -0,0 +1,160 @@
+package nl.pim16aap2.testing.assertions;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.CheckReturnValue;
+import nl.pim16aap2.testing.AllocationMeter;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * A utility class for building assertions about the number of bytes allocated by a piece of code.
+ * <p>
+ * See {@link AllocationMeter}.
+ */
+public final class AllocationAssertionsUtil
+{
+    private AllocationAssertionsUtil()
+    {
+        throw new UnsupportedOperationException("This class cannot be instantiated.");
+    }
+
+    @CheckReturnValue
+    static AllocationAssertionBuilder assertAllocations(Runnable action)
+    {
+        return new AllocationAssertionBuilder(action);
+    }
+
+    /**
+     * A builder for assertions about the number of bytes allocated by a single run of an action.
+     * <p>
+     * When the allocated memory cannot be measured on the current platform, the assertion is skipped by aborting the
+     * test. See {@link AllocationMeter#isSupported()}.
+     */
+    public static final class AllocationAssertionBuilder
+    {
+        private final Runnable action;
+
+        private @Nullable String description = null;
+        private int warmupRuns = 20_000;
+        private int measuredRuns = 1_000;
+        private int rounds = 5;
+
+        private AllocationAssertionBuilder(Runnable action)
+        {
+            this.action = action;
+        }
+
+        /**
+         * Set the description of the measured action to include in the failure message.
+         *
+         * @param description
+         *     The description of the measured action.
+         * @return This builder.
+         */
+        @CheckReturnValue
+        public AllocationAssertionBuilder withDescription(String description)
+        {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Set the number of times the action is run before it is measured.
+         * <p>
+         * This defaults to 20,000 runs, which is enough for the JIT compiler to compile most actions.
+         *
+         * @param warmupRuns
+         *     The number of warmup runs.
+         * @return This builder.
+         */
+        @CheckReturnValue
+        public AllocationAssertionBuilder withWarmupRuns(int warmupRuns)
+        {
+            this.warmupRuns = warmupRuns;
+            return this;
+        }
+
+        /**
+         * Set the number of times the action is run in each measured round.
+         * <p>
+         * This defaults to 1,000 runs.
+         *
+         * @param measuredRuns
+         *     The number of measured runs per round.
+         * @return This builder.
+         */
+        @CheckReturnValue
+        public AllocationAssertionBuilder withMeasuredRuns(int measuredRuns)
+        {
+            this.measuredRuns = measuredRuns;
+            return this;
+        }
+
+        /**
+         * Set the number of measured rounds. The round with the lowest number of allocated bytes is used.
+         * <p>
+         * This defaults to 5 rounds.
+         *
+         * @param rounds
+         *     The number of measured rounds.
+         * @return This builder.
+         */
+        @CheckReturnValue
+        public AllocationAssertionBuilder withRounds(int rounds)
+        {
+            this.rounds = rounds;
+            return this;
+        }
+
+        /**
+         * Assert that a single run of the action allocates at most the given number of bytes on average.
+         * <p>
+         * If the action allocates more bytes, the test will fail.
+         *
+         * @param maxBytes
+         *     The maximum number of bytes a single run of the action may allocate.
+         * @return The measured number of bytes allocated by a single run of the action.
+         */
+        @CanIgnoreReturnValue
+        public double allocatesAtMost(long maxBytes)
+        {
+            return AllocationAssertionsUtil.thenAssert(this, maxBytes);
+        }
+
+        /**
+         * Assert that the action does not allocate any memory.
+         * <p>
+         * If the action allocates any memory, the test will fail.
+         */
+        public void isAllocationFree()
+        {
+            allocatesAtMost(0);
+        }
+    }
+
+    static double thenAssert(AllocationAssertionBuilder builder, long maxBytes)
+    {
+        assumeTrue(AllocationMeter.isSupported(), "Measuring allocated memory is not supported on this platform.");
+
+        final double bytesPerRun = AllocationMeter.measurePerRun(
+            builder.action,
+            builder.warmupRuns,
+            builder.measuredRuns,
+            builder.rounds
+        );
+
+        if (bytesPerRun > maxBytes)
+            fail(String.format(
+                Locale.ROOT,
+                "Expected %s to allocate at most %d bytes per run, but it allocated %.1f bytes per run!",
+                builder.description == null ? "action" : "'" + builder.description + "'",
+                maxBytes,
+                bytesPerRun
+            ));
+        return bytesPerRun;
+    }
+}
@@ -1,6 +1,7 @@
 package nl.pim16aap2.testing.assertions;
 
 import com.google.errorprone.annotations.CheckReturnValue;
+import nl.pim16aap2.testing.annotations.AllocationTest;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -30,4 +31,19 @@ public final class AssertionBuilder
     {
         return CompletableFutureAssertionsUtil.assertHasExceptionContext(future);
     }
+
+    /**
+     * Asserts the number of bytes allocated by a single run of the given action.
+     * <p>
+     * Test classes that use this should be annotated with {@link AllocationTest}.
+     *
+     * @param action
+     *     The action to measure.
+     * @return The assertion builder with the given action set.
+     */
+    @CheckReturnValue
+    public static AllocationAssertionsUtil.AllocationAssertionBuilder assertAllocations(Runnable action)
+    {
+        return AllocationAssertionsUtil.assertAllocations(action);
+    }
 }
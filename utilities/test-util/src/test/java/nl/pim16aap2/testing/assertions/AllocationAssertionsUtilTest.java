@@ -0,0 +1,70 @@
+package nl.pim16aap2.testing.assertions;
+
+import nl.pim16aap2.testing.AllocationMeter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+class AllocationAssertionsUtilTest
+{
+    /**
+     * Prevents the JIT compiler from removing the allocations of the tested actions.
+     */
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    @BeforeEach
+    void beforeEach()
+    {
+        assumeTrue(AllocationMeter.isSupported());
+    }
+
+    @Test
+    void measure_shouldCountAllocatedArrays()
+    {
+        // execute
+        final long allocated = AllocationMeter.measure(() -> sink = new byte[1_024]);
+
+        // verify
+        assertThat(allocated).isGreaterThanOrEqualTo(1_024);
+    }
+
+    @Test
+    void isAllocationFree_shouldPassForActionWithoutAllocations()
+    {
+        final int[] counter = new int[1];
+
+        assertThatNoException().isThrownBy(() ->
+            AssertionBuilder
+                .assertAllocations(() -> counter[0]++)
+                .isAllocationFree());
+    }
+
+    @Test
+    void allocatesAtMost_shouldFailForActionThatAllocatesTooMuch()
+    {
+        assertThatExceptionOfType(AssertionFailedError.class)
+            .isThrownBy(() ->
+                AssertionBuilder
+                    .assertAllocations(() -> sink = new long[16])
+                    .withDescription("new long[16]")
+                    .withWarmupRuns(100)
+                    .allocatesAtMost(64))
+            .withMessageStartingWith("Expected 'new long[16]' to allocate at most 64 bytes per run, but it allocated");
+    }
+
+    @Test
+    void allocatesAtMost_shouldReturnMeasuredBytes()
+    {
+        final double allocated = AssertionBuilder
+            .assertAllocations(() -> sink = new long[16])
+            .withWarmupRuns(100)
+            .allocatesAtMost(1_024);
+
+        // A long[16] takes at least 16 * 8 bytes plus the array header.
+        assertThat(allocated).isGreaterThan(128);
+    }
+}